@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.AdaptiveEquals;
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of an {@link AdaptiveEquals} compared to an {@link Equals} with the same comparisons in the
+ * same order, for two equal values, such that the order does not matter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdaptiveEqualsBenchmark {
+
+    private static final Equals<Value> EQUALS = Equalizer.equalsBuilder(Value.class)
+            .comparePrimitive((Value value) -> value.id)
+            .compare(value -> value.name)
+            .comparePrimitive((Value value) -> value.status)
+            .build();
+
+    private static final AdaptiveEquals<Value> ADAPTIVE_EQUALS = Equalizer.equalsBuilder(Value.class)
+            .comparePrimitive((Value value) -> value.id)
+            .compare(value -> value.name)
+            .comparePrimitive((Value value) -> value.status)
+            .buildAdaptive();
+
+    private Value value;
+
+    private Value equalValue;
+
+    @Setup
+    public void setUp() {
+        value = new Value(1);
+        equalValue = new Value(1);
+    }
+
+    @Benchmark
+    public boolean fixedOrderEquals() {
+        return EQUALS.equals(value, equalValue);
+    }
+
+    @Benchmark
+    public boolean adaptiveEquals() {
+        return ADAPTIVE_EQUALS.equals(value, equalValue);
+    }
+
+    private static final class Value {
+
+        private final int id;
+        private final String name;
+        private final int status;
+
+        Value(int seed) {
+            this.id = seed;
+            this.name = BenchmarkValue.string(seed, 0);
+            this.status = seed * 31;
+        }
+
+    }
+
+}
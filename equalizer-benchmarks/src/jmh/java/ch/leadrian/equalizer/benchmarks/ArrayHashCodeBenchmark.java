@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of deep hashing large primitive arrays, compared to {@link Arrays#hashCode(int[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayHashCodeBenchmark {
+
+    private static final HashCode<ArrayHashCodeBenchmark> INT_ARRAY_HASH_CODE = Equalizer.<ArrayHashCodeBenchmark>hashCodeBuilder()
+            .hashDeep(benchmark -> benchmark.intArray)
+            .build();
+
+    private static final HashCode<ArrayHashCodeBenchmark> TYPED_INT_ARRAY_HASH_CODE = Equalizer.<ArrayHashCodeBenchmark>hashCodeBuilder()
+            .hashArray((ArrayHashCodeBenchmark benchmark) -> benchmark.intArray)
+            .build();
+
+    private static final HashCode<ArrayHashCodeBenchmark> FLOAT_ARRAY_HASH_CODE = Equalizer.<ArrayHashCodeBenchmark>hashCodeBuilder()
+            .hashDeep(benchmark -> benchmark.floatArray)
+            .build();
+
+    @Param({"1024", "65536"})
+    private int length;
+
+    private int[] intArray;
+
+    private float[] floatArray;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        intArray = random.ints(length).toArray();
+        floatArray = new float[length];
+        for (int i = 0; i < length; i++) {
+            floatArray[i] = random.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public int intArrayByArrays() {
+        return 31 + Arrays.hashCode(intArray);
+    }
+
+    @Benchmark
+    public int intArrayByEqualizer() {
+        return INT_ARRAY_HASH_CODE.hashCode(this);
+    }
+
+    @Benchmark
+    public int intArrayByEqualizerTyped() {
+        return TYPED_INT_ARRAY_HASH_CODE.hashCode(this);
+    }
+
+    @Benchmark
+    public int floatArrayByArrays() {
+        return 31 + Arrays.hashCode(floatArray);
+    }
+
+    @Benchmark
+    public int floatArrayByEqualizer() {
+        return FLOAT_ARRAY_HASH_CODE.hashCode(this);
+    }
+
+}
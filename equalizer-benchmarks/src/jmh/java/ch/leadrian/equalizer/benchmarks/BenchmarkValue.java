@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Base class for the values used in benchmarks. Each subclass implements {@code equals()} and {@code hashCode()}
+ * semantics using Equalizer as well as by hand, so that both variants compare and hash the same attributes.
+ * <p>
+ * Attributes are mixed in a fixed pattern: primitive, shallow, deep and identity.
+ */
+abstract class BenchmarkValue {
+
+    private static final int ARRAY_LENGTH = 16;
+
+    private static final Object[] IDENTITIES = new Object[64];
+
+    static {
+        Arrays.setAll(IDENTITIES, i -> new Object());
+    }
+
+    static BenchmarkValue create(int numberOfFields, int seed) {
+        switch (numberOfFields) {
+            case 1:
+                return new Value1(seed);
+            case 4:
+                return new Value4(seed);
+            case 16:
+                return new Value16(seed);
+            case 64:
+                return new Value64(seed);
+            default:
+                throw new IllegalArgumentException("Unsupported number of fields: " + numberOfFields);
+        }
+    }
+
+    /**
+     * Runs every Equalizer-based implementation of every value shape, so that the call sites inside of Equalizer
+     * have seen many different step and extractor types before the actual measurement starts.
+     */
+    static void polluteTypeProfiles() {
+        BenchmarkValue[] values = {create(1, 0), create(4, 0), create(16, 0), create(64, 0)};
+        BenchmarkValue[] equalValues = {create(1, 0), create(4, 0), create(16, 0), create(64, 0)};
+        int sink = 0;
+        for (int i = 0; i < 20_000; i++) {
+            for (int j = 0; j < values.length; j++) {
+                sink += values[j].equalsByEqualizer(equalValues[j]) ? 1 : 0;
+                sink += values[j].equalsByEqualsAndHashCode(equalValues[j]) ? 1 : 0;
+                sink += values[j].hashCodeByEqualizer();
+                sink += values[j].hashCodeByEqualsAndHashCode();
+                sink += values[j].equalsByCompiledEqualsAndHashCode(equalValues[j]) ? 1 : 0;
+                sink += values[j].hashCodeByCompiledEqualsAndHashCode();
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+
+    static String string(int seed, int index) {
+        return "value-" + seed + "-" + index;
+    }
+
+    static int[] intArray(int seed, int index) {
+        int[] array = new int[ARRAY_LENGTH];
+        Arrays.setAll(array, i -> seed * 31 + index + i);
+        return array;
+    }
+
+    static Object identity(int index) {
+        return IDENTITIES[index];
+    }
+
+    abstract boolean equalsByHand(Object object);
+
+    abstract int hashCodeByHand();
+
+    abstract int hashCodeByObjectsHash();
+
+    abstract boolean equalsByEqualizer(Object object);
+
+    abstract int hashCodeByEqualizer();
+
+    abstract boolean equalsByEqualsAndHashCode(Object object);
+
+    abstract int hashCodeByEqualsAndHashCode();
+
+    abstract boolean equalsByCompiledEqualsAndHashCode(Object object);
+
+    abstract int hashCodeByCompiledEqualsAndHashCode();
+
+}
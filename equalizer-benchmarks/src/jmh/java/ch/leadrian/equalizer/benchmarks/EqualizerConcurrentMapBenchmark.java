@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.collections.EqualizerConcurrentMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures contended retrievals and updates of an {@link EqualizerConcurrentMap} against a {@link ConcurrentHashMap}
+ * with a wrapper key per operation. All threads operate on the same map, the nested classes only differ in the number
+ * of threads.
+ */
+public class EqualizerConcurrentMapBenchmark {
+
+    private static final int NUMBER_OF_KEYS = 10_000;
+
+    private static final Integer VALUE = 42;
+
+    private static final EqualsAndHashCode<Point> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Point.class)
+            .compareAndHashPrimitive((Point point) -> point.x)
+            .compareAndHashPrimitive((Point point) -> point.y)
+            .compile();
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(2)
+    public abstract static class AbstractBenchmark {
+
+        private final ConcurrentMap<Point, Integer> equalizerConcurrentMap = new EqualizerConcurrentMap<>(EQUALS_AND_HASH_CODE);
+
+        private final ConcurrentMap<PointKey, Integer> concurrentHashMap = new ConcurrentHashMap<>();
+
+        private final Point[] points = new Point[NUMBER_OF_KEYS];
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+                Point point = new Point(i % 100, i / 100);
+                equalizerConcurrentMap.put(point, i);
+                concurrentHashMap.put(new PointKey(point), i);
+                points[i] = new Point(point.x, point.y);
+            }
+        }
+
+        private Point nextPoint() {
+            return points[ThreadLocalRandom.current().nextInt(NUMBER_OF_KEYS)];
+        }
+
+        @Benchmark
+        public Integer getEqualizerConcurrentMap() {
+            return equalizerConcurrentMap.get(nextPoint());
+        }
+
+        @Benchmark
+        public Integer getConcurrentHashMap() {
+            return concurrentHashMap.get(new PointKey(nextPoint()));
+        }
+
+        @Benchmark
+        public Integer putEqualizerConcurrentMap() {
+            return equalizerConcurrentMap.put(nextPoint(), VALUE);
+        }
+
+        @Benchmark
+        public Integer putConcurrentHashMap() {
+            return concurrentHashMap.put(new PointKey(nextPoint()), VALUE);
+        }
+
+        @Benchmark
+        public Integer computeIfAbsentEqualizerConcurrentMap() {
+            return equalizerConcurrentMap.computeIfAbsent(nextPoint(), point -> VALUE);
+        }
+
+        @Benchmark
+        public Integer computeIfAbsentConcurrentHashMap() {
+            return concurrentHashMap.computeIfAbsent(new PointKey(nextPoint()), key -> VALUE);
+        }
+    }
+
+    @Threads(1)
+    public static class Threads1 extends AbstractBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends AbstractBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends AbstractBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends AbstractBenchmark {
+    }
+
+    static final class Point {
+
+        private final int x;
+
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * Wrapper implementing the equivalence of {@link Point}s for use in a {@link ConcurrentHashMap}.
+     */
+    static final class PointKey {
+
+        private final Point point;
+
+        PointKey(Point point) {
+            this.point = point;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof PointKey && EQUALS_AND_HASH_CODE.equals(point, ((PointKey) object).point);
+        }
+
+        @Override
+        public int hashCode() {
+            return EQUALS_AND_HASH_CODE.hashCode(point);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.collections.EqualizerHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up and replacing values of keys compared by an equivalence other than their {@code equals} method,
+ * using {@link EqualizerHashMap} against a {@link HashMap} with a wrapper key per entry and per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EqualizerHashMapBenchmark {
+
+    private static final EqualsAndHashCode<Customer> BY_ID = Equalizer.equalsAndHashCodeBuilder(Customer.class)
+            .compareAndHashPrimitive((Customer customer) -> customer.id)
+            .compile();
+
+    private static final Integer VALUE = 1337;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Customer[] lookups;
+
+    private Map<Customer, Integer> equalizerHashMap;
+
+    private Map<CustomerKey, Integer> wrappingHashMap;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        equalizerHashMap = new EqualizerHashMap<>(BY_ID);
+        wrappingHashMap = new HashMap<>();
+        lookups = new Customer[size];
+        for (int i = 0; i < size; i++) {
+            Customer customer = new Customer(i * 7919, "customer-" + i);
+            equalizerHashMap.put(customer, VALUE);
+            wrappingHashMap.put(new CustomerKey(customer), VALUE);
+            lookups[(i * 31) % size] = new Customer(i * 7919, "lookup-" + i);
+        }
+    }
+
+    private Customer nextLookup() {
+        int index = this.index + 1;
+        if (index == lookups.length) {
+            index = 0;
+        }
+        this.index = index;
+        return lookups[index];
+    }
+
+    @Benchmark
+    public Integer getEqualizerHashMap() {
+        return equalizerHashMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public Integer getWrappingHashMap() {
+        return wrappingHashMap.get(new CustomerKey(nextLookup()));
+    }
+
+    @Benchmark
+    public Integer putExistingEqualizerHashMap() {
+        return equalizerHashMap.put(nextLookup(), VALUE);
+    }
+
+    @Benchmark
+    public Integer putExistingWrappingHashMap() {
+        return wrappingHashMap.put(new CustomerKey(nextLookup()), VALUE);
+    }
+
+    static final class Customer {
+
+        private final int id;
+        private final String name;
+
+        Customer(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Wrapper implementing the equivalence by ID for use in a {@link HashMap}.
+     */
+    static final class CustomerKey {
+
+        private final Customer customer;
+
+        CustomerKey(Customer customer) {
+            this.customer = customer;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof CustomerKey && BY_ID.equals(customer, ((CustomerKey) object).customer);
+        }
+
+        @Override
+        public int hashCode() {
+            return BY_ID.hashCode(customer);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares an {@link EqualsAndHashCode} derived from fields by {@link Equalizer#fromFields(Class, String...)} with the
+ * equivalent instance built from lambdas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldEqualizerBenchmark {
+
+    private static final EqualsAndHashCode<Value> FIELDS = Equalizer.fromFields(
+            Value.class,
+            "intValue",
+            "longValue",
+            "doubleValue",
+            "stringValue",
+            "arrayValue"
+    );
+
+    private static final EqualsAndHashCode<Value> LAMBDAS = Equalizer.equalsAndHashCodeBuilder(Value.class)
+            .compareAndHashPrimitive((Value value) -> value.intValue)
+            .compareAndHashPrimitive((Value value) -> value.longValue)
+            .compareAndHashPrimitive((Value value) -> value.doubleValue)
+            .compareAndHash(value -> value.stringValue)
+            .compareAndHashDeep(value -> value.arrayValue)
+            .build();
+
+    private Value value;
+
+    private Value equalValue;
+
+    @Setup
+    public void setUp() {
+        value = new Value(1);
+        equalValue = new Value(1);
+    }
+
+    @Benchmark
+    public boolean fromFieldsEquals() {
+        return FIELDS.equals(value, equalValue);
+    }
+
+    @Benchmark
+    public boolean lambdasEquals() {
+        return LAMBDAS.equals(value, equalValue);
+    }
+
+    @Benchmark
+    public int fromFieldsHashCode() {
+        return FIELDS.hashCode(value);
+    }
+
+    @Benchmark
+    public int lambdasHashCode() {
+        return LAMBDAS.hashCode(value);
+    }
+
+    private static final class Value {
+
+        private final int intValue;
+        private final long longValue;
+        private final double doubleValue;
+        private final String stringValue;
+        private final int[] arrayValue;
+
+        Value(int seed) {
+            this.intValue = seed;
+            this.longValue = seed * 31L;
+            this.doubleValue = seed / 7.0;
+            this.stringValue = BenchmarkValue.string(seed, 0);
+            this.arrayValue = BenchmarkValue.intArray(seed, 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashCode;
+import ch.leadrian.equalizer.HashMixers;
+import ch.leadrian.equalizer.collections.FingerprintIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up records in a {@link FingerprintIndex} against a {@link HashSet} of wrapper keys. Half of the
+ * looked up records have been added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class FingerprintIndexBenchmark {
+
+    private static final int NUMBER_OF_RECORDS = 1_000_000;
+
+    private static final HashCode<Record> MURMUR3_HASH_CODE = Equalizer.<Record>hashCodeBuilder()
+            .mixer(HashMixers.murmur3())
+            .hashPrimitive((Record record) -> record.id)
+            .hashPrimitive((Record record) -> record.source)
+            .compile();
+
+    private static final HashCode<Record> MULTIPLY_ROTATE_HASH_CODE = Equalizer.<Record>hashCodeBuilder()
+            .mixer(HashMixers.multiplyRotate())
+            .hashPrimitive((Record record) -> record.id)
+            .hashPrimitive((Record record) -> record.source)
+            .compile();
+
+    private final FingerprintIndex<Record> fingerprintIndex = new FingerprintIndex<>(MURMUR3_HASH_CODE, MULTIPLY_ROTATE_HASH_CODE, NUMBER_OF_RECORDS);
+
+    private final Set<RecordKey> hashSet = new HashSet<>();
+
+    private final Record[] records = new Record[2 * NUMBER_OF_RECORDS];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < records.length; i++) {
+            Record record = new Record(i * 7919L, i % 16);
+            records[i] = record;
+            if (i % 2 == 0) {
+                fingerprintIndex.add(record);
+                hashSet.add(new RecordKey(record));
+            }
+        }
+    }
+
+    private Record nextRecord() {
+        return records[ThreadLocalRandom.current().nextInt(records.length)];
+    }
+
+    @Benchmark
+    public boolean fingerprintIndex() {
+        return fingerprintIndex.mightContain(nextRecord());
+    }
+
+    @Benchmark
+    public boolean hashSet() {
+        return hashSet.contains(new RecordKey(nextRecord()));
+    }
+
+    static final class Record {
+
+        private final long id;
+
+        private final int source;
+
+        Record(long id, int source) {
+            this.id = id;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Wrapper implementing the equivalence of {@link Record}s for use in a {@link HashSet}.
+     */
+    static final class RecordKey {
+
+        private final Record record;
+
+        RecordKey(Record record) {
+            this.record = record;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof RecordKey
+                    && record.id == ((RecordKey) object).record.id
+                    && record.source == ((RecordKey) object).record.source;
+        }
+
+        @Override
+        public int hashCode() {
+            return MURMUR3_HASH_CODE.hashCode(record);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hashing a batch of objects one by one against {@link HashCode#hashAll(Object[], int[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashAllBenchmark {
+
+    private static final HashCode<Row> BUILT_HASH_CODE = Equalizer.<Row>hashCodeBuilder()
+            .hashPrimitive((Row row) -> row.id)
+            .hash(row -> row.name)
+            .hashPrimitive((Row row) -> row.timestamp)
+            .hashPrimitive((Row row) -> row.partition)
+            .hash(row -> row.category)
+            .hashPrimitive((Row row) -> row.score)
+            .hashPrimitive((Row row) -> row.active)
+            .hashPrimitive((Row row) -> row.version)
+            .build();
+
+    private static final HashCode<Row> COMPILED_HASH_CODE = Equalizer.<Row>hashCodeBuilder()
+            .hashPrimitive((Row row) -> row.id)
+            .hash(row -> row.name)
+            .hashPrimitive((Row row) -> row.timestamp)
+            .hashPrimitive((Row row) -> row.partition)
+            .hash(row -> row.category)
+            .hashPrimitive((Row row) -> row.score)
+            .hashPrimitive((Row row) -> row.active)
+            .hashPrimitive((Row row) -> row.version)
+            .compile();
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private Row[] rows;
+
+    private int[] out;
+
+    @Setup
+    public void setUp() {
+        rows = new Row[size];
+        Arrays.setAll(rows, Row::new);
+        out = new int[size];
+    }
+
+    @Benchmark
+    public int[] hashCodeEach() {
+        for (int i = 0; i < rows.length; i++) {
+            out[i] = BUILT_HASH_CODE.hashCode(rows[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] hashAll() {
+        BUILT_HASH_CODE.hashAll(rows, out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] compiledHashCodeEach() {
+        for (int i = 0; i < rows.length; i++) {
+            out[i] = COMPILED_HASH_CODE.hashCode(rows[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] compiledHashAll() {
+        COMPILED_HASH_CODE.hashAll(rows, out);
+        return out;
+    }
+
+    static final class Row {
+
+        private final int id;
+        private final String name;
+        private final long timestamp;
+        private final short partition;
+        private final String category;
+        private final double score;
+        private final boolean active;
+        private final int version;
+
+        Row(int index) {
+            this.id = index;
+            this.name = "row-" + index;
+            this.timestamp = 1_600_000_000_000L + index;
+            this.partition = (short) (index % 64);
+            this.category = "category-" + (index % 16);
+            this.score = index * 0.5;
+            this.active = index % 3 == 0;
+            this.version = index % 5;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of computing the hash code of a value.
+ * <p>
+ * Values with 1 and 4 fields are hashed by the fixed-arity implementation built for up to six steps, values with 16 and
+ * 64 fields by the loop over the list of hash steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashCodeBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    private int numberOfFields;
+
+    @Param({"false", "true"})
+    private boolean megamorphic;
+
+    private BenchmarkValue value;
+
+    @Setup
+    public void setUp() {
+        if (megamorphic) {
+            BenchmarkValue.polluteTypeProfiles();
+        }
+        value = BenchmarkValue.create(numberOfFields, 1);
+    }
+
+    @Benchmark
+    public int handWritten() {
+        return value.hashCodeByHand();
+    }
+
+    @Benchmark
+    public int objectsHash() {
+        return value.hashCodeByObjectsHash();
+    }
+
+    @Benchmark
+    public int equalizerHashCode() {
+        return value.hashCodeByEqualizer();
+    }
+
+    @Benchmark
+    public int equalizerEqualsAndHashCode() {
+        return value.hashCodeByEqualsAndHashCode();
+    }
+
+    @Benchmark
+    public int compiledEqualsAndHashCode() {
+        return value.hashCodeByCompiledEqualsAndHashCode();
+    }
+
+}
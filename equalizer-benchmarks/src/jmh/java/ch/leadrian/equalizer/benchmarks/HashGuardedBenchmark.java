@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures plain against hash-guarded comparison of long strings that share a common prefix and differ at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashGuardedBenchmark {
+
+    private static final Equals<Url> PLAIN_EQUALS = Equalizer.equalsBuilder(Url.class)
+            .compare(url -> url.value)
+            .build();
+
+    private static final Equals<Url> HASH_GUARDED_EQUALS = Equalizer.equalsBuilder(Url.class)
+            .compareHashGuarded(url -> url.value)
+            .build();
+
+    @Param({"64", "1024"})
+    private int prefixLength;
+
+    private Url url1;
+
+    private Url url2;
+
+    @Setup
+    public void setUp() {
+        StringBuilder prefix = new StringBuilder("https://example.com/");
+        while (prefix.length() < prefixLength) {
+            prefix.append("segment/");
+        }
+        url1 = new Url(prefix + "document-1");
+        url2 = new Url(prefix + "document-2");
+        // Strings memoize their hash codes
+        url1.value.hashCode();
+        url2.value.hashCode();
+    }
+
+    @Benchmark
+    public boolean plain() {
+        return PLAIN_EQUALS.equals(url1, url2);
+    }
+
+    @Benchmark
+    public boolean hashGuarded() {
+        return HASH_GUARDED_EQUALS.equals(url1, url2);
+    }
+
+    static final class Url {
+
+        private final String value;
+
+        Url(String value) {
+            this.value = value;
+        }
+    }
+
+}
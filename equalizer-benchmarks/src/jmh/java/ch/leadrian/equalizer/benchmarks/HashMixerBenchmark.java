@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashMixer;
+import ch.leadrian.equalizer.HashMixers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of {@link HashMap#get(Object)} for keys with several small attributes, using different
+ * {@link HashMixer}s. The bucket distribution of the keys is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashMixerBenchmark {
+
+    private static final int NUMBER_OF_LOOKUPS = 1024;
+
+    @Param({"polynomial", "murmur3", "multiplyRotate"})
+    private String mixer;
+
+    private Map<Key, Integer> map;
+
+    private Key[] lookups;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        EqualsAndHashCode<Key> equalsAndHashCode = Key.equalsAndHashCode(getHashMixer(mixer));
+        map = new HashMap<>();
+        Key[] keys = Key.all(equalsAndHashCode);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+        Random random = new Random(0);
+        lookups = new Key[NUMBER_OF_LOOKUPS];
+        for (int i = 0; i < lookups.length; i++) {
+            // Use equal, but not identical keys
+            Key key = keys[random.nextInt(keys.length)];
+            lookups[i] = new Key(equalsAndHashCode, key.a, key.b, key.c, key.d);
+        }
+        printBucketDistribution(keys);
+    }
+
+    @Benchmark
+    public Integer get() {
+        Key key = lookups[index];
+        index = (index + 1) & (NUMBER_OF_LOOKUPS - 1);
+        return map.get(key);
+    }
+
+    private static HashMixer getHashMixer(String mixer) {
+        switch (mixer) {
+            case "polynomial":
+                return HashMixers.polynomial();
+            case "murmur3":
+                return HashMixers.murmur3();
+            case "multiplyRotate":
+                return HashMixers.multiplyRotate();
+            default:
+                throw new IllegalArgumentException("Unsupported mixer: " + mixer);
+        }
+    }
+
+    /**
+     * Prints how the keys are distributed across the buckets of a {@link HashMap} that just fits all keys. The bucket
+     * index is computed like {@link HashMap} does.
+     */
+    private void printBucketDistribution(Key[] keys) {
+        int numberOfBuckets = Integer.highestOneBit(keys.length * 4 / 3 - 1) << 1;
+        int[] buckets = new int[numberOfBuckets];
+        for (Key key : keys) {
+            int hash = key.hashCode();
+            buckets[(hash ^ (hash >>> 16)) & (numberOfBuckets - 1)]++;
+        }
+        int occupiedBuckets = 0;
+        int longestChain = 0;
+        for (int bucket : buckets) {
+            if (bucket > 0) {
+                occupiedBuckets++;
+            }
+            longestChain = Math.max(longestChain, bucket);
+        }
+        System.out.printf(
+                "%n%s: %d keys, %d of %d buckets occupied, longest chain: %d%n",
+                mixer,
+                keys.length,
+                occupiedBuckets,
+                numberOfBuckets,
+                longestChain
+        );
+    }
+
+    private static final class Key {
+
+        private final EqualsAndHashCode<Key> equalsAndHashCode;
+        private final int a;
+        private final int b;
+        private final boolean c;
+        private final byte d;
+
+        Key(EqualsAndHashCode<Key> equalsAndHashCode, int a, int b, boolean c, byte d) {
+            this.equalsAndHashCode = equalsAndHashCode;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        static EqualsAndHashCode<Key> equalsAndHashCode(HashMixer hashMixer) {
+            return Equalizer.equalsAndHashCodeBuilder(Key.class)
+                    .compareAndHashPrimitive((Key key) -> key.a)
+                    .compareAndHashPrimitive((Key key) -> key.b)
+                    .compareAndHashPrimitive((Key key) -> key.c)
+                    .compareAndHashPrimitive((Key key) -> key.d)
+                    .mixer(hashMixer)
+                    .build();
+        }
+
+        /**
+         * @return all keys with {@code a} and {@code b} between 0 and 31 and {@code d} between 0 and 7
+         */
+        static Key[] all(EqualsAndHashCode<Key> equalsAndHashCode) {
+            Key[] keys = new Key[32 * 32 * 2 * 8];
+            int i = 0;
+            for (int a = 0; a < 32; a++) {
+                for (int b = 0; b < 32; b++) {
+                    for (int d = 0; d < 8; d++) {
+                        keys[i++] = new Key(equalsAndHashCode, a, b, false, (byte) d);
+                        keys[i++] = new Key(equalsAndHashCode, a, b, true, (byte) d);
+                    }
+                }
+            }
+            return keys;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return equalsAndHashCode.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return equalsAndHashCode.hashCode(this);
+        }
+    }
+
+}
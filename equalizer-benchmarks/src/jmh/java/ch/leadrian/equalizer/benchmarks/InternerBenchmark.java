@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.collections.Interner;
+import ch.leadrian.equalizer.collections.Interners;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures interning already interned values with {@link Interners#strong(EqualsAndHashCode)} and
+ * {@link Interners#weak(EqualsAndHashCode)} against a {@link ConcurrentHashMap} with a wrapper key per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class InternerBenchmark {
+
+    private static final int NUMBER_OF_VALUES = 10_000;
+
+    private static final EqualsAndHashCode<Tag> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Tag.class)
+            .compareAndHash(tag -> tag.name)
+            .compile();
+
+    private final Interner<Tag> strongInterner = Interners.strong(EQUALS_AND_HASH_CODE);
+
+    private final Interner<Tag> weakInterner = Interners.weak(EQUALS_AND_HASH_CODE);
+
+    private final ConcurrentMap<TagKey, Tag> concurrentHashMap = new ConcurrentHashMap<>();
+
+    private final Tag[] canonicalTags = new Tag[NUMBER_OF_VALUES];
+
+    private final Tag[] tags = new Tag[NUMBER_OF_VALUES];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            Tag tag = new Tag("tag-" + i);
+            canonicalTags[i] = tag;
+            strongInterner.intern(tag);
+            weakInterner.intern(tag);
+            concurrentHashMap.put(new TagKey(tag), tag);
+            tags[i] = new Tag(new String(tag.name));
+        }
+    }
+
+    private Tag nextTag() {
+        return tags[ThreadLocalRandom.current().nextInt(NUMBER_OF_VALUES)];
+    }
+
+    @Benchmark
+    public Tag strongInterner() {
+        return strongInterner.intern(nextTag());
+    }
+
+    @Benchmark
+    public Tag weakInterner() {
+        return weakInterner.intern(nextTag());
+    }
+
+    @Benchmark
+    public Tag concurrentHashMap() {
+        Tag tag = nextTag();
+        Tag canonicalTag = concurrentHashMap.putIfAbsent(new TagKey(tag), tag);
+        return canonicalTag != null ? canonicalTag : tag;
+    }
+
+    static final class Tag {
+
+        private final String name;
+
+        Tag(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Wrapper implementing the equivalence of {@link Tag}s for use in a {@link ConcurrentHashMap}.
+     */
+    static final class TagKey {
+
+        private final Tag tag;
+
+        TagKey(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof TagKey && EQUALS_AND_HASH_CODE.equals(tag, ((TagKey) object).tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return EQUALS_AND_HASH_CODE.hashCode(tag);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures comparing lists of value objects with {@code compare} against {@code compareList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListComparisonBenchmark {
+
+    private static final EqualsAndHashCode<Item> ITEM_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Item.class)
+            .compareAndHashPrimitive((Item item) -> item.id)
+            .compareAndHash(item -> item.name)
+            .compile();
+
+    private static final Equals<Order> EQUALS = Equalizer.equalsBuilder(Order.class)
+            .compare(order -> order.items)
+            .compile();
+
+    private static final Equals<Order> LIST_EQUALS = Equalizer.equalsBuilder(Order.class)
+            .compareList(order -> order.items, ITEM_EQUALS_AND_HASH_CODE)
+            .compile();
+
+    @Param({"4", "64"})
+    private int size;
+
+    private Order order1;
+
+    private Order order2;
+
+    @Setup
+    public void setUp() {
+        order1 = new Order(size);
+        order2 = new Order(size);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return EQUALS.equals(order1, order2);
+    }
+
+    @Benchmark
+    public boolean compareList() {
+        return LIST_EQUALS.equals(order1, order2);
+    }
+
+    static final class Order {
+
+        private final List<Item> items = new ArrayList<>();
+
+        Order(int size) {
+            for (int i = 0; i < size; i++) {
+                items.add(new Item(i, "item-" + i));
+            }
+        }
+    }
+
+    static final class Item {
+
+        private final int id;
+        private final String name;
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return ITEM_EQUALS_AND_HASH_CODE.equals(this, object);
+        }
+
+        @Override
+        public int hashCode() {
+            return ITEM_EQUALS_AND_HASH_CODE.hashCode(this);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures comparing two snapshots of an array element by element against {@link Equals#mismatch(Object[], Object[])},
+ * and the same snapshots as {@link ArrayList}s using {@link Equals#mismatch(List, List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MismatchBenchmark {
+
+    private static final Equals<Entity> EQUALS = Equalizer.equalsBuilder(Entity.class)
+            .comparePrimitive((Entity entity) -> entity.id)
+            .compare(entity -> entity.name)
+            .comparePrimitive((Entity entity) -> entity.x)
+            .comparePrimitive((Entity entity) -> entity.y)
+            .compile();
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private Entity[] snapshot;
+
+    private Entity[] otherSnapshot;
+
+    private List<Entity> snapshotList;
+
+    private List<Entity> otherSnapshotList;
+
+    @Setup
+    public void setUp() {
+        snapshot = new Entity[size];
+        otherSnapshot = new Entity[size];
+        Arrays.setAll(snapshot, Entity::new);
+        Arrays.setAll(otherSnapshot, Entity::new);
+        snapshotList = new ArrayList<>(Arrays.asList(snapshot));
+        otherSnapshotList = new ArrayList<>(Arrays.asList(otherSnapshot));
+    }
+
+    @Benchmark
+    public int equalsEach() {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (!EQUALS.equals(snapshot[i], otherSnapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int mismatch() {
+        return EQUALS.mismatch(snapshot, otherSnapshot);
+    }
+
+    @Benchmark
+    public int mismatchList() {
+        return EQUALS.mismatch(snapshotList, otherSnapshotList);
+    }
+
+    static final class Entity {
+
+        private final int id;
+        private final String name;
+        private final double x;
+        private final double y;
+
+        Entity(int index) {
+            this.id = index;
+            this.name = "entity-" + index;
+            this.x = index * 0.5;
+            this.y = index * 0.25;
+        }
+    }
+
+}
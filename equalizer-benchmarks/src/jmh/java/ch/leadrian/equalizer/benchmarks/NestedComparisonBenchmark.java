@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures comparing a nested value object with {@code compare}, which calls its {@code equals} method, against
+ * {@code compareWith}, which calls its {@link EqualsAndHashCode} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NestedComparisonBenchmark {
+
+    private static final EqualsAndHashCode<Customer> CUSTOMER_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Customer.class)
+            .compareAndHashPrimitive((Customer customer) -> customer.id)
+            .compareAndHash(customer -> customer.name)
+            .compile();
+
+    private static final Equals<Order> EQUALS = Equalizer.equalsBuilder(Order.class)
+            .compare(order -> order.customer)
+            .compile();
+
+    private static final Equals<Order> NESTED_EQUALS = Equalizer.equalsBuilder(Order.class)
+            .compareWith(order -> order.customer, CUSTOMER_EQUALS_AND_HASH_CODE)
+            .compile();
+
+    private Order order1;
+
+    private Order order2;
+
+    @Setup
+    public void setUp() {
+        order1 = new Order(new Customer(1337, new String("Hans")));
+        order2 = new Order(new Customer(1337, new String("Hans")));
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return EQUALS.equals(order1, order2);
+    }
+
+    @Benchmark
+    public boolean compareWith() {
+        return NESTED_EQUALS.equals(order1, order2);
+    }
+
+    static final class Order {
+
+        private final Customer customer;
+
+        Order(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    static final class Customer {
+
+        private final int id;
+        private final String name;
+
+        Customer(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return CUSTOMER_EQUALS_AND_HASH_CODE.equals(this, object);
+        }
+
+        @Override
+        public int hashCode() {
+            return CUSTOMER_EQUALS_AND_HASH_CODE.hashCode(this);
+        }
+    }
+
+}
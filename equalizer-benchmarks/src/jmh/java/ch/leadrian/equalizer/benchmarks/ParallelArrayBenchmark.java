@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.ParallelismPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sequential against parallel deep equality and hashing of very large arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelArrayBenchmark {
+
+    private static final EqualsAndHashCode<Snapshot> SEQUENTIAL = Equalizer.equalsAndHashCodeBuilder(Snapshot.class)
+            .compareAndHashDeep(snapshot -> snapshot.values)
+            .build();
+
+    private static final EqualsAndHashCode<Snapshot> PARALLEL = Equalizer.equalsAndHashCodeBuilder(Snapshot.class)
+            .compareAndHashDeep(snapshot -> snapshot.values, ParallelismPolicy.parallel(1 << 16))
+            .build();
+
+    @Param({"1048576", "16777216"})
+    private int length;
+
+    private Snapshot snapshot1;
+
+    private Snapshot snapshot2;
+
+    @Setup
+    public void setUp() {
+        double[] values = new Random(0).doubles(length).toArray();
+        snapshot1 = new Snapshot(values);
+        snapshot2 = new Snapshot(values.clone());
+    }
+
+    @Benchmark
+    public boolean equalsSequential() {
+        return SEQUENTIAL.equals(snapshot1, snapshot2);
+    }
+
+    @Benchmark
+    public boolean equalsParallel() {
+        return PARALLEL.equals(snapshot1, snapshot2);
+    }
+
+    @Benchmark
+    public int hashCodeSequential() {
+        return SEQUENTIAL.hashCode(snapshot1);
+    }
+
+    @Benchmark
+    public int hashCodeParallel() {
+        return PARALLEL.hashCode(snapshot1);
+    }
+
+    static final class Snapshot {
+
+        private final double[] values;
+
+        Snapshot(double[] values) {
+            this.values = values;
+        }
+    }
+
+}
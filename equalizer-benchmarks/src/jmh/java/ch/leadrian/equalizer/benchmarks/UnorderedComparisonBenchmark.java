@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures comparing permuted {@code int[]} attributes with {@code compareUnordered} against sorting copies of both
+ * arrays by hand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UnorderedComparisonBenchmark {
+
+    private static final Equals<Team> UNORDERED_EQUALS = Equalizer.equalsBuilder(Team.class)
+            .compareUnordered(team -> team.memberIds)
+            .compile();
+
+    private static final Equals<Team> SORTING_EQUALS = Equalizer.equalsBuilder(Team.class)
+            .compareDeep(team -> sorted(team.memberIds))
+            .compile();
+
+    @Param({"8", "16", "64", "1024"})
+    private int size;
+
+    private Team team1;
+
+    private Team team2;
+
+    @Setup
+    public void setUp() {
+        team1 = new Team(IntStream.range(0, size).toArray());
+        team2 = new Team(IntStream.range(0, size).map(i -> size - 1 - i).toArray());
+    }
+
+    @Benchmark
+    public boolean compareUnordered() {
+        return UNORDERED_EQUALS.equals(team1, team2);
+    }
+
+    @Benchmark
+    public boolean compareSorted() {
+        return SORTING_EQUALS.equals(team1, team2);
+    }
+
+    private static int[] sorted(int[] array) {
+        int[] sortedArray = array.clone();
+        Arrays.sort(sortedArray);
+        return sortedArray;
+    }
+
+    static final class Team {
+
+        private final int[] memberIds;
+
+        Team(int[] memberIds) {
+            this.memberIds = memberIds;
+        }
+    }
+
+}
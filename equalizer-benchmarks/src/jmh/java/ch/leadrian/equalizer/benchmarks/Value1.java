@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.HashCode;
+
+import java.util.Objects;
+
+final class Value1 extends BenchmarkValue {
+
+    private static final Equals<Value1> EQUALS = Equalizer.equalsBuilder(Value1.class)
+            .comparePrimitive((Value1 value) -> value.field0)
+            .build();
+
+    private static final HashCode<Value1> HASH_CODE = Equalizer.<Value1>hashCodeBuilder()
+            .hashPrimitive((Value1 value) -> value.field0)
+            .build();
+
+    private static final EqualsAndHashCode<Value1> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value1.class)
+            .compareAndHashPrimitive((Value1 value) -> value.field0)
+            .build();
+
+    private static final EqualsAndHashCode<Value1> COMPILED_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value1.class)
+            .compareAndHashPrimitive((Value1 value) -> value.field0)
+            .compile();
+
+    private final int field0;
+
+    Value1(int seed) {
+        this.field0 = seed;
+    }
+
+    @Override
+    boolean equalsByHand(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Value1)) {
+            return false;
+        }
+        Value1 other = (Value1) object;
+        return field0 == other.field0;
+    }
+
+    @Override
+    int hashCodeByHand() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(field0);
+        return result;
+    }
+
+    @Override
+    int hashCodeByObjectsHash() {
+        return Objects.hash(field0);
+    }
+
+    @Override
+    boolean equalsByEqualizer(Object object) {
+        return EQUALS.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualizer() {
+        return HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByEqualsAndHashCode(Object object) {
+        return EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualsAndHashCode() {
+        return EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByCompiledEqualsAndHashCode(Object object) {
+        return COMPILED_EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByCompiledEqualsAndHashCode() {
+        return COMPILED_EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.HashCode;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class Value16 extends BenchmarkValue {
+
+    private static final Equals<Value16> EQUALS = Equalizer.equalsBuilder(Value16.class)
+            .comparePrimitive((Value16 value) -> value.field0)
+            .compare(value -> value.field1)
+            .compareDeep(value -> value.field2)
+            .compareIdentity(value -> value.field3)
+            .comparePrimitive((Value16 value) -> value.field4)
+            .compare(value -> value.field5)
+            .compareDeep(value -> value.field6)
+            .compareIdentity(value -> value.field7)
+            .comparePrimitive((Value16 value) -> value.field8)
+            .compare(value -> value.field9)
+            .compareDeep(value -> value.field10)
+            .compareIdentity(value -> value.field11)
+            .comparePrimitive((Value16 value) -> value.field12)
+            .compare(value -> value.field13)
+            .compareDeep(value -> value.field14)
+            .compareIdentity(value -> value.field15)
+            .build();
+
+    private static final HashCode<Value16> HASH_CODE = Equalizer.<Value16>hashCodeBuilder()
+            .hashPrimitive((Value16 value) -> value.field0)
+            .hash(value -> value.field1)
+            .hashDeep(value -> value.field2)
+            .hashIdentity(value -> value.field3)
+            .hashPrimitive((Value16 value) -> value.field4)
+            .hash(value -> value.field5)
+            .hashDeep(value -> value.field6)
+            .hashIdentity(value -> value.field7)
+            .hashPrimitive((Value16 value) -> value.field8)
+            .hash(value -> value.field9)
+            .hashDeep(value -> value.field10)
+            .hashIdentity(value -> value.field11)
+            .hashPrimitive((Value16 value) -> value.field12)
+            .hash(value -> value.field13)
+            .hashDeep(value -> value.field14)
+            .hashIdentity(value -> value.field15)
+            .build();
+
+    private static final EqualsAndHashCode<Value16> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value16.class)
+            .compareAndHashPrimitive((Value16 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .compareAndHashPrimitive((Value16 value) -> value.field4)
+            .compareAndHash(value -> value.field5)
+            .compareAndHashDeep(value -> value.field6)
+            .compareAndHashIdentity(value -> value.field7)
+            .compareAndHashPrimitive((Value16 value) -> value.field8)
+            .compareAndHash(value -> value.field9)
+            .compareAndHashDeep(value -> value.field10)
+            .compareAndHashIdentity(value -> value.field11)
+            .compareAndHashPrimitive((Value16 value) -> value.field12)
+            .compareAndHash(value -> value.field13)
+            .compareAndHashDeep(value -> value.field14)
+            .compareAndHashIdentity(value -> value.field15)
+            .build();
+
+    private static final EqualsAndHashCode<Value16> COMPILED_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value16.class)
+            .compareAndHashPrimitive((Value16 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .compareAndHashPrimitive((Value16 value) -> value.field4)
+            .compareAndHash(value -> value.field5)
+            .compareAndHashDeep(value -> value.field6)
+            .compareAndHashIdentity(value -> value.field7)
+            .compareAndHashPrimitive((Value16 value) -> value.field8)
+            .compareAndHash(value -> value.field9)
+            .compareAndHashDeep(value -> value.field10)
+            .compareAndHashIdentity(value -> value.field11)
+            .compareAndHashPrimitive((Value16 value) -> value.field12)
+            .compareAndHash(value -> value.field13)
+            .compareAndHashDeep(value -> value.field14)
+            .compareAndHashIdentity(value -> value.field15)
+            .compile();
+
+    private final int field0;
+    private final String field1;
+    private final int[] field2;
+    private final Object field3;
+    private final int field4;
+    private final String field5;
+    private final int[] field6;
+    private final Object field7;
+    private final int field8;
+    private final String field9;
+    private final int[] field10;
+    private final Object field11;
+    private final int field12;
+    private final String field13;
+    private final int[] field14;
+    private final Object field15;
+
+    Value16(int seed) {
+        this.field0 = seed;
+        this.field1 = string(seed, 1);
+        this.field2 = intArray(seed, 2);
+        this.field3 = identity(3);
+        this.field4 = seed + 4;
+        this.field5 = string(seed, 5);
+        this.field6 = intArray(seed, 6);
+        this.field7 = identity(7);
+        this.field8 = seed + 8;
+        this.field9 = string(seed, 9);
+        this.field10 = intArray(seed, 10);
+        this.field11 = identity(11);
+        this.field12 = seed + 12;
+        this.field13 = string(seed, 13);
+        this.field14 = intArray(seed, 14);
+        this.field15 = identity(15);
+    }
+
+    @Override
+    boolean equalsByHand(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Value16)) {
+            return false;
+        }
+        Value16 other = (Value16) object;
+        return field0 == other.field0
+                && Objects.equals(field1, other.field1)
+                && Arrays.equals(field2, other.field2)
+                && field3 == other.field3
+                && field4 == other.field4
+                && Objects.equals(field5, other.field5)
+                && Arrays.equals(field6, other.field6)
+                && field7 == other.field7
+                && field8 == other.field8
+                && Objects.equals(field9, other.field9)
+                && Arrays.equals(field10, other.field10)
+                && field11 == other.field11
+                && field12 == other.field12
+                && Objects.equals(field13, other.field13)
+                && Arrays.equals(field14, other.field14)
+                && field15 == other.field15;
+    }
+
+    @Override
+    int hashCodeByHand() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(field0);
+        result = 31 * result + Objects.hashCode(field1);
+        result = 31 * result + Arrays.hashCode(field2);
+        result = 31 * result + System.identityHashCode(field3);
+        result = 31 * result + Integer.hashCode(field4);
+        result = 31 * result + Objects.hashCode(field5);
+        result = 31 * result + Arrays.hashCode(field6);
+        result = 31 * result + System.identityHashCode(field7);
+        result = 31 * result + Integer.hashCode(field8);
+        result = 31 * result + Objects.hashCode(field9);
+        result = 31 * result + Arrays.hashCode(field10);
+        result = 31 * result + System.identityHashCode(field11);
+        result = 31 * result + Integer.hashCode(field12);
+        result = 31 * result + Objects.hashCode(field13);
+        result = 31 * result + Arrays.hashCode(field14);
+        result = 31 * result + System.identityHashCode(field15);
+        return result;
+    }
+
+    @Override
+    int hashCodeByObjectsHash() {
+        return Objects.hash(field0, field1, Arrays.hashCode(field2), System.identityHashCode(field3), field4, field5,
+                Arrays.hashCode(field6), System.identityHashCode(field7), field8, field9, Arrays.hashCode(field10),
+                System.identityHashCode(field11), field12, field13, Arrays.hashCode(field14),
+                System.identityHashCode(field15));
+    }
+
+    @Override
+    boolean equalsByEqualizer(Object object) {
+        return EQUALS.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualizer() {
+        return HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByEqualsAndHashCode(Object object) {
+        return EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualsAndHashCode() {
+        return EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByCompiledEqualsAndHashCode(Object object) {
+        return COMPILED_EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByCompiledEqualsAndHashCode() {
+        return COMPILED_EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+}
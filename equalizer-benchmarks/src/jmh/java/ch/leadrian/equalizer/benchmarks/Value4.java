@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.HashCode;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class Value4 extends BenchmarkValue {
+
+    private static final Equals<Value4> EQUALS = Equalizer.equalsBuilder(Value4.class)
+            .comparePrimitive((Value4 value) -> value.field0)
+            .compare(value -> value.field1)
+            .compareDeep(value -> value.field2)
+            .compareIdentity(value -> value.field3)
+            .build();
+
+    private static final HashCode<Value4> HASH_CODE = Equalizer.<Value4>hashCodeBuilder()
+            .hashPrimitive((Value4 value) -> value.field0)
+            .hash(value -> value.field1)
+            .hashDeep(value -> value.field2)
+            .hashIdentity(value -> value.field3)
+            .build();
+
+    private static final EqualsAndHashCode<Value4> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value4.class)
+            .compareAndHashPrimitive((Value4 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .build();
+
+    private static final EqualsAndHashCode<Value4> COMPILED_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value4.class)
+            .compareAndHashPrimitive((Value4 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .compile();
+
+    private final int field0;
+    private final String field1;
+    private final int[] field2;
+    private final Object field3;
+
+    Value4(int seed) {
+        this.field0 = seed;
+        this.field1 = string(seed, 1);
+        this.field2 = intArray(seed, 2);
+        this.field3 = identity(3);
+    }
+
+    @Override
+    boolean equalsByHand(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Value4)) {
+            return false;
+        }
+        Value4 other = (Value4) object;
+        return field0 == other.field0
+                && Objects.equals(field1, other.field1)
+                && Arrays.equals(field2, other.field2)
+                && field3 == other.field3;
+    }
+
+    @Override
+    int hashCodeByHand() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(field0);
+        result = 31 * result + Objects.hashCode(field1);
+        result = 31 * result + Arrays.hashCode(field2);
+        result = 31 * result + System.identityHashCode(field3);
+        return result;
+    }
+
+    @Override
+    int hashCodeByObjectsHash() {
+        return Objects.hash(field0, field1, Arrays.hashCode(field2), System.identityHashCode(field3));
+    }
+
+    @Override
+    boolean equalsByEqualizer(Object object) {
+        return EQUALS.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualizer() {
+        return HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByEqualsAndHashCode(Object object) {
+        return EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualsAndHashCode() {
+        return EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByCompiledEqualsAndHashCode(Object object) {
+        return COMPILED_EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByCompiledEqualsAndHashCode() {
+        return COMPILED_EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+}
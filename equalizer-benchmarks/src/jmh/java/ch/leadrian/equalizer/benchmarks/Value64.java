@@ -0,0 +1,623 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.benchmarks;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.Equals;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.HashCode;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class Value64 extends BenchmarkValue {
+
+    private static final Equals<Value64> EQUALS = Equalizer.equalsBuilder(Value64.class)
+            .comparePrimitive((Value64 value) -> value.field0)
+            .compare(value -> value.field1)
+            .compareDeep(value -> value.field2)
+            .compareIdentity(value -> value.field3)
+            .comparePrimitive((Value64 value) -> value.field4)
+            .compare(value -> value.field5)
+            .compareDeep(value -> value.field6)
+            .compareIdentity(value -> value.field7)
+            .comparePrimitive((Value64 value) -> value.field8)
+            .compare(value -> value.field9)
+            .compareDeep(value -> value.field10)
+            .compareIdentity(value -> value.field11)
+            .comparePrimitive((Value64 value) -> value.field12)
+            .compare(value -> value.field13)
+            .compareDeep(value -> value.field14)
+            .compareIdentity(value -> value.field15)
+            .comparePrimitive((Value64 value) -> value.field16)
+            .compare(value -> value.field17)
+            .compareDeep(value -> value.field18)
+            .compareIdentity(value -> value.field19)
+            .comparePrimitive((Value64 value) -> value.field20)
+            .compare(value -> value.field21)
+            .compareDeep(value -> value.field22)
+            .compareIdentity(value -> value.field23)
+            .comparePrimitive((Value64 value) -> value.field24)
+            .compare(value -> value.field25)
+            .compareDeep(value -> value.field26)
+            .compareIdentity(value -> value.field27)
+            .comparePrimitive((Value64 value) -> value.field28)
+            .compare(value -> value.field29)
+            .compareDeep(value -> value.field30)
+            .compareIdentity(value -> value.field31)
+            .comparePrimitive((Value64 value) -> value.field32)
+            .compare(value -> value.field33)
+            .compareDeep(value -> value.field34)
+            .compareIdentity(value -> value.field35)
+            .comparePrimitive((Value64 value) -> value.field36)
+            .compare(value -> value.field37)
+            .compareDeep(value -> value.field38)
+            .compareIdentity(value -> value.field39)
+            .comparePrimitive((Value64 value) -> value.field40)
+            .compare(value -> value.field41)
+            .compareDeep(value -> value.field42)
+            .compareIdentity(value -> value.field43)
+            .comparePrimitive((Value64 value) -> value.field44)
+            .compare(value -> value.field45)
+            .compareDeep(value -> value.field46)
+            .compareIdentity(value -> value.field47)
+            .comparePrimitive((Value64 value) -> value.field48)
+            .compare(value -> value.field49)
+            .compareDeep(value -> value.field50)
+            .compareIdentity(value -> value.field51)
+            .comparePrimitive((Value64 value) -> value.field52)
+            .compare(value -> value.field53)
+            .compareDeep(value -> value.field54)
+            .compareIdentity(value -> value.field55)
+            .comparePrimitive((Value64 value) -> value.field56)
+            .compare(value -> value.field57)
+            .compareDeep(value -> value.field58)
+            .compareIdentity(value -> value.field59)
+            .comparePrimitive((Value64 value) -> value.field60)
+            .compare(value -> value.field61)
+            .compareDeep(value -> value.field62)
+            .compareIdentity(value -> value.field63)
+            .build();
+
+    private static final HashCode<Value64> HASH_CODE = Equalizer.<Value64>hashCodeBuilder()
+            .hashPrimitive((Value64 value) -> value.field0)
+            .hash(value -> value.field1)
+            .hashDeep(value -> value.field2)
+            .hashIdentity(value -> value.field3)
+            .hashPrimitive((Value64 value) -> value.field4)
+            .hash(value -> value.field5)
+            .hashDeep(value -> value.field6)
+            .hashIdentity(value -> value.field7)
+            .hashPrimitive((Value64 value) -> value.field8)
+            .hash(value -> value.field9)
+            .hashDeep(value -> value.field10)
+            .hashIdentity(value -> value.field11)
+            .hashPrimitive((Value64 value) -> value.field12)
+            .hash(value -> value.field13)
+            .hashDeep(value -> value.field14)
+            .hashIdentity(value -> value.field15)
+            .hashPrimitive((Value64 value) -> value.field16)
+            .hash(value -> value.field17)
+            .hashDeep(value -> value.field18)
+            .hashIdentity(value -> value.field19)
+            .hashPrimitive((Value64 value) -> value.field20)
+            .hash(value -> value.field21)
+            .hashDeep(value -> value.field22)
+            .hashIdentity(value -> value.field23)
+            .hashPrimitive((Value64 value) -> value.field24)
+            .hash(value -> value.field25)
+            .hashDeep(value -> value.field26)
+            .hashIdentity(value -> value.field27)
+            .hashPrimitive((Value64 value) -> value.field28)
+            .hash(value -> value.field29)
+            .hashDeep(value -> value.field30)
+            .hashIdentity(value -> value.field31)
+            .hashPrimitive((Value64 value) -> value.field32)
+            .hash(value -> value.field33)
+            .hashDeep(value -> value.field34)
+            .hashIdentity(value -> value.field35)
+            .hashPrimitive((Value64 value) -> value.field36)
+            .hash(value -> value.field37)
+            .hashDeep(value -> value.field38)
+            .hashIdentity(value -> value.field39)
+            .hashPrimitive((Value64 value) -> value.field40)
+            .hash(value -> value.field41)
+            .hashDeep(value -> value.field42)
+            .hashIdentity(value -> value.field43)
+            .hashPrimitive((Value64 value) -> value.field44)
+            .hash(value -> value.field45)
+            .hashDeep(value -> value.field46)
+            .hashIdentity(value -> value.field47)
+            .hashPrimitive((Value64 value) -> value.field48)
+            .hash(value -> value.field49)
+            .hashDeep(value -> value.field50)
+            .hashIdentity(value -> value.field51)
+            .hashPrimitive((Value64 value) -> value.field52)
+            .hash(value -> value.field53)
+            .hashDeep(value -> value.field54)
+            .hashIdentity(value -> value.field55)
+            .hashPrimitive((Value64 value) -> value.field56)
+            .hash(value -> value.field57)
+            .hashDeep(value -> value.field58)
+            .hashIdentity(value -> value.field59)
+            .hashPrimitive((Value64 value) -> value.field60)
+            .hash(value -> value.field61)
+            .hashDeep(value -> value.field62)
+            .hashIdentity(value -> value.field63)
+            .build();
+
+    private static final EqualsAndHashCode<Value64> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value64.class)
+            .compareAndHashPrimitive((Value64 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .compareAndHashPrimitive((Value64 value) -> value.field4)
+            .compareAndHash(value -> value.field5)
+            .compareAndHashDeep(value -> value.field6)
+            .compareAndHashIdentity(value -> value.field7)
+            .compareAndHashPrimitive((Value64 value) -> value.field8)
+            .compareAndHash(value -> value.field9)
+            .compareAndHashDeep(value -> value.field10)
+            .compareAndHashIdentity(value -> value.field11)
+            .compareAndHashPrimitive((Value64 value) -> value.field12)
+            .compareAndHash(value -> value.field13)
+            .compareAndHashDeep(value -> value.field14)
+            .compareAndHashIdentity(value -> value.field15)
+            .compareAndHashPrimitive((Value64 value) -> value.field16)
+            .compareAndHash(value -> value.field17)
+            .compareAndHashDeep(value -> value.field18)
+            .compareAndHashIdentity(value -> value.field19)
+            .compareAndHashPrimitive((Value64 value) -> value.field20)
+            .compareAndHash(value -> value.field21)
+            .compareAndHashDeep(value -> value.field22)
+            .compareAndHashIdentity(value -> value.field23)
+            .compareAndHashPrimitive((Value64 value) -> value.field24)
+            .compareAndHash(value -> value.field25)
+            .compareAndHashDeep(value -> value.field26)
+            .compareAndHashIdentity(value -> value.field27)
+            .compareAndHashPrimitive((Value64 value) -> value.field28)
+            .compareAndHash(value -> value.field29)
+            .compareAndHashDeep(value -> value.field30)
+            .compareAndHashIdentity(value -> value.field31)
+            .compareAndHashPrimitive((Value64 value) -> value.field32)
+            .compareAndHash(value -> value.field33)
+            .compareAndHashDeep(value -> value.field34)
+            .compareAndHashIdentity(value -> value.field35)
+            .compareAndHashPrimitive((Value64 value) -> value.field36)
+            .compareAndHash(value -> value.field37)
+            .compareAndHashDeep(value -> value.field38)
+            .compareAndHashIdentity(value -> value.field39)
+            .compareAndHashPrimitive((Value64 value) -> value.field40)
+            .compareAndHash(value -> value.field41)
+            .compareAndHashDeep(value -> value.field42)
+            .compareAndHashIdentity(value -> value.field43)
+            .compareAndHashPrimitive((Value64 value) -> value.field44)
+            .compareAndHash(value -> value.field45)
+            .compareAndHashDeep(value -> value.field46)
+            .compareAndHashIdentity(value -> value.field47)
+            .compareAndHashPrimitive((Value64 value) -> value.field48)
+            .compareAndHash(value -> value.field49)
+            .compareAndHashDeep(value -> value.field50)
+            .compareAndHashIdentity(value -> value.field51)
+            .compareAndHashPrimitive((Value64 value) -> value.field52)
+            .compareAndHash(value -> value.field53)
+            .compareAndHashDeep(value -> value.field54)
+            .compareAndHashIdentity(value -> value.field55)
+            .compareAndHashPrimitive((Value64 value) -> value.field56)
+            .compareAndHash(value -> value.field57)
+            .compareAndHashDeep(value -> value.field58)
+            .compareAndHashIdentity(value -> value.field59)
+            .compareAndHashPrimitive((Value64 value) -> value.field60)
+            .compareAndHash(value -> value.field61)
+            .compareAndHashDeep(value -> value.field62)
+            .compareAndHashIdentity(value -> value.field63)
+            .build();
+
+    private static final EqualsAndHashCode<Value64> COMPILED_EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Value64.class)
+            .compareAndHashPrimitive((Value64 value) -> value.field0)
+            .compareAndHash(value -> value.field1)
+            .compareAndHashDeep(value -> value.field2)
+            .compareAndHashIdentity(value -> value.field3)
+            .compareAndHashPrimitive((Value64 value) -> value.field4)
+            .compareAndHash(value -> value.field5)
+            .compareAndHashDeep(value -> value.field6)
+            .compareAndHashIdentity(value -> value.field7)
+            .compareAndHashPrimitive((Value64 value) -> value.field8)
+            .compareAndHash(value -> value.field9)
+            .compareAndHashDeep(value -> value.field10)
+            .compareAndHashIdentity(value -> value.field11)
+            .compareAndHashPrimitive((Value64 value) -> value.field12)
+            .compareAndHash(value -> value.field13)
+            .compareAndHashDeep(value -> value.field14)
+            .compareAndHashIdentity(value -> value.field15)
+            .compareAndHashPrimitive((Value64 value) -> value.field16)
+            .compareAndHash(value -> value.field17)
+            .compareAndHashDeep(value -> value.field18)
+            .compareAndHashIdentity(value -> value.field19)
+            .compareAndHashPrimitive((Value64 value) -> value.field20)
+            .compareAndHash(value -> value.field21)
+            .compareAndHashDeep(value -> value.field22)
+            .compareAndHashIdentity(value -> value.field23)
+            .compareAndHashPrimitive((Value64 value) -> value.field24)
+            .compareAndHash(value -> value.field25)
+            .compareAndHashDeep(value -> value.field26)
+            .compareAndHashIdentity(value -> value.field27)
+            .compareAndHashPrimitive((Value64 value) -> value.field28)
+            .compareAndHash(value -> value.field29)
+            .compareAndHashDeep(value -> value.field30)
+            .compareAndHashIdentity(value -> value.field31)
+            .compareAndHashPrimitive((Value64 value) -> value.field32)
+            .compareAndHash(value -> value.field33)
+            .compareAndHashDeep(value -> value.field34)
+            .compareAndHashIdentity(value -> value.field35)
+            .compareAndHashPrimitive((Value64 value) -> value.field36)
+            .compareAndHash(value -> value.field37)
+            .compareAndHashDeep(value -> value.field38)
+            .compareAndHashIdentity(value -> value.field39)
+            .compareAndHashPrimitive((Value64 value) -> value.field40)
+            .compareAndHash(value -> value.field41)
+            .compareAndHashDeep(value -> value.field42)
+            .compareAndHashIdentity(value -> value.field43)
+            .compareAndHashPrimitive((Value64 value) -> value.field44)
+            .compareAndHash(value -> value.field45)
+            .compareAndHashDeep(value -> value.field46)
+            .compareAndHashIdentity(value -> value.field47)
+            .compareAndHashPrimitive((Value64 value) -> value.field48)
+            .compareAndHash(value -> value.field49)
+            .compareAndHashDeep(value -> value.field50)
+            .compareAndHashIdentity(value -> value.field51)
+            .compareAndHashPrimitive((Value64 value) -> value.field52)
+            .compareAndHash(value -> value.field53)
+            .compareAndHashDeep(value -> value.field54)
+            .compareAndHashIdentity(value -> value.field55)
+            .compareAndHashPrimitive((Value64 value) -> value.field56)
+            .compareAndHash(value -> value.field57)
+            .compareAndHashDeep(value -> value.field58)
+            .compareAndHashIdentity(value -> value.field59)
+            .compareAndHashPrimitive((Value64 value) -> value.field60)
+            .compareAndHash(value -> value.field61)
+            .compareAndHashDeep(value -> value.field62)
+            .compareAndHashIdentity(value -> value.field63)
+            .compile();
+
+    private final int field0;
+    private final String field1;
+    private final int[] field2;
+    private final Object field3;
+    private final int field4;
+    private final String field5;
+    private final int[] field6;
+    private final Object field7;
+    private final int field8;
+    private final String field9;
+    private final int[] field10;
+    private final Object field11;
+    private final int field12;
+    private final String field13;
+    private final int[] field14;
+    private final Object field15;
+    private final int field16;
+    private final String field17;
+    private final int[] field18;
+    private final Object field19;
+    private final int field20;
+    private final String field21;
+    private final int[] field22;
+    private final Object field23;
+    private final int field24;
+    private final String field25;
+    private final int[] field26;
+    private final Object field27;
+    private final int field28;
+    private final String field29;
+    private final int[] field30;
+    private final Object field31;
+    private final int field32;
+    private final String field33;
+    private final int[] field34;
+    private final Object field35;
+    private final int field36;
+    private final String field37;
+    private final int[] field38;
+    private final Object field39;
+    private final int field40;
+    private final String field41;
+    private final int[] field42;
+    private final Object field43;
+    private final int field44;
+    private final String field45;
+    private final int[] field46;
+    private final Object field47;
+    private final int field48;
+    private final String field49;
+    private final int[] field50;
+    private final Object field51;
+    private final int field52;
+    private final String field53;
+    private final int[] field54;
+    private final Object field55;
+    private final int field56;
+    private final String field57;
+    private final int[] field58;
+    private final Object field59;
+    private final int field60;
+    private final String field61;
+    private final int[] field62;
+    private final Object field63;
+
+    Value64(int seed) {
+        this.field0 = seed;
+        this.field1 = string(seed, 1);
+        this.field2 = intArray(seed, 2);
+        this.field3 = identity(3);
+        this.field4 = seed + 4;
+        this.field5 = string(seed, 5);
+        this.field6 = intArray(seed, 6);
+        this.field7 = identity(7);
+        this.field8 = seed + 8;
+        this.field9 = string(seed, 9);
+        this.field10 = intArray(seed, 10);
+        this.field11 = identity(11);
+        this.field12 = seed + 12;
+        this.field13 = string(seed, 13);
+        this.field14 = intArray(seed, 14);
+        this.field15 = identity(15);
+        this.field16 = seed + 16;
+        this.field17 = string(seed, 17);
+        this.field18 = intArray(seed, 18);
+        this.field19 = identity(19);
+        this.field20 = seed + 20;
+        this.field21 = string(seed, 21);
+        this.field22 = intArray(seed, 22);
+        this.field23 = identity(23);
+        this.field24 = seed + 24;
+        this.field25 = string(seed, 25);
+        this.field26 = intArray(seed, 26);
+        this.field27 = identity(27);
+        this.field28 = seed + 28;
+        this.field29 = string(seed, 29);
+        this.field30 = intArray(seed, 30);
+        this.field31 = identity(31);
+        this.field32 = seed + 32;
+        this.field33 = string(seed, 33);
+        this.field34 = intArray(seed, 34);
+        this.field35 = identity(35);
+        this.field36 = seed + 36;
+        this.field37 = string(seed, 37);
+        this.field38 = intArray(seed, 38);
+        this.field39 = identity(39);
+        this.field40 = seed + 40;
+        this.field41 = string(seed, 41);
+        this.field42 = intArray(seed, 42);
+        this.field43 = identity(43);
+        this.field44 = seed + 44;
+        this.field45 = string(seed, 45);
+        this.field46 = intArray(seed, 46);
+        this.field47 = identity(47);
+        this.field48 = seed + 48;
+        this.field49 = string(seed, 49);
+        this.field50 = intArray(seed, 50);
+        this.field51 = identity(51);
+        this.field52 = seed + 52;
+        this.field53 = string(seed, 53);
+        this.field54 = intArray(seed, 54);
+        this.field55 = identity(55);
+        this.field56 = seed + 56;
+        this.field57 = string(seed, 57);
+        this.field58 = intArray(seed, 58);
+        this.field59 = identity(59);
+        this.field60 = seed + 60;
+        this.field61 = string(seed, 61);
+        this.field62 = intArray(seed, 62);
+        this.field63 = identity(63);
+    }
+
+    @Override
+    boolean equalsByHand(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Value64)) {
+            return false;
+        }
+        Value64 other = (Value64) object;
+        return field0 == other.field0
+                && Objects.equals(field1, other.field1)
+                && Arrays.equals(field2, other.field2)
+                && field3 == other.field3
+                && field4 == other.field4
+                && Objects.equals(field5, other.field5)
+                && Arrays.equals(field6, other.field6)
+                && field7 == other.field7
+                && field8 == other.field8
+                && Objects.equals(field9, other.field9)
+                && Arrays.equals(field10, other.field10)
+                && field11 == other.field11
+                && field12 == other.field12
+                && Objects.equals(field13, other.field13)
+                && Arrays.equals(field14, other.field14)
+                && field15 == other.field15
+                && field16 == other.field16
+                && Objects.equals(field17, other.field17)
+                && Arrays.equals(field18, other.field18)
+                && field19 == other.field19
+                && field20 == other.field20
+                && Objects.equals(field21, other.field21)
+                && Arrays.equals(field22, other.field22)
+                && field23 == other.field23
+                && field24 == other.field24
+                && Objects.equals(field25, other.field25)
+                && Arrays.equals(field26, other.field26)
+                && field27 == other.field27
+                && field28 == other.field28
+                && Objects.equals(field29, other.field29)
+                && Arrays.equals(field30, other.field30)
+                && field31 == other.field31
+                && field32 == other.field32
+                && Objects.equals(field33, other.field33)
+                && Arrays.equals(field34, other.field34)
+                && field35 == other.field35
+                && field36 == other.field36
+                && Objects.equals(field37, other.field37)
+                && Arrays.equals(field38, other.field38)
+                && field39 == other.field39
+                && field40 == other.field40
+                && Objects.equals(field41, other.field41)
+                && Arrays.equals(field42, other.field42)
+                && field43 == other.field43
+                && field44 == other.field44
+                && Objects.equals(field45, other.field45)
+                && Arrays.equals(field46, other.field46)
+                && field47 == other.field47
+                && field48 == other.field48
+                && Objects.equals(field49, other.field49)
+                && Arrays.equals(field50, other.field50)
+                && field51 == other.field51
+                && field52 == other.field52
+                && Objects.equals(field53, other.field53)
+                && Arrays.equals(field54, other.field54)
+                && field55 == other.field55
+                && field56 == other.field56
+                && Objects.equals(field57, other.field57)
+                && Arrays.equals(field58, other.field58)
+                && field59 == other.field59
+                && field60 == other.field60
+                && Objects.equals(field61, other.field61)
+                && Arrays.equals(field62, other.field62)
+                && field63 == other.field63;
+    }
+
+    @Override
+    int hashCodeByHand() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(field0);
+        result = 31 * result + Objects.hashCode(field1);
+        result = 31 * result + Arrays.hashCode(field2);
+        result = 31 * result + System.identityHashCode(field3);
+        result = 31 * result + Integer.hashCode(field4);
+        result = 31 * result + Objects.hashCode(field5);
+        result = 31 * result + Arrays.hashCode(field6);
+        result = 31 * result + System.identityHashCode(field7);
+        result = 31 * result + Integer.hashCode(field8);
+        result = 31 * result + Objects.hashCode(field9);
+        result = 31 * result + Arrays.hashCode(field10);
+        result = 31 * result + System.identityHashCode(field11);
+        result = 31 * result + Integer.hashCode(field12);
+        result = 31 * result + Objects.hashCode(field13);
+        result = 31 * result + Arrays.hashCode(field14);
+        result = 31 * result + System.identityHashCode(field15);
+        result = 31 * result + Integer.hashCode(field16);
+        result = 31 * result + Objects.hashCode(field17);
+        result = 31 * result + Arrays.hashCode(field18);
+        result = 31 * result + System.identityHashCode(field19);
+        result = 31 * result + Integer.hashCode(field20);
+        result = 31 * result + Objects.hashCode(field21);
+        result = 31 * result + Arrays.hashCode(field22);
+        result = 31 * result + System.identityHashCode(field23);
+        result = 31 * result + Integer.hashCode(field24);
+        result = 31 * result + Objects.hashCode(field25);
+        result = 31 * result + Arrays.hashCode(field26);
+        result = 31 * result + System.identityHashCode(field27);
+        result = 31 * result + Integer.hashCode(field28);
+        result = 31 * result + Objects.hashCode(field29);
+        result = 31 * result + Arrays.hashCode(field30);
+        result = 31 * result + System.identityHashCode(field31);
+        result = 31 * result + Integer.hashCode(field32);
+        result = 31 * result + Objects.hashCode(field33);
+        result = 31 * result + Arrays.hashCode(field34);
+        result = 31 * result + System.identityHashCode(field35);
+        result = 31 * result + Integer.hashCode(field36);
+        result = 31 * result + Objects.hashCode(field37);
+        result = 31 * result + Arrays.hashCode(field38);
+        result = 31 * result + System.identityHashCode(field39);
+        result = 31 * result + Integer.hashCode(field40);
+        result = 31 * result + Objects.hashCode(field41);
+        result = 31 * result + Arrays.hashCode(field42);
+        result = 31 * result + System.identityHashCode(field43);
+        result = 31 * result + Integer.hashCode(field44);
+        result = 31 * result + Objects.hashCode(field45);
+        result = 31 * result + Arrays.hashCode(field46);
+        result = 31 * result + System.identityHashCode(field47);
+        result = 31 * result + Integer.hashCode(field48);
+        result = 31 * result + Objects.hashCode(field49);
+        result = 31 * result + Arrays.hashCode(field50);
+        result = 31 * result + System.identityHashCode(field51);
+        result = 31 * result + Integer.hashCode(field52);
+        result = 31 * result + Objects.hashCode(field53);
+        result = 31 * result + Arrays.hashCode(field54);
+        result = 31 * result + System.identityHashCode(field55);
+        result = 31 * result + Integer.hashCode(field56);
+        result = 31 * result + Objects.hashCode(field57);
+        result = 31 * result + Arrays.hashCode(field58);
+        result = 31 * result + System.identityHashCode(field59);
+        result = 31 * result + Integer.hashCode(field60);
+        result = 31 * result + Objects.hashCode(field61);
+        result = 31 * result + Arrays.hashCode(field62);
+        result = 31 * result + System.identityHashCode(field63);
+        return result;
+    }
+
+    @Override
+    int hashCodeByObjectsHash() {
+        return Objects.hash(field0, field1, Arrays.hashCode(field2), System.identityHashCode(field3), field4, field5,
+                Arrays.hashCode(field6), System.identityHashCode(field7), field8, field9, Arrays.hashCode(field10),
+                System.identityHashCode(field11), field12, field13, Arrays.hashCode(field14),
+                System.identityHashCode(field15), field16, field17, Arrays.hashCode(field18),
+                System.identityHashCode(field19), field20, field21, Arrays.hashCode(field22),
+                System.identityHashCode(field23), field24, field25, Arrays.hashCode(field26),
+                System.identityHashCode(field27), field28, field29, Arrays.hashCode(field30),
+                System.identityHashCode(field31), field32, field33, Arrays.hashCode(field34),
+                System.identityHashCode(field35), field36, field37, Arrays.hashCode(field38),
+                System.identityHashCode(field39), field40, field41, Arrays.hashCode(field42),
+                System.identityHashCode(field43), field44, field45, Arrays.hashCode(field46),
+                System.identityHashCode(field47), field48, field49, Arrays.hashCode(field50),
+                System.identityHashCode(field51), field52, field53, Arrays.hashCode(field54),
+                System.identityHashCode(field55), field56, field57, Arrays.hashCode(field58),
+                System.identityHashCode(field59), field60, field61, Arrays.hashCode(field62),
+                System.identityHashCode(field63));
+    }
+
+    @Override
+    boolean equalsByEqualizer(Object object) {
+        return EQUALS.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualizer() {
+        return HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByEqualsAndHashCode(Object object) {
+        return EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByEqualsAndHashCode() {
+        return EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+
+    @Override
+    boolean equalsByCompiledEqualsAndHashCode(Object object) {
+        return COMPILED_EQUALS_AND_HASH_CODE.equals(this, object);
+    }
+
+    @Override
+    int hashCodeByCompiledEqualsAndHashCode() {
+        return COMPILED_EQUALS_AND_HASH_CODE.hashCode(this);
+    }
+}
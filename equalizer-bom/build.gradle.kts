@@ -22,6 +22,9 @@ plugins {
 dependencies {
     constraints {
         api(project(":equalizer-core"))
+        api(project(":equalizer-collections"))
         api(project(":equalizer-kotlin"))
+        api(project(":equalizer-processor"))
+        api(project(":equalizer-tools"))
     }
 }
\ No newline at end of file
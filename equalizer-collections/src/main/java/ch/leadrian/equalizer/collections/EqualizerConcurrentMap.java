@@ -0,0 +1,789 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static ch.leadrian.equalizer.collections.HashTables.capacityFor;
+import static ch.leadrian.equalizer.collections.HashTables.indexFor;
+import static ch.leadrian.equalizer.collections.HashTables.maximumSize;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A {@link ConcurrentMap} that compares and hashes its keys using an {@link EqualsAndHashCode} instead of the
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods of the keys. This allows using keys under a
+ * different equivalence in concurrent code without wrapping each key.
+ * </p>
+ * <p>
+ * The keys and values are stored in alternating slots of a single flat array using open addressing with linear probing.
+ * Retrievals neither lock nor allocate. Keys are inserted and values are replaced using compare-and-set operations on
+ * the slots. A removed key keeps its slot, holding a tombstone as value, until the table is resized. Resizing copies the
+ * table incrementally: every thread updating the map copies a chunk of the old table, while retrievals and updates
+ * proceed on both the old and the new table. Like {@link java.util.concurrent.ConcurrentHashMap}, {@code null} keys and
+ * values are not permitted. The key strategy is never called with {@code null} keys.
+ * </p>
+ * <p>
+ * <b>This class is not a general-purpose {@link Map} implementation!</b> Like {@link java.util.IdentityHashMap}, it
+ * intentionally violates the general contract of {@link Map}, which mandates the use of the {@code equals} method when
+ * comparing keys. Comparing instances of this class with other maps is only meaningful if both use the same
+ * equivalence for their keys.
+ * </p>
+ * <p>
+ * Iterators and {@link #forEach(BiConsumer)} are weakly consistent and never throw a
+ * {@link java.util.ConcurrentModificationException}. {@link #size()} is only an estimate while the map is being
+ * modified concurrently.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class EqualizerConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    /**
+     * Keys and values share a single array, so the capacity is half of the capacity of the other tables.
+     */
+    private static final int MAXIMUM_CAPACITY = HashTables.MAXIMUM_CAPACITY >>> 1;
+
+    private static final int COPY_CHUNK_SIZE = 1024;
+
+    /**
+     * Value of a removed key.
+     */
+    private static final Object TOMBSTONE = new Object();
+
+    /**
+     * Key of a slot that was still empty when it was copied to the next table, such that it can no longer be claimed.
+     */
+    private static final Object KEY_TOMBSTONE = new Object();
+
+    /**
+     * Value of a slot that has been copied to the next table completely, or that had no value to be copied.
+     */
+    private static final Prime DEAD = new Prime(TOMBSTONE);
+
+    private static final Object MATCH_ALWAYS = new Object();
+    private static final Object MATCH_ABSENT = new Object();
+    private static final Object MATCH_PRESENT = new Object();
+    private static final Object MATCH_EMPTY = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<EqualizerConcurrentMap, Table> TABLE =
+            AtomicReferenceFieldUpdater.newUpdater(EqualizerConcurrentMap.class, Table.class, "table");
+
+    private final EqualsAndHashCode<? super K> keyEqualsAndHashCode;
+    private final LongAdder size = new LongAdder();
+    private volatile Table table;
+    private transient Set<Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map using {@code keyEqualsAndHashCode} to compare and hash its keys.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     */
+    public EqualizerConcurrentMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode) {
+        this(keyEqualsAndHashCode, 0);
+    }
+
+    /**
+     * Creates an empty map using {@code keyEqualsAndHashCode} to compare and hash its keys, which can hold
+     * {@code expectedSize} entries without being resized.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     * @param expectedSize         number of entries that can be added without resizing the map
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public EqualizerConcurrentMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode, int expectedSize) {
+        requireNonNull(keyEqualsAndHashCode, "keyEqualsAndHashCode must not be null");
+        this.keyEqualsAndHashCode = keyEqualsAndHashCode;
+        this.table = new Table(Math.min(capacityFor(expectedSize), MAXIMUM_CAPACITY));
+    }
+
+    /**
+     * Creates a map using {@code keyEqualsAndHashCode} to compare and hash its keys, containing all the entries of
+     * {@code map}. If {@code map} contains keys that are equivalent according to {@code keyEqualsAndHashCode}, only
+     * the entry encountered last is kept.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     * @param map                  entries to be added
+     * @throws NullPointerException if {@code map} contains {@code null} keys or values
+     */
+    public EqualizerConcurrentMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode, Map<? extends K, ? extends V> map) {
+        this(keyEqualsAndHashCode, requireNonNull(map, "map must not be null").size());
+        putAll(map);
+    }
+
+    private static int keyIndex(int index) {
+        return index << 1;
+    }
+
+    private static int valueIndex(int index) {
+        return (index << 1) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int hash(Object key) {
+        return keyEqualsAndHashCode.hashCode((K) key);
+    }
+
+    /**
+     * Returns the cached hash code of the key at slot {@code index}. The cache is written after the key has been
+     * claimed, so it may not be visible to other threads yet.
+     */
+    private int hashAt(Table table, int index, Object key) {
+        int hash = table.hashes[index];
+        return hash != 0 ? hash : hash(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isEqualKey(Object candidate, int candidateHash, Object key, int hash) {
+        return candidate == key
+                || candidate != KEY_TOMBSTONE
+                && (candidateHash == hash || candidateHash == 0)
+                && keyEqualsAndHashCode.equals((K) candidate, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(Object value) {
+        return value == TOMBSTONE ? null : (V) value;
+    }
+
+    @Override
+    public int size() {
+        long size = this.size.sum();
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the capacity of the current table, for tests.
+     */
+    int getCapacity() {
+        return table.capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        requireNonNull(value, "value must not be null");
+        Table table = completeCopy();
+        AtomicReferenceArray<Object> entries = table.entries;
+        for (int index = 0; index < table.capacity; index++) {
+            Object key = entries.get(keyIndex(index));
+            if (key != null && key != KEY_TOMBSTONE && value.equals(valueAt(table, index, key))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    public V get(Object key) {
+        requireNonNull(key, "key must not be null");
+        return get(key, hash(key));
+    }
+
+    private V get(Object key, int hash) {
+        Table table = this.table;
+        retry:
+        for (; ; ) {
+            AtomicReferenceArray<Object> entries = table.entries;
+            int mask = table.capacity - 1;
+            int index = indexFor(hash, mask);
+            for (int probes = 1; ; probes++) {
+                Object candidate = entries.get(keyIndex(index));
+                if (candidate == null) {
+                    return null;
+                } else if (isEqualKey(candidate, table.hashes[index], key, hash)) {
+                    Object value = entries.get(valueIndex(index));
+                    if (value instanceof Prime) {
+                        table = copySlotAndGetNext(table, index);
+                        continue retry;
+                    }
+                    return valueOf(value);
+                } else if (candidate == KEY_TOMBSTONE || probes >= table.probeLimit) {
+                    // The key may only have been added after the table was resized
+                    table = table.next.get();
+                    if (table == null) {
+                        return null;
+                    }
+                    continue retry;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+    }
+
+    /**
+     * Returns the current value of the key at slot {@code index}, or {@code null} if it has been removed.
+     */
+    private Object valueAt(Table table, int index, Object key) {
+        Object value = table.entries.get(valueIndex(index));
+        if (value instanceof Prime) {
+            return get(key);
+        }
+        return valueOf(value);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(value, "value must not be null");
+        return valueOf(putIfMatch(helpCopy(), key, hash(key), value, MATCH_ALWAYS));
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(value, "value must not be null");
+        return valueOf(putIfMatch(helpCopy(), key, hash(key), value, MATCH_ABSENT));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    public V remove(Object key) {
+        requireNonNull(key, "key must not be null");
+        return valueOf(putIfMatch(helpCopy(), key, hash(key), TOMBSTONE, MATCH_PRESENT));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    public boolean remove(Object key, Object value) {
+        requireNonNull(key, "key must not be null");
+        return value != null && value.equals(putIfMatch(helpCopy(), key, hash(key), TOMBSTONE, value));
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(value, "value must not be null");
+        return valueOf(putIfMatch(helpCopy(), key, hash(key), value, MATCH_PRESENT));
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(oldValue, "oldValue must not be null");
+        requireNonNull(newValue, "newValue must not be null");
+        return oldValue.equals(putIfMatch(helpCopy(), key, hash(key), newValue, oldValue));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the key is present, its value is returned without locking or allocating. Otherwise, the mapping function may
+     * be applied concurrently by several threads, in which case only one of the computed values is retained.
+     * </p>
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(mappingFunction, "mappingFunction must not be null");
+        int hash = hash(key);
+        V value = get(key, hash);
+        if (value != null) {
+            return value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue == null) {
+            return null;
+        }
+        V previousValue = valueOf(putIfMatch(helpCopy(), key, hash, newValue, MATCH_ABSENT));
+        return previousValue != null ? previousValue : newValue;
+    }
+
+    private static boolean requiresPresentKey(Object expectedValue) {
+        return expectedValue != MATCH_ALWAYS && expectedValue != MATCH_ABSENT && expectedValue != MATCH_EMPTY;
+    }
+
+    private static boolean matches(Object value, Object expectedValue) {
+        if (expectedValue == MATCH_ALWAYS) {
+            return true;
+        } else if (expectedValue == MATCH_EMPTY) {
+            return value == null;
+        }
+        boolean present = value != null && value != TOMBSTONE;
+        if (expectedValue == MATCH_ABSENT) {
+            return !present;
+        } else if (expectedValue == MATCH_PRESENT) {
+            return present;
+        }
+        return present && (value == expectedValue || expectedValue.equals(value));
+    }
+
+    /**
+     * Replaces the value of {@code key} by {@code newValue} if the current value matches {@code expectedValue}, which
+     * is either one of the {@code MATCH_*} constants or an actual value. The key is added if it is absent and the
+     * expected value permits absent keys. Returns the value found, which may be {@code null} or a {@link #TOMBSTONE}
+     * for absent keys.
+     * <p>
+     * A key is only ever claimed at the first empty slot of its probe sequence and keeps that slot until the table is
+     * resized. A value is only updated in the next table once the slot in the current table has been copied, such that
+     * the value in the oldest table that has not been copied yet is always the current one.
+     * </p>
+     */
+    private Object putIfMatch(Table table, Object key, int hash, Object newValue, Object expectedValue) {
+        retry:
+        for (; ; ) {
+            AtomicReferenceArray<Object> entries = table.entries;
+            int mask = table.capacity - 1;
+            int index = indexFor(hash, mask);
+            for (int probes = 1; ; probes++) {
+                Object candidate = entries.get(keyIndex(index));
+                if (candidate == null) {
+                    if (requiresPresentKey(expectedValue)) {
+                        return null;
+                    }
+                    if (entries.compareAndSet(keyIndex(index), null, key)) {
+                        table.hashes[index] = hash;
+                        if (table.claimedSlots.incrementAndGet() > table.maximumSize) {
+                            resize(table, false);
+                        }
+                        break;
+                    }
+                    candidate = entries.get(keyIndex(index));
+                }
+                if (isEqualKey(candidate, table.hashes[index], key, hash)) {
+                    break;
+                } else if (candidate == KEY_TOMBSTONE || probes >= table.probeLimit) {
+                    if (requiresPresentKey(expectedValue)) {
+                        // Like get, the key may only have been added after the table was resized
+                        table = table.next.get();
+                        if (table == null) {
+                            return null;
+                        }
+                    } else {
+                        table = resize(table, candidate != KEY_TOMBSTONE);
+                    }
+                    continue retry;
+                }
+                index = (index + 1) & mask;
+            }
+
+            int valueIndex = valueIndex(index);
+            Object value = entries.get(valueIndex);
+            for (; ; ) {
+                if (value instanceof Prime || table.next.get() != null) {
+                    table = copySlotAndGetNext(table, index);
+                    continue retry;
+                }
+                if (!matches(value, expectedValue)) {
+                    return value;
+                }
+                if (entries.compareAndSet(valueIndex, value, newValue)) {
+                    // Copying a value to the next table does not change the size
+                    if (expectedValue != MATCH_EMPTY) {
+                        updateSize(value, newValue);
+                    }
+                    return value;
+                }
+                value = entries.get(valueIndex);
+            }
+        }
+    }
+
+    private void updateSize(Object previousValue, Object newValue) {
+        boolean wasPresent = previousValue != null && previousValue != TOMBSTONE;
+        boolean isPresent = newValue != TOMBSTONE;
+        if (!wasPresent && isPresent) {
+            size.increment();
+        } else if (wasPresent && !isPresent) {
+            size.decrement();
+        }
+    }
+
+    /**
+     * Returns the table following {@code table}, allocating it if necessary. The new table is sized for twice the
+     * current number of entries, which purges the keys of removed entries without growing. If {@code grow} is set, the
+     * table is at least doubled, since a key could not be added within the probe limit.
+     */
+    private Table resize(Table table, boolean grow) {
+        Table next = table.next.get();
+        if (next != null) {
+            return next;
+        }
+        int size = size();
+        int capacity = size >= MAXIMUM_CAPACITY / 4 ? MAXIMUM_CAPACITY : capacityFor(size * 2);
+        if (grow) {
+            if (table.capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Map is full");
+            }
+            capacity = Math.max(capacity, table.capacity * 2);
+        }
+        next = new Table(capacity);
+        if (!table.next.compareAndSet(null, next)) {
+            return table.next.get();
+        }
+        while (copyChunk(table, next)) {
+            // The thread allocating the next table copies all chunks which are not copied by other threads already
+        }
+        return next;
+    }
+
+    /**
+     * Copies a chunk of the current table if it is being resized, and returns the current table.
+     */
+    private Table helpCopy() {
+        Table table = this.table;
+        Table next = table.next.get();
+        if (next != null) {
+            copyChunk(table, next);
+        }
+        return table;
+    }
+
+    private boolean copyChunk(Table table, Table next) {
+        // Checking first prevents the index from overflowing if many threads try to help
+        if (table.copyIndex.get() >= table.capacity) {
+            return false;
+        }
+        int start = table.copyIndex.getAndAdd(COPY_CHUNK_SIZE);
+        if (start >= table.capacity) {
+            return false;
+        }
+        int end = Math.min(start + COPY_CHUNK_SIZE, table.capacity);
+        int copiedSlots = 0;
+        for (int index = start; index < end; index++) {
+            if (copySlot(table, index, next)) {
+                copiedSlots++;
+            }
+        }
+        addCopiedSlots(table, copiedSlots);
+        return true;
+    }
+
+    private Table copySlotAndGetNext(Table table, int index) {
+        Table next = table.next.get();
+        if (copySlot(table, index, next)) {
+            addCopiedSlots(table, 1);
+        }
+        return next;
+    }
+
+    /**
+     * Copies slot {@code index} of {@code table} to {@code next}. First, the value is frozen by wrapping it in a
+     * {@link Prime}, which redirects all further updates to the next table. Then the value is added to the next table,
+     * unless the key has already been given a value there, and the slot is marked as {@link #DEAD}. Returns whether
+     * this call completed the copy, such that every slot is counted exactly once.
+     */
+    private boolean copySlot(Table table, int index, Table next) {
+        AtomicReferenceArray<Object> entries = table.entries;
+        int keyIndex = keyIndex(index);
+        Object key = entries.get(keyIndex);
+        while (key == null) {
+            if (entries.compareAndSet(keyIndex, null, KEY_TOMBSTONE)) {
+                return true;
+            }
+            key = entries.get(keyIndex);
+        }
+        if (key == KEY_TOMBSTONE) {
+            return false;
+        }
+
+        int valueIndex = valueIndex(index);
+        Object value = entries.get(valueIndex);
+        while (!(value instanceof Prime)) {
+            Prime primedValue = value == null || value == TOMBSTONE ? DEAD : new Prime(value);
+            if (entries.compareAndSet(valueIndex, value, primedValue)) {
+                if (primedValue == DEAD) {
+                    return true;
+                }
+                value = primedValue;
+                break;
+            }
+            value = entries.get(valueIndex);
+        }
+        if (value == DEAD) {
+            return false;
+        }
+        putIfMatch(next, key, hashAt(table, index, key), ((Prime) value).value, MATCH_EMPTY);
+        return entries.compareAndSet(valueIndex, value, DEAD);
+    }
+
+    private void addCopiedSlots(Table table, int copiedSlots) {
+        if (copiedSlots > 0 && table.copiedSlots.addAndGet(copiedSlots) == table.capacity) {
+            promote();
+        }
+    }
+
+    /**
+     * Replaces the current table by its successor for as long as it has been copied completely.
+     */
+    private void promote() {
+        Table table;
+        while ((table = this.table).isCopied()) {
+            TABLE.compareAndSet(this, table, table.next.get());
+        }
+    }
+
+    /**
+     * Completes all pending copies and returns the newest table, which contains all the keys present at the time of
+     * the call.
+     */
+    private Table completeCopy() {
+        Table table = this.table;
+        Table next;
+        while ((next = table.next.get()) != null) {
+            int copiedSlots = 0;
+            for (int index = 0; index < table.capacity; index++) {
+                if (copySlot(table, index, next)) {
+                    copiedSlots++;
+                }
+            }
+            addCopiedSlots(table, copiedSlots);
+            table = next;
+        }
+        return table;
+    }
+
+    @Override
+    public void clear() {
+        Table table = completeCopy();
+        AtomicReferenceArray<Object> entries = table.entries;
+        for (int index = 0; index < table.capacity; index++) {
+            Object key = entries.get(keyIndex(index));
+            if (key != null && key != KEY_TOMBSTONE) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Performs {@code action} for each entry without allocating an {@link Entry} for each of them.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action, "action must not be null");
+        Table table = completeCopy();
+        AtomicReferenceArray<Object> entries = table.entries;
+        for (int index = 0; index < table.capacity; index++) {
+            Object key = entries.get(keyIndex(index));
+            if (key != null && key != KEY_TOMBSTONE) {
+                Object value = valueAt(table, index, key);
+                if (value != null) {
+                    action.accept((K) key, (V) value);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private static final class Prime {
+
+        final Object value;
+
+        Prime(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Table {
+
+        final AtomicReferenceArray<Object> entries;
+        final int[] hashes;
+        final int capacity;
+        final int maximumSize;
+        final int probeLimit;
+        final AtomicInteger claimedSlots = new AtomicInteger();
+        final AtomicReference<Table> next = new AtomicReference<>();
+        final AtomicInteger copyIndex = new AtomicInteger();
+        final AtomicInteger copiedSlots = new AtomicInteger();
+
+        Table(int capacity) {
+            this.entries = new AtomicReferenceArray<>(capacity * 2);
+            this.hashes = new int[capacity];
+            this.capacity = capacity;
+            this.maximumSize = maximumSize(capacity);
+            this.probeLimit = Math.min(capacity, 10 + (capacity >>> 2));
+        }
+
+        boolean isCopied() {
+            return copiedSlots.get() == capacity;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            return key != null && value != null && value.equals(get(key));
+        }
+
+        @Override
+        public boolean remove(Object object) {
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            return key != null && EqualizerConcurrentMap.this.remove(key, entry.getValue());
+        }
+
+        @Override
+        public int size() {
+            return EqualizerConcurrentMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            EqualizerConcurrentMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates over the newest table at the time of its creation, looking up the values of slots that have been copied
+     * to a newer table in the meantime.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Table table = completeCopy();
+        private int index = -1;
+        private K nextKey;
+        private V nextValue;
+        private K currentKey;
+
+        EntryIterator() {
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            AtomicReferenceArray<Object> entries = table.entries;
+            while (++index < table.capacity) {
+                Object key = entries.get(keyIndex(index));
+                if (key != null && key != KEY_TOMBSTONE) {
+                    Object value = valueAt(table, index, key);
+                    if (value != null) {
+                        nextKey = (K) key;
+                        nextValue = (V) value;
+                        return;
+                    }
+                }
+            }
+            nextKey = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new MapEntry(nextKey, nextValue);
+            currentKey = nextKey;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (currentKey == null) {
+                throw new IllegalStateException();
+            }
+            EqualizerConcurrentMap.this.remove(currentKey);
+            currentKey = null;
+        }
+    }
+
+    private final class MapEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        MapEntry(K key, V value) {
+            super(key, value);
+        }
+
+        /**
+         * Writes {@code value} through to the map.
+         */
+        @Override
+        public V setValue(V value) {
+            requireNonNull(value, "value must not be null");
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+}
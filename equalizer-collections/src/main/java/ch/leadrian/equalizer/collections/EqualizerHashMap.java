@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static ch.leadrian.equalizer.collections.HashTables.MAXIMUM_CAPACITY;
+import static ch.leadrian.equalizer.collections.HashTables.canShift;
+import static ch.leadrian.equalizer.collections.HashTables.capacityFor;
+import static ch.leadrian.equalizer.collections.HashTables.emptySlot;
+import static ch.leadrian.equalizer.collections.HashTables.indexFor;
+import static ch.leadrian.equalizer.collections.HashTables.maskNull;
+import static ch.leadrian.equalizer.collections.HashTables.maximumSize;
+import static ch.leadrian.equalizer.collections.HashTables.unmaskNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A {@link Map} that compares and hashes its keys using an {@link EqualsAndHashCode} instead of the
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods of the keys. This allows using keys under a
+ * different equivalence without wrapping each key.
+ * </p>
+ * <p>
+ * The entries are stored in flat, parallel arrays of keys, values and cached hash codes using open addressing with
+ * linear probing. Looking up, replacing and removing keys does not allocate. Adding keys only allocates when the table
+ * is resized. {@code null} keys and values are permitted. The key strategy is never called with {@code null} keys.
+ * </p>
+ * <p>
+ * <b>This class is not a general-purpose {@link Map} implementation!</b> Like {@link java.util.IdentityHashMap}, it
+ * intentionally violates the general contract of {@link Map}, which mandates the use of the {@code equals} method when
+ * comparing keys. Comparing instances of this class with other maps is only meaningful if both use the same
+ * equivalence for their keys.
+ * </p>
+ * <p>
+ * This class is not thread-safe. Its iterators are fail-fast on a best-effort basis.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class EqualizerHashMap<K, V> extends AbstractMap<K, V> {
+
+    private final EqualsAndHashCode<? super K> keyEqualsAndHashCode;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+    private int maximumSize;
+    private int modCount;
+    private transient Set<Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map using {@code keyEqualsAndHashCode} to compare and hash its keys.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     */
+    public EqualizerHashMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode) {
+        this(keyEqualsAndHashCode, 0);
+    }
+
+    /**
+     * Creates an empty map using {@code keyEqualsAndHashCode} to compare and hash its keys, which can hold
+     * {@code expectedSize} entries without being resized.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     * @param expectedSize         number of entries that can be added without resizing the map
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public EqualizerHashMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode, int expectedSize) {
+        requireNonNull(keyEqualsAndHashCode, "keyEqualsAndHashCode must not be null");
+        this.keyEqualsAndHashCode = keyEqualsAndHashCode;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates a map using {@code keyEqualsAndHashCode} to compare and hash its keys, containing all the entries of
+     * {@code map}. If {@code map} contains keys that are equivalent according to {@code keyEqualsAndHashCode}, only
+     * the entry encountered last is kept.
+     *
+     * @param keyEqualsAndHashCode equivalence of the keys
+     * @param map                  entries to be added
+     */
+    public EqualizerHashMap(EqualsAndHashCode<? super K> keyEqualsAndHashCode, Map<? extends K, ? extends V> map) {
+        this(keyEqualsAndHashCode, requireNonNull(map, "map must not be null").size());
+        putAll(map);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        maximumSize = maximumSize(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int hash(Object key) {
+        return key == null ? 0 : keyEqualsAndHashCode.hashCode((K) key);
+    }
+
+    /**
+     * Returns the index of the slot containing {@code key}, or {@code -(insertionIndex + 1)} if there is no such slot.
+     */
+    @SuppressWarnings("unchecked")
+    private int indexOf(Object key, int hash) {
+        Object maskedKey = maskNull(key);
+        Object[] keys = this.keys;
+        int[] hashes = this.hashes;
+        int mask = keys.length - 1;
+        for (int index = indexFor(hash, mask); ; index = (index + 1) & mask) {
+            Object candidate = keys[index];
+            if (candidate == null) {
+                return -(index + 1);
+            } else if (candidate == maskedKey
+                    || hashes[index] == hash
+                    && key != null
+                    && candidate != HashTables.NULL_KEY
+                    && keyEqualsAndHashCode.equals((K) candidate, key)) {
+                return index;
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        return indexOf(key, hash(key));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] != null && Objects.equals(values[index], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : defaultValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            V previousValue = (V) values[index];
+            values[index] = value;
+            return previousValue;
+        }
+
+        index = -(index + 1);
+        if (size == maximumSize) {
+            if (keys.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Map is full");
+            }
+            resize(keys.length * 2);
+            index = -(indexOf(key, hash) + 1);
+        }
+        keys[index] = maskNull(key);
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(capacity);
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        int[] hashes = this.hashes;
+        int mask = capacity - 1;
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+            Object key = oldKeys[oldIndex];
+            if (key != null) {
+                int hash = oldHashes[oldIndex];
+                int index = indexFor(hash, mask);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[oldIndex];
+                hashes[index] = hash;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the key strategy cannot handle {@code key}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previousValue = (V) values[index];
+        removeAt(index);
+        return previousValue;
+    }
+
+    /**
+     * Removes the entry at slot {@code gap} and shifts back the following entries of the same cluster whose probing
+     * started at or before the resulting gap.
+     */
+    private void removeAt(int gap) {
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        int[] hashes = this.hashes;
+        int mask = keys.length - 1;
+        for (int index = (gap + 1) & mask; keys[index] != null; index = (index + 1) & mask) {
+            int hash = hashes[index];
+            if (canShift(gap, indexFor(hash, mask), index, mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                hashes[gap] = hash;
+                gap = index;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Performs {@code action} for each entry without allocating an {@link Entry} for each of them.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action, "action must not be null");
+        int expectedModCount = modCount;
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        for (int index = 0; index < keys.length; index++) {
+            Object key = keys[index];
+            if (key != null) {
+                action.accept((K) unmaskNull(key), (V) values[index]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            EqualizerHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates cyclically starting after an empty slot, such that shifting back entries after removing the current one
+     * only moves entries that have not been visited yet. The current slot is visited again after a removal.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int index = emptySlot(keys);
+        private int current = -1;
+        private int remaining = size;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            Object[] keys = EqualizerHashMap.this.keys;
+            int mask = keys.length - 1;
+            do {
+                index = (index + 1) & mask;
+            } while (keys[index] == null);
+            current = index;
+            remaining--;
+            return new MapEntry((K) unmaskNull(keys[index]), (V) values[index]);
+        }
+
+        @Override
+        public void remove() {
+            if (current == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            expectedModCount = modCount;
+            // The slot of the removed entry may now hold an entry that has not been visited yet
+            index = (current - 1) & (keys.length - 1);
+            current = -1;
+        }
+    }
+
+    private final class MapEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        MapEntry(K key, V value) {
+            super(key, value);
+        }
+
+        /**
+         * Writes {@code value} through to the map, unless the entry has been removed in the meantime.
+         */
+        @Override
+        public V setValue(V value) {
+            int index = indexOf(getKey());
+            if (index >= 0) {
+                values[index] = value;
+            }
+            return super.setValue(value);
+        }
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static ch.leadrian.equalizer.collections.HashTables.MAXIMUM_CAPACITY;
+import static ch.leadrian.equalizer.collections.HashTables.canShift;
+import static ch.leadrian.equalizer.collections.HashTables.capacityFor;
+import static ch.leadrian.equalizer.collections.HashTables.emptySlot;
+import static ch.leadrian.equalizer.collections.HashTables.indexFor;
+import static ch.leadrian.equalizer.collections.HashTables.maskNull;
+import static ch.leadrian.equalizer.collections.HashTables.maximumSize;
+import static ch.leadrian.equalizer.collections.HashTables.unmaskNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A {@link Set} that compares and hashes its elements using an {@link EqualsAndHashCode} instead of the
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods of the elements. This allows using elements
+ * under a different equivalence without wrapping each element.
+ * </p>
+ * <p>
+ * The elements are stored in flat, parallel arrays of elements and cached hash codes using open addressing with
+ * linear probing. Looking up and removing elements as well as adding already contained elements does not allocate.
+ * Adding new elements only allocates when the table is resized. {@code null} elements are permitted. The element
+ * strategy is never called with {@code null} elements.
+ * </p>
+ * <p>
+ * <b>This class is not a general-purpose {@link Set} implementation!</b> Like the key set of
+ * {@link java.util.IdentityHashMap}, it intentionally violates the general contract of {@link Set}, which mandates the
+ * use of the {@code equals} method when comparing elements. Comparing instances of this class with other sets is only
+ * meaningful if both use the same equivalence for their elements.
+ * </p>
+ * <p>
+ * This class is not thread-safe. Its iterators are fail-fast on a best-effort basis.
+ * </p>
+ *
+ * @param <E> type of the elements
+ */
+public class EqualizerHashSet<E> extends AbstractSet<E> {
+
+    private final EqualsAndHashCode<? super E> elementEqualsAndHashCode;
+    private Object[] elements;
+    private int[] hashes;
+    private int size;
+    private int maximumSize;
+    private int modCount;
+
+    /**
+     * Creates an empty set using {@code elementEqualsAndHashCode} to compare and hash its elements.
+     *
+     * @param elementEqualsAndHashCode equivalence of the elements
+     */
+    public EqualizerHashSet(EqualsAndHashCode<? super E> elementEqualsAndHashCode) {
+        this(elementEqualsAndHashCode, 0);
+    }
+
+    /**
+     * Creates an empty set using {@code elementEqualsAndHashCode} to compare and hash its elements, which can hold
+     * {@code expectedSize} elements without being resized.
+     *
+     * @param elementEqualsAndHashCode equivalence of the elements
+     * @param expectedSize             number of elements that can be added without resizing the set
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public EqualizerHashSet(EqualsAndHashCode<? super E> elementEqualsAndHashCode, int expectedSize) {
+        requireNonNull(elementEqualsAndHashCode, "elementEqualsAndHashCode must not be null");
+        this.elementEqualsAndHashCode = elementEqualsAndHashCode;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates a set using {@code elementEqualsAndHashCode} to compare and hash its elements, containing all the
+     * elements of {@code collection}. If {@code collection} contains elements that are equivalent according to
+     * {@code elementEqualsAndHashCode}, only the element encountered first is kept.
+     *
+     * @param elementEqualsAndHashCode equivalence of the elements
+     * @param collection               elements to be added
+     */
+    public EqualizerHashSet(EqualsAndHashCode<? super E> elementEqualsAndHashCode, Collection<? extends E> collection) {
+        this(elementEqualsAndHashCode, requireNonNull(collection, "collection must not be null").size());
+        addAll(collection);
+    }
+
+    private void allocate(int capacity) {
+        elements = new Object[capacity];
+        hashes = new int[capacity];
+        maximumSize = maximumSize(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int hash(Object element) {
+        return element == null ? 0 : elementEqualsAndHashCode.hashCode((E) element);
+    }
+
+    /**
+     * Returns the index of the slot containing {@code element}, or {@code -(insertionIndex + 1)} if there is no such
+     * slot.
+     */
+    @SuppressWarnings("unchecked")
+    private int indexOf(Object element, int hash) {
+        Object maskedElement = maskNull(element);
+        Object[] elements = this.elements;
+        int[] hashes = this.hashes;
+        int mask = elements.length - 1;
+        for (int index = indexFor(hash, mask); ; index = (index + 1) & mask) {
+            Object candidate = elements[index];
+            if (candidate == null) {
+                return -(index + 1);
+            } else if (candidate == maskedElement
+                    || hashes[index] == hash
+                    && element != null
+                    && candidate != HashTables.NULL_KEY
+                    && elementEqualsAndHashCode.equals((E) candidate, element)) {
+                return index;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the element strategy cannot handle {@code element}
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, hash(element)) >= 0;
+    }
+
+    @Override
+    public boolean add(E element) {
+        int hash = hash(element);
+        int index = indexOf(element, hash);
+        if (index >= 0) {
+            return false;
+        }
+
+        insert(element, hash, -(index + 1));
+        return true;
+    }
+
+    /**
+     * Returns the contained element that is equivalent to {@code element}, or adds {@code element} and returns it if
+     * there is no such element.
+     *
+     * @param hash the hash code of {@code element} computed by the element strategy
+     */
+    @SuppressWarnings("unchecked")
+    E intern(E element, int hash) {
+        int index = indexOf(element, hash);
+        if (index >= 0) {
+            return (E) unmaskNull(elements[index]);
+        }
+
+        insert(element, hash, -(index + 1));
+        return element;
+    }
+
+    private void insert(E element, int hash, int index) {
+        if (size == maximumSize) {
+            if (elements.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Set is full");
+            }
+            resize(elements.length * 2);
+            index = -(indexOf(element, hash) + 1);
+        }
+        elements[index] = maskNull(element);
+        hashes[index] = hash;
+        size++;
+        modCount++;
+    }
+
+    private void resize(int capacity) {
+        Object[] oldElements = elements;
+        int[] oldHashes = hashes;
+        allocate(capacity);
+        Object[] elements = this.elements;
+        int[] hashes = this.hashes;
+        int mask = capacity - 1;
+        for (int oldIndex = 0; oldIndex < oldElements.length; oldIndex++) {
+            Object element = oldElements[oldIndex];
+            if (element != null) {
+                int hash = oldHashes[oldIndex];
+                int index = indexFor(hash, mask);
+                while (elements[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                elements[index] = element;
+                hashes[index] = hash;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the element strategy cannot handle {@code element}
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element, hash(element));
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the element at slot {@code gap} and shifts back the following elements of the same cluster whose
+     * probing started at or before the resulting gap.
+     */
+    private void removeAt(int gap) {
+        Object[] elements = this.elements;
+        int[] hashes = this.hashes;
+        int mask = elements.length - 1;
+        for (int index = (gap + 1) & mask; elements[index] != null; index = (index + 1) & mask) {
+            int hash = hashes[index];
+            if (canShift(gap, indexFor(hash, mask), index, mask)) {
+                elements[gap] = elements[index];
+                hashes[gap] = hash;
+                gap = index;
+            }
+        }
+        elements[gap] = null;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(elements, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Performs {@code action} for each element without allocating an {@link Iterator}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        requireNonNull(action, "action must not be null");
+        int expectedModCount = modCount;
+        Object[] elements = this.elements;
+        for (Object element : elements) {
+            if (element != null) {
+                action.accept((E) unmaskNull(element));
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    /**
+     * Iterates cyclically starting after an empty slot, such that shifting back elements after removing the current
+     * one only moves elements that have not been visited yet. The current slot is visited again after a removal.
+     */
+    private final class ElementIterator implements Iterator<E> {
+
+        private int index = emptySlot(elements);
+        private int current = -1;
+        private int remaining = size;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            Object[] elements = EqualizerHashSet.this.elements;
+            int mask = elements.length - 1;
+            do {
+                index = (index + 1) & mask;
+            } while (elements[index] == null);
+            current = index;
+            remaining--;
+            return (E) unmaskNull(elements[index]);
+        }
+
+        @Override
+        public void remove() {
+            if (current == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            expectedModCount = modCount;
+            // The slot of the removed element may now hold an element that has not been visited yet
+            index = (current - 1) & (elements.length - 1);
+            current = -1;
+        }
+    }
+
+}
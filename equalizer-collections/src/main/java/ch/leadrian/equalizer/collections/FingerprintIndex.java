@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.HashCode;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A set of fingerprints of values, stored outside of the Java heap. It can be used to deduplicate very large numbers of
+ * values without keeping the values themselves, or any object per entry, on the heap. The garbage collector only sees
+ * the index itself and a few direct buffers, no matter how many fingerprints are added.
+ * </p>
+ * <p>
+ * The 64 bit fingerprint of a value is derived from the hash codes computed by two {@link HashCode}s, which should hash
+ * the same attributes using different {@link ch.leadrian.equalizer.HashMixer}s. The fingerprints are kept in a
+ * power-of-two sized table of {@code long}s using open addressing with linear probing, spread over direct
+ * {@link ByteBuffer}s of at most 1 GiB each.
+ * </p>
+ * <p>
+ * Since only fingerprints are stored, different values sharing a fingerprint cannot be distinguished: {@link #add(Object)}
+ * may consider a value as already added and {@link #mightContain(Object)} may return {@code true} for values that have
+ * never been added. A single 32 bit hash code would make such collisions likely once the index contains millions of
+ * values, which is why two hash codes are required.
+ * </p>
+ * Example:
+ * <pre>
+ *     FingerprintIndex&lt;Record&gt; seenRecords = new FingerprintIndex&lt;&gt;(
+ *             Record.MURMUR3_HASH_CODE,
+ *             Record.MULTIPLY_ROTATE_HASH_CODE,
+ *             500_000_000L
+ *     );
+ *
+ *     if (seenRecords.add(record)) {
+ *         process(record);
+ *     }
+ * </pre>
+ * <p>
+ * The table is doubled when it is three quarters full. Since the memory of direct buffers is only released once the
+ * buffers are garbage collected, the expected number of values should be given upfront. This class is not thread-safe.
+ * </p>
+ *
+ * @param <T> type of the values
+ */
+public final class FingerprintIndex<T> {
+
+    private static final int SEGMENT_SHIFT = 27;
+
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private static final long MINIMUM_CAPACITY = 8;
+
+    private static final long MAXIMUM_CAPACITY = 1L << 40;
+
+    private static final long EMPTY = 0L;
+
+    /**
+     * Replaces fingerprints that would be mistaken for empty slots.
+     */
+    private static final long ZERO_FINGERPRINT = -1L;
+
+    private final HashCode<? super T> hashCode;
+    private final HashCode<? super T> secondaryHashCode;
+    private LongBuffer[] segments;
+    private long capacity;
+    private int indexShift;
+    private long maximumSize;
+    private long size;
+
+    /**
+     * Creates an empty index with 64 bit fingerprints combining the hash codes computed by {@code hashCode} and
+     * {@code secondaryHashCode}, which can hold {@code expectedSize} fingerprints without being resized. Both should hash
+     * the same attributes, but mix them differently, such that values with the same primary hash code rarely share the
+     * secondary one.
+     *
+     * @param hashCode          computes the upper half of the fingerprints
+     * @param secondaryHashCode computes the lower half of the fingerprints
+     * @param expectedSize      number of fingerprints that can be added without resizing the index
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     */
+    public FingerprintIndex(HashCode<? super T> hashCode, HashCode<? super T> secondaryHashCode, long expectedSize) {
+        this.hashCode = requireNonNull(hashCode, "hashCode must not be null");
+        this.secondaryHashCode = requireNonNull(secondaryHashCode, "secondaryHashCode must not be null");
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the capacity of a table holding {@code expectedSize} fingerprints without resizing. Since the table only
+     * holds {@code long}s and fingerprints are never removed, it may be filled up to three quarters, which keeps probe
+     * sequences short while limiting the memory needed per fingerprint to at most 16 bytes.
+     */
+    private static long capacityFor(long expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        if (expectedSize > maximumSize(MAXIMUM_CAPACITY)) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        long capacity = MINIMUM_CAPACITY;
+        while (maximumSize(capacity) < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long maximumSize(long capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    private void allocate(long capacity) {
+        int segmentCapacity = (int) Math.min(capacity, 1L << SEGMENT_SHIFT);
+        LongBuffer[] segments = new LongBuffer[(int) (capacity / segmentCapacity)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(segmentCapacity * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        }
+        this.segments = segments;
+        this.capacity = capacity;
+        this.indexShift = Long.numberOfLeadingZeros(capacity) + 1;
+        this.maximumSize = maximumSize(capacity);
+    }
+
+    /**
+     * Derives the fingerprint of {@code value}. The hash codes are passed through the finalizer of MurmurHash3 (64 bit),
+     * which is a bijection, while every bit of the hash codes affects the upper bits of the fingerprint, from which the
+     * slot is derived.
+     * <p>
+     * The finalizer maps zero to zero, which marks empty slots, so zero hash codes get the fingerprint
+     * {@value #ZERO_FINGERPRINT} instead. Therefore, exactly one pair of distinct hash codes shares a fingerprint: the
+     * hash codes {@code 0x89a5850e} and {@code 0x63c5f8aa} are mapped to {@value #ZERO_FINGERPRINT} like two zero hash
+     * codes.
+     */
+    private long fingerprint(T value) {
+        long fingerprint = (long) hashCode.hashCode(value) << 32 | secondaryHashCode.hashCode(value) & 0xFFFFFFFFL;
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xff51afd7ed558ccdL;
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xc4ceb9fe1a85ec53L;
+        fingerprint ^= fingerprint >>> 33;
+        return fingerprint != EMPTY ? fingerprint : ZERO_FINGERPRINT;
+    }
+
+    private long get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    private void set(long index, long fingerprint) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), fingerprint);
+    }
+
+    /**
+     * Returns the slot containing {@code fingerprint}, or {@code -(insertionIndex + 1)} if there is no such slot.
+     */
+    private long indexOf(long fingerprint) {
+        long mask = capacity - 1;
+        for (long index = fingerprint >>> indexShift; ; index = (index + 1) & mask) {
+            long candidate = get(index);
+            if (candidate == EMPTY) {
+                return -(index + 1);
+            } else if (candidate == fingerprint) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Adds the fingerprint of {@code value}.
+     *
+     * @param value value to be added
+     * @return {@code true} if the index did not contain the fingerprint of {@code value} yet
+     * @throws NullPointerException  if {@code value} is {@code null}
+     * @throws IllegalStateException if the index is full
+     */
+    public boolean add(T value) {
+        requireNonNull(value, "value must not be null");
+        long fingerprint = fingerprint(value);
+        long index = indexOf(fingerprint);
+        if (index >= 0) {
+            return false;
+        }
+
+        if (size == maximumSize) {
+            if (capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Index is full");
+            }
+            resize(capacity * 2);
+            index = indexOf(fingerprint);
+        }
+        set(-(index + 1), fingerprint);
+        size++;
+        return true;
+    }
+
+    private void resize(long capacity) {
+        LongBuffer[] oldSegments = segments;
+        allocate(capacity);
+        long mask = capacity - 1;
+        for (LongBuffer oldSegment : oldSegments) {
+            for (int oldIndex = 0; oldIndex < oldSegment.capacity(); oldIndex++) {
+                long fingerprint = oldSegment.get(oldIndex);
+                if (fingerprint != EMPTY) {
+                    long index = fingerprint >>> indexShift;
+                    while (get(index) != EMPTY) {
+                        index = (index + 1) & mask;
+                    }
+                    set(index, fingerprint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether the fingerprint of {@code value} has been added. A result of {@code false} is definite, while
+     * {@code true} may also be caused by a different value sharing the fingerprint.
+     *
+     * @param value value to be looked up
+     * @return {@code true} if the index contains the fingerprint of {@code value}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public boolean mightContain(T value) {
+        requireNonNull(value, "value must not be null");
+        return indexOf(fingerprint(value)) >= 0;
+    }
+
+    /**
+     * @return the number of distinct fingerprints in the index
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a snapshot of the size, capacity and memory usage of the index
+     */
+    public FingerprintIndexStatistics getStatistics() {
+        return new FingerprintIndexStatistics(size, capacity, capacity * Long.BYTES);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.collections;
+
+import java.util.Locale;
+
+/**
+ * Result of {@link FingerprintIndex#getStatistics()}.
+ */
+public final class FingerprintIndexStatistics {
+
+    private final long size;
+    private final long capacity;
+    private final long offHeapBytes;
+
+    FingerprintIndexStatistics(long size, long capacity, long offHeapBytes) {
+        this.size = size;
+        this.capacity = capacity;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * @return the number of distinct fingerprints
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of slots of the table
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the ratio of occupied slots to all slots
+     */
+    public double getLoadFactor() {
+        return (double) size / capacity;
+    }
+
+    /**
+     * @return the number of bytes allocated outside of the Java heap
+     */
+    public long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * @return the number of off-heap bytes per fingerprint, or {@code 0.0} if the index is empty
+     */
+    public double getBytesPerEntry() {
+        return size == 0 ? 0.0 : (double) offHeapBytes / size;
+    }
+
+    /**
+     * Two pairs of hash codes share the fingerprint used for zero hash codes, so one added fingerprint may be hit twice
+     * as often. The estimate accounts for this by counting one additional fingerprint.
+     *
+     * @return an upper bound of the probability that a value that has not been added shares its fingerprint with one
+     * of the added values, assuming evenly distributed hash codes
+     */
+    public double getFalsePositiveProbability() {
+        if (size == 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, (size + 1) / Math.pow(2, Long.SIZE));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "Size: %d, capacity: %d, load factor: %.3f, off-heap bytes: %d, bytes per entry: %.1f, false positive probability: %.3g",
+                size,
+                capacity,
+                getLoadFactor(),
+                offHeapBytes,
+                getBytesPerEntry(),
+                getFalsePositiveProbability()
+        );
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+/**
+ * Helpers shared by the open addressing hash tables of {@link EqualizerHashMap} and {@link EqualizerHashSet}.
+ * <p>
+ * The tables use linear probing over a power-of-two sized array of keys, with the hash codes of the keys cached in a
+ * parallel {@code int[]}. Empty slots are {@code null}, so {@code null} keys are stored as {@link #NULL_KEY}. Removed
+ * keys are not replaced by tombstones. Instead, the following keys of the same cluster are shifted back, such that
+ * lookups never have to skip deleted slots.
+ */
+final class HashTables {
+
+    static final Object NULL_KEY = new Object();
+
+    static final int MINIMUM_CAPACITY = 8;
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private HashTables() {
+    }
+
+    /**
+     * Returns the capacity of a table holding {@code expectedSize} keys without resizing. Tables are resized as soon as
+     * they are half full, since linear probing degrades quickly at higher load factors.
+     */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        if (expectedSize >= MAXIMUM_CAPACITY / 2) {
+            return MAXIMUM_CAPACITY;
+        }
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static int maximumSize(int capacity) {
+        return capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : capacity / 2;
+    }
+
+    /**
+     * Returns the slot at which the probing for a key with the given hash code starts. The hash code is multiplied
+     * with the golden ratio first, such that hash codes only differing in their higher bits are spread across the
+     * table.
+     */
+    static int indexFor(int hash, int mask) {
+        int spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+
+    /**
+     * Determines whether the key at slot {@code index} whose probing started at {@code home} may be shifted back to the
+     * empty slot {@code gap}, which is the case if {@code gap} lies cyclically between {@code home} and {@code index}.
+     */
+    static boolean canShift(int gap, int home, int index, int mask) {
+        return ((index - home) & mask) >= ((index - gap) & mask);
+    }
+
+    /**
+     * Returns the index of an empty slot. Since clusters never extend across empty slots, iterating cyclically starting
+     * after such a slot visits the keys of each cluster in probing order, even if keys are removed during iteration.
+     */
+    static int emptySlot(Object[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Table has no empty slot");
+    }
+
+    static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    static Object unmaskNull(Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+/**
+ * <p>
+ * Canonicalizes values, such that equivalent values can share a single instance. Values are compared and hashed using
+ * an {@link EqualsAndHashCode}, so no wrapper classes are needed to intern values under a specific equivalence.
+ * Specific instances can be obtained using {@link Interners}.
+ * </p>
+ * Example:
+ * <pre>
+ *     private static final Interner&lt;Currency&gt; CURRENCIES = Interners.weak(Currency.EQUALS_AND_HASH_CODE);
+ *
+ *     Currency currency = CURRENCIES.intern(new Currency(code));
+ * </pre>
+ * <p>
+ * Implementations are thread-safe.
+ * </p>
+ *
+ * @param <T> type of the interned values
+ * @see Interners
+ */
+public interface Interner<T> {
+
+    /**
+     * Returns the canonical instance of {@code value}. If no value equivalent to {@code value} has been interned yet,
+     * {@code value} becomes the canonical instance.
+     *
+     * @param value value to be interned
+     * @return the canonical instance that is equivalent to {@code value}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    T intern(T value);
+
+    /**
+     * @return a snapshot of the number of interned values and the number of hits and misses so far
+     */
+    InternerStatistics getStatistics();
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import java.util.Locale;
+
+/**
+ * Result of {@link Interner#getStatistics()}.
+ */
+public final class InternerStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final int size;
+
+    InternerStatistics(long hitCount, long missCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of calls to {@link Interner#intern(Object)} that returned an already interned instance
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of calls to {@link Interner#intern(Object)} that made the given value the canonical instance
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the ratio of hits to requests, or {@code 1.0} if there were no requests yet
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return the number of interned values; for weak interners, this includes values that have been garbage collected
+     * but not yet removed
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "Size: %d, hits: %d, misses: %d, hit rate: %.3f", size, hitCount, missCount, getHitRate());
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+/**
+ * A part of the table of a {@link StripedInterner}. Implementations guard their state with their own lock.
+ */
+interface InternerStripe<T> {
+
+    /**
+     * @param hash the hash code of {@code value} computed by the strategy of the interner
+     * @see Interner#intern(Object)
+     */
+    T intern(T value, int hash);
+
+    /**
+     * Adds the current size, hit count and miss count of this stripe to the corresponding elements of
+     * {@code statistics}.
+     */
+    void addStatistics(long[] statistics);
+
+}
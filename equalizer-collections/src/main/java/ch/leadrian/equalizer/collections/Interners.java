@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A class containing default {@link Interner} implementations. Specific instances can be obtained using the given
+ * factory methods.
+ * <p>
+ * The interned values are distributed over a number of stripes, each of which is an open addressing hash table guarded
+ * by its own lock, such that threads interning different values rarely contend.
+ * </p>
+ *
+ * @see Interner
+ */
+public final class Interners {
+
+    private static final int MAXIMUM_CONCURRENCY_LEVEL = 1 << 16;
+
+    private Interners() {
+    }
+
+    /**
+     * Returns an {@link Interner} that keeps strong references to the canonical instances, which are therefore never
+     * garbage collected. The number of stripes is derived from the number of available processors.
+     *
+     * @param equalsAndHashCode equivalence of the interned values
+     * @param <T>               type of the interned values
+     * @return {@link Interner} strongly referencing the canonical instances
+     */
+    public static <T> Interner<T> strong(EqualsAndHashCode<? super T> equalsAndHashCode) {
+        return strong(equalsAndHashCode, defaultConcurrencyLevel());
+    }
+
+    /**
+     * Returns an {@link Interner} that keeps strong references to the canonical instances, which are therefore never
+     * garbage collected.
+     *
+     * @param equalsAndHashCode equivalence of the interned values
+     * @param concurrencyLevel  expected number of threads interning values concurrently, rounded up to the next power
+     *                          of two to determine the number of stripes
+     * @param <T>               type of the interned values
+     * @return {@link Interner} strongly referencing the canonical instances
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive
+     */
+    public static <T> Interner<T> strong(EqualsAndHashCode<? super T> equalsAndHashCode, int concurrencyLevel) {
+        requireNonNull(equalsAndHashCode, "equalsAndHashCode must not be null");
+        return new StripedInterner<>(equalsAndHashCode, numberOfStripes(concurrencyLevel), () -> new StrongInternerStripe<>(equalsAndHashCode));
+    }
+
+    /**
+     * Returns an {@link Interner} that keeps weak references to the canonical instances, such that canonical instances
+     * are garbage collected once they are no longer referenced elsewhere. The number of stripes is derived from the
+     * number of available processors.
+     *
+     * @param equalsAndHashCode equivalence of the interned values
+     * @param <T>               type of the interned values
+     * @return {@link Interner} weakly referencing the canonical instances
+     */
+    public static <T> Interner<T> weak(EqualsAndHashCode<? super T> equalsAndHashCode) {
+        return weak(equalsAndHashCode, defaultConcurrencyLevel());
+    }
+
+    /**
+     * Returns an {@link Interner} that keeps weak references to the canonical instances, such that canonical instances
+     * are garbage collected once they are no longer referenced elsewhere.
+     *
+     * @param equalsAndHashCode equivalence of the interned values
+     * @param concurrencyLevel  expected number of threads interning values concurrently, rounded up to the next power
+     *                          of two to determine the number of stripes
+     * @param <T>               type of the interned values
+     * @return {@link Interner} weakly referencing the canonical instances
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive
+     */
+    public static <T> Interner<T> weak(EqualsAndHashCode<? super T> equalsAndHashCode, int concurrencyLevel) {
+        requireNonNull(equalsAndHashCode, "equalsAndHashCode must not be null");
+        return new StripedInterner<>(equalsAndHashCode, numberOfStripes(concurrencyLevel), () -> new WeakInternerStripe<>(equalsAndHashCode));
+    }
+
+    private static int defaultConcurrencyLevel() {
+        return 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    private static int numberOfStripes(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+        }
+        int numberOfStripes = 1;
+        while (numberOfStripes < concurrencyLevel && numberOfStripes < MAXIMUM_CONCURRENCY_LEVEL) {
+            numberOfStripes <<= 1;
+        }
+        return numberOfStripes;
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Distributes the values over a power-of-two number of {@link InternerStripe}s by the higher bits of their mixed hash
+ * codes. The stripe tables use the lower bits of the hash codes, so both are independent of each other.
+ */
+final class StripedInterner<T> implements Interner<T> {
+
+    static final int SIZE = 0;
+    static final int HIT_COUNT = 1;
+    static final int MISS_COUNT = 2;
+
+    private final EqualsAndHashCode<? super T> equalsAndHashCode;
+    private final InternerStripe<T>[] stripes;
+    private final int stripeShift;
+
+    @SuppressWarnings("unchecked")
+    StripedInterner(EqualsAndHashCode<? super T> equalsAndHashCode, int numberOfStripes, Supplier<InternerStripe<T>> stripeFactory) {
+        this.equalsAndHashCode = equalsAndHashCode;
+        this.stripes = (InternerStripe<T>[]) new InternerStripe<?>[numberOfStripes];
+        for (int i = 0; i < numberOfStripes; i++) {
+            stripes[i] = stripeFactory.get();
+        }
+        this.stripeShift = Integer.SIZE - Integer.numberOfTrailingZeros(numberOfStripes);
+    }
+
+    @Override
+    public T intern(T value) {
+        requireNonNull(value, "value must not be null");
+        int hash = equalsAndHashCode.hashCode(value);
+        return stripeFor(hash).intern(value, hash);
+    }
+
+    private InternerStripe<T> stripeFor(int hash) {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        int spread = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        return stripes[spread >>> stripeShift];
+    }
+
+    @Override
+    public InternerStatistics getStatistics() {
+        long[] statistics = new long[3];
+        for (InternerStripe<T> stripe : stripes) {
+            stripe.addStatistics(statistics);
+        }
+        return new InternerStatistics(statistics[HIT_COUNT], statistics[MISS_COUNT], (int) Math.min(statistics[SIZE], Integer.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import static ch.leadrian.equalizer.collections.StripedInterner.HIT_COUNT;
+import static ch.leadrian.equalizer.collections.StripedInterner.MISS_COUNT;
+import static ch.leadrian.equalizer.collections.StripedInterner.SIZE;
+
+/**
+ * Stores the canonical instances in an {@link EqualizerHashSet}.
+ */
+final class StrongInternerStripe<T> implements InternerStripe<T> {
+
+    private final EqualizerHashSet<T> values;
+    private long hitCount;
+    private long missCount;
+
+    StrongInternerStripe(EqualsAndHashCode<? super T> equalsAndHashCode) {
+        this.values = new EqualizerHashSet<>(equalsAndHashCode);
+    }
+
+    @Override
+    public synchronized T intern(T value, int hash) {
+        int size = values.size();
+        T canonicalValue = values.intern(value, hash);
+        if (values.size() > size) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return canonicalValue;
+    }
+
+    @Override
+    public synchronized void addStatistics(long[] statistics) {
+        statistics[SIZE] += values.size();
+        statistics[HIT_COUNT] += hitCount;
+        statistics[MISS_COUNT] += missCount;
+    }
+
+}
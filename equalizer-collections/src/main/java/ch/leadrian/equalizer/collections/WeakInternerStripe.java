@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import static ch.leadrian.equalizer.collections.HashTables.MAXIMUM_CAPACITY;
+import static ch.leadrian.equalizer.collections.HashTables.MINIMUM_CAPACITY;
+import static ch.leadrian.equalizer.collections.HashTables.canShift;
+import static ch.leadrian.equalizer.collections.HashTables.indexFor;
+import static ch.leadrian.equalizer.collections.HashTables.maximumSize;
+import static ch.leadrian.equalizer.collections.StripedInterner.HIT_COUNT;
+import static ch.leadrian.equalizer.collections.StripedInterner.MISS_COUNT;
+import static ch.leadrian.equalizer.collections.StripedInterner.SIZE;
+
+/**
+ * Stores weak references to the canonical instances in an open addressing hash table with linear probing, like
+ * {@link EqualizerHashSet}. References cleared by the garbage collector are removed before each lookup.
+ */
+final class WeakInternerStripe<T> implements InternerStripe<T> {
+
+    private final EqualsAndHashCode<? super T> equalsAndHashCode;
+    private final ReferenceQueue<T> referenceQueue = new ReferenceQueue<>();
+    private Entry<T>[] entries;
+    private int size;
+    private int maximumSize;
+    private long hitCount;
+    private long missCount;
+
+    WeakInternerStripe(EqualsAndHashCode<? super T> equalsAndHashCode) {
+        this.equalsAndHashCode = equalsAndHashCode;
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        entries = (Entry<T>[]) new Entry<?>[capacity];
+        maximumSize = maximumSize(capacity);
+    }
+
+    @Override
+    public synchronized T intern(T value, int hash) {
+        removeClearedEntries();
+        Entry<T>[] entries = this.entries;
+        int mask = entries.length - 1;
+        int index = indexFor(hash, mask);
+        for (Entry<T> entry = entries[index]; entry != null; entry = entries[index]) {
+            if (entry.hash == hash) {
+                T canonicalValue = entry.get();
+                if (canonicalValue != null && (canonicalValue == value || equalsAndHashCode.equals(canonicalValue, value))) {
+                    hitCount++;
+                    return canonicalValue;
+                }
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size == maximumSize) {
+            resize();
+            entries = this.entries;
+            mask = entries.length - 1;
+            index = indexFor(hash, mask);
+            while (entries[index] != null) {
+                index = (index + 1) & mask;
+            }
+        }
+        entries[index] = new Entry<>(value, hash, referenceQueue);
+        size++;
+        missCount++;
+        return value;
+    }
+
+    /**
+     * Doubles the capacity, unless at least half of the entries have been cleared, in which case they are dropped
+     * instead.
+     */
+    private void resize() {
+        Entry<T>[] oldEntries = entries;
+        int numberOfLiveEntries = 0;
+        for (Entry<T> entry : oldEntries) {
+            if (entry != null && entry.get() != null) {
+                numberOfLiveEntries++;
+            }
+        }
+        int capacity = oldEntries.length;
+        if (numberOfLiveEntries >= maximumSize / 2) {
+            if (capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Interner is full");
+            }
+            capacity *= 2;
+        }
+        allocate(capacity);
+        Entry<T>[] entries = this.entries;
+        int mask = capacity - 1;
+        size = 0;
+        for (Entry<T> entry : oldEntries) {
+            // Cleared entries are dropped here and ignored once they are polled from the reference queue
+            if (entry != null && entry.get() != null) {
+                int index = indexFor(entry.hash, mask);
+                while (entries[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                entries[index] = entry;
+                size++;
+            }
+        }
+    }
+
+    private void removeClearedEntries() {
+        Reference<? extends T> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            remove((Entry<?>) reference);
+        }
+    }
+
+    /**
+     * Removes {@code entry} if it is still part of the table and shifts back the following entries of the same
+     * cluster whose probing started at or before the resulting gap.
+     */
+    private void remove(Entry<?> entry) {
+        Entry<T>[] entries = this.entries;
+        int mask = entries.length - 1;
+        int gap = indexFor(entry.hash, mask);
+        while (entries[gap] != entry) {
+            if (entries[gap] == null) {
+                return;
+            }
+            gap = (gap + 1) & mask;
+        }
+        for (int index = (gap + 1) & mask; entries[index] != null; index = (index + 1) & mask) {
+            if (canShift(gap, indexFor(entries[index].hash, mask), index, mask)) {
+                entries[gap] = entries[index];
+                gap = index;
+            }
+        }
+        entries[gap] = null;
+        size--;
+    }
+
+    @Override
+    public synchronized void addStatistics(long[] statistics) {
+        removeClearedEntries();
+        statistics[SIZE] += size;
+        statistics[HIT_COUNT] += hitCount;
+        statistics[MISS_COUNT] += missCount;
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+
+        final int hash;
+
+        Entry(T referent, int hash, ReferenceQueue<? super T> referenceQueue) {
+            super(referent, referenceQueue);
+            this.hash = hash;
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Hash based collections that compare and hash their keys using an {@link ch.leadrian.equalizer.EqualsAndHashCode}
+ * instead of {@link java.lang.Object#equals(java.lang.Object)} and {@link java.lang.Object#hashCode()} of the keys.
+ *
+ * @see ch.leadrian.equalizer.collections.EqualizerHashMap
+ * @see ch.leadrian.equalizer.collections.EqualizerConcurrentMap
+ * @see ch.leadrian.equalizer.collections.FingerprintIndex
+ * @see ch.leadrian.equalizer.collections.EqualizerHashSet
+ * @see ch.leadrian.equalizer.EqualsAndHashCode
+ */
+package ch.leadrian.equalizer.collections;
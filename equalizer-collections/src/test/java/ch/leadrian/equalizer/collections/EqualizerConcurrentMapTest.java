@@ -0,0 +1,458 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+
+class EqualizerConcurrentMapTest {
+
+    private static final EqualsAndHashCode<String> CASE_INSENSITIVE = Equalizer.equalsAndHashCodeBuilder(String.class)
+            .compareAndHash(String::toLowerCase)
+            .build();
+
+    /**
+     * Only hashes the last digit, such that many keys collide and form long clusters.
+     */
+    private static final EqualsAndHashCode<Integer> COLLIDING = Equalizer.equalsAndHashCodeBuilder(Integer.class)
+            .compareAndHashPrimitive((Integer value) -> value % 10)
+            .comparePrimitive((Integer value) -> value)
+            .build();
+
+    private static final EqualsAndHashCode<Integer> IDENTITY = Equalizer.equalsAndHashCodeBuilder(Integer.class)
+            .compareAndHashPrimitive((Integer value) -> value)
+            .build();
+
+    @Test
+    void shouldCompareKeysUsingStrategy() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+
+        map.put("Foo", 1);
+        Integer previousValue = map.put("FOO", 2);
+
+        assertThat(previousValue)
+                .isEqualTo(1);
+        assertThat(map)
+                .containsOnly(entry("Foo", 2));
+        assertThat(map.get("foo"))
+                .isEqualTo(2);
+        assertThat(map.containsKey("fOO"))
+                .isTrue();
+        assertThat(map.containsKey("bar"))
+                .isFalse();
+    }
+
+    @Test
+    void givenNullKeyItShouldThrowException() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+
+        Throwable caughtThrowable = catchThrowable(() -> map.put(null, 1));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenNullValueItShouldThrowException() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+
+        Throwable caughtThrowable = catchThrowable(() -> map.put("foo", null));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenNegativeExpectedSizeItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> new EqualizerConcurrentMap<>(CASE_INSENSITIVE, -1));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCopyMap() {
+        Map<String, Integer> entries = new HashMap<>();
+        entries.put("foo", 1);
+        entries.put("bar", 2);
+
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE, entries);
+
+        assertThat(map)
+                .isEqualTo(entries);
+    }
+
+    @Test
+    void shouldOnlyUpdateMatchingValues() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+
+        assertThat(map.replace("foo", 1))
+                .isNull();
+        assertThat(map.putIfAbsent("foo", 1))
+                .isNull();
+        assertThat(map.putIfAbsent("FOO", 2))
+                .isEqualTo(1);
+        assertThat(map.replace("FOO", 2, 3))
+                .isFalse();
+        assertThat(map.replace("FOO", 1, 3))
+                .isTrue();
+        assertThat(map.replace("foo", 4))
+                .isEqualTo(3);
+        assertThat(map.remove("Foo", 3))
+                .isFalse();
+        assertThat(map.remove("Foo", 4))
+                .isTrue();
+        assertThat(map)
+                .isEmpty();
+        assertThat(map.putIfAbsent("foo", 5))
+                .isNull();
+        assertThat(map)
+                .containsOnly(entry("foo", 5));
+    }
+
+    @Test
+    void givenPresentKeyComputeIfAbsentShouldNotApplyMappingFunction() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        AtomicInteger numberOfCalls = new AtomicInteger();
+
+        Integer value = map.computeIfAbsent("FOO", key -> numberOfCalls.incrementAndGet());
+
+        assertThat(value)
+                .isEqualTo(1);
+        assertThat(numberOfCalls)
+                .hasValue(0);
+    }
+
+    @Test
+    void givenAbsentKeyComputeIfAbsentShouldAddComputedValue() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+
+        Integer value = map.computeIfAbsent("foo", String::length);
+        Integer nullValue = map.computeIfAbsent("bar", key -> null);
+
+        assertThat(value)
+                .isEqualTo(3);
+        assertThat(nullValue)
+                .isNull();
+        assertThat(map)
+                .containsOnly(entry("foo", 3));
+    }
+
+    @Test
+    void clearShouldRemoveAllEntries() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        map.put("bar", 2);
+
+        map.clear();
+
+        assertThat(map)
+                .isEmpty();
+        assertThat(map.get("foo"))
+                .isNull();
+    }
+
+    @Test
+    void forEachShouldVisitAllEntries() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        map.put("bar", 2);
+        Map<String, Integer> visitedEntries = new HashMap<>();
+
+        map.forEach(visitedEntries::put);
+
+        assertThat(visitedEntries)
+                .containsOnly(entry("foo", 1), entry("bar", 2));
+    }
+
+    @Test
+    void setValueShouldWriteThrough() {
+        EqualizerConcurrentMap<String, Integer> map = new EqualizerConcurrentMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+
+        map.entrySet().iterator().next().setValue(2);
+
+        assertThat(map)
+                .containsOnly(entry("foo", 2));
+    }
+
+    @Test
+    void shouldContainAllKeysAfterResizing() {
+        EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(COLLIDING);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, -i);
+        }
+
+        assertThat(map)
+                .hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(i))
+                    .isEqualTo(-i);
+        }
+    }
+
+    @Test
+    void givenAbsentKeysBeyondProbeLimitRemoveAndReplaceShouldNotResize() {
+        // Three clusters of ten keys each, starting at slots 0, 10 and 20, form a run exceeding the probe limit of 26
+        int[] hashes = {hashWithHome(0, 63), hashWithHome(10, 63), hashWithHome(20, 63)};
+        EqualsAndHashCode<Integer> clustered = new EqualsAndHashCode<Integer>() {
+
+            @Override
+            public boolean equals(Integer value1, Object value2) {
+                return value1.equals(value2);
+            }
+
+            @Override
+            public int hashCode(Integer value) {
+                return hashes[value / 100];
+            }
+        };
+        EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(clustered, 30);
+        for (int group = 0; group < hashes.length; group++) {
+            for (int i = 0; i < 10; i++) {
+                map.put(group * 100 + i, i);
+            }
+        }
+        assertThat(map.getCapacity())
+                .isEqualTo(64);
+
+        for (int i = 10; i < 100; i++) {
+            assertThat(map.remove(i))
+                    .isNull();
+            assertThat(map.remove(i, 0))
+                    .isFalse();
+            assertThat(map.replace(i, 1))
+                    .isNull();
+            assertThat(map.replace(i, 0, 1))
+                    .isFalse();
+        }
+
+        assertThat(map.getCapacity())
+                .isEqualTo(64);
+        assertThat(map)
+                .hasSize(30)
+                .doesNotContainKey(10);
+    }
+
+    @Test
+    void shouldPurgeRemovedKeys() {
+        EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(IDENTITY);
+
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i, i);
+            map.remove(i);
+        }
+        map.put(-1, -1);
+
+        assertThat(map)
+                .containsOnly(entry(-1, -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void iteratorShouldRemoveEntries(int remainder) {
+        EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(COLLIDING);
+        Map<Integer, Integer> expectedEntries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+            if (i % 4 != remainder) {
+                expectedEntries.put(i, i);
+            }
+        }
+        List<Integer> visitedKeys = new ArrayList<>();
+
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext()) {
+            Integer key = iterator.next();
+            visitedKeys.add(key);
+            if (key % 4 == remainder) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(visitedKeys)
+                .hasSize(100)
+                .doesNotHaveDuplicates();
+        assertThat(map)
+                .isEqualTo(expectedEntries);
+    }
+
+    @Nested
+    class RandomOperationsTests {
+
+        @ParameterizedTest
+        @ValueSource(longs = {1L, 2L, 3L})
+        void shouldBehaveLikeHashMap(long seed) {
+            Random random = new Random(seed);
+            EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(COLLIDING);
+            Map<Integer, Integer> expectedMap = new HashMap<>();
+
+            for (int i = 0; i < 10_000; i++) {
+                Integer key = random.nextInt(200);
+                switch (random.nextInt(5)) {
+                    case 0:
+                        assertThat(map.put(key, i))
+                                .isEqualTo(expectedMap.put(key, i));
+                        break;
+                    case 1:
+                        assertThat(map.remove(key))
+                                .isEqualTo(expectedMap.remove(key));
+                        break;
+                    case 2:
+                        assertThat(map.putIfAbsent(key, i))
+                                .isEqualTo(expectedMap.putIfAbsent(key, i));
+                        break;
+                    case 3:
+                        assertThat(map.replace(key, i))
+                                .isEqualTo(expectedMap.replace(key, i));
+                        break;
+                    default:
+                        assertThat(map.get(key))
+                                .isEqualTo(expectedMap.get(key));
+                        break;
+                }
+            }
+
+            assertThat(map)
+                    .isEqualTo(expectedMap);
+        }
+    }
+
+    @Nested
+    class ConcurrencyTests {
+
+        private static final int NUMBER_OF_THREADS = 4;
+
+        private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+            ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+            try {
+                List<Future<T>> futures = new ArrayList<>();
+                for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+                    futures.add(executorService.submit(task));
+                }
+                List<T> results = new ArrayList<>();
+                for (Future<T> future : futures) {
+                    results.add(future.get());
+                }
+                return results;
+            } finally {
+                executorService.shutdown();
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        void givenConcurrentInsertsWhileResizingItShouldContainAllKeys() throws Exception {
+            EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(IDENTITY);
+            AtomicInteger threadIndex = new AtomicInteger();
+            int numberOfKeys = 50_000;
+
+            runConcurrently(() -> {
+                int offset = threadIndex.getAndIncrement() * numberOfKeys;
+                for (int i = offset; i < offset + numberOfKeys; i++) {
+                    map.put(i, -i);
+                }
+                return null;
+            });
+
+            assertThat(map)
+                    .hasSize(NUMBER_OF_THREADS * numberOfKeys);
+            for (int i = 0; i < NUMBER_OF_THREADS * numberOfKeys; i++) {
+                assertThat(map.get(i))
+                        .isEqualTo(-i);
+            }
+        }
+
+        @Test
+        void givenConcurrentPutIfAbsentItShouldRetainSingleValuePerKey() throws Exception {
+            EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(COLLIDING);
+            AtomicInteger threadIndex = new AtomicInteger();
+            int numberOfKeys = 10_000;
+
+            List<Integer[]> results = runConcurrently(() -> {
+                int value = threadIndex.getAndIncrement();
+                Integer[] retainedValues = new Integer[numberOfKeys];
+                for (int i = 0; i < numberOfKeys; i++) {
+                    Integer previousValue = map.putIfAbsent(i, value);
+                    retainedValues[i] = previousValue != null ? previousValue : value;
+                }
+                return retainedValues;
+            });
+
+            for (Integer[] retainedValues : results) {
+                for (int i = 0; i < numberOfKeys; i++) {
+                    assertThat(retainedValues[i])
+                            .isEqualTo(map.get(i));
+                }
+            }
+        }
+
+        @Test
+        void givenConcurrentUpdatesItShouldNotLoseAny() throws Exception {
+            EqualizerConcurrentMap<Integer, Integer> map = new EqualizerConcurrentMap<>(IDENTITY);
+            int numberOfKeys = 1000;
+            int numberOfIncrements = 100;
+
+            runConcurrently(() -> {
+                for (int j = 0; j < numberOfIncrements; j++) {
+                    for (int i = 0; i < numberOfKeys; i++) {
+                        map.merge(i, 1, Integer::sum);
+                    }
+                }
+                return null;
+            });
+
+            for (int i = 0; i < numberOfKeys; i++) {
+                assertThat(map.get(i))
+                        .isEqualTo(NUMBER_OF_THREADS * numberOfIncrements);
+            }
+        }
+    }
+
+    private static int hashWithHome(int home, int mask) {
+        int hash = 0;
+        while (HashTables.indexFor(hash, mask) != home) {
+            hash++;
+        }
+        return hash;
+    }
+
+}
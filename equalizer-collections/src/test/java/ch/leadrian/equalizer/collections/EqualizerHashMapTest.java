@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+
+class EqualizerHashMapTest {
+
+    private static final EqualsAndHashCode<String> CASE_INSENSITIVE = Equalizer.equalsAndHashCodeBuilder(String.class)
+            .compareAndHash(String::toLowerCase)
+            .build();
+
+    /**
+     * Only hashes the last digit, such that many keys collide and form long clusters.
+     */
+    private static final EqualsAndHashCode<Integer> COLLIDING = Equalizer.equalsAndHashCodeBuilder(Integer.class)
+            .compareAndHashPrimitive((Integer value) -> value % 10)
+            .comparePrimitive((Integer value) -> value)
+            .build();
+
+    @Test
+    void shouldCompareKeysUsingStrategy() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+
+        map.put("Foo", 1);
+        Integer previousValue = map.put("FOO", 2);
+
+        assertThat(previousValue)
+                .isEqualTo(1);
+        assertThat(map)
+                .containsOnly(entry("Foo", 2));
+        assertThat(map.get("foo"))
+                .isEqualTo(2);
+        assertThat(map.containsKey("fOO"))
+                .isTrue();
+        assertThat(map.containsKey("bar"))
+                .isFalse();
+    }
+
+    @Test
+    void shouldSupportNullKeysAndValues() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+
+        map.put(null, 1);
+        map.put("foo", null);
+
+        assertThat(map)
+                .containsOnly(entry(null, 1), entry("foo", null));
+        assertThat(map.containsKey("FOO"))
+                .isTrue();
+        assertThat(map.getOrDefault("FOO", 2))
+                .isNull();
+        assertThat(map.remove(null))
+                .isEqualTo(1);
+        assertThat(map.containsKey(null))
+                .isFalse();
+    }
+
+    @Test
+    void givenNegativeExpectedSizeItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> new EqualizerHashMap<>(CASE_INSENSITIVE, -1));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCopyMap() {
+        Map<String, Integer> entries = new HashMap<>();
+        entries.put("foo", 1);
+        entries.put("bar", 2);
+
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE, entries);
+
+        assertThat(map)
+                .isEqualTo(entries);
+    }
+
+    @Test
+    void clearShouldRemoveAllEntries() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        map.put("bar", 2);
+
+        map.clear();
+
+        assertThat(map)
+                .isEmpty();
+        assertThat(map.get("foo"))
+                .isNull();
+    }
+
+    @Test
+    void forEachShouldVisitAllEntries() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        map.put("bar", 2);
+        Map<String, Integer> visitedEntries = new HashMap<>();
+
+        map.forEach(visitedEntries::put);
+
+        assertThat(visitedEntries)
+                .containsOnly(entry("foo", 1), entry("bar", 2));
+    }
+
+    @Test
+    void setValueShouldWriteThrough() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+
+        map.entrySet().iterator().next().setValue(2);
+
+        assertThat(map)
+                .containsOnly(entry("foo", 2));
+    }
+
+    @Test
+    void givenConcurrentModificationIteratorShouldThrowException() {
+        EqualizerHashMap<String, Integer> map = new EqualizerHashMap<>(CASE_INSENSITIVE);
+        map.put("foo", 1);
+        map.put("bar", 2);
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("baz", 3);
+
+        Throwable caughtThrowable = catchThrowable(iterator::next);
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void shouldContainAllKeysAfterResizing() {
+        EqualizerHashMap<Integer, Integer> map = new EqualizerHashMap<>(COLLIDING);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, -i);
+        }
+
+        assertThat(map)
+                .hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(i))
+                    .isEqualTo(-i);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void iteratorShouldRemoveEntriesWithoutSkippingAny(int remainder) {
+        EqualizerHashMap<Integer, Integer> map = new EqualizerHashMap<>(COLLIDING);
+        Map<Integer, Integer> expectedEntries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+            if (i % 4 != remainder) {
+                expectedEntries.put(i, i);
+            }
+        }
+        List<Integer> visitedKeys = new ArrayList<>();
+
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext()) {
+            Integer key = iterator.next();
+            visitedKeys.add(key);
+            if (key % 4 == remainder) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(visitedKeys)
+                .hasSize(100)
+                .doesNotHaveDuplicates();
+        assertThat(map)
+                .isEqualTo(expectedEntries);
+    }
+
+    @Nested
+    class RandomOperationsTests {
+
+        @ParameterizedTest
+        @ValueSource(longs = {1L, 2L, 3L})
+        void shouldBehaveLikeHashMap(long seed) {
+            Random random = new Random(seed);
+            EqualizerHashMap<Integer, Integer> map = new EqualizerHashMap<>(COLLIDING);
+            Map<Integer, Integer> expectedMap = new HashMap<>();
+
+            for (int i = 0; i < 10_000; i++) {
+                Integer key = random.nextInt(200);
+                switch (random.nextInt(3)) {
+                    case 0:
+                        assertThat(map.put(key, i))
+                                .isEqualTo(expectedMap.put(key, i));
+                        break;
+                    case 1:
+                        assertThat(map.remove(key))
+                                .isEqualTo(expectedMap.remove(key));
+                        break;
+                    default:
+                        assertThat(map.get(key))
+                                .isEqualTo(expectedMap.get(key));
+                        break;
+                }
+            }
+
+            assertThat(map)
+                    .isEqualTo(expectedMap);
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class EqualizerHashSetTest {
+
+    private static final EqualsAndHashCode<String> CASE_INSENSITIVE = Equalizer.equalsAndHashCodeBuilder(String.class)
+            .compareAndHash(String::toLowerCase)
+            .build();
+
+    /**
+     * Only hashes the last digit, such that many elements collide and form long clusters.
+     */
+    private static final EqualsAndHashCode<Integer> COLLIDING = Equalizer.equalsAndHashCodeBuilder(Integer.class)
+            .compareAndHashPrimitive((Integer value) -> value % 10)
+            .comparePrimitive((Integer value) -> value)
+            .build();
+
+    @Test
+    void shouldCompareElementsUsingStrategy() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE);
+
+        boolean addedFirst = set.add("Foo");
+        boolean addedSecond = set.add("FOO");
+
+        assertThat(addedFirst)
+                .isTrue();
+        assertThat(addedSecond)
+                .isFalse();
+        assertThat(set)
+                .containsExactly("Foo");
+        assertThat(set.contains("foo"))
+                .isTrue();
+        assertThat(set.contains("bar"))
+                .isFalse();
+    }
+
+    @Test
+    void shouldSupportNullElements() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE);
+
+        set.add(null);
+        set.add("foo");
+
+        assertThat(set)
+                .containsOnly(null, "foo");
+        assertThat(set.remove(null))
+                .isTrue();
+        assertThat(set.contains(null))
+                .isFalse();
+    }
+
+    @Test
+    void shouldKeepFirstOfEquivalentElements() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE, Arrays.asList("foo", "FOO", "bar"));
+
+        assertThat(set)
+                .containsOnly("foo", "bar");
+    }
+
+    @Test
+    void clearShouldRemoveAllElements() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE, Arrays.asList("foo", "bar"));
+
+        set.clear();
+
+        assertThat(set)
+                .isEmpty();
+        assertThat(set.contains("foo"))
+                .isFalse();
+    }
+
+    @Test
+    void forEachShouldVisitAllElements() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE, Arrays.asList("foo", "bar"));
+        List<String> visitedElements = new ArrayList<>();
+
+        set.forEach(visitedElements::add);
+
+        assertThat(visitedElements)
+                .containsOnly("foo", "bar");
+    }
+
+    @Test
+    void givenConcurrentModificationIteratorShouldThrowException() {
+        EqualizerHashSet<String> set = new EqualizerHashSet<>(CASE_INSENSITIVE, Arrays.asList("foo", "bar"));
+        Iterator<String> iterator = set.iterator();
+        iterator.next();
+        set.add("baz");
+
+        Throwable caughtThrowable = catchThrowable(iterator::next);
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void iteratorShouldRemoveElementsWithoutSkippingAny(int remainder) {
+        EqualizerHashSet<Integer> set = new EqualizerHashSet<>(COLLIDING);
+        Set<Integer> expectedElements = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+            if (i % 4 != remainder) {
+                expectedElements.add(i);
+            }
+        }
+        List<Integer> visitedElements = new ArrayList<>();
+
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            Integer element = iterator.next();
+            visitedElements.add(element);
+            if (element % 4 == remainder) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(visitedElements)
+                .hasSize(100)
+                .doesNotHaveDuplicates();
+        assertThat(set)
+                .isEqualTo(expectedElements);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 2L, 3L})
+    void shouldBehaveLikeHashSet(long seed) {
+        Random random = new Random(seed);
+        EqualizerHashSet<Integer> set = new EqualizerHashSet<>(COLLIDING);
+        Set<Integer> expectedSet = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            Integer element = random.nextInt(200);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(set.add(element))
+                            .isEqualTo(expectedSet.add(element));
+                    break;
+                case 1:
+                    assertThat(set.remove(element))
+                            .isEqualTo(expectedSet.remove(element));
+                    break;
+                default:
+                    assertThat(set.contains(element))
+                            .isEqualTo(expectedSet.contains(element));
+                    break;
+            }
+        }
+
+        assertThat(set)
+                .isEqualTo(expectedSet);
+    }
+
+}
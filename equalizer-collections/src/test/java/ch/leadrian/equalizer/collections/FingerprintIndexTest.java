@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashCode;
+import ch.leadrian.equalizer.HashMixers;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+
+class FingerprintIndexTest {
+
+    private static final HashCode<String> CASE_INSENSITIVE = Equalizer.<String>hashCodeBuilder()
+            .hash(String::toLowerCase)
+            .build();
+
+    private static final HashCode<String> CASE_INSENSITIVE_MURMUR3 = Equalizer.<String>hashCodeBuilder()
+            .mixer(HashMixers.murmur3())
+            .hash(String::toLowerCase)
+            .build();
+
+    private static final HashCode<Integer> IDENTITY = Equalizer.<Integer>hashCodeBuilder()
+            .hashPrimitive((Integer value) -> value)
+            .build();
+
+    /**
+     * Only hashes the last digit, such that many values share their primary hash code.
+     */
+    private static final HashCode<Integer> COLLIDING = Equalizer.<Integer>hashCodeBuilder()
+            .hashPrimitive((Integer value) -> value % 10)
+            .build();
+
+    private static final HashCode<Integer> MURMUR3 = Equalizer.<Integer>hashCodeBuilder()
+            .mixer(HashMixers.murmur3())
+            .hashPrimitive((Integer value) -> value)
+            .build();
+
+    @Test
+    void shouldAddFingerprintsOfValues() {
+        FingerprintIndex<String> index = new FingerprintIndex<>(CASE_INSENSITIVE, CASE_INSENSITIVE_MURMUR3, 10);
+
+        boolean addedFoo = index.add("foo");
+        boolean addedFooAgain = index.add("FOO");
+        boolean addedBar = index.add("bar");
+
+        assertThat(addedFoo)
+                .isTrue();
+        assertThat(addedFooAgain)
+                .isFalse();
+        assertThat(addedBar)
+                .isTrue();
+        assertThat(index.size())
+                .isEqualTo(2);
+        assertThat(index.mightContain("Foo"))
+                .isTrue();
+        assertThat(index.mightContain("baz"))
+                .isFalse();
+    }
+
+    @Test
+    void givenEmptyIndexItShouldNotContainAnything() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 0);
+
+        assertThat(index.isEmpty())
+                .isTrue();
+        assertThat(index.mightContain(0))
+                .isFalse();
+    }
+
+    @Test
+    void givenZeroHashCodesItShouldAddFingerprint() {
+        HashCode<Integer> zero = value -> 0;
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(zero, zero, 0);
+
+        boolean added = index.add(1);
+
+        assertThat(added)
+                .isTrue();
+        assertThat(index.mightContain(2))
+                .isTrue();
+    }
+
+    @Test
+    void zeroHashCodesShouldShareFingerprintWithOnePair() {
+        HashCode<Integer> hashCode = value -> value == 0 ? 0 : 0x89a5850e;
+        HashCode<Integer> secondaryHashCode = value -> value == 0 ? 0 : 0x63c5f8aa;
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(hashCode, secondaryHashCode, 0);
+
+        index.add(0);
+
+        assertThat(index.mightContain(1))
+                .isTrue();
+    }
+
+    @Test
+    void shouldContainAllFingerprintsAfterResizing() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 0);
+
+        for (int i = 0; i < 100_000; i++) {
+            index.add(i);
+        }
+
+        assertThat(index.size())
+                .isEqualTo(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(index.mightContain(i))
+                    .isTrue();
+        }
+        for (int i = 100_000; i < 200_000; i++) {
+            assertThat(index.mightContain(i))
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void shouldDistinguishValuesWithSamePrimaryHashCode() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(COLLIDING, MURMUR3, 0);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(index.add(i))
+                    .isTrue();
+        }
+
+        assertThat(index.size())
+                .isEqualTo(1000);
+        assertThat(index.mightContain(1000))
+                .isFalse();
+    }
+
+    @Test
+    void givenSameHashCodesItShouldNotDistinguishValues() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(COLLIDING, COLLIDING, 0);
+
+        for (int i = 0; i < 1000; i++) {
+            index.add(i);
+        }
+
+        assertThat(index.size())
+                .isEqualTo(10);
+        assertThat(index.mightContain(1000))
+                .isTrue();
+    }
+
+    @Test
+    void shouldReturnStatistics() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 1000);
+        for (int i = 0; i < 1000; i++) {
+            index.add(i);
+        }
+
+        FingerprintIndexStatistics statistics = index.getStatistics();
+
+        assertThat(statistics.getSize())
+                .isEqualTo(1000);
+        assertThat(statistics.getCapacity())
+                .isEqualTo(2048);
+        assertThat(statistics.getOffHeapBytes())
+                .isEqualTo(2048 * Long.BYTES);
+        assertThat(statistics.getLoadFactor())
+                .isCloseTo(0.488, within(0.001));
+        assertThat(statistics.getBytesPerEntry())
+                .isCloseTo(16.384, within(0.001));
+        assertThat(statistics.getFalsePositiveProbability())
+                .isLessThan(1e-15);
+    }
+
+    @Test
+    void falsePositiveProbabilityShouldCountFingerprintSharedByZeroHashCodes() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 1000);
+        for (int i = 0; i < 1000; i++) {
+            index.add(i);
+        }
+
+        double result = index.getStatistics().getFalsePositiveProbability();
+
+        assertThat(result)
+                .isEqualTo(1001 / Math.pow(2, 64));
+    }
+
+    @Test
+    void givenEmptyIndexFalsePositiveProbabilityShouldBeZero() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 0);
+
+        double result = index.getStatistics().getFalsePositiveProbability();
+
+        assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void givenNullValueItShouldThrowException() {
+        FingerprintIndex<Integer> index = new FingerprintIndex<>(IDENTITY, MURMUR3, 0);
+
+        Throwable caughtThrowable = catchThrowable(() -> index.add(null));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenNegativeExpectedSizeItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> new FingerprintIndex<>(IDENTITY, MURMUR3, -1));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.collections;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class InternersTest {
+
+    private static final EqualsAndHashCode<Currency> EQUALS_AND_HASH_CODE = Equalizer.equalsAndHashCodeBuilder(Currency.class)
+            .compareAndHash(currency -> currency.code)
+            .build();
+
+    static Stream<Arguments> interners() {
+        return Stream.of(
+                arguments("strong", (Function<Integer, Interner<Currency>>) concurrencyLevel -> Interners.strong(EQUALS_AND_HASH_CODE, concurrencyLevel)),
+                arguments("weak", (Function<Integer, Interner<Currency>>) concurrencyLevel -> Interners.weak(EQUALS_AND_HASH_CODE, concurrencyLevel))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("interners")
+    void givenEquivalentValuesItShouldReturnFirstValue(String name, Function<Integer, Interner<Currency>> internerFactory) {
+        Interner<Currency> interner = internerFactory.apply(4);
+        Currency currency = new Currency("CHF");
+
+        Currency firstResult = interner.intern(currency);
+        Currency secondResult = interner.intern(new Currency("CHF"));
+
+        assertThat(firstResult)
+                .isSameAs(currency);
+        assertThat(secondResult)
+                .isSameAs(currency);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("interners")
+    void givenDifferentValuesItShouldReturnEachValue(String name, Function<Integer, Interner<Currency>> internerFactory) {
+        Interner<Currency> interner = internerFactory.apply(4);
+        Currency swissFranc = new Currency("CHF");
+        Currency euro = new Currency("EUR");
+
+        Currency firstResult = interner.intern(swissFranc);
+        Currency secondResult = interner.intern(euro);
+
+        assertThat(firstResult)
+                .isSameAs(swissFranc);
+        assertThat(secondResult)
+                .isSameAs(euro);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("interners")
+    void givenNullItShouldThrowException(String name, Function<Integer, Interner<Currency>> internerFactory) {
+        Interner<Currency> interner = internerFactory.apply(4);
+
+        Throwable caughtThrowable = catchThrowable(() -> interner.intern(null));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("interners")
+    void shouldReportStatistics(String name, Function<Integer, Interner<Currency>> internerFactory) {
+        Interner<Currency> interner = internerFactory.apply(4);
+        List<Currency> currencies = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            currencies.add(interner.intern(new Currency("C" + (i % 100))));
+        }
+
+        InternerStatistics statistics = interner.getStatistics();
+
+        assertThat(statistics.getSize())
+                .isEqualTo(100);
+        assertThat(statistics.getMissCount())
+                .isEqualTo(100);
+        assertThat(statistics.getHitCount())
+                .isEqualTo(900);
+        assertThat(statistics.getHitRate())
+                .isEqualTo(0.9);
+        assertThat(currencies)
+                .hasSize(1000);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("interners")
+    void givenConcurrentThreadsItShouldReturnSingleCanonicalInstance(String name, Function<Integer, Interner<Currency>> internerFactory) throws Exception {
+        Interner<Currency> interner = internerFactory.apply(4);
+        int numberOfThreads = 4;
+        int numberOfValues = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<Currency[]>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < numberOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    Currency[] results = new Currency[numberOfValues];
+                    for (int j = 0; j < numberOfValues; j++) {
+                        results[j] = interner.intern(new Currency("C" + j));
+                    }
+                    return results;
+                }));
+            }
+            Currency[] expectedResults = futures.get(0).get();
+            for (Future<Currency[]> future : futures) {
+                assertThat(future.get())
+                        .containsExactly(expectedResults);
+            }
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertThat(interner.getStatistics().getMissCount())
+                .isEqualTo(numberOfValues);
+    }
+
+    @Test
+    void givenNonPositiveConcurrencyLevelItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> Interners.strong(EQUALS_AND_HASH_CODE, 0));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class WeakTests {
+
+        @Test
+        void shouldReleaseUnreachableCanonicalInstances() throws InterruptedException {
+            Interner<Currency> interner = Interners.weak(EQUALS_AND_HASH_CODE, 1);
+            Currency swissFranc = interner.intern(new Currency("CHF"));
+            for (int i = 0; i < 100; i++) {
+                interner.intern(new Currency("C" + i));
+            }
+
+            for (int i = 0; i < 50 && interner.getStatistics().getSize() > 1; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            assertThat(interner.getStatistics().getSize())
+                    .isEqualTo(1);
+            assertThat(interner.intern(new Currency("CHF")))
+                    .isSameAs(swissFranc);
+        }
+
+        @Test
+        void shouldInternValuesAgainAfterTheyWereReleased() throws InterruptedException {
+            Interner<Currency> interner = Interners.weak(EQUALS_AND_HASH_CODE, 1);
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < 1000; i++) {
+                    interner.intern(new Currency("C" + i));
+                }
+                System.gc();
+            }
+            Currency currency = new Currency("C1");
+
+            Currency result = interner.intern(currency);
+
+            assertThat(interner.intern(new Currency("C1")))
+                    .isSameAs(result);
+        }
+    }
+
+    private static final class Currency {
+
+        private final String code;
+
+        Currency(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+    }
+
+}
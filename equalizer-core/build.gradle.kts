@@ -17,6 +17,7 @@
 plugins {
     `java-library-conventions`
     `maven-publish-conventions`
+    `java-test-fixtures`
     jacoco
 }
 
@@ -24,3 +25,8 @@ dependencies {
     testAnnotationProcessor(group = "org.immutables", name = "value", version = "2.8.3")
     testImplementation(group = "org.immutables", name = "value", version = "2.8.3", classifier = "annotations")
 }
+
+// The test fixtures are shared with the tests of other modules, but not published
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
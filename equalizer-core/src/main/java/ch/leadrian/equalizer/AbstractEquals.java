@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class for {@link Equals} implementations that performs the identity, {@code null} and class checks before
+ * delegating to the comparison steps of a specific implementation.
+ */
+abstract class AbstractEquals<T> implements Equals<T> {
+
+    private final Class<T> targetClass;
+    private final ClassMatcher<T> classMatcher;
+    private final List<ComparisonStep<T>> comparisonSteps;
+
+    AbstractEquals(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps) {
+        this.targetClass = targetClass;
+        this.classMatcher = classMatcher;
+        this.comparisonSteps = new ArrayList<>(comparisonSteps);
+    }
+
+    @Override
+    public final boolean equals(T object, Object otherObject) {
+        if (object == otherObject) {
+            return true;
+        }
+
+        if (object == null || otherObject == null) {
+            return false;
+        }
+
+        if (!classMatcher.classesMatch(object, otherObject)) {
+            return false;
+        }
+
+        return isEqual(object, targetClass.cast(otherObject));
+    }
+
+    /**
+     * Performs the same checks as {@link #equals(Object, Object)} for each pair of elements, except for the class check,
+     * which is skipped if the component types of the arrays already guarantee that the classes of all elements match.
+     */
+    @Override
+    public final int mismatch(T[] objects, T[] otherObjects) {
+        requireNonNull(objects, "objects must not be null");
+        requireNonNull(otherObjects, "otherObjects must not be null");
+        boolean classesMatch = ClassMatchers.matchesAll(
+                classMatcher,
+                objects.getClass().getComponentType(),
+                otherObjects.getClass().getComponentType()
+        );
+        int length = Math.min(objects.length, otherObjects.length);
+        for (int i = 0; i < length; i++) {
+            T object = objects[i];
+            T otherObject = otherObjects[i];
+            if (object == otherObject) {
+                continue;
+            }
+            if (object == null || otherObject == null) {
+                return i;
+            }
+            if (!classesMatch && !classMatcher.classesMatch(object, otherObject)) {
+                return i;
+            }
+            if (!isEqual(object, otherObject)) {
+                return i;
+            }
+        }
+        return objects.length == otherObjects.length ? -1 : length;
+    }
+
+    /**
+     * Applies the comparison steps to two non-null instances with matching classes.
+     */
+    abstract boolean isEqual(T object, T otherObject);
+
+    final Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    final ClassMatcher<T> getClassMatcher() {
+        return classMatcher;
+    }
+
+    /**
+     * @return the comparison steps applied by {@link #isEqual(Object, Object)}, in order; must not be modified
+     */
+    final List<ComparisonStep<T>> getComparisonSteps() {
+        return comparisonSteps;
+    }
+
+}
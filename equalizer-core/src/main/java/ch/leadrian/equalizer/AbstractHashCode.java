@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for {@link HashCode} implementations that handles {@code null} values before delegating to the hash steps
+ * of a specific implementation.
+ */
+abstract class AbstractHashCode<T> implements HashCode<T> {
+
+    private final List<HashStep<T>> hashSteps;
+
+    AbstractHashCode(List<? extends HashStep<T>> hashSteps) {
+        this.hashSteps = new ArrayList<>(hashSteps);
+    }
+
+    @Override
+    public final int hashCode(T object) {
+        if (object == null) {
+            return 0;
+        }
+
+        return hash(object);
+    }
+
+    /**
+     * Applies the hash steps to a non-null instance.
+     */
+    abstract int hash(T object);
+
+    /**
+     * @return the hash steps applied by {@link #hash(Object)}, in order; must not be modified
+     */
+    final List<HashStep<T>> getHashSteps() {
+        return hashSteps;
+    }
+
+    /**
+     * @return the {@link HashMixer} used to combine the hash codes of the hash steps
+     */
+    HashMixer getHashMixer() {
+        return HashMixers.polynomial();
+    }
+
+}
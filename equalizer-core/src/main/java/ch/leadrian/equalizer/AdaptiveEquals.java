@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.List;
+
+/**
+ * <p>
+ * An {@link Equals} that learns in which order its comparisons should be evaluated. A specific instance may be
+ * configured and instantiated using {@link EqualsBuilder#buildAdaptive()}.
+ * </p>
+ * <p>
+ * A small random sample of all calls to {@link #equals(Object, Object)} evaluates every comparison and records how
+ * often it rejects a pair and how long it takes. From time to time, the comparisons are reordered such that the
+ * comparisons rejecting the most pairs per unit of time are evaluated first. The result of
+ * {@link #equals(Object, Object)} does not depend on the order.
+ * </p>
+ * <p>
+ * Once the data is representative, the learned order may be made permanent using
+ * {@link EqualsBuilder#comparisonOrder(List)}:
+ * </p>
+ * <pre>
+ *     AdaptiveEquals&lt;Person&gt; adaptiveEquals = ...;
+ *     // After a representative workload
+ *     List&lt;Integer&gt; order = adaptiveEquals.getComparisonOrder();
+ *
+ *     Equals&lt;Person&gt; equals = Equalizer.equalsBuilder(Person.class)
+ *             // Same comparisons as for adaptiveEquals, in the same order
+ *             .comparisonOrder(order)
+ *             .build();
+ * </pre>
+ *
+ * @param <T> Type for which {@link AdaptiveEquals} has been configured.
+ * @see EqualsBuilder#buildAdaptive()
+ */
+public interface AdaptiveEquals<T> extends Equals<T> {
+
+    /**
+     * @return the indices of the configured comparisons, in the order in which they are currently evaluated. Index
+     * {@code 0} refers to the first comparison configured on the {@link EqualsBuilder}.
+     */
+    List<Integer> getComparisonOrder();
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link AdaptiveEquals} that reorders its comparison steps based on sampled rejection rates and costs.
+ * <p>
+ * The current order is published as an immutable {@link Plan} through a {@code volatile} field. In addition to the
+ * comparisons, calls that are not sampled perform a volatile read and draw one pseudo-random {@code int} from
+ * {@link ThreadLocalRandom}, which updates the seed stored in the current thread. The sampling decision masks this
+ * value, so the sample interval must be a power of two. Sampled calls update lock-free counters, and every
+ * {@code reorderInterval} samples, the thread that recorded the last sample computes and publishes a new plan.
+ * Concurrent plan updates are harmless, the last one wins.
+ * <p>
+ * Steps are ordered by the expected time spent per rejected pair, that is their average cost divided by their
+ * rejection rate, which is the optimal order for independent filters. As for {@link EqualsBuilder#optimizeOrder()},
+ * steps of unknown cost such as {@link EqualsBuilder#equalIf} conditions are never moved.
+ */
+final class AdaptiveEqualsImpl<T> extends AbstractEquals<T> implements AdaptiveEquals<T> {
+
+    static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    static final int DEFAULT_REORDER_INTERVAL = 1024;
+
+    private final int sampleMask;
+    private final int reorderInterval;
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray rejections;
+    private final AtomicLongArray nanos;
+    private final AtomicLong samples = new AtomicLong();
+    private volatile Plan<T> plan;
+
+    AdaptiveEqualsImpl(
+            Class<T> targetClass,
+            List<? extends ComparisonStep<T>> comparisonSteps,
+            ClassMatcher<T> classMatcher,
+            int[] initialOrder,
+            int sampleInterval,
+            int reorderInterval
+    ) {
+        super(targetClass, classMatcher, comparisonSteps);
+        if (Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("sampleInterval must be a power of two");
+        }
+        this.sampleMask = sampleInterval - 1;
+        this.reorderInterval = reorderInterval;
+        this.evaluations = new AtomicLongArray(comparisonSteps.size());
+        this.rejections = new AtomicLongArray(comparisonSteps.size());
+        this.nanos = new AtomicLongArray(comparisonSteps.size());
+        this.plan = new Plan<>(getComparisonSteps(), initialOrder);
+    }
+
+    @Override
+    boolean isEqual(T object, T otherObject) {
+        Plan<T> plan = this.plan;
+        ComparisonStep<T>[] steps = plan.steps;
+        if (steps.length == 0) {
+            return false;
+        }
+
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) == 0) {
+            return sample(plan, object, otherObject);
+        }
+
+        for (ComparisonStep<T> step : steps) {
+            if (!step.isEqual(object, otherObject)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates all steps up to the first barrier that is reached by a pair that has already been rejected, such that
+     * the statistics of a step do not depend on its current position. Steps after a barrier may rely on it, for
+     * example on a {@code null} check, so they are not evaluated unless the barrier has been passed.
+     */
+    private boolean sample(Plan<T> plan, T object, T otherObject) {
+        boolean equal = true;
+        for (int i = 0; i < plan.steps.length; i++) {
+            if (!equal && plan.barriers[i]) {
+                break;
+            }
+            int index = plan.order[i];
+            long start = System.nanoTime();
+            boolean stepEqual = plan.steps[i].isEqual(object, otherObject);
+            nanos.addAndGet(index, System.nanoTime() - start);
+            evaluations.incrementAndGet(index);
+            if (!stepEqual) {
+                rejections.incrementAndGet(index);
+                equal = false;
+                if (plan.barriers[i]) {
+                    break;
+                }
+            }
+        }
+        if (samples.incrementAndGet() % reorderInterval == 0) {
+            reorder();
+        }
+        return equal;
+    }
+
+    private void reorder() {
+        Plan<T> currentPlan = plan;
+        int[] order = ComparisonStepPlanner.reorder(
+                getComparisonSteps(),
+                currentPlan.order,
+                this::getExpectedCostPerRejection
+        );
+        if (!Arrays.equals(order, currentPlan.order)) {
+            plan = new Plan<>(getComparisonSteps(), order);
+        }
+    }
+
+    double getExpectedCostPerRejection(int index) {
+        long rejections = this.rejections.get(index);
+        if (rejections == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double rejectionRate = (double) rejections / evaluations.get(index);
+        double averageNanos = Math.max(1.0, (double) nanos.get(index) / evaluations.get(index));
+        return averageNanos / rejectionRate;
+    }
+
+    @Override
+    public List<Integer> getComparisonOrder() {
+        int[] order = plan.order;
+        List<Integer> comparisonOrder = new ArrayList<>(order.length);
+        for (int index : order) {
+            comparisonOrder.add(index);
+        }
+        return Collections.unmodifiableList(comparisonOrder);
+    }
+
+    private static final class Plan<T> {
+
+        final ComparisonStep<T>[] steps;
+        final boolean[] barriers;
+        final int[] order;
+
+        @SuppressWarnings("unchecked")
+        Plan(List<ComparisonStep<T>> comparisonSteps, int[] order) {
+            this.steps = (ComparisonStep<T>[]) new ComparisonStep<?>[order.length];
+            this.barriers = new boolean[order.length];
+            this.order = order;
+            for (int i = 0; i < order.length; i++) {
+                steps[i] = comparisonSteps.get(order[i]);
+                barriers[i] = ComparisonStepPlanner.estimateCost(steps[i]) == ComparisonStepPlanner.UNKNOWN_COST;
+            }
+        }
+
+    }
+
+}
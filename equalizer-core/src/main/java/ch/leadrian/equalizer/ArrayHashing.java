@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Arrays;
+
+/**
+ * Computes the same hash codes as {@link Arrays#hashCode(int[])} and its overloads for the other primitive array types.
+ * <p>
+ * The polynomial {@code 31 * result + element} is evaluated eight elements at a time, using precomputed powers of 31.
+ * This breaks the dependency of every multiplication on the previous one, such that the CPU can compute several
+ * products in parallel. Since integer arithmetic wraps around, the result is bit-identical to the sequential loop.
+ * <p>
+ * On Java 21 and later, {@link Arrays#hashCode(int[])} is intrinsified for {@code byte}, {@code short}, {@code char}
+ * and {@code int} arrays using vector instructions, so it is used directly for these types.
+ */
+final class ArrayHashing {
+
+    private static final boolean INTRINSIFIED = getJavaVersion() >= 21;
+
+    private static final int P1 = 31;
+    private static final int P2 = P1 * 31;
+    private static final int P3 = P2 * 31;
+    private static final int P4 = P3 * 31;
+    private static final int P5 = P4 * 31;
+    private static final int P6 = P5 * 31;
+    private static final int P7 = P6 * 31;
+    private static final int P8 = P7 * 31;
+
+    private ArrayHashing() {
+    }
+
+    static int hashCode(byte[] array) {
+        if (array == null) {
+            return 0;
+        }
+        if (INTRINSIFIED) {
+            return Arrays.hashCode(array);
+        }
+
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * array[i]
+                    + P6 * array[i + 1]
+                    + P5 * array[i + 2]
+                    + P4 * array[i + 3]
+                    + P3 * array[i + 4]
+                    + P2 * array[i + 5]
+                    + P1 * array[i + 6]
+                    + array[i + 7];
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static int hashCode(short[] array) {
+        if (array == null) {
+            return 0;
+        }
+        if (INTRINSIFIED) {
+            return Arrays.hashCode(array);
+        }
+
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * array[i]
+                    + P6 * array[i + 1]
+                    + P5 * array[i + 2]
+                    + P4 * array[i + 3]
+                    + P3 * array[i + 4]
+                    + P2 * array[i + 5]
+                    + P1 * array[i + 6]
+                    + array[i + 7];
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static int hashCode(char[] array) {
+        if (array == null) {
+            return 0;
+        }
+        if (INTRINSIFIED) {
+            return Arrays.hashCode(array);
+        }
+
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * array[i]
+                    + P6 * array[i + 1]
+                    + P5 * array[i + 2]
+                    + P4 * array[i + 3]
+                    + P3 * array[i + 4]
+                    + P2 * array[i + 5]
+                    + P1 * array[i + 6]
+                    + array[i + 7];
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static int hashCode(int[] array) {
+        if (array == null) {
+            return 0;
+        }
+        if (INTRINSIFIED) {
+            return Arrays.hashCode(array);
+        }
+
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * array[i]
+                    + P6 * array[i + 1]
+                    + P5 * array[i + 2]
+                    + P4 * array[i + 3]
+                    + P3 * array[i + 4]
+                    + P2 * array[i + 5]
+                    + P1 * array[i + 6]
+                    + array[i + 7];
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static int hashCode(long[] array) {
+        if (array == null) {
+            return 0;
+        }
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * Long.hashCode(array[i])
+                    + P6 * Long.hashCode(array[i + 1])
+                    + P5 * Long.hashCode(array[i + 2])
+                    + P4 * Long.hashCode(array[i + 3])
+                    + P3 * Long.hashCode(array[i + 4])
+                    + P2 * Long.hashCode(array[i + 5])
+                    + P1 * Long.hashCode(array[i + 6])
+                    + Long.hashCode(array[i + 7]);
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    static int hashCode(float[] array) {
+        if (array == null) {
+            return 0;
+        }
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * Float.hashCode(array[i])
+                    + P6 * Float.hashCode(array[i + 1])
+                    + P5 * Float.hashCode(array[i + 2])
+                    + P4 * Float.hashCode(array[i + 3])
+                    + P3 * Float.hashCode(array[i + 4])
+                    + P2 * Float.hashCode(array[i + 5])
+                    + P1 * Float.hashCode(array[i + 6])
+                    + Float.hashCode(array[i + 7]);
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + Float.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    static int hashCode(double[] array) {
+        if (array == null) {
+            return 0;
+        }
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * Double.hashCode(array[i])
+                    + P6 * Double.hashCode(array[i + 1])
+                    + P5 * Double.hashCode(array[i + 2])
+                    + P4 * Double.hashCode(array[i + 3])
+                    + P3 * Double.hashCode(array[i + 4])
+                    + P2 * Double.hashCode(array[i + 5])
+                    + P1 * Double.hashCode(array[i + 6])
+                    + Double.hashCode(array[i + 7]);
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + Double.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    static int hashCode(boolean[] array) {
+        if (array == null) {
+            return 0;
+        }
+        int result = 1;
+        int i = 0;
+        for (int end = array.length - 7; i < end; i += 8) {
+            result = P8 * result
+                    + P7 * Boolean.hashCode(array[i])
+                    + P6 * Boolean.hashCode(array[i + 1])
+                    + P5 * Boolean.hashCode(array[i + 2])
+                    + P4 * Boolean.hashCode(array[i + 3])
+                    + P3 * Boolean.hashCode(array[i + 4])
+                    + P2 * Boolean.hashCode(array[i + 5])
+                    + P1 * Boolean.hashCode(array[i + 6])
+                    + Boolean.hashCode(array[i + 7]);
+        }
+        for (; i < array.length; i++) {
+            result = 31 * result + Boolean.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    private static int getJavaVersion() {
+        String version = System.getProperty("java.specification.version", "1.8");
+        try {
+            return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+        } catch (NumberFormatException e) {
+            return 8;
+        }
+    }
+
+}
@@ -26,6 +26,10 @@ final class BooleanComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    Predicate<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.test(object1) == valueExtractor.test(object2);
@@ -26,6 +26,10 @@ final class BooleanHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    Predicate<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Boolean.hashCode(valueExtractor.test(object));
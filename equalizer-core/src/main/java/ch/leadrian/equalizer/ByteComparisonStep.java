@@ -26,6 +26,10 @@ final class ByteComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToByteFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.applyAsByte(object1) == valueExtractor.applyAsByte(object2);
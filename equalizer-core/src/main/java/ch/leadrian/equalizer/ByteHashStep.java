@@ -26,6 +26,10 @@ final class ByteHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToByteFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Byte.hashCode(valueExtractor.applyAsByte(object));
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link HashCode} that caches the hash code computed by another {@link HashCode} in fields of the instance of
+ * {@code T}, using the racy single-check idiom of {@link String#hashCode()}.
+ */
+final class CachedHashCode<T> implements HashCode<T> {
+
+    private final HashCode<T> delegate;
+    private final ToIntFunction<? super T> hashGetter;
+    private final ObjIntConsumer<? super T> hashSetter;
+    private final Predicate<? super T> hashIsZeroGetter;
+    private final Consumer<? super T> hashIsZeroSetter;
+
+    CachedHashCode(
+            HashCode<T> delegate,
+            ToIntFunction<? super T> hashGetter,
+            ObjIntConsumer<? super T> hashSetter,
+            Predicate<? super T> hashIsZeroGetter,
+            Consumer<? super T> hashIsZeroSetter
+    ) {
+        this.delegate = delegate;
+        this.hashGetter = hashGetter;
+        this.hashSetter = hashSetter;
+        this.hashIsZeroGetter = hashIsZeroGetter;
+        this.hashIsZeroSetter = hashIsZeroSetter;
+    }
+
+    HashCode<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public int hashCode(T object) {
+        if (object == null) {
+            return 0;
+        }
+
+        // Read the field only once, it may be written concurrently
+        int hash = hashGetter.applyAsInt(object);
+        if (hash == 0 && !hashIsZeroGetter.test(object)) {
+            hash = delegate.hashCode(object);
+            if (hash == 0) {
+                hashIsZeroSetter.accept(object);
+            } else {
+                hashSetter.accept(object, hash);
+            }
+        }
+        return hash;
+    }
+}
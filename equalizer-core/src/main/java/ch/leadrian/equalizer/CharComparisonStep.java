@@ -26,6 +26,10 @@ final class CharComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToCharFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.applyAsChar(object1) == valueExtractor.applyAsChar(object2);
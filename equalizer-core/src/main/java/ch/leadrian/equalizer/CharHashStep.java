@@ -26,6 +26,10 @@ final class CharHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToCharFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Character.hashCode(valueExtractor.applyAsChar(object));
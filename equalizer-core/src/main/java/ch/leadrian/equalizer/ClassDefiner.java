@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Defines generated classes in the package {@code ch.leadrian.equalizer}.
+ * <p>
+ * On Java 15 and later, hidden classes are used, which may be unloaded once they are no longer reachable. On Java 9 to
+ * 14, {@code Lookup.defineClass} is used. Java 8 does not provide any supported API to define classes in the package
+ * of an existing class, so no classes are defined.
+ * <p>
+ * On Java 16 and later, hidden classes may additionally be defined with class data, which the class reads using
+ * {@code MethodHandles.classDataAt} when it is initialized.
+ */
+final class ClassDefiner {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Method DEFINE_HIDDEN_CLASS;
+    private static final Method DEFINE_HIDDEN_CLASS_WITH_CLASS_DATA;
+    private static final Object NO_CLASS_OPTIONS;
+    private static final Method DEFINE_CLASS;
+
+    static {
+        Method defineHiddenClass = null;
+        Method defineHiddenClassWithClassData = null;
+        Object noClassOptions = null;
+        Method defineClass = null;
+        try {
+            Class<?> classOptionClass = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            noClassOptions = Array.newInstance(classOptionClass, 0);
+            defineHiddenClass = MethodHandles.Lookup.class.getMethod(
+                    "defineHiddenClass",
+                    byte[].class,
+                    boolean.class,
+                    noClassOptions.getClass()
+            );
+            try {
+                defineHiddenClassWithClassData = MethodHandles.Lookup.class.getMethod(
+                        "defineHiddenClassWithClassData",
+                        byte[].class,
+                        Object.class,
+                        boolean.class,
+                        noClassOptions.getClass()
+                );
+            } catch (ReflectiveOperationException ignored) {
+                // Java 15
+            }
+        } catch (ReflectiveOperationException e) {
+            try {
+                defineClass = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+            } catch (ReflectiveOperationException ignored) {
+                // Java 8
+            }
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        DEFINE_HIDDEN_CLASS_WITH_CLASS_DATA = defineHiddenClassWithClassData;
+        NO_CLASS_OPTIONS = noClassOptions;
+        DEFINE_CLASS = defineClass;
+    }
+
+    private ClassDefiner() {
+    }
+
+    static boolean isSupported() {
+        return DEFINE_HIDDEN_CLASS != null || DEFINE_CLASS != null;
+    }
+
+    /**
+     * @return whether classes can be defined with class data, which implies that they are hidden classes
+     */
+    static boolean supportsClassData() {
+        return DEFINE_HIDDEN_CLASS_WITH_CLASS_DATA != null;
+    }
+
+    /**
+     * @param bytes class file of a class in the package {@code ch.leadrian.equalizer}
+     * @return the defined class, or an empty {@link Optional} if the class could not be defined
+     */
+    static Optional<Class<?>> defineClass(byte[] bytes) {
+        return defineClass(bytes, null);
+    }
+
+    /**
+     * @param bytes     class file of a class in the package {@code ch.leadrian.equalizer}
+     * @param classData the class data, or {@code null} if the class does not read any class data
+     * @return the defined class, or an empty {@link Optional} if the class could not be defined
+     */
+    static Optional<Class<?>> defineClass(byte[] bytes, Object classData) {
+        try {
+            if (classData != null) {
+                if (DEFINE_HIDDEN_CLASS_WITH_CLASS_DATA == null) {
+                    return Optional.empty();
+                }
+                MethodHandles.Lookup hiddenClassLookup = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS_WITH_CLASS_DATA.invoke(LOOKUP, bytes, classData, true, NO_CLASS_OPTIONS);
+                return Optional.of(hiddenClassLookup.lookupClass());
+            } else if (DEFINE_HIDDEN_CLASS != null) {
+                MethodHandles.Lookup hiddenClassLookup = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(LOOKUP, bytes, true, NO_CLASS_OPTIONS);
+                return Optional.of(hiddenClassLookup.lookupClass());
+            } else if (DEFINE_CLASS != null) {
+                return Optional.of((Class<?>) DEFINE_CLASS.invoke(LOOKUP, (Object) bytes));
+            } else {
+                return Optional.empty();
+            }
+        } catch (IllegalAccessException | InvocationTargetException | LinkageError | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file writer supporting exactly what is needed to generate {@link Equals} and {@link HashCode}
+ * implementations at runtime.
+ * <p>
+ * Class files are written using class file version 49 (Java 5). Therefore, no stack map frames need to be computed,
+ * since the JVM verifies such classes using type inference.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int MAJOR_VERSION = 49;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+    private final Map<String, Integer> constantPoolIndices = new HashMap<>();
+    private int constantPoolCount = 1;
+
+    private final ByteArrayOutputStream fieldsBytes = new ByteArrayOutputStream();
+    private final DataOutputStream fields = new DataOutputStream(fieldsBytes);
+    private int fieldsCount;
+
+    private final ByteArrayOutputStream methodsBytes = new ByteArrayOutputStream();
+    private final DataOutputStream methods = new DataOutputStream(methodsBytes);
+    private int methodsCount;
+
+    private final int accessFlags;
+    private final int thisClass;
+    private final int superClass;
+
+    /**
+     * @param accessFlags    access flags of the class
+     * @param className      internal name of the class, for example {@code ch/leadrian/equalizer/Foo}
+     * @param superClassName internal name of the super class
+     */
+    ClassFileWriter(int accessFlags, String className, String superClassName) {
+        this.accessFlags = accessFlags;
+        this.thisClass = classConstant(className);
+        this.superClass = classConstant(superClassName);
+    }
+
+    void addField(int accessFlags, String name, String descriptor) {
+        try {
+            fields.writeShort(accessFlags);
+            fields.writeShort(utf8Constant(name));
+            fields.writeShort(utf8Constant(descriptor));
+            fields.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        fieldsCount++;
+    }
+
+    void addMethod(int accessFlags, String name, String descriptor, Code code) {
+        byte[] bytecode = code.toByteArray();
+        try {
+            methods.writeShort(accessFlags);
+            methods.writeShort(utf8Constant(name));
+            methods.writeShort(utf8Constant(descriptor));
+            methods.writeShort(1);
+            methods.writeShort(utf8Constant("Code"));
+            methods.writeInt(12 + bytecode.length);
+            methods.writeShort(code.maxStack);
+            methods.writeShort(code.maxLocals);
+            methods.writeInt(bytecode.length);
+            methods.write(bytecode);
+            methods.writeShort(0);
+            methods.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        methodsCount++;
+    }
+
+    /**
+     * @param maxStack  maximum depth of the operand stack
+     * @param maxLocals number of local variable slots, including {@code this} and the parameters
+     * @return a new, empty method body
+     */
+    Code newCode(int maxStack, int maxLocals) {
+        return new Code(maxStack, maxLocals);
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeShort(0);
+            output.writeShort(MAJOR_VERSION);
+            output.writeShort(constantPoolCount);
+            output.write(constantPoolBytes.toByteArray());
+            output.writeShort(accessFlags);
+            output.writeShort(thisClass);
+            output.writeShort(superClass);
+            output.writeShort(0);
+            output.writeShort(fieldsCount);
+            output.write(fieldsBytes.toByteArray());
+            output.writeShort(methodsCount);
+            output.write(methodsBytes.toByteArray());
+            output.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private int utf8Constant(String value) {
+        return constant("Utf8:" + value, output -> {
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(value);
+        });
+    }
+
+    private int integerConstant(int value) {
+        return constant("Integer:" + value, output -> {
+            output.writeByte(CONSTANT_INTEGER);
+            output.writeInt(value);
+        });
+    }
+
+    private int stringConstant(String value) {
+        int utf8Index = utf8Constant(value);
+        return constant("String:" + value, output -> {
+            output.writeByte(CONSTANT_STRING);
+            output.writeShort(utf8Index);
+        });
+    }
+
+    private int classConstant(String internalName) {
+        int nameIndex = utf8Constant(internalName);
+        return constant("Class:" + internalName, output -> {
+            output.writeByte(CONSTANT_CLASS);
+            output.writeShort(nameIndex);
+        });
+    }
+
+    private int nameAndTypeConstant(String name, String descriptor) {
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+        return constant("NameAndType:" + name + ":" + descriptor, output -> {
+            output.writeByte(CONSTANT_NAME_AND_TYPE);
+            output.writeShort(nameIndex);
+            output.writeShort(descriptorIndex);
+        });
+    }
+
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+        int classIndex = classConstant(owner);
+        int nameAndTypeIndex = nameAndTypeConstant(name, descriptor);
+        return constant("Member" + tag + ":" + owner + "." + name + ":" + descriptor, output -> {
+            output.writeByte(tag);
+            output.writeShort(classIndex);
+            output.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    private int constant(String key, ConstantWriter writer) {
+        Integer index = constantPoolIndices.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            writer.write(constantPool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int newIndex = constantPoolCount++;
+        if (newIndex > 0xFFFF) {
+            throw new IllegalStateException("Too many constants");
+        }
+        constantPoolIndices.put(key, newIndex);
+        return newIndex;
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+
+        void write(DataOutputStream output) throws IOException;
+
+    }
+
+    /**
+     * A jump target within a {@link Code} instance.
+     */
+    static final class Label {
+
+        private final List<int[]> pendingJumps = new ArrayList<>();
+        private int position = -1;
+
+    }
+
+    /**
+     * The bytecode of a single method.
+     */
+    final class Code {
+
+        private static final int ALOAD = 0x19;
+        private static final int ILOAD = 0x15;
+        private static final int ISTORE = 0x36;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int LDC_W = 0x13;
+        private static final int ICONST_0 = 0x03;
+        private static final int AALOAD = 0x32;
+        private static final int IADD = 0x60;
+        private static final int IMUL = 0x68;
+        private static final int LCMP = 0x94;
+        private static final int IFEQ = 0x99;
+        private static final int IFNE = 0x9A;
+        private static final int IF_ICMPNE = 0xA0;
+        private static final int IF_ACMPNE = 0xA6;
+        private static final int GOTO = 0xA7;
+        private static final int IRETURN = 0xAC;
+        private static final int RETURN = 0xB1;
+        private static final int GETSTATIC = 0xB2;
+        private static final int PUTSTATIC = 0xB3;
+        private static final int GETFIELD = 0xB4;
+        private static final int PUTFIELD = 0xB5;
+        private static final int INVOKEVIRTUAL = 0xB6;
+        private static final int INVOKESPECIAL = 0xB7;
+        private static final int INVOKESTATIC = 0xB8;
+        private static final int INVOKEINTERFACE = 0xB9;
+        private static final int CHECKCAST = 0xC0;
+
+        private final ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+        private final List<Label> labels = new ArrayList<>();
+        private final int maxStack;
+        private final int maxLocals;
+
+        private Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        Code aload(int index) {
+            return localVariableInstruction(ALOAD, index);
+        }
+
+        Code iload(int index) {
+            return localVariableInstruction(ILOAD, index);
+        }
+
+        Code istore(int index) {
+            return localVariableInstruction(ISTORE, index);
+        }
+
+        Code pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                return instruction(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                instruction(BIPUSH);
+                return u1(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                instruction(SIPUSH);
+                return u2(value);
+            } else {
+                instruction(LDC_W);
+                return u2(integerConstant(value));
+            }
+        }
+
+        Code ldc(String value) {
+            instruction(LDC_W);
+            return u2(stringConstant(value));
+        }
+
+        Code ldcClass(String internalName) {
+            instruction(LDC_W);
+            return u2(classConstant(internalName));
+        }
+
+        Code aaload() {
+            return instruction(AALOAD);
+        }
+
+        Code iadd() {
+            return instruction(IADD);
+        }
+
+        Code imul() {
+            return instruction(IMUL);
+        }
+
+        Code lcmp() {
+            return instruction(LCMP);
+        }
+
+        Code ireturn() {
+            return instruction(IRETURN);
+        }
+
+        Code returnVoid() {
+            return instruction(RETURN);
+        }
+
+        Code checkcast(String internalName) {
+            instruction(CHECKCAST);
+            return u2(classConstant(internalName));
+        }
+
+        Code getstatic(String owner, String name, String descriptor) {
+            instruction(GETSTATIC);
+            return u2(memberConstant(CONSTANT_FIELD_REF, owner, name, descriptor));
+        }
+
+        Code putstatic(String owner, String name, String descriptor) {
+            instruction(PUTSTATIC);
+            return u2(memberConstant(CONSTANT_FIELD_REF, owner, name, descriptor));
+        }
+
+        Code getfield(String owner, String name, String descriptor) {
+            instruction(GETFIELD);
+            return u2(memberConstant(CONSTANT_FIELD_REF, owner, name, descriptor));
+        }
+
+        Code putfield(String owner, String name, String descriptor) {
+            instruction(PUTFIELD);
+            return u2(memberConstant(CONSTANT_FIELD_REF, owner, name, descriptor));
+        }
+
+        Code invokevirtual(String owner, String name, String descriptor) {
+            instruction(INVOKEVIRTUAL);
+            return u2(memberConstant(CONSTANT_METHOD_REF, owner, name, descriptor));
+        }
+
+        Code invokespecial(String owner, String name, String descriptor) {
+            instruction(INVOKESPECIAL);
+            return u2(memberConstant(CONSTANT_METHOD_REF, owner, name, descriptor));
+        }
+
+        Code invokestatic(String owner, String name, String descriptor) {
+            instruction(INVOKESTATIC);
+            return u2(memberConstant(CONSTANT_METHOD_REF, owner, name, descriptor));
+        }
+
+        /**
+         * @param argumentSlots number of local variable slots used by the arguments, including the receiver
+         */
+        Code invokeinterface(String owner, String name, String descriptor, int argumentSlots) {
+            instruction(INVOKEINTERFACE);
+            u2(memberConstant(CONSTANT_INTERFACE_METHOD_REF, owner, name, descriptor));
+            u1(argumentSlots);
+            return u1(0);
+        }
+
+        Code ifeq(Label label) {
+            return jump(IFEQ, label);
+        }
+
+        Code ifne(Label label) {
+            return jump(IFNE, label);
+        }
+
+        Code ifIcmpne(Label label) {
+            return jump(IF_ICMPNE, label);
+        }
+
+        Code ifAcmpne(Label label) {
+            return jump(IF_ACMPNE, label);
+        }
+
+        Code goTo(Label label) {
+            return jump(GOTO, label);
+        }
+
+        Code mark(Label label) {
+            if (label.position != -1) {
+                throw new IllegalStateException("Label has already been marked");
+            }
+            label.position = bytecode.size();
+            return this;
+        }
+
+        private Code jump(int opcode, Label label) {
+            int instructionPosition = bytecode.size();
+            instruction(opcode);
+            label.pendingJumps.add(new int[]{instructionPosition, bytecode.size()});
+            if (!labels.contains(label)) {
+                labels.add(label);
+            }
+            return u2(0);
+        }
+
+        private Code localVariableInstruction(int opcode, int index) {
+            if (index > 0xFF) {
+                throw new IllegalArgumentException("Local variable index out of range: " + index);
+            }
+            instruction(opcode);
+            return u1(index);
+        }
+
+        private Code instruction(int opcode) {
+            bytecode.write(opcode);
+            return this;
+        }
+
+        private Code u1(int value) {
+            bytecode.write(value);
+            return this;
+        }
+
+        private Code u2(int value) {
+            bytecode.write(value >>> 8);
+            bytecode.write(value);
+            return this;
+        }
+
+        private byte[] toByteArray() {
+            byte[] bytes = bytecode.toByteArray();
+            if (bytes.length > 0xFFFF) {
+                throw new IllegalStateException("Method is too large");
+            }
+            for (Label label : labels) {
+                if (label.position == -1) {
+                    throw new IllegalStateException("Label has not been marked");
+                }
+                for (int[] jump : label.pendingJumps) {
+                    int offset = label.position - jump[0];
+                    if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                        throw new IllegalStateException("Jump offset out of range: " + offset);
+                    }
+                    bytes[jump[1]] = (byte) (offset >>> 8);
+                    bytes[jump[1] + 1] = (byte) offset;
+                }
+            }
+            return bytes;
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package ch.leadrian.equalizer;
 
+import java.lang.reflect.Modifier;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -131,4 +133,50 @@ public final class ClassMatchers {
         }
     }
 
+    /**
+     * Determines whether {@code classMatcher} is guaranteed to match any pair of non-null elements taken from arrays
+     * with the component types {@code componentType} and {@code otherComponentType}. Custom class matchers are never
+     * considered to match all elements.
+     */
+    static boolean matchesAll(ClassMatcher<?> classMatcher, Class<?> componentType, Class<?> otherComponentType) {
+        if (classMatcher instanceof InstanceOf) {
+            return ((InstanceOf<?>) classMatcher).targetClass.isAssignableFrom(otherComponentType);
+        } else if (classMatcher instanceof SameClass) {
+            // Elements of an array of a final class are all direct instances of that class
+            return componentType == otherComponentType && Modifier.isFinal(componentType.getModifiers());
+        } else if (classMatcher instanceof ExactClass) {
+            Class<?> targetClass = ((ExactClass<?>) classMatcher).targetClass;
+            return componentType == targetClass
+                    && otherComponentType == targetClass
+                    && Modifier.isFinal(targetClass.getModifiers());
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether {@code classMatcher} is guaranteed to match any pair of non-null values of its type {@code T}
+     * or any subtype of it. Only {@link #instanceOf(Class)} guarantees this.
+     */
+    static boolean matchesAllSubtypes(ClassMatcher<?> classMatcher) {
+        return classMatcher instanceof InstanceOf;
+    }
+
+    /**
+     * Determines whether {@code impliedClassMatcher} is guaranteed to match two values whenever {@code classMatcher}
+     * matches them, given that {@code classMatcher} is used for a subtype of the type of {@code impliedClassMatcher}.
+     * Custom class matchers are never considered to imply each other.
+     */
+    static boolean implies(ClassMatcher<?> classMatcher, ClassMatcher<?> impliedClassMatcher) {
+        if (impliedClassMatcher instanceof InstanceOf) {
+            // Any class matcher guarantees that the other value is an instance of the subtype
+            return true;
+        } else if (impliedClassMatcher instanceof SameClass) {
+            return classMatcher instanceof SameClass || classMatcher instanceof ExactClass;
+        } else if (impliedClassMatcher instanceof ExactClass) {
+            return classMatcher instanceof ExactClass
+                    && ((ExactClass<?>) classMatcher).targetClass == ((ExactClass<?>) impliedClassMatcher).targetClass;
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Reorders comparison steps by their estimated cost, such that unequal values are rejected by cheap comparisons before
+ * expensive ones are evaluated.
+ * <p>
+ * Steps are ranked as follows: primitives, identity, shallow and finally deep and array comparisons. Steps of unknown
+ * cost, such as those added by {@link EqualsBuilder#equalIf} and {@link EqualsBuilder#withSuper}, stay at their
+ * position and are never passed by any other step. Steps of the same cost keep their declaration order.
+ * <p>
+ * The same constraints apply when steps are reordered by a different rank, for example by {@link AdaptiveEqualsImpl}.
+ *
+ * @see EqualsBuilder#optimizeOrder()
+ */
+final class ComparisonStepPlanner {
+
+    static final int PRIMITIVE_COST = 0;
+    static final int IDENTITY_COST = 1;
+    static final int SHALLOW_COST = 2;
+    static final int DEEP_COST = 3;
+    static final int UNKNOWN_COST = -1;
+
+    private ComparisonStepPlanner() {
+    }
+
+    static <T> List<ComparisonStep<T>> optimizeOrder(List<ComparisonStep<T>> comparisonSteps) {
+        int[] order = optimizeOrder(comparisonSteps, identityOrder(comparisonSteps.size()));
+        List<ComparisonStep<T>> orderedComparisonSteps = new ArrayList<>(order.length);
+        for (int index : order) {
+            orderedComparisonSteps.add(comparisonSteps.get(index));
+        }
+        return orderedComparisonSteps;
+    }
+
+    /**
+     * @param comparisonSteps the comparison steps in declaration order
+     * @param order           the indices of {@code comparisonSteps} in their current order
+     * @return the indices of {@code comparisonSteps} ordered by cost
+     */
+    static int[] optimizeOrder(List<? extends ComparisonStep<?>> comparisonSteps, int[] order) {
+        return reorder(comparisonSteps, order, index -> estimateCost(comparisonSteps.get(index)));
+    }
+
+    /**
+     * Sorts the indices in {@code order} by {@code rank} in ascending order. Steps of unknown cost are not moved and
+     * separate the indices into segments that are sorted independently.
+     */
+    static int[] reorder(List<? extends ComparisonStep<?>> comparisonSteps, int[] order, IntToDoubleFunction rank) {
+        int[] reorderedOrder = new int[order.length];
+        List<Integer> segment = new ArrayList<>();
+        int position = 0;
+        for (int index : order) {
+            if (estimateCost(comparisonSteps.get(index)) == UNKNOWN_COST) {
+                position = addSorted(reorderedOrder, position, segment, rank);
+                reorderedOrder[position++] = index;
+            } else {
+                segment.add(index);
+            }
+        }
+        addSorted(reorderedOrder, position, segment, rank);
+        return reorderedOrder;
+    }
+
+    private static int addSorted(int[] order, int position, List<Integer> segment, IntToDoubleFunction rank) {
+        // List.sort is stable, so steps of equal rank keep their current order
+        segment.sort(Comparator.comparingDouble(rank::applyAsDouble));
+        for (int index : segment) {
+            order[position++] = index;
+        }
+        segment.clear();
+        return position;
+    }
+
+    static int[] identityOrder(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    static int estimateCost(ComparisonStep<?> step) {
+        if (step instanceof BooleanComparisonStep
+                || step instanceof ByteComparisonStep
+                || step instanceof ShortComparisonStep
+                || step instanceof CharComparisonStep
+                || step instanceof IntComparisonStep
+                || step instanceof LongComparisonStep
+                || step instanceof FloatComparisonStep
+                || step instanceof DoubleComparisonStep) {
+            return PRIMITIVE_COST;
+        } else if (step instanceof IdentityComparisonStep) {
+            return IDENTITY_COST;
+        } else if (step instanceof ShallowComparisonStep
+                || step instanceof HashGuardedComparisonStep
+                || step instanceof NestedComparisonStep) {
+            return SHALLOW_COST;
+        } else if (step instanceof DeepComparisonStep
+                || step instanceof ParallelDeepComparisonStep
+                || step instanceof ByteArrayComparisonStep
+                || step instanceof ShortArrayComparisonStep
+                || step instanceof CharArrayComparisonStep
+                || step instanceof IntArrayComparisonStep
+                || step instanceof LongArrayComparisonStep
+                || step instanceof FloatArrayComparisonStep
+                || step instanceof DoubleArrayComparisonStep
+                || step instanceof BooleanArrayComparisonStep
+                || step instanceof ListComparisonStep
+                || step instanceof SetComparisonStep
+                || step instanceof MapComparisonStep
+                || step instanceof UnorderedComparisonStep) {
+            return DEEP_COST;
+        } else {
+            return UNKNOWN_COST;
+        }
+    }
+
+}
@@ -28,24 +28,28 @@ final class DeepHashStep<T> extends ValueExtractingHashStep<T> {
 
     @Override
     int hashValue(Object value) {
+        return deepHashCode(value);
+    }
+
+    static int deepHashCode(Object value) {
         if (value instanceof Object[]) {
             return Arrays.deepHashCode((Object[]) value);
         } else if (value instanceof byte[]) {
-            return Arrays.hashCode((byte[]) value);
+            return ArrayHashing.hashCode((byte[]) value);
         } else if (value instanceof short[]) {
-            return Arrays.hashCode((short[]) value);
+            return ArrayHashing.hashCode((short[]) value);
         } else if (value instanceof int[]) {
-            return Arrays.hashCode((int[]) value);
+            return ArrayHashing.hashCode((int[]) value);
         } else if (value instanceof long[]) {
-            return Arrays.hashCode((long[]) value);
+            return ArrayHashing.hashCode((long[]) value);
         } else if (value instanceof char[]) {
-            return Arrays.hashCode((char[]) value);
+            return ArrayHashing.hashCode((char[]) value);
         } else if (value instanceof float[]) {
-            return Arrays.hashCode((float[]) value);
+            return ArrayHashing.hashCode((float[]) value);
         } else if (value instanceof double[]) {
-            return Arrays.hashCode((double[]) value);
+            return ArrayHashing.hashCode((double[]) value);
         } else if (value instanceof boolean[]) {
-            return Arrays.hashCode((boolean[]) value);
+            return ArrayHashing.hashCode((boolean[]) value);
         } else {
             return Objects.hashCode(value);
         }
@@ -26,6 +26,10 @@ final class DelegatingComparisonStep<T> implements ComparisonStep<T> {
         this.delegate = delegate;
     }
 
+    BiPredicate<? super T, ? super T> getDelegate() {
+        return delegate;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return delegate.test(object1, object2);
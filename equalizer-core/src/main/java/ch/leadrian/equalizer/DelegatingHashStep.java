@@ -26,6 +26,10 @@ final class DelegatingHashStep<T> implements HashStep<T> {
         this.delegate = delegate;
     }
 
+    ToIntFunction<? super T> getDelegate() {
+        return delegate;
+    }
+
     @Override
     public int hash(T object) {
         return delegate.applyAsInt(object);
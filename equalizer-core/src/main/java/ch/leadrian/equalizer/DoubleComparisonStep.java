@@ -28,6 +28,10 @@ final class DoubleComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToDoubleFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         double value1 = valueExtractor.applyAsDouble(object1);
@@ -26,6 +26,10 @@ final class DoubleHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToDoubleFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Double.hashCode(valueExtractor.applyAsDouble(object));
@@ -16,6 +16,11 @@
 
 package ch.leadrian.equalizer;
 
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
 /**
  * Class containing factory methods for builders.
  *
@@ -54,4 +59,62 @@ public final class Equalizer {
     public static <T> EqualsAndHashCodeBuilder<T> equalsAndHashCodeBuilder(Class<T> targetClass) {
         return new EqualsAndHashCodeImpl.Builder<>(targetClass);
     }
+
+    /**
+     * <p>
+     * Creates an {@link EqualsAndHashCode} comparing and hashing the given fields of {@code targetClass}, without
+     * requiring a lambda per field. The fields are read using {@link java.lang.invoke.MethodHandle} getters.
+     * </p>
+     * <p>
+     * The comparison and hash steps are chosen based on the field types: primitive fields are compared and hashed like
+     * {@link EqualsAndHashCodeBuilder#compareAndHashPrimitive}, arrays like
+     * {@link EqualsAndHashCodeBuilder#compareAndHashDeep(Function)} and all other fields like
+     * {@link EqualsAndHashCodeBuilder#compareAndHash(Function)}. Fields may be declared by {@code targetClass} or any of
+     * its superclasses.
+     * </p>
+     * <p>
+     * If no field names are given, all non-static, non-transient fields declared by {@code targetClass} are used, in
+     * the order returned by {@link Class#getDeclaredFields()}.
+     * </p>
+     * <p>
+     * Results are cached per class and field names, so repeated invocations return the same instance as long as the
+     * previous instance is still referenced. The cache does not prevent {@code targetClass} from being unloaded.
+     * </p>
+     *
+     * @param targetClass The class for which {@link EqualsAndHashCode} should be used to
+     *                    implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+     * @param fieldNames  names of the fields to compare and hash, in order
+     * @param <T>         Type of {@code targetClass}
+     * @return {@link EqualsAndHashCode} for class {@code targetClass}
+     * @throws IllegalArgumentException if a field does not exist, is static or cannot be accessed
+     */
+    public static <T> EqualsAndHashCode<T> fromFields(Class<T> targetClass, String... fieldNames) {
+        requireNonNull(targetClass, "targetClass must not be null");
+        requireNonNull(fieldNames, "fieldNames must not be null");
+        return FieldEqualizer.fromFields(null, targetClass, fieldNames);
+    }
+
+    /**
+     * Same as {@link #fromFields(Class, String...)}, but uses the given {@code lookup} to access the fields. This allows
+     * accessing private fields of classes in named modules that are not opened to Equalizer, using a lookup created
+     * by {@link MethodHandles#lookup()} within {@code targetClass}.
+     * <p>
+     * Unlike {@link #fromFields(Class, String...)}, results are not cached, since they must not be handed out to callers
+     * without access to the fields. Store the result in a {@code static final} field instead.
+     *
+     * @param lookup      lookup with access to the fields
+     * @param targetClass The class for which {@link EqualsAndHashCode} should be used to
+     *                    implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+     * @param fieldNames  names of the fields to compare and hash, in order
+     * @param <T>         Type of {@code targetClass}
+     * @return {@link EqualsAndHashCode} for class {@code targetClass}
+     * @throws IllegalArgumentException if a field does not exist, is static or cannot be accessed
+     * @see #fromFields(Class, String...)
+     */
+    public static <T> EqualsAndHashCode<T> fromFields(MethodHandles.Lookup lookup, Class<T> targetClass, String... fieldNames) {
+        requireNonNull(lookup, "lookup must not be null");
+        requireNonNull(targetClass, "targetClass must not be null");
+        requireNonNull(fieldNames, "fieldNames must not be null");
+        return FieldEqualizer.fromFields(lookup, targetClass, fieldNames);
+    }
 }
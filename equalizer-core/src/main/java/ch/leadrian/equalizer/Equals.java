@@ -16,8 +16,13 @@
 
 package ch.leadrian.equalizer;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * <p>
  * Equivalence check for {@link java.lang.Object#equals(Object)}.
@@ -102,4 +107,91 @@ public interface Equals<T> {
      */
     boolean equals(T object, Object otherObject);
 
+    /**
+     * @param objects      The nullable instances of type {@code T} that are compared.
+     * @param otherObjects The nullable instances with which {@code objects} are compared, element by element.
+     * @return {@code true} if both arrays have the same length and each element of {@code objects} is equivalent to the
+     * element of {@code otherObjects} at the same index according to {@link #equals(Object, Object)}, else {@code false}
+     * @see #mismatch(Object[], Object[])
+     */
+    default boolean equalsAll(T[] objects, T[] otherObjects) {
+        return mismatch(objects, otherObjects) == -1;
+    }
+
+    /**
+     * @param objects      The nullable instances of type {@code T} that are compared.
+     * @param otherObjects The nullable instances with which {@code objects} are compared, element by element.
+     * @return {@code true} if both lists have the same size and each element of {@code objects} is equivalent to the
+     * element of {@code otherObjects} at the same index according to {@link #equals(Object, Object)}, else {@code false}
+     * @see #mismatch(List, List)
+     */
+    default boolean equalsAll(List<? extends T> objects, List<? extends T> otherObjects) {
+        return mismatch(objects, otherObjects) == -1;
+    }
+
+    /**
+     * <p>
+     * Finds the index of the first pair of elements that are not equivalent according to
+     * {@link #equals(Object, Object)}, analogous to {@code Arrays.mismatch}. Elements after the first mismatch are not
+     * compared.
+     * </p>
+     * <p>
+     * Instances built by Equalizer skip the class check for each pair of elements if the component types of the arrays
+     * guarantee that the classes of all elements match.
+     * </p>
+     *
+     * @param objects      The nullable instances of type {@code T} that are compared.
+     * @param otherObjects The nullable instances with which {@code objects} are compared, element by element.
+     * @return the index of the first mismatch, the length of the shorter array if it is a proper prefix of the other
+     * array, or {@code -1} if there is no mismatch
+     */
+    default int mismatch(T[] objects, T[] otherObjects) {
+        requireNonNull(objects, "objects must not be null");
+        requireNonNull(otherObjects, "otherObjects must not be null");
+        int length = Math.min(objects.length, otherObjects.length);
+        for (int i = 0; i < length; i++) {
+            if (!equals(objects[i], otherObjects[i])) {
+                return i;
+            }
+        }
+        return objects.length == otherObjects.length ? -1 : length;
+    }
+
+    /**
+     * Finds the index of the first pair of elements that are not equivalent according to
+     * {@link #equals(Object, Object)}. Elements after the first mismatch are not compared. If both lists implement
+     * {@link RandomAccess}, the elements are accessed by index instead of through iterators.
+     *
+     * @param objects      The nullable instances of type {@code T} that are compared.
+     * @param otherObjects The nullable instances with which {@code objects} are compared, element by element.
+     * @return the index of the first mismatch, the size of the smaller list if it is a proper prefix of the other list,
+     * or {@code -1} if there is no mismatch
+     * @see #mismatch(Object[], Object[])
+     */
+    default int mismatch(List<? extends T> objects, List<? extends T> otherObjects) {
+        requireNonNull(objects, "objects must not be null");
+        requireNonNull(otherObjects, "otherObjects must not be null");
+        if (objects instanceof RandomAccess && otherObjects instanceof RandomAccess) {
+            int size = objects.size();
+            int otherSize = otherObjects.size();
+            int length = Math.min(size, otherSize);
+            for (int i = 0; i < length; i++) {
+                if (!equals(objects.get(i), otherObjects.get(i))) {
+                    return i;
+                }
+            }
+            return size == otherSize ? -1 : length;
+        }
+        Iterator<? extends T> iterator = objects.iterator();
+        Iterator<? extends T> otherIterator = otherObjects.iterator();
+        int i = 0;
+        while (iterator.hasNext() && otherIterator.hasNext()) {
+            if (!equals(iterator.next(), otherIterator.next())) {
+                return i;
+            }
+            i++;
+        }
+        return iterator.hasNext() || otherIterator.hasNext() ? i : -1;
+    }
+
 }
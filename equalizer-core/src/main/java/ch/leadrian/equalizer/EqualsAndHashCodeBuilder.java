@@ -16,13 +16,26 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -73,6 +86,16 @@ public interface EqualsAndHashCodeBuilder<T> {
      */
     EqualsAndHashCodeBuilder<T> compare(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts an object value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareHashGuarded(Function)
+     */
+    EqualsAndHashCodeBuilder<T> compareHashGuarded(Function<? super T, ?> valueExtractor);
+
     /**
      * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
      *
@@ -155,6 +178,139 @@ public interface EqualsAndHashCodeBuilder<T> {
      */
     EqualsAndHashCodeBuilder<T> compareDeep(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor    Extracts an object value of an instance of type {@code T}.
+     * @param parallelismPolicy Determines which arrays are compared in parallel.
+     * @return {@code this}
+     * @see EqualsBuilder#compareDeep(Function, ParallelismPolicy)
+     */
+    EqualsAndHashCodeBuilder<T> compareDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a list of an instance of type {@code T}.
+     * @param elementEquals  Compares the elements of the lists.
+     * @param <E>            type of the elements of the lists
+     * @return {@code this}
+     * @see EqualsBuilder#compareList(Function, Equals)
+     */
+    <E> EqualsAndHashCodeBuilder<T> compareList(Function<? super T, ? extends List<? extends E>> valueExtractor, Equals<? super E> elementEquals);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a set of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareSet(Function)
+     */
+    EqualsAndHashCodeBuilder<T> compareSet(Function<? super T, ? extends Set<?>> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a map of an instance of type {@code T}.
+     * @param valueEquals    Compares the values of the maps.
+     * @param <V>            type of the values of the maps
+     * @return {@code this}
+     * @see EqualsBuilder#compareMap(Function, Equals)
+     */
+    <V> EqualsAndHashCodeBuilder<T> compareMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, Equals<? super V> valueEquals);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts an array or collection of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareUnordered(Function)
+     */
+    EqualsAndHashCodeBuilder<T> compareUnordered(Function<? super T, ?> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a value of an instance of type {@code T}.
+     * @param valueEquals    {@link Equals} used to compare the extracted values
+     * @param <V>            type of the extracted values
+     * @return {@code this}
+     * @see EqualsBuilder#compareWith(Function, Equals)
+     */
+    <V> EqualsAndHashCodeBuilder<T> compareWith(Function<? super T, ? extends V> valueExtractor, Equals<? super V> valueEquals);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code byte[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToByteArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToByteArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code short[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToShortArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToShortArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code char[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToCharArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToCharArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code int[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToIntArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToIntArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code long[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToLongArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToLongArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code float[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToFloatArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToFloatArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code double[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToDoubleArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToDoubleArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code boolean[]} value of an instance of type {@code T}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToBooleanArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareArray(ToBooleanArrayFunction<? super T> valueExtractor);
+
     /**
      * Configure the {@link Equals} part of {@link EqualsAndHashCode}.
      *
@@ -274,6 +430,166 @@ public interface EqualsAndHashCodeBuilder<T> {
      */
     EqualsAndHashCodeBuilder<T> compareAndHashDeep(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor    Extracts an object value of an instance of type {@code T}. The extracted value may be
+     *                          {@code null}.
+     * @param parallelismPolicy Determines which arrays are compared and hashed in parallel.
+     * @return {@code this}
+     * @see EqualsBuilder#compareDeep(Function, ParallelismPolicy)
+     * @see HashCodeBuilder#hashDeep(Function, ParallelismPolicy)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor           Extracts a list of an instance of type {@code T}. The extracted list may be
+     *                                 {@code null}.
+     * @param elementEqualsAndHashCode Compares and hashes the elements of the lists.
+     * @param <E>                      type of the elements of the lists
+     * @return {@code this}
+     * @see EqualsBuilder#compareList(Function, Equals)
+     * @see HashCodeBuilder#hashList(Function, HashCode)
+     */
+    <E> EqualsAndHashCodeBuilder<T> compareAndHashList(Function<? super T, ? extends List<? extends E>> valueExtractor, EqualsAndHashCode<? super E> elementEqualsAndHashCode);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a set of an instance of type {@code T}. The extracted set may be {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareSet(Function)
+     * @see HashCodeBuilder#hashSet(Function)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashSet(Function<? super T, ? extends Set<?>> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor         Extracts a map of an instance of type {@code T}. The extracted map may be
+     *                               {@code null}.
+     * @param valueEqualsAndHashCode Compares and hashes the values of the maps.
+     * @param <V>                    type of the values of the maps
+     * @return {@code this}
+     * @see EqualsBuilder#compareMap(Function, Equals)
+     * @see HashCodeBuilder#hashMap(Function, HashCode)
+     */
+    <V> EqualsAndHashCodeBuilder<T> compareAndHashMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, EqualsAndHashCode<? super V> valueEqualsAndHashCode);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts an array or collection of an instance of type {@code T}. The extracted value may
+     *                       be {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareUnordered(Function)
+     * @see HashCodeBuilder#hashUnordered(Function)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashUnordered(Function<? super T, ?> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor         Extracts a value of an instance of type {@code T}. The extracted value may be
+     *                               {@code null}.
+     * @param valueEqualsAndHashCode {@link EqualsAndHashCode} used to compare and hash the extracted values
+     * @param <V>                    type of the extracted values
+     * @return {@code this}
+     * @see EqualsBuilder#compareWith(Function, Equals)
+     * @see HashCodeBuilder#hashWith(Function, HashCode)
+     */
+    <V> EqualsAndHashCodeBuilder<T> compareAndHashWith(Function<? super T, ? extends V> valueExtractor, EqualsAndHashCode<? super V> valueEqualsAndHashCode);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code byte[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToByteArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToByteArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToByteArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code short[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToShortArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToShortArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToShortArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code char[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToCharArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToCharArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToCharArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code int[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToIntArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToIntArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToIntArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code long[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToLongArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToLongArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToLongArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code float[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToFloatArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToFloatArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToFloatArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code double[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToDoubleArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToDoubleArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToDoubleArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param valueExtractor Extracts a {@code boolean[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     * @see EqualsBuilder#compareArray(ToBooleanArrayFunction)
+     * @see HashCodeBuilder#hashArray(ToBooleanArrayFunction)
+     */
+    EqualsAndHashCodeBuilder<T> compareAndHashArray(ToBooleanArrayFunction<? super T> valueExtractor);
+
     /**
      * Configure both the {@link Equals} part and {@link HashCode} part of {@link EqualsAndHashCode}.
      *
@@ -294,6 +610,73 @@ public interface EqualsAndHashCodeBuilder<T> {
      */
     EqualsAndHashCodeBuilder<T> equalIf(BiPredicate<? super T, ? super T> condition);
 
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}. The order of the hash codes is not affected.
+     *
+     * @return {@code this}
+     * @see EqualsBuilder#optimizeOrder()
+     */
+    EqualsAndHashCodeBuilder<T> optimizeOrder();
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode} to compare all values configured using
+     * {@link #compareAndHash(Function)} like {@link EqualsBuilder#compareHashGuarded(Function)}, regardless of whether
+     * they are configured before or after calling this method.
+     *
+     * @return {@code this}
+     * @see EqualsBuilder#compareHashGuarded(Function)
+     */
+    EqualsAndHashCodeBuilder<T> hashGuarded();
+
+    /**
+     * Configure the {@link Equals} part of {@link EqualsAndHashCode}. Only comparisons are counted, index {@code 0}
+     * refers to the first comparison configured using one of the {@code compare*} or {@code compareAndHash*}
+     * methods, {@link #withSuper(EqualsAndHashCode)} or {@link #equalIf(BiPredicate)}.
+     *
+     * @param comparisonOrder the indices of all configured comparisons in the order in which they are evaluated
+     * @return {@code this}
+     * @see EqualsBuilder#comparisonOrder(List)
+     */
+    EqualsAndHashCodeBuilder<T> comparisonOrder(List<Integer> comparisonOrder);
+
+    /**
+     * Configure the {@link HashCode} part of {@link EqualsAndHashCode}.
+     *
+     * @param hashMixer {@link HashMixer} combining the hash codes of the attributes
+     * @return {@code this}
+     * @see HashCodeBuilder#mixer(HashMixer)
+     */
+    EqualsAndHashCodeBuilder<T> mixer(HashMixer hashMixer);
+
+    /**
+     * Configure the {@link HashCode} part of {@link EqualsAndHashCode} to cache the computed hash code in a field of
+     * the instance of {@code T}.
+     *
+     * @param hashGetter function to read the cached hash code, {@code 0} if not yet computed
+     * @param hashSetter function to store the computed hash code
+     * @return {@code this}
+     * @see HashCodeBuilder#cachedIn(ToIntFunction, ObjIntConsumer)
+     */
+    EqualsAndHashCodeBuilder<T> cachedIn(ToIntFunction<? super T> hashGetter, ObjIntConsumer<? super T> hashSetter);
+
+    /**
+     * Configure the {@link HashCode} part of {@link EqualsAndHashCode} to cache the computed hash code in a field of
+     * the instance of {@code T}, remembering a computed hash code of {@code 0} in a second field.
+     *
+     * @param hashGetter function to read the cached hash code, {@code 0} if not yet computed
+     * @param hashSetter function to store the computed hash code
+     * @param hashIsZeroGetter function to read whether the hash code has been computed to be {@code 0}
+     * @param hashIsZeroSetter function to store that the hash code has been computed to be {@code 0}
+     * @return {@code this}
+     * @see HashCodeBuilder#cachedIn(ToIntFunction, ObjIntConsumer, Predicate, Consumer)
+     */
+    EqualsAndHashCodeBuilder<T> cachedIn(
+            ToIntFunction<? super T> hashGetter,
+            ObjIntConsumer<? super T> hashSetter,
+            Predicate<? super T> hashIsZeroGetter,
+            Consumer<? super T> hashIsZeroSetter
+    );
+
     /**
      * Builds an {@link EqualsAndHashCode} instance.
      *
@@ -302,6 +685,17 @@ public interface EqualsAndHashCodeBuilder<T> {
      */
     EqualsAndHashCode<T> build();
 
+    /**
+     * Builds an {@link EqualsAndHashCode} instance whose comparison and hash steps are compiled into generated
+     * classes.
+     *
+     * @return An instance of {@link EqualsAndHashCode} that uses the configured {@code valueExtractors} to determine
+     * the equivalence of two instances of type {@code T} and compute the hash code of an instance of type {@code T}.
+     * @see EqualsBuilder#compile()
+     * @see HashCodeBuilder#compile()
+     */
+    EqualsAndHashCode<T> compile();
+
     /**
      * Returns whether the builder has any comparison/hash steps or not.
      * <p>
@@ -16,13 +16,26 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -45,19 +58,32 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
         return equals.equals(object, otherObject);
     }
 
+    @Override
+    public int mismatch(T[] objects, T[] otherObjects) {
+        return equals.mismatch(objects, otherObjects);
+    }
+
     @Override
     public int hashCode(T object) {
         return hashCode.hashCode(object);
     }
 
+    Equals<T> getEquals() {
+        return equals;
+    }
+
+    HashCode<T> getHashCode() {
+        return hashCode;
+    }
+
     static final class Builder<T> implements EqualsAndHashCodeBuilder<T> {
 
-        private final EqualsBuilder<T> equalsBuilder;
+        private final EqualsImpl.Builder<T> equalsBuilder;
         private final HashCodeBuilder<T> hashCodeBuilder;
 
         Builder(Class<T> targetClass) {
             requireNonNull(targetClass, "targetClass must not be null");
-            this.equalsBuilder = Equalizer.equalsBuilder(targetClass);
+            this.equalsBuilder = new EqualsImpl.Builder<>(targetClass);
             this.hashCodeBuilder = Equalizer.hashCodeBuilder();
         }
 
@@ -82,6 +108,13 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
             return this;
         }
 
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareHashGuarded(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareHashGuarded(valueExtractor);
+            return this;
+        }
+
         @Override
         public EqualsAndHashCodeBuilder<T> comparePrimitive(ToByteFunction<? super T> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must be null");
@@ -145,6 +178,108 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
             return this;
         }
 
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(parallelismPolicy, "parallelismPolicy must not be null");
+            equalsBuilder.compareDeep(valueExtractor, parallelismPolicy);
+            return this;
+        }
+
+        @Override
+        public <E> EqualsAndHashCodeBuilder<T> compareList(Function<? super T, ? extends List<? extends E>> valueExtractor, Equals<? super E> elementEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(elementEquals, "elementEquals must not be null");
+            equalsBuilder.compareList(valueExtractor, elementEquals);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareSet(Function<? super T, ? extends Set<?>> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareSet(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public <V> EqualsAndHashCodeBuilder<T> compareMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, Equals<? super V> valueEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEquals, "valueEquals must not be null");
+            equalsBuilder.compareMap(valueExtractor, valueEquals);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareUnordered(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareUnordered(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public <V> EqualsAndHashCodeBuilder<T> compareWith(Function<? super T, ? extends V> valueExtractor, Equals<? super V> valueEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEquals, "valueEquals must not be null");
+            equalsBuilder.compareWith(valueExtractor, valueEquals);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToByteArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToShortArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToCharArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToIntArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToLongArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToFloatArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToDoubleArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareArray(ToBooleanArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            return this;
+        }
+
         @Override
         public EqualsAndHashCodeBuilder<T> compareIdentity(Function<? super T, ?> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must be null");
@@ -155,7 +290,7 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
         @Override
         public EqualsAndHashCodeBuilder<T> compareAndHash(Function<? super T, ?> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must be null");
-            equalsBuilder.compare(valueExtractor);
+            equalsBuilder.compareHashed(valueExtractor);
             hashCodeBuilder.hash(valueExtractor);
             return this;
         }
@@ -232,6 +367,122 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
             return this;
         }
 
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(parallelismPolicy, "parallelismPolicy must not be null");
+            equalsBuilder.compareDeep(valueExtractor, parallelismPolicy);
+            hashCodeBuilder.hashDeep(valueExtractor, parallelismPolicy);
+            return this;
+        }
+
+        @Override
+        public <E> EqualsAndHashCodeBuilder<T> compareAndHashList(Function<? super T, ? extends List<? extends E>> valueExtractor, EqualsAndHashCode<? super E> elementEqualsAndHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(elementEqualsAndHashCode, "elementEqualsAndHashCode must not be null");
+            equalsBuilder.compareList(valueExtractor, elementEqualsAndHashCode);
+            hashCodeBuilder.hashList(valueExtractor, elementEqualsAndHashCode);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashSet(Function<? super T, ? extends Set<?>> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareSet(valueExtractor);
+            hashCodeBuilder.hashSet(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public <V> EqualsAndHashCodeBuilder<T> compareAndHashMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, EqualsAndHashCode<? super V> valueEqualsAndHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEqualsAndHashCode, "valueEqualsAndHashCode must not be null");
+            equalsBuilder.compareMap(valueExtractor, valueEqualsAndHashCode);
+            hashCodeBuilder.hashMap(valueExtractor, valueEqualsAndHashCode);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashUnordered(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareUnordered(valueExtractor);
+            hashCodeBuilder.hashUnordered(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public <V> EqualsAndHashCodeBuilder<T> compareAndHashWith(Function<? super T, ? extends V> valueExtractor, EqualsAndHashCode<? super V> valueEqualsAndHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEqualsAndHashCode, "valueEqualsAndHashCode must not be null");
+            equalsBuilder.compareWith(valueExtractor, valueEqualsAndHashCode);
+            hashCodeBuilder.hashWith(valueExtractor, valueEqualsAndHashCode);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToByteArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToShortArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToCharArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToIntArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToLongArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToFloatArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToDoubleArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> compareAndHashArray(ToBooleanArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            equalsBuilder.compareArray(valueExtractor);
+            hashCodeBuilder.hashArray(valueExtractor);
+            return this;
+        }
+
         @Override
         public EqualsAndHashCodeBuilder<T> compareAndHashIdentity(Function<? super T, ?> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must be null");
@@ -247,12 +498,60 @@ final class EqualsAndHashCodeImpl<T> implements EqualsAndHashCode<T> {
             return this;
         }
 
+        @Override
+        public EqualsAndHashCodeBuilder<T> optimizeOrder() {
+            equalsBuilder.optimizeOrder();
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> hashGuarded() {
+            equalsBuilder.guardHashedComparisons();
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> comparisonOrder(List<Integer> comparisonOrder) {
+            requireNonNull(comparisonOrder, "comparisonOrder must not be null");
+            equalsBuilder.comparisonOrder(comparisonOrder);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> mixer(HashMixer hashMixer) {
+            hashCodeBuilder.mixer(hashMixer);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> cachedIn(ToIntFunction<? super T> hashGetter, ObjIntConsumer<? super T> hashSetter) {
+            hashCodeBuilder.cachedIn(hashGetter, hashSetter);
+            return this;
+        }
+
+        @Override
+        public EqualsAndHashCodeBuilder<T> cachedIn(
+                ToIntFunction<? super T> hashGetter,
+                ObjIntConsumer<? super T> hashSetter,
+                Predicate<? super T> hashIsZeroGetter,
+                Consumer<? super T> hashIsZeroSetter
+        ) {
+            hashCodeBuilder.cachedIn(hashGetter, hashSetter, hashIsZeroGetter, hashIsZeroSetter);
+            return this;
+        }
+
         @Override
         public EqualsAndHashCode<T> build() {
             validate();
             return new EqualsAndHashCodeImpl<>(equalsBuilder.build(), hashCodeBuilder.build());
         }
 
+        @Override
+        public EqualsAndHashCode<T> compile() {
+            validate();
+            return new EqualsAndHashCodeImpl<>(equalsBuilder.compile(), hashCodeBuilder.compile());
+        }
+
         private void validate() {
             if (!equalsBuilder.isEmpty() && hashCodeBuilder.isEmpty()) {
                 throw new IllegalStateException("If at least one comparison step has configured, then at least one hash step must be configured as well");
@@ -16,11 +16,22 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -69,6 +80,19 @@ public interface EqualsBuilder<T> {
      */
     EqualsBuilder<T> compare(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Configures an {@link Equals} instance to compare object values extracted by {@code valueExtractor} like
+     * {@link #compare(Function)}, but compares the hash codes of the values first. Values with different hash codes are
+     * considered not equal without calling {@link Object#equals(Object)}. This is recommended for values that memoize
+     * their hash code, like {@link String}, and that usually differ, in particular if they share long common prefixes.
+     * The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts an object value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareHashGuarded(Function<? super T, ?> valueExtractor);
+
     /**
      * Configures an {@link Equals} instance to compare byte values extracted by {@code valueExtractor} to determine the
      * equivalence between two instances of type {@code T}. The value passed to {@code valueExtractor} is guaranteed to
@@ -161,6 +185,182 @@ public interface EqualsBuilder<T> {
      */
     EqualsBuilder<T> compareDeep(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Configures an {@link Equals} instance to compare object values extracted by {@code valueExtractor} like
+     * {@link #compareDeep(Function)}. Arrays with at least as many elements as the threshold of {@code parallelismPolicy}
+     * are split into chunks that are compared in parallel. As soon as one chunk contains a mismatch, the remaining
+     * chunks are cancelled. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor    Extracts a object value of an instance of type {@code T}. The extracted value may be
+     *                          {@code null}.
+     * @param parallelismPolicy Determines which arrays are compared in parallel
+     * @return {@code this}
+     * @see ParallelismPolicy
+     */
+    EqualsBuilder<T> compareDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy);
+
+    /**
+     * Configures an {@link Equals} instance to compare the {@link List}s extracted by {@code valueExtractor}. The sizes
+     * of the lists are compared first, then the elements are compared pairwise using {@code elementEquals} instead of
+     * their own {@code equals} methods. Lists implementing {@link java.util.RandomAccess} are traversed by index, such
+     * that no iterators are allocated. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a list of an instance of type {@code T}. The extracted list may be {@code null}.
+     * @param elementEquals  Compares the elements of the lists. The elements passed to it may be {@code null}.
+     * @param <E>            type of the elements of the lists
+     * @return {@code this}
+     */
+    <E> EqualsBuilder<T> compareList(Function<? super T, ? extends List<? extends E>> valueExtractor, Equals<? super E> elementEquals);
+
+    /**
+     * Configures an {@link Equals} instance to compare the {@link Set}s extracted by {@code valueExtractor}. The sizes of
+     * the sets are compared first, then the second set is checked to contain each element of the first set. Membership
+     * is determined by the sets themselves. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a set of an instance of type {@code T}. The extracted set may be {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareSet(Function<? super T, ? extends Set<?>> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the {@link Map}s extracted by {@code valueExtractor}. The sizes
+     * of the maps are compared first, then the value of each key of the first map is looked up in the second map and
+     * compared using {@code valueEquals} instead of its own {@code equals} method. Keys are matched by the maps
+     * themselves. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a map of an instance of type {@code T}. The extracted map may be {@code null}.
+     * @param valueEquals    Compares the values of the maps. The values passed to it may be {@code null}.
+     * @param <V>            type of the values of the maps
+     * @return {@code this}
+     */
+    <V> EqualsBuilder<T> compareMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, Equals<? super V> valueEquals);
+
+    /**
+     * Configures an {@link Equals} instance to compare the values extracted by {@code valueExtractor} as multisets,
+     * ignoring the order of their elements. Supported values are {@code int[]}, {@code long[]}, {@code Object[]} and
+     * {@link java.util.Collection}s, whose elements are compared using their {@code equals} methods. Any other value is
+     * compared like {@link #compareDeep(Function)}. The sizes and order-independent hash codes of the values are
+     * compared first. Primitive arrays with up to 16 elements and other values with up to 64 elements are compared
+     * without allocations. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts an array or collection of an instance of type {@code T}. The extracted value may
+     *                       be {@code null}.
+     * @return {@code this}
+     * @see HashCodeBuilder#hashUnordered(Function)
+     */
+    EqualsBuilder<T> compareUnordered(Function<? super T, ?> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the values extracted by {@code valueExtractor} using
+     * {@code valueEquals} instead of their {@code equals} methods. This allows comparing attributes by a different
+     * equivalence, for example only by an ID. If {@code valueEquals} was built by Equalizer using the default
+     * {@link ClassMatcher}, its comparisons are applied directly without repeating the class check. The value passed
+     * to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a value of an instance of type {@code T}. The extracted value may be {@code null}.
+     * @param valueEquals    {@link Equals} used to compare the extracted values
+     * @param <V>            type of the extracted values
+     * @return {@code this}
+     * @see HashCodeBuilder#hashWith(Function, HashCode)
+     */
+    <V> EqualsBuilder<T> compareWith(Function<? super T, ? extends V> valueExtractor, Equals<? super V> valueEquals);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code byte[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(byte[], byte[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code byte[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToByteArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code short[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(short[], short[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code short[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToShortArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code char[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(char[], char[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code char[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToCharArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code int[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(int[], int[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code int[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToIntArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code long[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(long[], long[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code long[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToLongArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code float[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(float[], float[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code float[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToFloatArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code double[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(double[], double[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code double[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToDoubleArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Configures an {@link Equals} instance to compare the contents of the {@code boolean[]} values extracted by
+     * {@code valueExtractor} using {@link java.util.Arrays#equals(boolean[], boolean[])}. Unlike
+     * {@link #compareDeep(Function)}, the array type is known when the {@link Equals} is built, so it does not need to
+     * be determined for each comparison. The value passed to {@code valueExtractor} is guaranteed to be non-null.
+     *
+     * @param valueExtractor Extracts a {@code boolean[]} value of an instance of type {@code T}. The extracted value may be
+     *                       {@code null}.
+     * @return {@code this}
+     */
+    EqualsBuilder<T> compareArray(ToBooleanArrayFunction<? super T> valueExtractor);
+
     /**
      * Configures an {@link Equals} instance to compare the references of values extracted by {@code valueExtractor} to
      * determine the equivalence between two instances of type {@code T}. The value passed to {@code valueExtractor} is
@@ -181,6 +381,31 @@ public interface EqualsBuilder<T> {
      */
     EqualsBuilder<T> equalIf(BiPredicate<? super T, ? super T> condition);
 
+    /**
+     * Reorders the configured comparisons by their estimated cost when the {@link Equals} instance is built, instead of
+     * evaluating them in declaration order. Primitive values are compared first, followed by identity, shallow and
+     * finally deep and array comparisons, so that unequal instances are rejected as early as possible. Conditions
+     * configured using {@link #equalIf(BiPredicate)} and {@link #withSuper(Equals)} keep their position, and no other
+     * comparison is moved across them.
+     * <p>
+     * Since comparisons are expected to be free of side effects, the result of {@link Equals#equals(Object, Object)}
+     * is not affected by the order.
+     *
+     * @return {@code this}
+     */
+    EqualsBuilder<T> optimizeOrder();
+
+    /**
+     * Evaluates the configured comparisons in the given order instead of in declaration order. Index {@code 0} refers
+     * to the first configured comparison. Typically, the order has been learned by an {@link AdaptiveEquals} using the
+     * same configuration. If {@link #optimizeOrder()} is configured as well, this order is applied first.
+     *
+     * @param comparisonOrder the indices of all configured comparisons in the order in which they are evaluated
+     * @return {@code this}
+     * @see AdaptiveEquals#getComparisonOrder()
+     */
+    EqualsBuilder<T> comparisonOrder(List<Integer> comparisonOrder);
+
     /**
      * Builds an {@link Equals} instance.
      *
@@ -189,6 +414,32 @@ public interface EqualsBuilder<T> {
      */
     Equals<T> build();
 
+    /**
+     * Builds an {@link Equals} instance whose comparison steps are compiled into a single generated class.
+     * <p>
+     * The resulting {@link Equals} has exactly the same semantics as one created by {@link #build()}, but avoids the
+     * megamorphic dispatch over the individual comparison steps. Since generating a class is expensive, the result
+     * should be created once and stored, for example in a {@code static final} field.
+     * <p>
+     * If classes cannot be generated on the current platform, for example on Java 8, or if the builder is empty, this
+     * method returns the same as {@link #build()}.
+     *
+     * @return An instance of {@link Equals} that uses the configured {@code valueExtractor}s to determine the
+     * equivalence of two instances of type {@code T}.
+     */
+    Equals<T> compile();
+
+    /**
+     * Builds an {@link AdaptiveEquals} instance which learns the order in which the configured comparisons are
+     * evaluated from the values it compares. The initial order is the one configured by
+     * {@link #comparisonOrder(List)} and {@link #optimizeOrder()}. Comparisons configured using
+     * {@link #withSuper(Equals)} are never inlined.
+     *
+     * @return An instance of {@link AdaptiveEquals} that uses the configured {@code valueExtractor}s to determine the
+     * equivalence of two instances of type {@code T}.
+     */
+    AdaptiveEquals<T> buildAdaptive();
+
     /**
      * Returns whether the builder has any comparison steps or not.
      * <p>
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a subclass of {@link AbstractEquals} with the comparison steps unrolled into a single method, such that the
+ * JIT compiler sees one straight-line method instead of a megamorphic loop over {@link ComparisonStep}s.
+ * <p>
+ * Value extractors are stored in final fields typed with their functional interfaces, except for the getters of
+ * {@link FieldGetter}s, which are stored in static final fields, see {@link ValueExtractorKind#getOperand(Object)}. The
+ * semantics of each step are the same as those of the corresponding {@link ComparisonStep} implementation. Unknown
+ * steps are invoked through {@link ComparisonStep#isEqual(Object, Object)}.
+ */
+final class EqualsCompiler {
+
+    private static final String ABSTRACT_EQUALS = "ch/leadrian/equalizer/AbstractEquals";
+    private static final String CLASS_NAME_PREFIX = "ch/leadrian/equalizer/CompiledEquals$";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "(Ljava/lang/Class;Lch/leadrian/equalizer/ClassMatcher;Ljava/util/List;[Ljava/lang/Object;)V";
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private EqualsCompiler() {
+    }
+
+    /**
+     * @return a compiled {@link Equals}, or an empty {@link Optional} if no class could be generated or defined
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<Equals<T>> compile(Class<T> targetClass, List<? extends ComparisonStep<T>> comparisonSteps, ClassMatcher<T> classMatcher) {
+        if (comparisonSteps.isEmpty() || !ClassDefiner.isSupported()) {
+            return Optional.empty();
+        }
+
+        String className = CLASS_NAME_PREFIX + CLASS_COUNTER.incrementAndGet();
+        Object[] operands = new Object[comparisonSteps.size()];
+        byte[] bytes;
+        try {
+            bytes = generate(className, comparisonSteps, operands);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // Too many steps to fit into a single method
+            return Optional.empty();
+        }
+        return ClassDefiner.defineClass(bytes, getClassData(operands)).flatMap(definedClass -> {
+            try {
+                Constructor<?> constructor = definedClass.getDeclaredConstructor(Class.class, ClassMatcher.class, List.class, Object[].class);
+                return Optional.of((Equals<T>) constructor.newInstance(targetClass, classMatcher, comparisonSteps, operands));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static <T> byte[] generate(String className, List<? extends ComparisonStep<T>> comparisonSteps, Object[] operands) {
+        ClassFileWriter writer = new ClassFileWriter(
+                ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER | ClassFileWriter.ACC_SYNTHETIC,
+                className,
+                ABSTRACT_EQUALS
+        );
+        String[] fieldDescriptors = new String[comparisonSteps.size()];
+        ClassFileWriter.Code isEqual = writer.newCode(6, 3);
+        ClassFileWriter.Label notEqual = new ClassFileWriter.Label();
+        for (int i = 0; i < comparisonSteps.size(); i++) {
+            ComparisonStep<T> step = comparisonSteps.get(i);
+            String fieldName = "step" + i;
+            ValueExtractorKind kind = getValueExtractorKind(step);
+            if (kind != null) {
+                operands[i] = kind.getOperand(getValueExtractor(step));
+                fieldDescriptors[i] = kind.getFieldDescriptor(operands[i]);
+                kind.emitExtractValue(isEqual, className, fieldName, fieldDescriptors[i], 1);
+                emitConvertValue(isEqual, kind);
+                kind.emitExtractValue(isEqual, className, fieldName, fieldDescriptors[i], 2);
+                emitConvertValue(isEqual, kind);
+                emitCompareValues(isEqual, kind, step, notEqual);
+            } else if (step instanceof DelegatingComparisonStep) {
+                operands[i] = ((DelegatingComparisonStep<T>) step).getDelegate();
+                fieldDescriptors[i] = "Ljava/util/function/BiPredicate;";
+                isEqual.aload(0)
+                        .getfield(className, fieldName, fieldDescriptors[i])
+                        .aload(1)
+                        .aload(2)
+                        .invokeinterface("java/util/function/BiPredicate", "test", "(Ljava/lang/Object;Ljava/lang/Object;)Z", 3)
+                        .ifeq(notEqual);
+            } else {
+                operands[i] = step;
+                fieldDescriptors[i] = "Lch/leadrian/equalizer/ComparisonStep;";
+                isEqual.aload(0)
+                        .getfield(className, fieldName, fieldDescriptors[i])
+                        .aload(1)
+                        .aload(2)
+                        .invokeinterface("ch/leadrian/equalizer/ComparisonStep", "isEqual", "(Ljava/lang/Object;Ljava/lang/Object;)Z", 3)
+                        .ifeq(notEqual);
+            }
+            if (ValueExtractorKind.isGetter(fieldDescriptors[i])) {
+                writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL, fieldName, fieldDescriptors[i]);
+            } else {
+                writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, fieldName, fieldDescriptors[i]);
+            }
+        }
+        isEqual.pushInt(1)
+                .ireturn()
+                .mark(notEqual)
+                .pushInt(0)
+                .ireturn();
+
+        ClassFileWriter.Code constructor = writer.newCode(4, 5);
+        constructor.aload(0)
+                .aload(1)
+                .aload(2)
+                .aload(3)
+                .invokespecial(ABSTRACT_EQUALS, "<init>", "(Ljava/lang/Class;Lch/leadrian/equalizer/ClassMatcher;Ljava/util/List;)V");
+        ClassFileWriter.Code staticInitializer = writer.newCode(4, 0);
+        for (int i = 0; i < fieldDescriptors.length; i++) {
+            String fieldDescriptor = fieldDescriptors[i];
+            if (ValueExtractorKind.isGetter(fieldDescriptor)) {
+                ValueExtractorKind.emitInitializeGetter(staticInitializer, className, "step" + i, i);
+                continue;
+            }
+            constructor.aload(0)
+                    .aload(4)
+                    .pushInt(i)
+                    .aaload()
+                    .checkcast(fieldDescriptor.substring(1, fieldDescriptor.length() - 1))
+                    .putfield(className, "step" + i, fieldDescriptor);
+        }
+        constructor.returnVoid();
+        staticInitializer.returnVoid();
+
+        writer.addMethod(ClassFileWriter.ACC_STATIC, "<clinit>", "()V", staticInitializer);
+        writer.addMethod(0, "<init>", CONSTRUCTOR_DESCRIPTOR, constructor);
+        writer.addMethod(ClassFileWriter.ACC_FINAL, "isEqual", "(Ljava/lang/Object;Ljava/lang/Object;)Z", isEqual);
+        return writer.toByteArray();
+    }
+
+    /**
+     * @return the operands as class data if any getter is read from the class data, otherwise {@code null}
+     */
+    private static List<Object> getClassData(Object[] operands) {
+        for (Object operand : operands) {
+            if (operand instanceof MethodHandle) {
+                return Collections.unmodifiableList(Arrays.asList(operands.clone()));
+            }
+        }
+        return null;
+    }
+
+    private static ValueExtractorKind getValueExtractorKind(ComparisonStep<?> step) {
+        if (step instanceof BooleanComparisonStep) {
+            return ValueExtractorKind.BOOLEAN;
+        } else if (step instanceof ByteComparisonStep) {
+            return ValueExtractorKind.BYTE;
+        } else if (step instanceof ShortComparisonStep) {
+            return ValueExtractorKind.SHORT;
+        } else if (step instanceof CharComparisonStep) {
+            return ValueExtractorKind.CHAR;
+        } else if (step instanceof IntComparisonStep) {
+            return ValueExtractorKind.INT;
+        } else if (step instanceof LongComparisonStep) {
+            return ValueExtractorKind.LONG;
+        } else if (step instanceof FloatComparisonStep) {
+            return ValueExtractorKind.FLOAT;
+        } else if (step instanceof DoubleComparisonStep) {
+            return ValueExtractorKind.DOUBLE;
+        } else if (step instanceof ShallowComparisonStep
+                || step instanceof HashGuardedComparisonStep
+                || step instanceof DeepComparisonStep
+                || step instanceof IdentityComparisonStep) {
+            return ValueExtractorKind.OBJECT;
+        } else if (step instanceof ByteArrayComparisonStep) {
+            return ValueExtractorKind.BYTE_ARRAY;
+        } else if (step instanceof ShortArrayComparisonStep) {
+            return ValueExtractorKind.SHORT_ARRAY;
+        } else if (step instanceof CharArrayComparisonStep) {
+            return ValueExtractorKind.CHAR_ARRAY;
+        } else if (step instanceof IntArrayComparisonStep) {
+            return ValueExtractorKind.INT_ARRAY;
+        } else if (step instanceof LongArrayComparisonStep) {
+            return ValueExtractorKind.LONG_ARRAY;
+        } else if (step instanceof FloatArrayComparisonStep) {
+            return ValueExtractorKind.FLOAT_ARRAY;
+        } else if (step instanceof DoubleArrayComparisonStep) {
+            return ValueExtractorKind.DOUBLE_ARRAY;
+        } else if (step instanceof BooleanArrayComparisonStep) {
+            return ValueExtractorKind.BOOLEAN_ARRAY;
+        } else {
+            return null;
+        }
+    }
+
+    private static Object getValueExtractor(ComparisonStep<?> step) {
+        if (step instanceof BooleanComparisonStep) {
+            return ((BooleanComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof ByteComparisonStep) {
+            return ((ByteComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof ShortComparisonStep) {
+            return ((ShortComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof CharComparisonStep) {
+            return ((CharComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof IntComparisonStep) {
+            return ((IntComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof LongComparisonStep) {
+            return ((LongComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof FloatComparisonStep) {
+            return ((FloatComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof DoubleComparisonStep) {
+            return ((DoubleComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof ByteArrayComparisonStep) {
+            return ((ByteArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof ShortArrayComparisonStep) {
+            return ((ShortArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof CharArrayComparisonStep) {
+            return ((CharArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof IntArrayComparisonStep) {
+            return ((IntArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof LongArrayComparisonStep) {
+            return ((LongArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof FloatArrayComparisonStep) {
+            return ((FloatArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof DoubleArrayComparisonStep) {
+            return ((DoubleArrayComparisonStep<?>) step).getValueExtractor();
+        } else if (step instanceof BooleanArrayComparisonStep) {
+            return ((BooleanArrayComparisonStep<?>) step).getValueExtractor();
+        } else {
+            return ((ValueExtractingComparisonStep<?>) step).getValueExtractor();
+        }
+    }
+
+    private static void emitConvertValue(ClassFileWriter.Code code, ValueExtractorKind kind) {
+        // Floating point values are compared by their bits, just like Float.equals and Double.equals
+        if (kind == ValueExtractorKind.FLOAT) {
+            code.invokestatic("java/lang/Float", "floatToIntBits", "(F)I");
+        } else if (kind == ValueExtractorKind.DOUBLE) {
+            code.invokestatic("java/lang/Double", "doubleToLongBits", "(D)J");
+        }
+    }
+
+    private static void emitCompareValues(ClassFileWriter.Code code, ValueExtractorKind kind, ComparisonStep<?> step, ClassFileWriter.Label notEqual) {
+        switch (kind) {
+            case LONG:
+            case DOUBLE:
+                code.lcmp().ifne(notEqual);
+                break;
+            case OBJECT:
+                if (step instanceof IdentityComparisonStep) {
+                    code.ifAcmpne(notEqual);
+                } else if (step instanceof DeepComparisonStep) {
+                    code.invokestatic("java/util/Objects", "deepEquals", "(Ljava/lang/Object;Ljava/lang/Object;)Z").ifeq(notEqual);
+                } else if (step instanceof HashGuardedComparisonStep) {
+                    code.invokestatic("ch/leadrian/equalizer/HashGuardedComparisonStep", "hashGuardedEquals", "(Ljava/lang/Object;Ljava/lang/Object;)Z").ifeq(notEqual);
+                } else {
+                    code.invokestatic("java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z").ifeq(notEqual);
+                }
+                break;
+            default:
+                if (kind.isArray()) {
+                    String descriptor = kind.getReturnDescriptor();
+                    code.invokestatic("java/util/Arrays", "equals", "(" + descriptor + descriptor + ")Z").ifeq(notEqual);
+                } else {
+                    code.ifIcmpne(notEqual);
+                }
+                break;
+        }
+    }
+
+}
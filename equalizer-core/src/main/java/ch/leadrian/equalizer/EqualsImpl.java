@@ -16,13 +16,23 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,36 +42,15 @@ import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
 
-final class EqualsImpl<T> implements Equals<T> {
-
-    private final Class<T> targetClass;
-    private final List<ComparisonStep<T>> comparisonSteps;
-    private final ClassMatcher<T> classMatcher;
+final class EqualsImpl<T> extends AbstractEquals<T> {
 
     private EqualsImpl(Class<T> targetClass, List<? extends ComparisonStep<T>> comparisonSteps, ClassMatcher<T> classMatcher) {
-        this.targetClass = targetClass;
-        this.comparisonSteps = new ArrayList<>(comparisonSteps);
-        this.classMatcher = classMatcher;
+        super(targetClass, classMatcher, comparisonSteps);
     }
 
     @Override
-    public boolean equals(T object, Object otherObject) {
-        if (object == otherObject) {
-            return true;
-        }
-
-        if (object == null || otherObject == null) {
-            return false;
-        }
-
-        if (!classMatcher.classesMatch(object, otherObject)) {
-            return false;
-        }
-
-        return isEqual(object, targetClass.cast(otherObject));
-    }
-
-    private boolean isEqual(T object, T otherObject) {
+    boolean isEqual(T object, T otherObject) {
+        List<ComparisonStep<T>> comparisonSteps = getComparisonSteps();
         if (comparisonSteps.isEmpty()) {
             return false;
         }
@@ -79,7 +68,11 @@ final class EqualsImpl<T> implements Equals<T> {
 
         private final Class<T> targetClass;
         private final List<ComparisonStep<T>> comparisonSteps = new ArrayList<>();
+        private final List<Integer> hashedComparisonIndices = new ArrayList<>();
         private ClassMatcher<T> classMatcher;
+        private boolean optimizeOrder;
+        private List<Integer> comparisonOrder;
+        private boolean guardHashedComparisons;
 
         Builder(Class<T> targetClass) {
             requireNonNull(targetClass, "targetClass must not be null");
@@ -90,7 +83,7 @@ final class EqualsImpl<T> implements Equals<T> {
         @Override
         public EqualsBuilder<T> withSuper(Equals<? super T> superEquals) {
             requireNonNull(superEquals, "superEquals must not be null");
-            return equalIf(superEquals::equals);
+            return addComparisonStep(new SuperComparisonStep<>(superEquals));
         }
 
         @Override
@@ -106,6 +99,37 @@ final class EqualsImpl<T> implements Equals<T> {
             return addComparisonStep(new ShallowComparisonStep<>(valueExtractor));
         }
 
+        /**
+         * Adds a comparison for a value that is hashed as well, see {@link EqualsAndHashCodeBuilder#hashGuarded()}.
+         */
+        EqualsBuilder<T> compareHashed(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            if (guardHashedComparisons) {
+                return compareHashGuarded(valueExtractor);
+            }
+            hashedComparisonIndices.add(comparisonSteps.size());
+            return compare(valueExtractor);
+        }
+
+        /**
+         * Replaces all comparisons added using {@link #compareHashed(Function)}, including those added later, by
+         * hash-guarded comparisons.
+         */
+        void guardHashedComparisons() {
+            guardHashedComparisons = true;
+            for (int index : hashedComparisonIndices) {
+                ShallowComparisonStep<T> step = (ShallowComparisonStep<T>) comparisonSteps.get(index);
+                comparisonSteps.set(index, new HashGuardedComparisonStep<>(step.getValueExtractor()));
+            }
+            hashedComparisonIndices.clear();
+        }
+
+        @Override
+        public EqualsBuilder<T> compareHashGuarded(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new HashGuardedComparisonStep<>(valueExtractor));
+        }
+
         @Override
         public EqualsBuilder<T> comparePrimitive(ToByteFunction<? super T> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must not be null");
@@ -160,6 +184,94 @@ final class EqualsImpl<T> implements Equals<T> {
             return addComparisonStep(new DeepComparisonStep<>(valueExtractor));
         }
 
+        @Override
+        public EqualsBuilder<T> compareDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(parallelismPolicy, "parallelismPolicy must not be null");
+            return addComparisonStep(new ParallelDeepComparisonStep<>(valueExtractor, parallelismPolicy));
+        }
+
+        @Override
+        public <E> EqualsBuilder<T> compareList(Function<? super T, ? extends List<? extends E>> valueExtractor, Equals<? super E> elementEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(elementEquals, "elementEquals must not be null");
+            return addComparisonStep(new ListComparisonStep<>(valueExtractor, elementEquals));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareSet(Function<? super T, ? extends Set<?>> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new SetComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public <V> EqualsBuilder<T> compareMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, Equals<? super V> valueEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEquals, "valueEquals must not be null");
+            return addComparisonStep(new MapComparisonStep<>(valueExtractor, valueEquals));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareUnordered(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new UnorderedComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public <V> EqualsBuilder<T> compareWith(Function<? super T, ? extends V> valueExtractor, Equals<? super V> valueEquals) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueEquals, "valueEquals must not be null");
+            return addComparisonStep(new NestedComparisonStep<>(valueExtractor, valueEquals));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToByteArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new ByteArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToShortArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new ShortArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToCharArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new CharArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToIntArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new IntArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToLongArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new LongArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToFloatArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new FloatArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToDoubleArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new DoubleArrayComparisonStep<>(valueExtractor));
+        }
+
+        @Override
+        public EqualsBuilder<T> compareArray(ToBooleanArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addComparisonStep(new BooleanArrayComparisonStep<>(valueExtractor));
+        }
+
         @Override
         public EqualsBuilder<T> compareIdentity(Function<? super T, ?> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must not be null");
@@ -172,6 +284,19 @@ final class EqualsImpl<T> implements Equals<T> {
             return addComparisonStep(new DelegatingComparisonStep<>(condition));
         }
 
+        @Override
+        public EqualsBuilder<T> optimizeOrder() {
+            this.optimizeOrder = true;
+            return this;
+        }
+
+        @Override
+        public EqualsBuilder<T> comparisonOrder(List<Integer> comparisonOrder) {
+            requireNonNull(comparisonOrder, "comparisonOrder must not be null");
+            this.comparisonOrder = new ArrayList<>(comparisonOrder);
+            return this;
+        }
+
         private EqualsBuilder<T> addComparisonStep(ComparisonStep<T> step) {
             comparisonSteps.add(step);
             return this;
@@ -179,9 +304,81 @@ final class EqualsImpl<T> implements Equals<T> {
 
         @Override
         public Equals<T> build() {
+            List<ComparisonStep<T>> comparisonSteps = resolveComparisonSteps();
+            if (!comparisonSteps.isEmpty() && comparisonSteps.size() <= FixedArityEquals.MAX_ARITY) {
+                return FixedArityEquals.create(targetClass, comparisonSteps, classMatcher);
+            }
             return new EqualsImpl<>(targetClass, comparisonSteps, classMatcher);
         }
 
+        @Override
+        public Equals<T> compile() {
+            return EqualsCompiler.compile(targetClass, resolveComparisonSteps(), classMatcher).orElseGet(this::build);
+        }
+
+        @Override
+        public AdaptiveEquals<T> buildAdaptive() {
+            return new AdaptiveEqualsImpl<>(
+                    targetClass,
+                    comparisonSteps,
+                    classMatcher,
+                    getOrder(),
+                    AdaptiveEqualsImpl.DEFAULT_SAMPLE_INTERVAL,
+                    AdaptiveEqualsImpl.DEFAULT_REORDER_INTERVAL
+            );
+        }
+
+        /**
+         * @return the indices of the comparison steps in the order in which they are evaluated
+         */
+        private int[] getOrder() {
+            int[] order;
+            if (comparisonOrder != null) {
+                order = toOrder(comparisonOrder);
+            } else {
+                order = ComparisonStepPlanner.identityOrder(comparisonSteps.size());
+            }
+            if (optimizeOrder) {
+                order = ComparisonStepPlanner.optimizeOrder(comparisonSteps, order);
+            }
+            return order;
+        }
+
+        private int[] toOrder(List<Integer> comparisonOrder) {
+            if (comparisonOrder.size() != comparisonSteps.size()) {
+                throw new IllegalStateException("Comparison order " + comparisonOrder + " does not match " + comparisonSteps.size() + " comparisons");
+            }
+            int[] order = new int[comparisonOrder.size()];
+            boolean[] used = new boolean[comparisonOrder.size()];
+            for (int i = 0; i < order.length; i++) {
+                Integer index = comparisonOrder.get(i);
+                if (index == null || index < 0 || index >= order.length || used[index]) {
+                    throw new IllegalStateException("Comparison order " + comparisonOrder + " is not a permutation of all comparisons");
+                }
+                used[index] = true;
+                order[i] = index;
+            }
+            return order;
+        }
+
+        /**
+         * Inlines the comparison steps of super {@link Equals}. This can only be decided once the final class matcher
+         * is known. The steps are reordered before, such that the steps of the super {@link Equals} stay in place.
+         */
+        private List<ComparisonStep<T>> resolveComparisonSteps() {
+            int[] order = getOrder();
+            List<ComparisonStep<T>> resolvedComparisonSteps = new ArrayList<>(order.length);
+            for (int index : order) {
+                ComparisonStep<T> step = comparisonSteps.get(index);
+                if (step instanceof SuperComparisonStep) {
+                    resolvedComparisonSteps.addAll(((SuperComparisonStep<T>) step).resolve(classMatcher));
+                } else {
+                    resolvedComparisonSteps.add(step);
+                }
+            }
+            return resolvedComparisonSteps;
+        }
+
         @Override
         public boolean isEmpty() {
             return comparisonSteps.isEmpty();
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToShortFunction;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Derives {@link EqualsAndHashCode} instances from the fields of a class, reading the fields through
+ * {@link MethodHandle} getters instead of lambdas.
+ * <p>
+ * If hidden classes can be defined with class data, the result is compiled by {@link EqualsCompiler} and
+ * {@link HashCodeCompiler}, which generate one class each reading all fields by invoking their getters directly.
+ * Classes defined by other means are never unloaded, and an instance collected from the cache may be created again, so
+ * the getters are called through {@link FieldGetter} instead.
+ */
+final class FieldEqualizer {
+
+    /**
+     * Caches instances created without a {@link MethodHandles.Lookup}, since those are created with the same access
+     * for every caller. Instances created with a lookup are not cached, otherwise they would be handed out to callers
+     * without the same access.
+     * <p>
+     * Instances are only referenced weakly, since they reference the target class, which would otherwise never be
+     * unloaded while being referenced from a {@link ClassValue}.
+     */
+    private static final ClassValue<ConcurrentMap<List<String>, WeakReference<EqualsAndHashCode<?>>>> CACHE = new ClassValue<ConcurrentMap<List<String>, WeakReference<EqualsAndHashCode<?>>>>() {
+
+        @Override
+        protected ConcurrentMap<List<String>, WeakReference<EqualsAndHashCode<?>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private FieldEqualizer() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> EqualsAndHashCode<T> fromFields(MethodHandles.Lookup lookup, Class<T> targetClass, String... fieldNames) {
+        List<String> key = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(fieldNames)));
+        if (lookup != null) {
+            return create(lookup, targetClass, getFields(targetClass, key));
+        }
+        ConcurrentMap<List<String>, WeakReference<EqualsAndHashCode<?>>> cache = CACHE.get(targetClass);
+        WeakReference<EqualsAndHashCode<?>> reference = cache.get(key);
+        EqualsAndHashCode<?> equalsAndHashCode = reference != null ? reference.get() : null;
+        if (equalsAndHashCode == null) {
+            // Creating an instance twice in a race is harmless, both are equivalent
+            equalsAndHashCode = create(null, targetClass, getFields(targetClass, key));
+            cache.put(key, new WeakReference<>(equalsAndHashCode));
+        }
+        return (EqualsAndHashCode<T>) equalsAndHashCode;
+    }
+
+    private static List<Field> getFields(Class<?> targetClass, List<String> fieldNames) {
+        List<Field> fields = new ArrayList<>();
+        if (fieldNames.isEmpty()) {
+            for (Field field : targetClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+        for (String fieldName : fieldNames) {
+            requireNonNullFieldName(fieldName);
+            Field field = getField(targetClass, fieldName);
+            if (Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalArgumentException("Field " + fieldName + " of " + targetClass.getName() + " must not be static");
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static void requireNonNullFieldName(String fieldName) {
+        if (fieldName == null) {
+            throw new NullPointerException("fieldNames must not contain null");
+        }
+    }
+
+    private static Field getField(Class<?> targetClass, String fieldName) {
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // Continue with the superclass
+            }
+        }
+        throw new IllegalArgumentException("No field " + fieldName + " found in " + targetClass.getName());
+    }
+
+    private static <T> EqualsAndHashCode<T> create(MethodHandles.Lookup lookup, Class<T> targetClass, List<Field> fields) {
+        EqualsAndHashCodeBuilder<T> builder = Equalizer.equalsAndHashCodeBuilder(targetClass);
+        for (Field field : fields) {
+            FieldGetter<T> getter = new FieldGetter<>(getGetter(lookup, field));
+            Class<?> fieldType = field.getType();
+            if (fieldType == boolean.class) {
+                builder.compareAndHashPrimitive((Predicate<T>) getter);
+            } else if (fieldType == byte.class) {
+                builder.compareAndHashPrimitive((ToByteFunction<T>) getter);
+            } else if (fieldType == short.class) {
+                builder.compareAndHashPrimitive((ToShortFunction<T>) getter);
+            } else if (fieldType == char.class) {
+                builder.compareAndHashPrimitive((ToCharFunction<T>) getter);
+            } else if (fieldType == int.class) {
+                builder.compareAndHashPrimitive((ToIntFunction<T>) getter);
+            } else if (fieldType == long.class) {
+                builder.compareAndHashPrimitive((ToLongFunction<T>) getter);
+            } else if (fieldType == float.class) {
+                builder.compareAndHashPrimitive((ToFloatFunction<T>) getter);
+            } else if (fieldType == double.class) {
+                builder.compareAndHashPrimitive((ToDoubleFunction<T>) getter);
+            } else if (fieldType.isArray()) {
+                builder.compareAndHashDeep((Function<T, Object>) getter);
+            } else {
+                builder.compareAndHash((Function<T, Object>) getter);
+            }
+        }
+        return ClassDefiner.supportsClassData() ? builder.compile() : builder.build();
+    }
+
+    private static MethodHandle getGetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            if (lookup != null) {
+                return lookup.findGetter(field.getDeclaringClass(), field.getName(), field.getType());
+            }
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access field " + field.getName() + " of " + field.getDeclaringClass().getName(), e);
+        }
+    }
+
+}
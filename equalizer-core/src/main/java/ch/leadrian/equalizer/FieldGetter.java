@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToShortFunction;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Value extractor reading a field through a {@link MethodHandle} getter.
+ * <p>
+ * {@link EqualsCompiler} and {@link HashCodeCompiler} do not call the value extractor, but invoke its getter directly.
+ * Only where no classes are generated, for example on Java 8, the methods of this class are called.
+ * <p>
+ * A single class implements every value extractor type, so that no additional class is needed per field type. Only
+ * the method matching the type of the field may be called, since the getter is invoked using
+ * {@link MethodHandle#invokeExact(Object...)}.
+ */
+final class FieldGetter<T> implements
+        Function<T, Object>,
+        Predicate<T>,
+        ToByteFunction<T>,
+        ToShortFunction<T>,
+        ToCharFunction<T>,
+        ToIntFunction<T>,
+        ToLongFunction<T>,
+        ToFloatFunction<T>,
+        ToDoubleFunction<T> {
+
+    private final MethodHandle getter;
+
+    /**
+     * @param getter getter of a field, its parameter type will be erased to {@link Object}
+     */
+    FieldGetter(MethodHandle getter) {
+        Class<?> fieldType = getter.type().returnType();
+        this.getter = getter.asType(MethodType.methodType(fieldType.isPrimitive() ? fieldType : Object.class, Object.class));
+    }
+
+    /**
+     * @return the getter, with its parameter type erased to {@link Object} and its return type erased to {@link Object}
+     * unless it is primitive
+     */
+    MethodHandle getGetter() {
+        return getter;
+    }
+
+    @Override
+    public Object apply(T value) {
+        try {
+            return (Object) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public boolean test(T value) {
+        try {
+            return (boolean) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public byte applyAsByte(T value) {
+        try {
+            return (byte) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public short applyAsShort(T value) {
+        try {
+            return (short) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public char applyAsChar(T value) {
+        try {
+            return (char) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int applyAsInt(T value) {
+        try {
+            return (int) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public long applyAsLong(T value) {
+        try {
+            return (long) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public float applyAsFloat(T value) {
+        try {
+            return (float) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public double applyAsDouble(T value) {
+        try {
+            return (double) getter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else {
+            return new IllegalStateException(t);
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.List;
+
+/**
+ * Factory for {@link Equals} implementations with a small, fixed number of comparison steps.
+ * <p>
+ * Each implementation holds its comparison steps in final fields and applies them in a fixed sequence, avoiding the
+ * list access and loop of {@link EqualsImpl}. Every call site then only ever sees a single step.
+ */
+final class FixedArityEquals {
+
+    static final int MAX_ARITY = 6;
+
+    private FixedArityEquals() {
+    }
+
+    /**
+     * @param comparisonSteps between 1 and {@link #MAX_ARITY} comparison steps
+     */
+    static <T> Equals<T> create(Class<T> targetClass, List<? extends ComparisonStep<T>> comparisonSteps, ClassMatcher<T> classMatcher) {
+        switch (comparisonSteps.size()) {
+            case 1:
+                return new Equals1<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0));
+            case 2:
+                return new Equals2<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0), comparisonSteps.get(1));
+            case 3:
+                return new Equals3<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0), comparisonSteps.get(1), comparisonSteps.get(2));
+            case 4:
+                return new Equals4<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0), comparisonSteps.get(1), comparisonSteps.get(2), comparisonSteps.get(3));
+            case 5:
+                return new Equals5<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0), comparisonSteps.get(1), comparisonSteps.get(2), comparisonSteps.get(3), comparisonSteps.get(4));
+            case 6:
+                return new Equals6<>(targetClass, classMatcher, comparisonSteps, comparisonSteps.get(0), comparisonSteps.get(1), comparisonSteps.get(2), comparisonSteps.get(3), comparisonSteps.get(4), comparisonSteps.get(5));
+            default:
+                throw new IllegalArgumentException("Unsupported number of comparison steps: " + comparisonSteps.size());
+        }
+    }
+
+    private static final class Equals1<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+
+        Equals1(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject);
+        }
+    }
+
+    private static final class Equals2<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+        private final ComparisonStep<T> step1;
+
+        Equals2(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0, ComparisonStep<T> step1) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject)
+                    && step1.isEqual(object, otherObject);
+        }
+    }
+
+    private static final class Equals3<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+        private final ComparisonStep<T> step1;
+        private final ComparisonStep<T> step2;
+
+        Equals3(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0, ComparisonStep<T> step1, ComparisonStep<T> step2) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject)
+                    && step1.isEqual(object, otherObject)
+                    && step2.isEqual(object, otherObject);
+        }
+    }
+
+    private static final class Equals4<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+        private final ComparisonStep<T> step1;
+        private final ComparisonStep<T> step2;
+        private final ComparisonStep<T> step3;
+
+        Equals4(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0, ComparisonStep<T> step1, ComparisonStep<T> step2, ComparisonStep<T> step3) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject)
+                    && step1.isEqual(object, otherObject)
+                    && step2.isEqual(object, otherObject)
+                    && step3.isEqual(object, otherObject);
+        }
+    }
+
+    private static final class Equals5<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+        private final ComparisonStep<T> step1;
+        private final ComparisonStep<T> step2;
+        private final ComparisonStep<T> step3;
+        private final ComparisonStep<T> step4;
+
+        Equals5(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0, ComparisonStep<T> step1, ComparisonStep<T> step2, ComparisonStep<T> step3, ComparisonStep<T> step4) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+            this.step4 = step4;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject)
+                    && step1.isEqual(object, otherObject)
+                    && step2.isEqual(object, otherObject)
+                    && step3.isEqual(object, otherObject)
+                    && step4.isEqual(object, otherObject);
+        }
+    }
+
+    private static final class Equals6<T> extends AbstractEquals<T> {
+
+        private final ComparisonStep<T> step0;
+        private final ComparisonStep<T> step1;
+        private final ComparisonStep<T> step2;
+        private final ComparisonStep<T> step3;
+        private final ComparisonStep<T> step4;
+        private final ComparisonStep<T> step5;
+
+        Equals6(Class<T> targetClass, ClassMatcher<T> classMatcher, List<? extends ComparisonStep<T>> comparisonSteps, ComparisonStep<T> step0, ComparisonStep<T> step1, ComparisonStep<T> step2, ComparisonStep<T> step3, ComparisonStep<T> step4, ComparisonStep<T> step5) {
+            super(targetClass, classMatcher, comparisonSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+            this.step4 = step4;
+            this.step5 = step5;
+        }
+
+        @Override
+        boolean isEqual(T object, T otherObject) {
+            return step0.isEqual(object, otherObject)
+                    && step1.isEqual(object, otherObject)
+                    && step2.isEqual(object, otherObject)
+                    && step3.isEqual(object, otherObject)
+                    && step4.isEqual(object, otherObject)
+                    && step5.isEqual(object, otherObject);
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.List;
+
+/**
+ * Factory for {@link HashCode} implementations with a small, fixed number of hash steps.
+ * <p>
+ * Each implementation holds its hash steps in final fields and applies them in a fixed sequence, avoiding the list
+ * access and loop of {@link HashCodeImpl}. The resulting hash codes are identical to those of {@link HashCodeImpl}.
+ */
+final class FixedArityHashCode {
+
+    static final int MAX_ARITY = 6;
+
+    private FixedArityHashCode() {
+    }
+
+    /**
+     * @param hashSteps between 1 and {@link #MAX_ARITY} hash steps
+     */
+    static <T> HashCode<T> create(List<? extends HashStep<T>> hashSteps) {
+        switch (hashSteps.size()) {
+            case 1:
+                return new HashCode1<>(hashSteps, hashSteps.get(0));
+            case 2:
+                return new HashCode2<>(hashSteps, hashSteps.get(0), hashSteps.get(1));
+            case 3:
+                return new HashCode3<>(hashSteps, hashSteps.get(0), hashSteps.get(1), hashSteps.get(2));
+            case 4:
+                return new HashCode4<>(hashSteps, hashSteps.get(0), hashSteps.get(1), hashSteps.get(2), hashSteps.get(3));
+            case 5:
+                return new HashCode5<>(hashSteps, hashSteps.get(0), hashSteps.get(1), hashSteps.get(2), hashSteps.get(3), hashSteps.get(4));
+            case 6:
+                return new HashCode6<>(hashSteps, hashSteps.get(0), hashSteps.get(1), hashSteps.get(2), hashSteps.get(3), hashSteps.get(4), hashSteps.get(5));
+            default:
+                throw new IllegalArgumentException("Unsupported number of hash steps: " + hashSteps.size());
+        }
+    }
+
+    private static final class HashCode1<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+
+        HashCode1(List<? extends HashStep<T>> hashSteps, HashStep<T> step0) {
+            super(hashSteps);
+            this.step0 = step0;
+        }
+
+        @Override
+        int hash(T object) {
+            return 31 + step0.hash(object);
+        }
+    }
+
+    private static final class HashCode2<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+        private final HashStep<T> step1;
+
+        HashCode2(List<? extends HashStep<T>> hashSteps, HashStep<T> step0, HashStep<T> step1) {
+            super(hashSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+        }
+
+        @Override
+        int hash(T object) {
+            int result = 31 + step0.hash(object);
+            return 31 * result + step1.hash(object);
+        }
+    }
+
+    private static final class HashCode3<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+        private final HashStep<T> step1;
+        private final HashStep<T> step2;
+
+        HashCode3(List<? extends HashStep<T>> hashSteps, HashStep<T> step0, HashStep<T> step1, HashStep<T> step2) {
+            super(hashSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+        }
+
+        @Override
+        int hash(T object) {
+            int result = 31 + step0.hash(object);
+            result = 31 * result + step1.hash(object);
+            return 31 * result + step2.hash(object);
+        }
+    }
+
+    private static final class HashCode4<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+        private final HashStep<T> step1;
+        private final HashStep<T> step2;
+        private final HashStep<T> step3;
+
+        HashCode4(List<? extends HashStep<T>> hashSteps, HashStep<T> step0, HashStep<T> step1, HashStep<T> step2, HashStep<T> step3) {
+            super(hashSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+        }
+
+        @Override
+        int hash(T object) {
+            int result = 31 + step0.hash(object);
+            result = 31 * result + step1.hash(object);
+            result = 31 * result + step2.hash(object);
+            return 31 * result + step3.hash(object);
+        }
+    }
+
+    private static final class HashCode5<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+        private final HashStep<T> step1;
+        private final HashStep<T> step2;
+        private final HashStep<T> step3;
+        private final HashStep<T> step4;
+
+        HashCode5(List<? extends HashStep<T>> hashSteps, HashStep<T> step0, HashStep<T> step1, HashStep<T> step2, HashStep<T> step3, HashStep<T> step4) {
+            super(hashSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+            this.step4 = step4;
+        }
+
+        @Override
+        int hash(T object) {
+            int result = 31 + step0.hash(object);
+            result = 31 * result + step1.hash(object);
+            result = 31 * result + step2.hash(object);
+            result = 31 * result + step3.hash(object);
+            return 31 * result + step4.hash(object);
+        }
+    }
+
+    private static final class HashCode6<T> extends AbstractHashCode<T> {
+
+        private final HashStep<T> step0;
+        private final HashStep<T> step1;
+        private final HashStep<T> step2;
+        private final HashStep<T> step3;
+        private final HashStep<T> step4;
+        private final HashStep<T> step5;
+
+        HashCode6(List<? extends HashStep<T>> hashSteps, HashStep<T> step0, HashStep<T> step1, HashStep<T> step2, HashStep<T> step3, HashStep<T> step4, HashStep<T> step5) {
+            super(hashSteps);
+            this.step0 = step0;
+            this.step1 = step1;
+            this.step2 = step2;
+            this.step3 = step3;
+            this.step4 = step4;
+            this.step5 = step5;
+        }
+
+        @Override
+        int hash(T object) {
+            int result = 31 + step0.hash(object);
+            result = 31 * result + step1.hash(object);
+            result = 31 * result + step2.hash(object);
+            result = 31 * result + step3.hash(object);
+            result = 31 * result + step4.hash(object);
+            return 31 * result + step5.hash(object);
+        }
+    }
+
+}
@@ -28,6 +28,10 @@ final class FloatComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToFloatFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         float value1 = valueExtractor.applyAsFloat(object1);
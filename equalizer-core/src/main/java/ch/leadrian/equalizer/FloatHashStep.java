@@ -26,6 +26,10 @@ final class FloatHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToFloatFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Float.hashCode(valueExtractor.applyAsFloat(object));
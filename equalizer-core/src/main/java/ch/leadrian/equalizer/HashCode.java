@@ -16,8 +16,11 @@
 
 package ch.leadrian.equalizer;
 
+import java.util.List;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * <p>
  * Hash code computation for {@link Object#hashCode()}.
@@ -98,4 +101,49 @@ public interface HashCode<T> {
      */
     int hashCode(T object);
 
+    /**
+     * Computes the hash codes of all {@code objects} and stores them in {@code out}, such that {@code out[i]} is equal
+     * to {@code hashCode(objects[i])}.
+     *
+     * @param objects The instances of type {@code T} for which hash codes should be computed. Elements may be
+     *                {@code null}.
+     * @param out     Receives the hash codes. Must have at least as many elements as {@code objects}.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code objects}
+     * @see #hashAll(List, int[])
+     */
+    default void hashAll(T[] objects, int[] out) {
+        requireNonNull(objects, "objects must not be null");
+        requireNonNull(out, "out must not be null");
+        if (out.length < objects.length) {
+            throw new IllegalArgumentException("out has " + out.length + " elements, but there are " + objects.length + " objects");
+        }
+        for (int i = 0; i < objects.length; i++) {
+            out[i] = hashCode(objects[i]);
+        }
+    }
+
+    /**
+     * Computes the hash codes of all {@code objects} and stores them in {@code out}, such that {@code out[i]} is equal
+     * to {@code hashCode(objects.get(i))}.
+     * <p>
+     * Objects are hashed one after the other. Since the attributes of an object are usually close to each other in
+     * memory, this is faster on the JVM than applying one attribute to all objects before moving on to the next one.
+     *
+     * @param objects The instances of type {@code T} for which hash codes should be computed. Elements may be
+     *                {@code null}.
+     * @param out     Receives the hash codes. Must have at least as many elements as {@code objects}.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code objects}
+     */
+    default void hashAll(List<? extends T> objects, int[] out) {
+        requireNonNull(objects, "objects must not be null");
+        requireNonNull(out, "out must not be null");
+        if (out.length < objects.size()) {
+            throw new IllegalArgumentException("out has " + out.length + " elements, but there are " + objects.size() + " objects");
+        }
+        int i = 0;
+        for (T object : objects) {
+            out[i++] = hashCode(object);
+        }
+    }
+
 }
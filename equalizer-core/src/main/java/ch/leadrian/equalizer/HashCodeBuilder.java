@@ -16,12 +16,25 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -135,6 +148,179 @@ public interface HashCodeBuilder<T> {
      */
     HashCodeBuilder<T> hashDeep(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Use the deep hash code of the value provided by {@code valueExtractor} to compute the hash code of an instance of
+     * {@code T}, like {@link #hashDeep(Function)}. Arrays with at least as many elements as the threshold of
+     * {@code parallelismPolicy} are split into chunks that are hashed in parallel. The partial results are combined such
+     * that the hash code is the same as the one computed by {@link #hashDeep(Function)}. The value passed to the
+     * {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor    function to extract a value from an instance of {@code T}
+     * @param parallelismPolicy determines which arrays are hashed in parallel
+     * @return {@code this}
+     * @see ParallelismPolicy
+     */
+    HashCodeBuilder<T> hashDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy);
+
+    /**
+     * Use the hash code of the {@link List} provided by {@code valueExtractor} to compute the hash code of an instance
+     * of {@code T}. The hash codes of the elements are computed using {@code elementHashCode} and combined like
+     * {@link List#hashCode()}. Lists implementing {@link java.util.RandomAccess} are traversed by index, such that no
+     * iterator is allocated. The value passed to the {@code valueExtractor} is guaranteed to be non-null. The return
+     * value may be null.
+     *
+     * @param valueExtractor  function to extract a list from an instance of {@code T}
+     * @param elementHashCode computes the hash codes of the elements, which may be {@code null}
+     * @param <E>             type of the elements of the list
+     * @return {@code this}
+     */
+    <E> HashCodeBuilder<T> hashList(Function<? super T, ? extends List<? extends E>> valueExtractor, HashCode<? super E> elementHashCode);
+
+    /**
+     * Use the hash code of the {@link Set} provided by {@code valueExtractor} to compute the hash code of an instance of
+     * {@code T}. The hash code is the same as the one computed by {@link Set#hashCode()}. The value passed to the
+     * {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a set from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashSet(Function<? super T, ? extends Set<?>> valueExtractor);
+
+    /**
+     * Use the hash code of the {@link Map} provided by {@code valueExtractor} to compute the hash code of an instance of
+     * {@code T}. The hash codes of the values are computed using {@code valueHashCode} and combined with the hash codes
+     * of the keys like {@link Map#hashCode()}. The value passed to the {@code valueExtractor} is guaranteed to be
+     * non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a map from an instance of {@code T}
+     * @param valueHashCode  computes the hash codes of the values, which may be {@code null}
+     * @param <V>            type of the values of the map
+     * @return {@code this}
+     */
+    <V> HashCodeBuilder<T> hashMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, HashCode<? super V> valueHashCode);
+
+    /**
+     * Use an order-independent hash code of the value provided by {@code valueExtractor} to compute the hash code of an
+     * instance of {@code T}. Supported values are {@code int[]}, {@code long[]}, {@code Object[]} and
+     * {@link java.util.Collection}s. The hash codes of their elements are mixed and summed up, which takes linear time
+     * and does not allocate. Any other value is hashed like {@link #hashDeep(Function)}. The value passed to the
+     * {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract an array or collection from an instance of {@code T}
+     * @return {@code this}
+     * @see EqualsBuilder#compareUnordered(Function)
+     */
+    HashCodeBuilder<T> hashUnordered(Function<? super T, ?> valueExtractor);
+
+    /**
+     * Use the hash code computed by {@code valueHashCode} for the value provided by {@code valueExtractor} to compute
+     * the hash code of an instance of {@code T}, instead of the value's {@code hashCode} method. The value passed to
+     * the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @param valueHashCode  {@link HashCode} used to hash the extracted value
+     * @param <V>            type of the extracted value
+     * @return {@code this}
+     * @see EqualsBuilder#compareWith(Function, Equals)
+     */
+    <V> HashCodeBuilder<T> hashWith(Function<? super T, ? extends V> valueExtractor, HashCode<? super V> valueHashCode);
+
+    /**
+     * Use the hash code of the contents of the {@code byte[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(byte[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToByteArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code short[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(short[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToShortArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code char[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(char[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToCharArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code int[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(int[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToIntArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code long[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(long[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToLongArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code float[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(float[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToFloatArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code double[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(double[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToDoubleArrayFunction<? super T> valueExtractor);
+
+    /**
+     * Use the hash code of the contents of the {@code boolean[]} value provided by {@code valueExtractor} to compute the
+     * hash code of an instance of {@code T}. The hash code is the same as the one computed by
+     * {@link java.util.Arrays#hashCode(boolean[])}. Unlike {@link #hashDeep(Function)}, the array type is known when the
+     * {@link HashCode} is built, so it does not need to be determined for each hash code computation. The value passed
+     * to the {@code valueExtractor} is guaranteed to be non-null. The return value may be null.
+     *
+     * @param valueExtractor function to extract a value from an instance of {@code T}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> hashArray(ToBooleanArrayFunction<? super T> valueExtractor);
+
     /**
      * Use the hash code of the value provided by {@code valueExtractor} to compute the hash code of an instance of
      * {@code T}. The value passed to the {@code valueExtractor} is guaranteed to be non-null. The return value may be
@@ -146,6 +332,52 @@ public interface HashCodeBuilder<T> {
      */
     HashCodeBuilder<T> hashIdentity(Function<? super T, ?> valueExtractor);
 
+    /**
+     * Use {@code hashMixer} to combine the hash codes of the configured attributes. By default,
+     * {@link HashMixers#polynomial()} is used.
+     *
+     * @param hashMixer {@link HashMixer} combining the hash codes of the attributes
+     * @return {@code this}
+     * @see HashMixers
+     */
+    HashCodeBuilder<T> mixer(HashMixer hashMixer);
+
+    /**
+     * Caches the computed hash code in a field of the instance of {@code T}, like {@link String#hashCode()} does.
+     * {@code T} must be immutable with respect to all attributes used to compute the hash code.
+     * <p>
+     * The hash code is read using {@code hashGetter}. If it is {@code 0}, the hash code is computed and stored using
+     * {@code hashSetter}. The backing field should be a plain, non-volatile {@code int} field initialized to {@code 0}.
+     * Concurrent callers may compute the hash code more than once, but since they always store the same value, no
+     * synchronization is required.
+     * <p>
+     * Values whose actual hash code is {@code 0} are not cached and recomputed on each call. Use
+     * {@link #cachedIn(ToIntFunction, ObjIntConsumer, Predicate, Consumer)} if this matters.
+     *
+     * @param hashGetter function to read the cached hash code, {@code 0} if not yet computed
+     * @param hashSetter function to store the computed hash code
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> cachedIn(ToIntFunction<? super T> hashGetter, ObjIntConsumer<? super T> hashSetter);
+
+    /**
+     * Same as {@link #cachedIn(ToIntFunction, ObjIntConsumer)}, but uses a second {@code boolean} field to remember
+     * that the actual hash code is {@code 0}. Both fields are written independently of each other, and each of them is
+     * only ever changed once from its default value, so no synchronization is required.
+     *
+     * @param hashGetter function to read the cached hash code, {@code 0} if not yet computed
+     * @param hashSetter function to store the computed hash code
+     * @param hashIsZeroGetter function to read whether the hash code has been computed to be {@code 0}
+     * @param hashIsZeroSetter function to store that the hash code has been computed to be {@code 0}
+     * @return {@code this}
+     */
+    HashCodeBuilder<T> cachedIn(
+            ToIntFunction<? super T> hashGetter,
+            ObjIntConsumer<? super T> hashSetter,
+            Predicate<? super T> hashIsZeroGetter,
+            Consumer<? super T> hashIsZeroSetter
+    );
+
     /**
      * Builds an {@link HashCode} instance.
      *
@@ -154,6 +386,21 @@ public interface HashCodeBuilder<T> {
      */
     HashCode<T> build();
 
+    /**
+     * Builds a {@link HashCode} instance whose hash steps are compiled into a single generated class.
+     * <p>
+     * The resulting {@link HashCode} computes exactly the same hash codes as one created by {@link #build()}, but
+     * avoids the megamorphic dispatch over the individual hash steps. Since generating a class is expensive, the result
+     * should be created once and stored, for example in a {@code static final} field.
+     * <p>
+     * If classes cannot be generated on the current platform, for example on Java 8, or if the builder is empty, this
+     * method returns the same as {@link #build()}.
+     *
+     * @return A {@link HashCode} that uses the configured {@code valueExtractor}s to compute the hash code of an
+     * instance of {@code T}.
+     */
+    HashCode<T> compile();
+
     /**
      * Returns whether the builder has any hash steps or not.
      * <p>
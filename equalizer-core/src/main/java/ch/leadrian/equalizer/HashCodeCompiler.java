@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a subclass of {@link AbstractHashCode} with the hash steps unrolled into a single method, such that the JIT
+ * compiler sees one straight-line method instead of a megamorphic loop over {@link HashStep}s.
+ * <p>
+ * The generated code computes exactly the same hash code as {@link HashCodeImpl}. Unknown steps are invoked through
+ * {@link HashStep#hash(Object)}.
+ */
+final class HashCodeCompiler {
+
+    private static final String ABSTRACT_HASH_CODE = "ch/leadrian/equalizer/AbstractHashCode";
+    private static final String CLASS_NAME_PREFIX = "ch/leadrian/equalizer/CompiledHashCode$";
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private HashCodeCompiler() {
+    }
+
+    /**
+     * @return a compiled {@link HashCode}, or an empty {@link Optional} if no class could be generated or defined
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<HashCode<T>> compile(List<? extends HashStep<T>> hashSteps) {
+        if (hashSteps.isEmpty() || !ClassDefiner.isSupported()) {
+            return Optional.empty();
+        }
+
+        String className = CLASS_NAME_PREFIX + CLASS_COUNTER.incrementAndGet();
+        Object[] operands = new Object[hashSteps.size()];
+        byte[] bytes;
+        try {
+            bytes = generate(className, hashSteps, operands);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // Too many steps to fit into a single method
+            return Optional.empty();
+        }
+        return ClassDefiner.defineClass(bytes, getClassData(operands)).flatMap(definedClass -> {
+            try {
+                Constructor<?> constructor = definedClass.getDeclaredConstructor(List.class, Object[].class);
+                return Optional.of((HashCode<T>) constructor.newInstance(hashSteps, operands));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static <T> byte[] generate(String className, List<? extends HashStep<T>> hashSteps, Object[] operands) {
+        ClassFileWriter writer = new ClassFileWriter(
+                ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER | ClassFileWriter.ACC_SYNTHETIC,
+                className,
+                ABSTRACT_HASH_CODE
+        );
+        String[] fieldDescriptors = new String[hashSteps.size()];
+        ClassFileWriter.Code hash = writer.newCode(6, 2);
+        // result = 31 * 1 + hash(0), keep the intermediate result on the operand stack
+        hash.pushInt(31);
+        for (int i = 0; i < hashSteps.size(); i++) {
+            HashStep<T> step = hashSteps.get(i);
+            String fieldName = "step" + i;
+            if (i > 0) {
+                hash.pushInt(31).imul();
+            }
+            ValueExtractorKind kind = getValueExtractorKind(step);
+            if (kind != null) {
+                operands[i] = kind.getOperand(getValueExtractor(step));
+                fieldDescriptors[i] = kind.getFieldDescriptor(operands[i]);
+                kind.emitExtractValue(hash, className, fieldName, fieldDescriptors[i], 1);
+                emitHashValue(hash, kind, step);
+            } else if (step instanceof DelegatingHashStep) {
+                operands[i] = ((DelegatingHashStep<T>) step).getDelegate();
+                fieldDescriptors[i] = "Ljava/util/function/ToIntFunction;";
+                hash.aload(0)
+                        .getfield(className, fieldName, fieldDescriptors[i])
+                        .aload(1)
+                        .invokeinterface("java/util/function/ToIntFunction", "applyAsInt", "(Ljava/lang/Object;)I", 2);
+            } else {
+                operands[i] = step;
+                fieldDescriptors[i] = "Lch/leadrian/equalizer/HashStep;";
+                hash.aload(0)
+                        .getfield(className, fieldName, fieldDescriptors[i])
+                        .aload(1)
+                        .invokeinterface("ch/leadrian/equalizer/HashStep", "hash", "(Ljava/lang/Object;)I", 2);
+            }
+            hash.iadd();
+            if (ValueExtractorKind.isGetter(fieldDescriptors[i])) {
+                writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL, fieldName, fieldDescriptors[i]);
+            } else {
+                writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, fieldName, fieldDescriptors[i]);
+            }
+        }
+        hash.ireturn();
+
+        ClassFileWriter.Code constructor = writer.newCode(3, 3);
+        constructor.aload(0)
+                .aload(1)
+                .invokespecial(ABSTRACT_HASH_CODE, "<init>", "(Ljava/util/List;)V");
+        ClassFileWriter.Code staticInitializer = writer.newCode(4, 0);
+        for (int i = 0; i < fieldDescriptors.length; i++) {
+            String fieldDescriptor = fieldDescriptors[i];
+            if (ValueExtractorKind.isGetter(fieldDescriptor)) {
+                ValueExtractorKind.emitInitializeGetter(staticInitializer, className, "step" + i, i);
+                continue;
+            }
+            constructor.aload(0)
+                    .aload(2)
+                    .pushInt(i)
+                    .aaload()
+                    .checkcast(fieldDescriptor.substring(1, fieldDescriptor.length() - 1))
+                    .putfield(className, "step" + i, fieldDescriptor);
+        }
+        constructor.returnVoid();
+        staticInitializer.returnVoid();
+
+        writer.addMethod(ClassFileWriter.ACC_STATIC, "<clinit>", "()V", staticInitializer);
+        writer.addMethod(0, "<init>", "(Ljava/util/List;[Ljava/lang/Object;)V", constructor);
+        writer.addMethod(ClassFileWriter.ACC_FINAL, "hash", "(Ljava/lang/Object;)I", hash);
+        return writer.toByteArray();
+    }
+
+    /**
+     * @return the operands as class data if any getter is read from the class data, otherwise {@code null}
+     */
+    private static List<Object> getClassData(Object[] operands) {
+        for (Object operand : operands) {
+            if (operand instanceof MethodHandle) {
+                return Collections.unmodifiableList(Arrays.asList(operands.clone()));
+            }
+        }
+        return null;
+    }
+
+    private static ValueExtractorKind getValueExtractorKind(HashStep<?> step) {
+        if (step instanceof BooleanHashStep) {
+            return ValueExtractorKind.BOOLEAN;
+        } else if (step instanceof ByteHashStep) {
+            return ValueExtractorKind.BYTE;
+        } else if (step instanceof ShortHashStep) {
+            return ValueExtractorKind.SHORT;
+        } else if (step instanceof CharHashStep) {
+            return ValueExtractorKind.CHAR;
+        } else if (step instanceof IntHashStep) {
+            return ValueExtractorKind.INT;
+        } else if (step instanceof LongHashStep) {
+            return ValueExtractorKind.LONG;
+        } else if (step instanceof FloatHashStep) {
+            return ValueExtractorKind.FLOAT;
+        } else if (step instanceof DoubleHashStep) {
+            return ValueExtractorKind.DOUBLE;
+        } else if (step instanceof ShallowHashStep
+                || step instanceof DeepHashStep
+                || step instanceof IdentityHashStep) {
+            return ValueExtractorKind.OBJECT;
+        } else if (step instanceof ByteArrayHashStep) {
+            return ValueExtractorKind.BYTE_ARRAY;
+        } else if (step instanceof ShortArrayHashStep) {
+            return ValueExtractorKind.SHORT_ARRAY;
+        } else if (step instanceof CharArrayHashStep) {
+            return ValueExtractorKind.CHAR_ARRAY;
+        } else if (step instanceof IntArrayHashStep) {
+            return ValueExtractorKind.INT_ARRAY;
+        } else if (step instanceof LongArrayHashStep) {
+            return ValueExtractorKind.LONG_ARRAY;
+        } else if (step instanceof FloatArrayHashStep) {
+            return ValueExtractorKind.FLOAT_ARRAY;
+        } else if (step instanceof DoubleArrayHashStep) {
+            return ValueExtractorKind.DOUBLE_ARRAY;
+        } else if (step instanceof BooleanArrayHashStep) {
+            return ValueExtractorKind.BOOLEAN_ARRAY;
+        } else {
+            return null;
+        }
+    }
+
+    private static Object getValueExtractor(HashStep<?> step) {
+        if (step instanceof BooleanHashStep) {
+            return ((BooleanHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof ByteHashStep) {
+            return ((ByteHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof ShortHashStep) {
+            return ((ShortHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof CharHashStep) {
+            return ((CharHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof IntHashStep) {
+            return ((IntHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof LongHashStep) {
+            return ((LongHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof FloatHashStep) {
+            return ((FloatHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof DoubleHashStep) {
+            return ((DoubleHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof ByteArrayHashStep) {
+            return ((ByteArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof ShortArrayHashStep) {
+            return ((ShortArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof CharArrayHashStep) {
+            return ((CharArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof IntArrayHashStep) {
+            return ((IntArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof LongArrayHashStep) {
+            return ((LongArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof FloatArrayHashStep) {
+            return ((FloatArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof DoubleArrayHashStep) {
+            return ((DoubleArrayHashStep<?>) step).getValueExtractor();
+        } else if (step instanceof BooleanArrayHashStep) {
+            return ((BooleanArrayHashStep<?>) step).getValueExtractor();
+        } else {
+            return ((ValueExtractingHashStep<?>) step).getValueExtractor();
+        }
+    }
+
+    private static void emitHashValue(ClassFileWriter.Code code, ValueExtractorKind kind, HashStep<?> step) {
+        switch (kind) {
+            case BOOLEAN:
+                code.invokestatic("java/lang/Boolean", "hashCode", "(Z)I");
+                break;
+            case LONG:
+                code.invokestatic("java/lang/Long", "hashCode", "(J)I");
+                break;
+            case FLOAT:
+                code.invokestatic("java/lang/Float", "hashCode", "(F)I");
+                break;
+            case DOUBLE:
+                code.invokestatic("java/lang/Double", "hashCode", "(D)I");
+                break;
+            case OBJECT:
+                if (step instanceof IdentityHashStep) {
+                    code.invokestatic("java/lang/System", "identityHashCode", "(Ljava/lang/Object;)I");
+                } else if (step instanceof DeepHashStep) {
+                    code.invokestatic("ch/leadrian/equalizer/DeepHashStep", "deepHashCode", "(Ljava/lang/Object;)I");
+                } else {
+                    code.invokestatic("java/util/Objects", "hashCode", "(Ljava/lang/Object;)I");
+                }
+                break;
+            default:
+                if (kind.isArray()) {
+                    code.invokestatic("ch/leadrian/equalizer/ArrayHashing", "hashCode", "(" + kind.getReturnDescriptor() + ")I");
+                }
+                // Byte.hashCode, Short.hashCode, Character.hashCode and Integer.hashCode return the value itself
+                break;
+        }
+    }
+
+}
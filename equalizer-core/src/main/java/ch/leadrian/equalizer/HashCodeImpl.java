@@ -16,14 +16,26 @@
 
 package ch.leadrian.equalizer;
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction;
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction;
 import ch.leadrian.equalizer.util.function.ToByteFunction;
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction;
 import ch.leadrian.equalizer.util.function.ToCharFunction;
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction;
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction;
 import ch.leadrian.equalizer.util.function.ToFloatFunction;
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction;
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction;
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction;
 import ch.leadrian.equalizer.util.function.ToShortFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -31,20 +43,15 @@ import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
 
-final class HashCodeImpl<T> implements HashCode<T> {
-
-    private final List<HashStep<T>> hashSteps;
+final class HashCodeImpl<T> extends AbstractHashCode<T> {
 
     private HashCodeImpl(List<? extends HashStep<T>> hashSteps) {
-        this.hashSteps = new ArrayList<>(hashSteps);
+        super(hashSteps);
     }
 
     @Override
-    public int hashCode(T object) {
-        if (object == null) {
-            return 0;
-        }
-
+    int hash(T object) {
+        List<HashStep<T>> hashSteps = getHashSteps();
         if (hashSteps.isEmpty()) {
             return System.identityHashCode(object);
         }
@@ -59,10 +66,24 @@ final class HashCodeImpl<T> implements HashCode<T> {
     static final class Builder<T> implements HashCodeBuilder<T> {
 
         private final List<HashStep<T>> hashSteps = new ArrayList<>();
+        private ToIntFunction<? super T> hashGetter;
+        private ObjIntConsumer<? super T> hashSetter;
+        private Predicate<? super T> hashIsZeroGetter;
+        private Consumer<? super T> hashIsZeroSetter;
+        private HashMixer hashMixer = HashMixers.polynomial();
 
         @Override
         public HashCodeBuilder<T> withSuper(HashCode<? super T> superHashCode) {
             requireNonNull(superHashCode, "superHashCode must not be null");
+            HashCode<? super T> hashCode = superHashCode;
+            if (hashCode instanceof EqualsAndHashCodeImpl) {
+                hashCode = ((EqualsAndHashCodeImpl<? super T>) hashCode).getHashCode();
+            }
+            // Without any hash steps, the super HashCode falls back to the identity hash code
+            if (hashCode instanceof AbstractHashCode && !((AbstractHashCode<? super T>) hashCode).getHashSteps().isEmpty()) {
+                AbstractHashCode<? super T> abstractHashCode = (AbstractHashCode<? super T>) hashCode;
+                return addHashStep(new SuperHashStep<>(abstractHashCode.getHashSteps(), abstractHashCode.getHashMixer()));
+            }
             return addHashStep(new DelegatingHashStep<>(superHashCode::hashCode));
         }
 
@@ -126,6 +147,94 @@ final class HashCodeImpl<T> implements HashCode<T> {
             return addHashStep(new DeepHashStep<>(valueExtractor));
         }
 
+        @Override
+        public HashCodeBuilder<T> hashDeep(Function<? super T, ?> valueExtractor, ParallelismPolicy parallelismPolicy) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(parallelismPolicy, "parallelismPolicy must not be null");
+            return addHashStep(new ParallelDeepHashStep<>(valueExtractor, parallelismPolicy));
+        }
+
+        @Override
+        public <E> HashCodeBuilder<T> hashList(Function<? super T, ? extends List<? extends E>> valueExtractor, HashCode<? super E> elementHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(elementHashCode, "elementHashCode must not be null");
+            return addHashStep(new ListHashStep<>(valueExtractor, elementHashCode));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashSet(Function<? super T, ? extends Set<?>> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new SetHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public <V> HashCodeBuilder<T> hashMap(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, HashCode<? super V> valueHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueHashCode, "valueHashCode must not be null");
+            return addHashStep(new MapHashStep<>(valueExtractor, valueHashCode));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashUnordered(Function<? super T, ?> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new UnorderedHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public <V> HashCodeBuilder<T> hashWith(Function<? super T, ? extends V> valueExtractor, HashCode<? super V> valueHashCode) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            requireNonNull(valueHashCode, "valueHashCode must not be null");
+            return addHashStep(new NestedHashStep<>(valueExtractor, valueHashCode));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToByteArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new ByteArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToShortArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new ShortArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToCharArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new CharArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToIntArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new IntArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToLongArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new LongArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToFloatArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new FloatArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToDoubleArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new DoubleArrayHashStep<>(valueExtractor));
+        }
+
+        @Override
+        public HashCodeBuilder<T> hashArray(ToBooleanArrayFunction<? super T> valueExtractor) {
+            requireNonNull(valueExtractor, "valueExtractor must not be null");
+            return addHashStep(new BooleanArrayHashStep<>(valueExtractor));
+        }
+
         @Override
         public HashCodeBuilder<T> hashIdentity(Function<? super T, ?> valueExtractor) {
             requireNonNull(valueExtractor, "valueExtractor must not be null");
@@ -137,9 +246,61 @@ final class HashCodeImpl<T> implements HashCode<T> {
             return this;
         }
 
+        @Override
+        public HashCodeBuilder<T> cachedIn(ToIntFunction<? super T> hashGetter, ObjIntConsumer<? super T> hashSetter) {
+            return cachedIn(hashGetter, hashSetter, value -> false, value -> {});
+        }
+
+        @Override
+        public HashCodeBuilder<T> cachedIn(
+                ToIntFunction<? super T> hashGetter,
+                ObjIntConsumer<? super T> hashSetter,
+                Predicate<? super T> hashIsZeroGetter,
+                Consumer<? super T> hashIsZeroSetter
+        ) {
+            requireNonNull(hashGetter, "hashGetter must not be null");
+            requireNonNull(hashSetter, "hashSetter must not be null");
+            requireNonNull(hashIsZeroGetter, "hashIsZeroGetter must not be null");
+            requireNonNull(hashIsZeroSetter, "hashIsZeroSetter must not be null");
+            this.hashGetter = hashGetter;
+            this.hashSetter = hashSetter;
+            this.hashIsZeroGetter = hashIsZeroGetter;
+            this.hashIsZeroSetter = hashIsZeroSetter;
+            return this;
+        }
+
+        @Override
+        public HashCodeBuilder<T> mixer(HashMixer hashMixer) {
+            requireNonNull(hashMixer, "hashMixer must not be null");
+            this.hashMixer = hashMixer;
+            return this;
+        }
+
         @Override
         public HashCode<T> build() {
-            return new HashCodeImpl<>(hashSteps);
+            if (!hashSteps.isEmpty() && hashMixer != HashMixers.polynomial()) {
+                return cached(new MixingHashCode<>(hashSteps, hashMixer));
+            }
+            if (!hashSteps.isEmpty() && hashSteps.size() <= FixedArityHashCode.MAX_ARITY) {
+                return cached(FixedArityHashCode.create(hashSteps));
+            }
+            return cached(new HashCodeImpl<>(hashSteps));
+        }
+
+        @Override
+        public HashCode<T> compile() {
+            if (hashMixer != HashMixers.polynomial()) {
+                // Generated classes only support the polynomial hash mixer
+                return build();
+            }
+            return HashCodeCompiler.compile(hashSteps).map(this::cached).orElseGet(this::build);
+        }
+
+        private HashCode<T> cached(HashCode<T> hashCode) {
+            if (hashGetter == null) {
+                return hashCode;
+            }
+            return new CachedHashCode<>(hashCode, hashGetter, hashSetter, hashIsZeroGetter, hashIsZeroSetter);
         }
 
         @Override
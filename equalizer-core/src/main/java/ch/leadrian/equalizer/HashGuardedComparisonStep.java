@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.function.Function;
+
+/**
+ * Compares the hash codes of two values before calling {@link Object#equals(Object)}. This is cheaper than a plain
+ * {@link Object#equals(Object)} if the values usually differ and memoize their hash codes, like {@link String}, in
+ * particular if the values often share a long common prefix.
+ */
+final class HashGuardedComparisonStep<T> extends ValueExtractingComparisonStep<T> {
+
+    HashGuardedComparisonStep(Function<? super T, ?> valueExtractor) {
+        super(valueExtractor);
+    }
+
+    @Override
+    boolean isValueEqual(Object value1, Object value2) {
+        return hashGuardedEquals(value1, value2);
+    }
+
+    static boolean hashGuardedEquals(Object value1, Object value2) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+        return value1.hashCode() == value2.hashCode() && value1.equals(value2);
+    }
+}
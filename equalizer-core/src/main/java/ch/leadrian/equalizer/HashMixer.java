@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+/**
+ * Strategy used by {@link HashCode} to combine the hash codes of the individual attributes of a value into a single
+ * hash code.
+ * <p>
+ * The hash code of a value with the attribute hash codes {@code h1, ..., hn} is computed as
+ * {@code finish(mix(...mix(mix(initialValue(), h1), h2)..., hn))}.
+ * <p>
+ * Implementations must be stateless and thread-safe.
+ *
+ * @see HashMixers
+ * @see HashCodeBuilder#mixer(HashMixer)
+ */
+public interface HashMixer {
+
+    /**
+     * @return the value that the hash code of the first attribute is mixed into
+     */
+    int initialValue();
+
+    /**
+     * @param result the intermediate result for all previous attributes
+     * @param hash   the hash code of the next attribute
+     * @return the intermediate result including {@code hash}
+     */
+    int mix(int result, int hash);
+
+    /**
+     * Final transformation applied after all attribute hash codes have been mixed. By default, the result is returned
+     * as is.
+     *
+     * @param result the intermediate result for all attributes
+     * @return the hash code
+     */
+    default int finish(int result) {
+        return result;
+    }
+
+}
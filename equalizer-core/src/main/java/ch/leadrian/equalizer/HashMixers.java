@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+/**
+ * A class containing default {@link HashMixer} implementations. Specific instances can be obtained using the given
+ * factory methods.
+ *
+ * @see HashMixer
+ */
+public final class HashMixers {
+
+    private HashMixers() {
+    }
+
+    /**
+     * <p>
+     * The default hash mixer that is used for {@link HashCode} and {@link EqualsAndHashCode} when configuring instances
+     * with a {@link HashCodeBuilder} or {@link EqualsAndHashCodeBuilder}.
+     * </p>
+     * <p>
+     * Hash codes are combined using {@code 31 * result + hash}, starting with {@code 1}, which results in the same hash
+     * codes as {@link java.util.Arrays#hashCode(Object[])} and {@link java.util.Objects#hash(Object...)}.
+     * </p>
+     * <p>
+     * This mixer is cheap, but values with several small attributes, such as {@code boolean}s, {@code byte}s or small
+     * {@code int}s, produce heavily clustered hash codes.
+     * </p>
+     *
+     * @return {@link HashMixer} combining hash codes using {@code 31 * result + hash}
+     */
+    public static HashMixer polynomial() {
+        return Polynomial.INSTANCE;
+    }
+
+    private static class Polynomial implements HashMixer {
+
+        static final Polynomial INSTANCE = new Polynomial();
+
+        private Polynomial() {
+        }
+
+        @Override
+        public int initialValue() {
+            return 1;
+        }
+
+        @Override
+        public int mix(int result, int hash) {
+            return 31 * result + hash;
+        }
+    }
+
+    /**
+     * <p>
+     * Hash codes are combined like the blocks of MurmurHash3 (x86, 32 bit) and the result is passed through the
+     * MurmurHash3 finalizer, so that every bit of every attribute hash code affects every bit of the resulting hash
+     * code.
+     * </p>
+     * <p>
+     * Using this {@link HashMixer} is recommended for values with several small attributes that are used as keys in
+     * hash tables.
+     * </p>
+     *
+     * @return {@link HashMixer} combining hash codes like MurmurHash3
+     */
+    public static HashMixer murmur3() {
+        return Murmur3.INSTANCE;
+    }
+
+    private static class Murmur3 implements HashMixer {
+
+        static final Murmur3 INSTANCE = new Murmur3();
+
+        private static final int C1 = 0xcc9e2d51;
+        private static final int C2 = 0x1b873593;
+
+        private Murmur3() {
+        }
+
+        @Override
+        public int initialValue() {
+            return 0;
+        }
+
+        @Override
+        public int mix(int result, int hash) {
+            int k = Integer.rotateLeft(hash * C1, 15) * C2;
+            return Integer.rotateLeft(result ^ k, 13) * 5 + 0xe6546b64;
+        }
+
+        @Override
+        public int finish(int result) {
+            result ^= result >>> 16;
+            result *= 0x85ebca6b;
+            result ^= result >>> 13;
+            result *= 0xc2b2ae35;
+            result ^= result >>> 16;
+            return result;
+        }
+    }
+
+    /**
+     * <p>
+     * Hash codes are combined using {@code (rotateLeft(result, 5) ^ hash) * 0x9e3779b9}, similar to FxHash. The
+     * multiplication by the golden ratio spreads the bits of small attribute hash codes into the upper bits of the
+     * result.
+     * </p>
+     * <p>
+     * This {@link HashMixer} is almost as cheap as {@link #polynomial()} and distributes values with several small
+     * attributes considerably better. The upper bits are mixed better than the lower bits, which suits tables like
+     * {@link java.util.HashMap} that spread the upper bits of hash codes.
+     * </p>
+     *
+     * @return {@link HashMixer} combining hash codes using a multiplication and a rotation
+     */
+    public static HashMixer multiplyRotate() {
+        return MultiplyRotate.INSTANCE;
+    }
+
+    private static class MultiplyRotate implements HashMixer {
+
+        static final MultiplyRotate INSTANCE = new MultiplyRotate();
+
+        private MultiplyRotate() {
+        }
+
+        @Override
+        public int initialValue() {
+            return 0;
+        }
+
+        @Override
+        public int mix(int result, int hash) {
+            return (Integer.rotateLeft(result, 5) ^ hash) * 0x9e3779b9;
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Analyzes how well a {@link HashCode} distributes a set of sample values.
+ * <p>
+ * The analysis is meant to be used in tests or using the {@code HashQualityTool} of the {@code equalizer-tools} module,
+ * not in production code. All samples should be distinct values, since equal values necessarily have the same hash
+ * code.
+ *
+ * @see HashQualityReport
+ */
+public final class HashQuality {
+
+    /**
+     * The smallest table size that is analyzed, which is the default capacity of {@link java.util.HashMap}.
+     */
+    static final int MIN_TABLE_SIZE = 16;
+
+    /**
+     * The number of samples that are used to compute the avalanche statistics, which is quadratic in the number of
+     * hash steps.
+     */
+    static final int MAX_AVALANCHE_SAMPLES = 1024;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private HashQuality() {
+    }
+
+    /**
+     * Computes the hash code of every sample value and reports collisions and the bucket occupancy of hash tables with
+     * power-of-two sizes.
+     * <p>
+     * If {@code hashCode} was built by Equalizer, per-step statistics are included in the report as well.
+     *
+     * @param hashCode {@link HashCode} to analyze
+     * @param samples  distinct sample values
+     * @param <T>      type of the sample values
+     * @return the report
+     */
+    public static <T> HashQualityReport analyze(HashCode<? super T> hashCode, Iterable<? extends T> samples) {
+        requireNonNull(hashCode, "hashCode must not be null");
+        requireNonNull(samples, "samples must not be null");
+
+        List<T> sampleList = new ArrayList<>();
+        for (T sample : samples) {
+            sampleList.add(sample);
+        }
+        int[] hashCodes = new int[sampleList.size()];
+        for (int i = 0; i < hashCodes.length; i++) {
+            hashCodes[i] = hashCode.hashCode(sampleList.get(i));
+        }
+        int distinctHashCodes = countDistinct(hashCodes);
+        return new HashQualityReport(
+                hashCodes.length,
+                distinctHashCodes,
+                analyzeTableOccupancies(hashCodes),
+                analyzeSteps(hashCode, sampleList)
+        );
+    }
+
+    private static List<HashQualityReport.TableOccupancy> analyzeTableOccupancies(int[] hashCodes) {
+        List<HashQualityReport.TableOccupancy> tableOccupancies = new ArrayList<>();
+        int tableSize = MIN_TABLE_SIZE;
+        while (true) {
+            tableOccupancies.add(analyzeTableOccupancy(hashCodes, tableSize));
+            // Stop at the table size that java.util.HashMap would use for all samples
+            if (hashCodes.length <= tableSize * LOAD_FACTOR || tableSize == 1 << 30) {
+                break;
+            }
+            tableSize <<= 1;
+        }
+        return tableOccupancies;
+    }
+
+    private static HashQualityReport.TableOccupancy analyzeTableOccupancy(int[] hashCodes, int tableSize) {
+        int[] buckets = new int[tableSize];
+        for (int hashCode : hashCodes) {
+            buckets[spread(hashCode) & (tableSize - 1)]++;
+        }
+        int longestChain = 0;
+        for (int bucket : buckets) {
+            longestChain = Math.max(longestChain, bucket);
+        }
+        int[] histogram = new int[longestChain + 1];
+        for (int bucket : buckets) {
+            histogram[bucket]++;
+        }
+        return new HashQualityReport.TableOccupancy(tableSize, histogram);
+    }
+
+    /**
+     * Same as {@code java.util.HashMap.hash(Object)}.
+     */
+    static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<HashQualityReport.StepQuality> analyzeSteps(HashCode<? super T> hashCode, List<T> samples) {
+        HashCode<?> unwrappedHashCode = unwrap(hashCode);
+        if (!(unwrappedHashCode instanceof AbstractHashCode)) {
+            return Collections.emptyList();
+        }
+        AbstractHashCode<T> abstractHashCode = (AbstractHashCode<T>) unwrappedHashCode;
+        List<HashStep<T>> hashSteps = abstractHashCode.getHashSteps();
+        HashMixer hashMixer = abstractHashCode.getHashMixer();
+        int[][] stepHashCodes = new int[hashSteps.size()][samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            T sample = samples.get(i);
+            for (int j = 0; j < hashSteps.size(); j++) {
+                stepHashCodes[j][i] = hashSteps.get(j).hash(sample);
+            }
+        }
+
+        List<HashQualityReport.StepQuality> stepQualities = new ArrayList<>(hashSteps.size());
+        for (int j = 0; j < hashSteps.size(); j++) {
+            stepQualities.add(new HashQualityReport.StepQuality(
+                    j,
+                    countDistinct(stepHashCodes[j]),
+                    computeEntropy(stepHashCodes[j]),
+                    computeAvalanche(stepHashCodes, j, hashMixer)
+            ));
+        }
+        return stepQualities;
+    }
+
+    private static HashCode<?> unwrap(HashCode<?> hashCode) {
+        if (hashCode instanceof EqualsAndHashCodeImpl) {
+            return unwrap(((EqualsAndHashCodeImpl<?>) hashCode).getHashCode());
+        } else if (hashCode instanceof CachedHashCode) {
+            return unwrap(((CachedHashCode<?>) hashCode).getDelegate());
+        }
+        return hashCode;
+    }
+
+    private static int countDistinct(int[] hashCodes) {
+        Set<Integer> distinctHashCodes = new HashSet<>();
+        for (int hashCode : hashCodes) {
+            distinctHashCodes.add(hashCode);
+        }
+        return distinctHashCodes.size();
+    }
+
+    /**
+     * @return the Shannon entropy of the given hash codes in bits
+     */
+    private static double computeEntropy(int[] hashCodes) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int hashCode : hashCodes) {
+            counts.merge(hashCode, 1, Integer::sum);
+        }
+        double entropy = 0.0;
+        for (int count : counts.values()) {
+            double probability = (double) count / hashCodes.length;
+            entropy -= probability * Math.log(probability) / Math.log(2);
+        }
+        return entropy;
+    }
+
+    /**
+     * Flips every bit of the hash code of the given step and computes the average fraction of bits of the final hash
+     * code that change as a result. Ideally, half of the bits change.
+     */
+    private static double computeAvalanche(int[][] stepHashCodes, int step, HashMixer hashMixer) {
+        int numberOfSamples = Math.min(stepHashCodes[step].length, MAX_AVALANCHE_SAMPLES);
+        if (numberOfSamples == 0) {
+            return 0.0;
+        }
+        long flippedBits = 0;
+        for (int i = 0; i < numberOfSamples; i++) {
+            int hashCode = mix(stepHashCodes, i, hashMixer, step, 0);
+            for (int bit = 0; bit < Integer.SIZE; bit++) {
+                int flippedHashCode = mix(stepHashCodes, i, hashMixer, step, 1 << bit);
+                flippedBits += Integer.bitCount(hashCode ^ flippedHashCode);
+            }
+        }
+        return (double) flippedBits / ((long) numberOfSamples * Integer.SIZE * Integer.SIZE);
+    }
+
+    private static int mix(int[][] stepHashCodes, int sample, HashMixer hashMixer, int step, int mask) {
+        int result = hashMixer.initialValue();
+        for (int j = 0; j < stepHashCodes.length; j++) {
+            int hashCode = stepHashCodes[j][sample];
+            result = hashMixer.mix(result, j == step ? hashCode ^ mask : hashCode);
+        }
+        return hashMixer.finish(result);
+    }
+
+}
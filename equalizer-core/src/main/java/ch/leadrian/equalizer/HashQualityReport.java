@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of {@link HashQuality#analyze(HashCode, Iterable)}.
+ */
+public final class HashQualityReport {
+
+    /**
+     * Steps with less entropy than this are reported by {@link #getLowEntropySteps()}.
+     */
+    public static final double DEFAULT_MIN_ENTROPY_BITS = 1.0;
+
+    private final int numberOfSamples;
+    private final int numberOfDistinctHashCodes;
+    private final List<TableOccupancy> tableOccupancies;
+    private final List<StepQuality> stepQualities;
+
+    HashQualityReport(
+            int numberOfSamples,
+            int numberOfDistinctHashCodes,
+            List<TableOccupancy> tableOccupancies,
+            List<StepQuality> stepQualities
+    ) {
+        this.numberOfSamples = numberOfSamples;
+        this.numberOfDistinctHashCodes = numberOfDistinctHashCodes;
+        this.tableOccupancies = Collections.unmodifiableList(new ArrayList<>(tableOccupancies));
+        this.stepQualities = Collections.unmodifiableList(new ArrayList<>(stepQualities));
+    }
+
+    public int getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    public int getNumberOfDistinctHashCodes() {
+        return numberOfDistinctHashCodes;
+    }
+
+    /**
+     * @return the number of samples whose hash code equals the hash code of another sample that was analyzed before
+     */
+    public int getNumberOfCollisions() {
+        return numberOfSamples - numberOfDistinctHashCodes;
+    }
+
+    /**
+     * @return the bucket occupancy for each analyzed power-of-two table size, from the smallest to the largest size
+     */
+    public List<TableOccupancy> getTableOccupancies() {
+        return tableOccupancies;
+    }
+
+    /**
+     * @return the statistics for each hash step, in order, or an empty list if the analyzed {@link HashCode} was not
+     * built by Equalizer
+     */
+    public List<StepQuality> getStepQualities() {
+        return stepQualities;
+    }
+
+    /**
+     * @return the steps with less entropy than {@link #DEFAULT_MIN_ENTROPY_BITS}
+     */
+    public List<StepQuality> getLowEntropySteps() {
+        return getLowEntropySteps(DEFAULT_MIN_ENTROPY_BITS);
+    }
+
+    /**
+     * @param minEntropyBits minimum entropy in bits that a step should contribute
+     * @return the steps with less entropy than {@code minEntropyBits}
+     */
+    public List<StepQuality> getLowEntropySteps(double minEntropyBits) {
+        List<StepQuality> lowEntropySteps = new ArrayList<>();
+        for (StepQuality stepQuality : stepQualities) {
+            if (stepQuality.getEntropyBits() < minEntropyBits) {
+                lowEntropySteps.add(stepQuality);
+            }
+        }
+        return lowEntropySteps;
+    }
+
+    /**
+     * @return a human readable, multi-line representation of the report
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(String.format(Locale.ROOT,
+                "Samples: %d, distinct hash codes: %d, collisions: %d%n",
+                numberOfSamples,
+                numberOfDistinctHashCodes,
+                getNumberOfCollisions()
+        ));
+        stringBuilder.append(String.format(Locale.ROOT, "%nBucket occupancy:%n"));
+        for (TableOccupancy tableOccupancy : tableOccupancies) {
+            stringBuilder.append("  ").append(tableOccupancy).append(System.lineSeparator());
+        }
+        if (!stepQualities.isEmpty()) {
+            stringBuilder.append(String.format(Locale.ROOT, "%nSteps:%n"));
+            for (StepQuality stepQuality : stepQualities) {
+                stringBuilder.append("  ").append(stepQuality);
+                if (stepQuality.getEntropyBits() < DEFAULT_MIN_ENTROPY_BITS) {
+                    stringBuilder.append(" (low entropy)");
+                }
+                stringBuilder.append(System.lineSeparator());
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Occupancy of the buckets of a hash table with a power-of-two size, using the same spread function and bucket
+     * index computation as {@link java.util.HashMap}.
+     */
+    public static final class TableOccupancy {
+
+        private final int tableSize;
+        private final int[] histogram;
+
+        TableOccupancy(int tableSize, int[] histogram) {
+            this.tableSize = tableSize;
+            this.histogram = histogram.clone();
+        }
+
+        public int getTableSize() {
+            return tableSize;
+        }
+
+        /**
+         * @return an array where the element at index {@code i} is the number of buckets containing exactly {@code i}
+         * samples
+         */
+        public int[] getHistogram() {
+            return histogram.clone();
+        }
+
+        public int getNumberOfOccupiedBuckets() {
+            return tableSize - histogram[0];
+        }
+
+        /**
+         * @return the number of samples in the fullest bucket
+         */
+        public int getLongestChain() {
+            return histogram.length - 1;
+        }
+
+        /**
+         * @return the number of occupied buckets that is expected for uniformly distributed hash codes
+         */
+        public double getExpectedNumberOfOccupiedBuckets() {
+            int numberOfSamples = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                numberOfSamples += i * histogram[i];
+            }
+            return tableSize * (1.0 - Math.pow(1.0 - 1.0 / tableSize, numberOfSamples));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "table size %d: %d occupied buckets (%.1f expected), longest chain %d, histogram %s",
+                    tableSize,
+                    getNumberOfOccupiedBuckets(),
+                    getExpectedNumberOfOccupiedBuckets(),
+                    getLongestChain(),
+                    Arrays.toString(histogram)
+            );
+        }
+    }
+
+    /**
+     * Statistics of the hash codes of a single hash step.
+     */
+    public static final class StepQuality {
+
+        private final int index;
+        private final int numberOfDistinctHashCodes;
+        private final double entropyBits;
+        private final double avalanche;
+
+        StepQuality(int index, int numberOfDistinctHashCodes, double entropyBits, double avalanche) {
+            this.index = index;
+            this.numberOfDistinctHashCodes = numberOfDistinctHashCodes;
+            this.entropyBits = entropyBits;
+            this.avalanche = avalanche;
+        }
+
+        /**
+         * @return the index of the step, in the order in which the steps were configured
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public int getNumberOfDistinctHashCodes() {
+            return numberOfDistinctHashCodes;
+        }
+
+        /**
+         * @return the Shannon entropy of the hash codes of this step over all samples, in bits
+         */
+        public double getEntropyBits() {
+            return entropyBits;
+        }
+
+        /**
+         * @return the average fraction of bits of the final hash code that change when a single bit of the hash code of
+         * this step is flipped, ideally {@code 0.5}
+         */
+        public double getAvalanche() {
+            return avalanche;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "step %d: %d distinct hash codes, entropy %.2f bits, avalanche %.3f",
+                    index,
+                    numberOfDistinctHashCodes,
+                    entropyBits,
+                    avalanche
+            );
+        }
+    }
+
+}
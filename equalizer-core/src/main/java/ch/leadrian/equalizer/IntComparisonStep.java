@@ -26,6 +26,10 @@ final class IntComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToIntFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.applyAsInt(object1) == valueExtractor.applyAsInt(object2);
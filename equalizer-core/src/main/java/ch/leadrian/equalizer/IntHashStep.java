@@ -26,6 +26,10 @@ final class IntHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToIntFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Integer.hashCode(valueExtractor.applyAsInt(object));
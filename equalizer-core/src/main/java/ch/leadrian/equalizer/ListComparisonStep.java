@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+final class ListComparisonStep<T, E> implements ComparisonStep<T> {
+
+    private final Function<? super T, ? extends List<? extends E>> valueExtractor;
+    private final Equals<? super E> elementEquals;
+
+    ListComparisonStep(Function<? super T, ? extends List<? extends E>> valueExtractor, Equals<? super E> elementEquals) {
+        this.valueExtractor = valueExtractor;
+        this.elementEquals = elementEquals;
+    }
+
+    @Override
+    public boolean isEqual(T object1, T object2) {
+        return listEquals(valueExtractor.apply(object1), valueExtractor.apply(object2), elementEquals);
+    }
+
+    /**
+     * Compares the sizes of the lists first and the elements using {@code elementEquals} afterwards. Lists implementing
+     * {@link RandomAccess} are traversed by index, such that no iterators need to be allocated.
+     */
+    static <E> boolean listEquals(List<? extends E> list1, List<? extends E> list2, Equals<? super E> elementEquals) {
+        if (list1 == list2) {
+            return true;
+        }
+        if (list1 == null || list2 == null) {
+            return false;
+        }
+
+        int size = list1.size();
+        if (size != list2.size()) {
+            return false;
+        }
+
+        if (list1 instanceof RandomAccess && list2 instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                if (!elementEquals.equals(list1.get(i), list2.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Iterator<? extends E> iterator1 = list1.iterator();
+        Iterator<? extends E> iterator2 = list2.iterator();
+        while (iterator1.hasNext() && iterator2.hasNext()) {
+            if (!elementEquals.equals(iterator1.next(), iterator2.next())) {
+                return false;
+            }
+        }
+        return !iterator1.hasNext() && !iterator2.hasNext();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+final class ListHashStep<T, E> implements HashStep<T> {
+
+    private final Function<? super T, ? extends List<? extends E>> valueExtractor;
+    private final HashCode<? super E> elementHashCode;
+
+    ListHashStep(Function<? super T, ? extends List<? extends E>> valueExtractor, HashCode<? super E> elementHashCode) {
+        this.valueExtractor = valueExtractor;
+        this.elementHashCode = elementHashCode;
+    }
+
+    @Override
+    public int hash(T object) {
+        return listHashCode(valueExtractor.apply(object), elementHashCode);
+    }
+
+    /**
+     * Combines the hash codes of the elements like {@link List#hashCode()}, but using {@code elementHashCode}. Lists
+     * implementing {@link RandomAccess} are traversed by index, such that no iterator needs to be allocated.
+     */
+    static <E> int listHashCode(List<? extends E> list, HashCode<? super E> elementHashCode) {
+        if (list == null) {
+            return 0;
+        }
+
+        int result = 1;
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                result = 31 * result + elementHashCode.hashCode(list.get(i));
+            }
+        } else {
+            for (E element : list) {
+                result = 31 * result + elementHashCode.hashCode(element);
+            }
+        }
+        return result;
+    }
+
+}
@@ -26,6 +26,10 @@ final class LongComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToLongFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.applyAsLong(object1) == valueExtractor.applyAsLong(object2);
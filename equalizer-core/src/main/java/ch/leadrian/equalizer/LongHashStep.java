@@ -26,6 +26,10 @@ final class LongHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToLongFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Long.hashCode(valueExtractor.applyAsLong(object));
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Map;
+import java.util.function.Function;
+
+final class MapComparisonStep<T, V> implements ComparisonStep<T> {
+
+    private final Function<? super T, ? extends Map<?, ? extends V>> valueExtractor;
+    private final Equals<? super V> valueEquals;
+
+    MapComparisonStep(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, Equals<? super V> valueEquals) {
+        this.valueExtractor = valueExtractor;
+        this.valueEquals = valueEquals;
+    }
+
+    @Override
+    public boolean isEqual(T object1, T object2) {
+        return mapEquals(valueExtractor.apply(object1), valueExtractor.apply(object2), valueEquals);
+    }
+
+    /**
+     * Compares the sizes of the maps first. Afterwards, the value of each key of {@code map1} is looked up in
+     * {@code map2} and both values are compared using {@code valueEquals}. Keys are matched by the maps themselves.
+     */
+    static <V> boolean mapEquals(Map<?, ? extends V> map1, Map<?, ? extends V> map2, Equals<? super V> valueEquals) {
+        if (map1 == map2) {
+            return true;
+        }
+        if (map1 == null || map2 == null) {
+            return false;
+        }
+        if (map1.size() != map2.size()) {
+            return false;
+        }
+
+        try {
+            for (Map.Entry<?, ? extends V> entry : map1.entrySet()) {
+                Object key = entry.getKey();
+                V value2 = map2.get(key);
+                if (value2 == null && !map2.containsKey(key)) {
+                    return false;
+                }
+                if (!valueEquals.equals(entry.getValue(), value2)) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            // Like AbstractMap.equals: a key that cannot be looked up in the other map is not contained in it
+            return false;
+        }
+        return true;
+    }
+}
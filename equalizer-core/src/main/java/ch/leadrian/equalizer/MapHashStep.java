@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class MapHashStep<T, V> implements HashStep<T> {
+
+    private final Function<? super T, ? extends Map<?, ? extends V>> valueExtractor;
+    private final HashCode<? super V> valueHashCode;
+
+    MapHashStep(Function<? super T, ? extends Map<?, ? extends V>> valueExtractor, HashCode<? super V> valueHashCode) {
+        this.valueExtractor = valueExtractor;
+        this.valueHashCode = valueHashCode;
+    }
+
+    @Override
+    public int hash(T object) {
+        return mapHashCode(valueExtractor.apply(object), valueHashCode);
+    }
+
+    /**
+     * Sums up the hash codes of the entries like {@link Map#hashCode()}, but using {@code valueHashCode} for the values.
+     */
+    static <V> int mapHashCode(Map<?, ? extends V> map, HashCode<? super V> valueHashCode) {
+        if (map == null) {
+            return 0;
+        }
+
+        int result = 0;
+        for (Map.Entry<?, ? extends V> entry : map.entrySet()) {
+            result += Objects.hashCode(entry.getKey()) ^ valueHashCode.hashCode(entry.getValue());
+        }
+        return result;
+    }
+
+}
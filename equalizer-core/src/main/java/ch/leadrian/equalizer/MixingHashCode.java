@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.List;
+
+/**
+ * {@link HashCode} implementation that combines the hash codes of its hash steps using a {@link HashMixer} other than
+ * {@link HashMixers#polynomial()}.
+ */
+final class MixingHashCode<T> extends AbstractHashCode<T> {
+
+    private final HashMixer hashMixer;
+
+    MixingHashCode(List<? extends HashStep<T>> hashSteps, HashMixer hashMixer) {
+        super(hashSteps);
+        this.hashMixer = hashMixer;
+    }
+
+    @Override
+    int hash(T object) {
+        return mix(getHashSteps(), hashMixer, object);
+    }
+
+    @Override
+    HashMixer getHashMixer() {
+        return hashMixer;
+    }
+
+    static <T> int mix(List<? extends HashStep<? super T>> hashSteps, HashMixer hashMixer, T object) {
+        // Avoid any garbage
+        int result = hashMixer.initialValue();
+        for (int i = 0; i < hashSteps.size(); i++) {
+            result = hashMixer.mix(result, hashSteps.get(i).hash(object));
+        }
+        return hashMixer.finish(result);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.function.Function;
+
+/**
+ * Comparison step added by {@link EqualsBuilder#compareWith(Function, Equals)}.
+ * <p>
+ * If the nested {@link Equals} was built by Equalizer and only requires the compared values to be instances of its
+ * target class, which the type of the extracted values already guarantees, its comparison steps are applied directly
+ * after the identity and {@code null} checks. Otherwise, the nested {@link Equals} is simply called.
+ */
+final class NestedComparisonStep<T, V> implements ComparisonStep<T> {
+
+    private final Function<? super T, ? extends V> valueExtractor;
+    private final Equals<? super V> valueEquals;
+    private final AbstractEquals<? super V> flattenedValueEquals;
+
+    NestedComparisonStep(Function<? super T, ? extends V> valueExtractor, Equals<? super V> valueEquals) {
+        this.valueExtractor = valueExtractor;
+        this.valueEquals = unwrap(valueEquals);
+        this.flattenedValueEquals = flatten(this.valueEquals);
+    }
+
+    private static <V> Equals<? super V> unwrap(Equals<? super V> equals) {
+        if (equals instanceof EqualsAndHashCodeImpl) {
+            return ((EqualsAndHashCodeImpl<? super V>) equals).getEquals();
+        }
+        return equals;
+    }
+
+    private static <V> AbstractEquals<? super V> flatten(Equals<? super V> equals) {
+        if (equals instanceof AbstractEquals) {
+            AbstractEquals<? super V> abstractEquals = (AbstractEquals<? super V>) equals;
+            if (ClassMatchers.matchesAllSubtypes(abstractEquals.getClassMatcher())) {
+                return abstractEquals;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEqual(T object1, T object2) {
+        V value1 = valueExtractor.apply(object1);
+        V value2 = valueExtractor.apply(object2);
+        if (flattenedValueEquals == null) {
+            return valueEquals.equals(value1, value2);
+        }
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+        return flattenedValueEquals.isEqual(value1, value2);
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.function.Function;
+
+/**
+ * Hash step added by {@link HashCodeBuilder#hashWith(Function, HashCode)}. The nested {@link HashCode} is called
+ * directly, without going through {@link Object#hashCode()} of the extracted value.
+ */
+final class NestedHashStep<T, V> implements HashStep<T> {
+
+    private final Function<? super T, ? extends V> valueExtractor;
+    private final HashCode<? super V> valueHashCode;
+
+    NestedHashStep(Function<? super T, ? extends V> valueExtractor, HashCode<? super V> valueHashCode) {
+        this.valueExtractor = valueExtractor;
+        this.valueHashCode = unwrap(valueHashCode);
+    }
+
+    private static <V> HashCode<? super V> unwrap(HashCode<? super V> hashCode) {
+        if (hashCode instanceof EqualsAndHashCodeImpl) {
+            return ((EqualsAndHashCodeImpl<? super V>) hashCode).getHashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int hash(T object) {
+        return valueHashCode.hashCode(valueExtractor.apply(object));
+    }
+
+}
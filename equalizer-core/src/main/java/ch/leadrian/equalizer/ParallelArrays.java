@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.reflect.Array;
+import java.util.Objects;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Computes the same results as {@link Objects#deepEquals(Object, Object)} and {@link DeepHashStep#deepHashCode(Object)}
+ * by splitting large arrays into chunks that are processed on the {@link java.util.concurrent.ForkJoinPool} of a
+ * {@link ParallelismPolicy}.
+ * <p>
+ * Elements of {@code Object[]} arrays are compared and hashed sequentially, only the top level array is split.
+ */
+final class ParallelArrays {
+
+    /**
+     * Number of elements compared before checking whether another chunk has already found a mismatch.
+     */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1 << 12;
+
+    private ParallelArrays() {
+    }
+
+    static boolean deepEquals(Object value1, Object value2, ParallelismPolicy parallelismPolicy) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null || !isSameArrayType(value1, value2)) {
+            return Objects.deepEquals(value1, value2);
+        }
+        int length = Array.getLength(value1);
+        if (length != Array.getLength(value2)) {
+            return false;
+        }
+        if (!parallelismPolicy.isParallel(length)) {
+            return Objects.deepEquals(value1, value2);
+        }
+        EqualsTask task = new EqualsTask(value1, value2, 0, length, parallelismPolicy.getChunkSize(length), new AtomicBoolean());
+        return parallelismPolicy.getPool().invoke(task);
+    }
+
+    static int deepHashCode(Object value, ParallelismPolicy parallelismPolicy) {
+        if (value == null || !value.getClass().isArray()) {
+            return DeepHashStep.deepHashCode(value);
+        }
+        int length = Array.getLength(value);
+        if (!parallelismPolicy.isParallel(length)) {
+            return DeepHashStep.deepHashCode(value);
+        }
+        HashTask task = new HashTask(value, 0, length, parallelismPolicy.getChunkSize(length));
+        return powerOf31(length) + parallelismPolicy.getPool().invoke(task);
+    }
+
+    private static boolean isSameArrayType(Object value1, Object value2) {
+        if (value1 instanceof Object[]) {
+            return value2 instanceof Object[];
+        }
+        return value1.getClass().isArray() && value1.getClass() == value2.getClass();
+    }
+
+    /**
+     * @return {@code 31^exponent} modulo {@code 2^32}
+     */
+    static int powerOf31(int exponent) {
+        int result = 1;
+        int base = 31;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    private static boolean rangeEquals(Object value1, Object value2, int from, int to) {
+        if (value1 instanceof Object[]) {
+            Object[] array1 = (Object[]) value1;
+            Object[] array2 = (Object[]) value2;
+            for (int i = from; i < to; i++) {
+                if (!Objects.deepEquals(array1[i], array2[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof byte[]) {
+            byte[] array1 = (byte[]) value1;
+            byte[] array2 = (byte[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof short[]) {
+            short[] array1 = (short[]) value1;
+            short[] array2 = (short[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof char[]) {
+            char[] array1 = (char[]) value1;
+            char[] array2 = (char[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof int[]) {
+            int[] array1 = (int[]) value1;
+            int[] array2 = (int[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof long[]) {
+            long[] array1 = (long[]) value1;
+            long[] array2 = (long[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof float[]) {
+            float[] array1 = (float[]) value1;
+            float[] array2 = (float[]) value2;
+            for (int i = from; i < to; i++) {
+                if (Float.floatToIntBits(array1[i]) != Float.floatToIntBits(array2[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof double[]) {
+            double[] array1 = (double[]) value1;
+            double[] array2 = (double[]) value2;
+            for (int i = from; i < to; i++) {
+                if (Double.doubleToLongBits(array1[i]) != Double.doubleToLongBits(array2[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof boolean[]) {
+            boolean[] array1 = (boolean[]) value1;
+            boolean[] array2 = (boolean[]) value2;
+            for (int i = from; i < to; i++) {
+                if (array1[i] != array2[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            throw new IllegalArgumentException("Not an array: " + value1.getClass());
+        }
+    }
+
+    /**
+     * Computes {@code h(a[from]) * 31^(n - 1) + ... + h(a[to - 1]) * 31^0} with {@code n = to - from}, such that the
+     * hash code of the whole array is {@code 31^length + rangeHashCode(a, 0, length)} and two adjacent ranges can be
+     * combined using {@code left * 31^(length of right) + right}.
+     */
+    private static int rangeHashCode(Object value, int from, int to) {
+        int result = 0;
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + DeepHashStep.deepHashCode(array[i]);
+            }
+        } else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + array[i];
+            }
+        } else if (value instanceof short[]) {
+            short[] array = (short[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + array[i];
+            }
+        } else if (value instanceof char[]) {
+            char[] array = (char[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + array[i];
+            }
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + array[i];
+            }
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + Long.hashCode(array[i]);
+            }
+        } else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + Float.hashCode(array[i]);
+            }
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + Double.hashCode(array[i]);
+            }
+        } else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            for (int i = from; i < to; i++) {
+                result = 31 * result + Boolean.hashCode(array[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Not an array: " + value.getClass());
+        }
+        return result;
+    }
+
+    private static final class EqualsTask extends RecursiveTask<Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object value1;
+        private final Object value2;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final AtomicBoolean mismatch;
+
+        EqualsTask(Object value1, Object value2, int from, int to, int chunkSize, AtomicBoolean mismatch) {
+            this.value1 = value1;
+            this.value2 = value2;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.mismatch = mismatch;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (mismatch.get()) {
+                return false;
+            }
+            if (to - from <= chunkSize) {
+                return compareChunk();
+            }
+            int middle = (from + to) >>> 1;
+            EqualsTask right = new EqualsTask(value1, value2, middle, to, chunkSize, mismatch);
+            right.fork();
+            boolean equal = new EqualsTask(value1, value2, from, middle, chunkSize, mismatch).compute();
+            if (!equal) {
+                right.cancel(false);
+                return false;
+            }
+            return right.join();
+        }
+
+        private boolean compareChunk() {
+            for (int start = from; start < to; start += CANCELLATION_CHECK_INTERVAL) {
+                if (mismatch.get()) {
+                    return false;
+                }
+                int end = Math.min(to, start + CANCELLATION_CHECK_INTERVAL);
+                if (!rangeEquals(value1, value2, start, end)) {
+                    mismatch.set(true);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class HashTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object value;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        HashTask(Object value, int from, int to, int chunkSize) {
+            this.value = value;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= chunkSize) {
+                return rangeHashCode(value, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            HashTask right = new HashTask(value, middle, to, chunkSize);
+            right.fork();
+            int leftHashCode = new HashTask(value, from, middle, chunkSize).compute();
+            return leftHashCode * powerOf31(to - middle) + right.join();
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines whether the contents of arrays are compared and hashed by the calling thread only, or split into chunks
+ * that are processed on a {@link ForkJoinPool}.
+ * <p>
+ * Splitting an array only pays off for very large arrays, so only arrays whose length is at least the configured
+ * threshold are processed in parallel. Smaller arrays, as well as values that are not arrays, are always processed by
+ * the calling thread.
+ *
+ * @see EqualsBuilder#compareDeep(java.util.function.Function, ParallelismPolicy)
+ * @see HashCodeBuilder#hashDeep(java.util.function.Function, ParallelismPolicy)
+ */
+public final class ParallelismPolicy {
+
+    private static final ParallelismPolicy SEQUENTIAL = new ParallelismPolicy(Integer.MAX_VALUE, null);
+
+    /**
+     * Lower bound for the number of elements processed by a single task.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 10;
+
+    /**
+     * Number of chunks per worker thread, so that faster workers can steal work from slower ones.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private ParallelismPolicy(int threshold, ForkJoinPool pool) {
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * @return {@link ParallelismPolicy} that processes all arrays in the calling thread
+     */
+    public static ParallelismPolicy sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Equivalent to {@code parallel(threshold, ForkJoinPool.commonPool())}.
+     *
+     * @param threshold the minimum length of an array to be processed in parallel
+     * @return {@link ParallelismPolicy} that processes arrays of at least {@code threshold} elements on the common
+     * {@link ForkJoinPool}
+     * @see #parallel(int, ForkJoinPool)
+     */
+    public static ParallelismPolicy parallel(int threshold) {
+        return parallel(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param threshold the minimum length of an array to be processed in parallel
+     * @param pool      the {@link ForkJoinPool} used to process the chunks of an array
+     * @return {@link ParallelismPolicy} that processes arrays of at least {@code threshold} elements on {@code pool}
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public static ParallelismPolicy parallel(int threshold, ForkJoinPool pool) {
+        requireNonNull(pool, "pool must not be null");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        return new ParallelismPolicy(threshold, pool);
+    }
+
+    boolean isParallel(int length) {
+        return pool != null && length >= threshold;
+    }
+
+    int getChunkSize(int length) {
+        int numberOfChunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(MIN_CHUNK_SIZE, (length + numberOfChunks - 1) / numberOfChunks);
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public String toString() {
+        if (pool == null) {
+            return "ParallelismPolicy[sequential]";
+        }
+        return "ParallelismPolicy[threshold=" + threshold + ", parallelism=" + pool.getParallelism() + "]";
+    }
+
+}
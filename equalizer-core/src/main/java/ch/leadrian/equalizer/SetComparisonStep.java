@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Set;
+import java.util.function.Function;
+
+final class SetComparisonStep<T> implements ComparisonStep<T> {
+
+    private final Function<? super T, ? extends Set<?>> valueExtractor;
+
+    SetComparisonStep(Function<? super T, ? extends Set<?>> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public boolean isEqual(T object1, T object2) {
+        return setEquals(valueExtractor.apply(object1), valueExtractor.apply(object2));
+    }
+
+    /**
+     * Compares the sizes of the sets first and checks whether {@code set2} contains each element of {@code set1}
+     * afterwards. Membership is determined by the sets themselves.
+     */
+    static boolean setEquals(Set<?> set1, Set<?> set2) {
+        if (set1 == set2) {
+            return true;
+        }
+        if (set1 == null || set2 == null) {
+            return false;
+        }
+        if (set1.size() != set2.size()) {
+            return false;
+        }
+
+        try {
+            for (Object element : set1) {
+                if (!set2.contains(element)) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            // Like AbstractSet.equals: an element that cannot be looked up in the other set is not contained in it
+            return false;
+        }
+        return true;
+    }
+}
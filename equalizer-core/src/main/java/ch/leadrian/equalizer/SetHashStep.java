@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+final class SetHashStep<T> implements HashStep<T> {
+
+    private final Function<? super T, ? extends Set<?>> valueExtractor;
+
+    SetHashStep(Function<? super T, ? extends Set<?>> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public int hash(T object) {
+        return setHashCode(valueExtractor.apply(object));
+    }
+
+    /**
+     * Sums up the hash codes of the elements like {@link Set#hashCode()}.
+     */
+    static int setHashCode(Set<?> set) {
+        if (set == null) {
+            return 0;
+        }
+
+        int result = 0;
+        for (Object element : set) {
+            result += Objects.hashCode(element);
+        }
+        return result;
+    }
+
+}
@@ -26,6 +26,10 @@ final class ShortComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToShortFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public boolean isEqual(T object1, T object2) {
         return valueExtractor.applyAsShort(object1) == valueExtractor.applyAsShort(object2);
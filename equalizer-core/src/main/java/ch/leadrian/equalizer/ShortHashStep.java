@@ -26,6 +26,10 @@ final class ShortHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    ToShortFunction<? super T> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public int hash(T object) {
         return Short.hashCode(valueExtractor.applyAsShort(object));
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Comparison step added by {@link EqualsBuilder#withSuper(Equals)}.
+ * <p>
+ * If the super {@link Equals} was built by Equalizer, its comparison steps may be inlined into the pipeline of the
+ * subclass by {@link #resolve(ClassMatcher)}, so that the identity, {@code null} and class checks of the super
+ * {@link Equals} are not repeated. Otherwise, the super {@link Equals} is simply called.
+ */
+final class SuperComparisonStep<T> implements ComparisonStep<T> {
+
+    private final Equals<? super T> superEquals;
+
+    SuperComparisonStep(Equals<? super T> superEquals) {
+        this.superEquals = superEquals;
+    }
+
+    @Override
+    public boolean isEqual(T object1, T object2) {
+        return superEquals.equals(object1, object2);
+    }
+
+    /**
+     * Returns the comparison steps of the super {@link Equals} if they are known and if the checks performed by the
+     * super {@link Equals} are already guaranteed by {@code classMatcher}, else this step itself.
+     */
+    @SuppressWarnings("unchecked")
+    List<ComparisonStep<T>> resolve(ClassMatcher<T> classMatcher) {
+        Equals<? super T> equals = superEquals;
+        if (equals instanceof EqualsAndHashCodeImpl) {
+            equals = ((EqualsAndHashCodeImpl<? super T>) equals).getEquals();
+        }
+        if (equals instanceof AbstractEquals) {
+            AbstractEquals<? super T> abstractEquals = (AbstractEquals<? super T>) equals;
+            // Without any comparison steps, the super Equals only considers identical values equal
+            if (!abstractEquals.getComparisonSteps().isEmpty()
+                    && ClassMatchers.implies(classMatcher, abstractEquals.getClassMatcher())) {
+                // Comparison steps for a supertype can safely be applied to any subtype
+                return (List<ComparisonStep<T>>) (List<?>) abstractEquals.getComparisonSteps();
+            }
+        }
+        return Collections.singletonList(this);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hash step added by {@link HashCodeBuilder#withSuper(HashCode)} for a super {@link HashCode} that was built by
+ * Equalizer.
+ * <p>
+ * The hash steps of the super {@link HashCode} are applied directly, skipping its {@code null} check, while producing
+ * the same hash code.
+ */
+final class SuperHashStep<T> implements HashStep<T> {
+
+    private final List<HashStep<? super T>> hashSteps;
+    private final HashMixer hashMixer;
+
+    SuperHashStep(List<? extends HashStep<? super T>> hashSteps, HashMixer hashMixer) {
+        this.hashSteps = new ArrayList<>(hashSteps);
+        this.hashMixer = hashMixer;
+    }
+
+    @Override
+    public int hash(T object) {
+        if (hashMixer != HashMixers.polynomial()) {
+            return MixingHashCode.mix(hashSteps, hashMixer, object);
+        }
+
+        // Avoid any garbage
+        int result = 1;
+        for (int i = 0; i < hashSteps.size(); i++) {
+            result = 31 * result + hashSteps.get(i).hash(object);
+        }
+        return result;
+    }
+}
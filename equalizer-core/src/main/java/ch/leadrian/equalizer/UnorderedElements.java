@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Compares and hashes {@code int[]}, {@code long[]}, {@code Object[]} and {@link Collection} values as multisets,
+ * ignoring the order of their elements. Any other values are compared and hashed like {@link DeepComparisonStep} and
+ * {@link DeepHashStep}.
+ * <p>
+ * The hash code is the sum of the mixed hash codes of all elements, which does not depend on the order of the elements
+ * and is computed in {@code O(n)} without allocations. Equality first compares the sizes and these hash codes, such that
+ * most unequal values are rejected in {@code O(n)}. Two {@link Set}s are then compared using
+ * {@link Set#contains(Object)}. Primitive arrays with at most {@value #MAX_MATCHED_PRIMITIVES} elements and other
+ * values with at most {@value #MAX_MATCHED_ELEMENTS} elements are matched element by element, remembering the matched
+ * elements in the bits of a {@code long}. Collections other than {@link RandomAccess} lists are copied into an array
+ * once for this. Larger values are sorted or counted in temporary copies.
+ */
+final class UnorderedElements {
+
+    static final int MAX_MATCHED_ELEMENTS = Long.SIZE;
+
+    /**
+     * Matching is quadratic, so beyond this length sorting copies of primitive arrays is faster despite the
+     * allocations.
+     */
+    static final int MAX_MATCHED_PRIMITIVES = 16;
+
+    private UnorderedElements() {
+    }
+
+    static boolean unorderedEquals(Object value1, Object value2) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+
+        if (value1 instanceof int[] && value2 instanceof int[]) {
+            return unorderedEquals((int[]) value1, (int[]) value2);
+        } else if (value1 instanceof long[] && value2 instanceof long[]) {
+            return unorderedEquals((long[]) value1, (long[]) value2);
+        } else if (value1 instanceof Object[] && value2 instanceof Object[]) {
+            return unorderedEquals((Object[]) value1, (Object[]) value2);
+        } else if (value1 instanceof Collection && value2 instanceof Collection) {
+            return unorderedEquals((Collection<?>) value1, (Collection<?>) value2);
+        } else {
+            return Objects.deepEquals(value1, value2);
+        }
+    }
+
+    static int unorderedHashCode(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof int[]) {
+            return unorderedHashCode((int[]) value);
+        } else if (value instanceof long[]) {
+            return unorderedHashCode((long[]) value);
+        } else if (value instanceof Object[]) {
+            return unorderedHashCode((Object[]) value);
+        } else if (value instanceof Collection) {
+            return unorderedHashCode((Collection<?>) value);
+        } else {
+            return DeepHashStep.deepHashCode(value);
+        }
+    }
+
+    static boolean unorderedEquals(int[] array1, int[] array2) {
+        if (array1.length != array2.length || unorderedHashCode(array1) != unorderedHashCode(array2)) {
+            return false;
+        }
+        if (array1.length > MAX_MATCHED_PRIMITIVES) {
+            int[] sortedArray1 = array1.clone();
+            int[] sortedArray2 = array2.clone();
+            Arrays.sort(sortedArray1);
+            Arrays.sort(sortedArray2);
+            return Arrays.equals(sortedArray1, sortedArray2);
+        }
+
+        long unmatched = unmatchedBits(array1.length);
+        outer:
+        for (int element : array1) {
+            for (long candidates = unmatched; candidates != 0L; candidates &= candidates - 1) {
+                int j = Long.numberOfTrailingZeros(candidates);
+                if (array2[j] == element) {
+                    unmatched &= ~(1L << j);
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    static boolean unorderedEquals(long[] array1, long[] array2) {
+        if (array1.length != array2.length || unorderedHashCode(array1) != unorderedHashCode(array2)) {
+            return false;
+        }
+        if (array1.length > MAX_MATCHED_PRIMITIVES) {
+            long[] sortedArray1 = array1.clone();
+            long[] sortedArray2 = array2.clone();
+            Arrays.sort(sortedArray1);
+            Arrays.sort(sortedArray2);
+            return Arrays.equals(sortedArray1, sortedArray2);
+        }
+
+        long unmatched = unmatchedBits(array1.length);
+        outer:
+        for (long element : array1) {
+            for (long candidates = unmatched; candidates != 0L; candidates &= candidates - 1) {
+                int j = Long.numberOfTrailingZeros(candidates);
+                if (array2[j] == element) {
+                    unmatched &= ~(1L << j);
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    static boolean unorderedEquals(Object[] array1, Object[] array2) {
+        if (array1.length != array2.length || unorderedHashCode(array1) != unorderedHashCode(array2)) {
+            return false;
+        }
+        if (array1.length > MAX_MATCHED_ELEMENTS) {
+            return countedEquals(Arrays.asList(array1), Arrays.asList(array2));
+        }
+
+        long unmatched = unmatchedBits(array1.length);
+        outer:
+        for (Object element : array1) {
+            for (long candidates = unmatched; candidates != 0L; candidates &= candidates - 1) {
+                int j = Long.numberOfTrailingZeros(candidates);
+                if (Objects.equals(array2[j], element)) {
+                    unmatched &= ~(1L << j);
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    static boolean unorderedEquals(Collection<?> collection1, Collection<?> collection2) {
+        int size = collection1.size();
+        if (size != collection2.size() || unorderedHashCode(collection1) != unorderedHashCode(collection2)) {
+            return false;
+        }
+        if (collection1 instanceof Set && collection2 instanceof Set) {
+            // Neither set contains duplicates, so with equal sizes, containment in one direction suffices
+            for (Object element : collection1) {
+                if (!collection2.contains(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (size > MAX_MATCHED_ELEMENTS) {
+            return countedEquals(collection1, collection2);
+        }
+
+        if (collection1 instanceof RandomAccess && collection2 instanceof RandomAccess
+                && collection1 instanceof List && collection2 instanceof List) {
+            return matchedEquals((List<?>) collection1, (List<?>) collection2, size);
+        }
+
+        Object[] array2 = collection2.toArray();
+        if (array2.length != size) {
+            // Concurrently modified
+            return false;
+        }
+        long unmatched = unmatchedBits(size);
+        outer:
+        for (Object element : collection1) {
+            for (long candidates = unmatched; candidates != 0L; candidates &= candidates - 1) {
+                int j = Long.numberOfTrailingZeros(candidates);
+                if (Objects.equals(array2[j], element)) {
+                    unmatched &= ~(1L << j);
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean matchedEquals(List<?> list1, List<?> list2, int size) {
+        long unmatched = unmatchedBits(size);
+        outer:
+        for (int i = 0; i < size; i++) {
+            Object element = list1.get(i);
+            for (long candidates = unmatched; candidates != 0L; candidates &= candidates - 1) {
+                int j = Long.numberOfTrailingZeros(candidates);
+                if (Objects.equals(list2.get(j), element)) {
+                    unmatched &= ~(1L << j);
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the occurrences of the elements of {@code elements1} and subtracts the occurrences of the elements of
+     * {@code elements2}. Both are expected to have the same number of elements.
+     */
+    private static boolean countedEquals(Collection<?> elements1, Collection<?> elements2) {
+        Map<Object, int[]> counts = new HashMap<>();
+        for (Object element : elements1) {
+            counts.computeIfAbsent(element, key -> new int[1])[0]++;
+        }
+        for (Object element : elements2) {
+            int[] count = counts.get(element);
+            if (count == null || count[0] == 0) {
+                return false;
+            }
+            count[0]--;
+        }
+        return true;
+    }
+
+    static int unorderedHashCode(int[] array) {
+        int sum = 0;
+        for (int element : array) {
+            sum += mix(element);
+        }
+        return finish(sum, array.length);
+    }
+
+    static int unorderedHashCode(long[] array) {
+        int sum = 0;
+        for (long element : array) {
+            sum += mix(Long.hashCode(element));
+        }
+        return finish(sum, array.length);
+    }
+
+    static int unorderedHashCode(Object[] array) {
+        int sum = 0;
+        for (Object element : array) {
+            sum += mix(Objects.hashCode(element));
+        }
+        return finish(sum, array.length);
+    }
+
+    static int unorderedHashCode(Collection<?> collection) {
+        int sum = 0;
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<?> list = (List<?>) collection;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                sum += mix(Objects.hashCode(list.get(i)));
+            }
+            return finish(sum, size);
+        }
+        for (Object element : collection) {
+            sum += mix(Objects.hashCode(element));
+        }
+        return finish(sum, collection.size());
+    }
+
+    /**
+     * The finalization step of MurmurHash3. Summing up the plain hash codes would let small and sequential values such
+     * as {@code {1, 4}} and {@code {2, 3}} collide.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * Returns a mask with the lowest {@code size} bits set, one for each element that has not been matched yet.
+     */
+    private static long unmatchedBits(int size) {
+        return size == Long.SIZE ? -1L : (1L << size) - 1;
+    }
+
+    private static int finish(int sum, int size) {
+        return 31 * sum + size;
+    }
+
+}
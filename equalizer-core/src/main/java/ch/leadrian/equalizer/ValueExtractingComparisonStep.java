@@ -26,6 +26,10 @@ abstract class ValueExtractingComparisonStep<T> implements ComparisonStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    final Function<? super T, ?> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public final boolean isEqual(T object1, T object2) {
         Object value1 = valueExtractor.apply(object1);
@@ -26,6 +26,10 @@ abstract class ValueExtractingHashStep<T> implements HashStep<T> {
         this.valueExtractor = valueExtractor;
     }
 
+    final Function<? super T, ?> getValueExtractor() {
+        return valueExtractor;
+    }
+
     @Override
     public final int hash(T object) {
         return hashValue(valueExtractor.apply(object));
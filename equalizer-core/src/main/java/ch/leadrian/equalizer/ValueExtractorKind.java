@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Describes the functional interfaces used as value extractors by the comparison and hash steps, as needed to invoke
+ * them from generated bytecode.
+ */
+enum ValueExtractorKind {
+    BOOLEAN("java/util/function/Predicate", "test", "Z"),
+    BYTE("ch/leadrian/equalizer/util/function/ToByteFunction", "applyAsByte", "B"),
+    SHORT("ch/leadrian/equalizer/util/function/ToShortFunction", "applyAsShort", "S"),
+    CHAR("ch/leadrian/equalizer/util/function/ToCharFunction", "applyAsChar", "C"),
+    INT("java/util/function/ToIntFunction", "applyAsInt", "I"),
+    LONG("java/util/function/ToLongFunction", "applyAsLong", "J"),
+    FLOAT("ch/leadrian/equalizer/util/function/ToFloatFunction", "applyAsFloat", "F"),
+    DOUBLE("java/util/function/ToDoubleFunction", "applyAsDouble", "D"),
+    OBJECT("java/util/function/Function", "apply", "Ljava/lang/Object;"),
+    BYTE_ARRAY("ch/leadrian/equalizer/util/function/ToByteArrayFunction", "applyAsByteArray", "[B"),
+    SHORT_ARRAY("ch/leadrian/equalizer/util/function/ToShortArrayFunction", "applyAsShortArray", "[S"),
+    CHAR_ARRAY("ch/leadrian/equalizer/util/function/ToCharArrayFunction", "applyAsCharArray", "[C"),
+    INT_ARRAY("ch/leadrian/equalizer/util/function/ToIntArrayFunction", "applyAsIntArray", "[I"),
+    LONG_ARRAY("ch/leadrian/equalizer/util/function/ToLongArrayFunction", "applyAsLongArray", "[J"),
+    FLOAT_ARRAY("ch/leadrian/equalizer/util/function/ToFloatArrayFunction", "applyAsFloatArray", "[F"),
+    DOUBLE_ARRAY("ch/leadrian/equalizer/util/function/ToDoubleArrayFunction", "applyAsDoubleArray", "[D"),
+    BOOLEAN_ARRAY("ch/leadrian/equalizer/util/function/ToBooleanArrayFunction", "applyAsBooleanArray", "[Z");
+
+    private static final String GETTER_DESCRIPTOR = "Ljava/lang/invoke/MethodHandle;";
+
+    private final String internalName;
+    private final String methodName;
+    private final String returnDescriptor;
+
+    ValueExtractorKind(String internalName, String methodName, String returnDescriptor) {
+        this.internalName = internalName;
+        this.methodName = methodName;
+        this.returnDescriptor = returnDescriptor;
+    }
+
+    String getInternalName() {
+        return internalName;
+    }
+
+    String getFieldDescriptor() {
+        return "L" + internalName + ";";
+    }
+
+    String getReturnDescriptor() {
+        return returnDescriptor;
+    }
+
+    boolean isArray() {
+        return returnDescriptor.startsWith("[");
+    }
+
+    /**
+     * Returns the operand to be stored for {@code valueExtractor}. If classes can be defined with class data, this is
+     * the getter of a {@link FieldGetter} of this kind, which is then stored in a static final field and invoked
+     * directly. Static final fields are constants for the JIT compiler, so the getter is inlined into the generated
+     * code.
+     */
+    Object getOperand(Object valueExtractor) {
+        if (valueExtractor instanceof FieldGetter && ClassDefiner.supportsClassData()) {
+            MethodHandle getter = ((FieldGetter<?>) valueExtractor).getGetter();
+            if (getter.type().toMethodDescriptorString().equals(getGetterDescriptor())) {
+                return getter;
+            }
+        }
+        return valueExtractor;
+    }
+
+    /**
+     * @param operand the result of {@link #getOperand(Object)}
+     * @return the descriptor of the field storing {@code operand}
+     */
+    String getFieldDescriptor(Object operand) {
+        return operand instanceof MethodHandle ? GETTER_DESCRIPTOR : getFieldDescriptor();
+    }
+
+    /**
+     * Emits the bytecode to extract a value from the object in local variable {@code objectIndex} using the value
+     * extractor stored in field {@code fieldName} of {@code this}, or the getter stored in static field
+     * {@code fieldName}.
+     */
+    void emitExtractValue(ClassFileWriter.Code code, String owner, String fieldName, String fieldDescriptor, int objectIndex) {
+        if (isGetter(fieldDescriptor)) {
+            code.getstatic(owner, fieldName, fieldDescriptor)
+                    .aload(objectIndex)
+                    .invokevirtual("java/lang/invoke/MethodHandle", "invokeExact", getGetterDescriptor());
+        } else {
+            code.aload(0)
+                    .getfield(owner, fieldName, fieldDescriptor)
+                    .aload(objectIndex)
+                    .invokeinterface(internalName, methodName, "(Ljava/lang/Object;)" + returnDescriptor, 2);
+        }
+    }
+
+    /**
+     * @return whether a field with descriptor {@code fieldDescriptor} stores a getter in a static field
+     */
+    static boolean isGetter(String fieldDescriptor) {
+        return GETTER_DESCRIPTOR.equals(fieldDescriptor);
+    }
+
+    /**
+     * Emits the bytecode to initialize the static field {@code fieldName} with the getter at {@code index} of the
+     * class data.
+     */
+    static void emitInitializeGetter(ClassFileWriter.Code code, String owner, String fieldName, int index) {
+        code.invokestatic("java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;")
+                .ldc("_")
+                .ldcClass("java/lang/invoke/MethodHandle")
+                .pushInt(index)
+                .invokestatic(
+                        "java/lang/invoke/MethodHandles",
+                        "classDataAt",
+                        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;"
+                )
+                .checkcast("java/lang/invoke/MethodHandle")
+                .putstatic(owner, fieldName, GETTER_DESCRIPTOR);
+    }
+
+    private String getGetterDescriptor() {
+        return "(Ljava/lang/Object;)" + returnDescriptor;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.util.function;
+
+/**
+ * Represents a function that produces a {@code float[]} result. It allows Equalizer to choose the comparison and hash
+ * code computation for the array type when a builder is configured, instead of determining the array type each time a
+ * value is compared or hashed.
+ *
+ * @param <T> the type of the input to the function
+ * @see java.util.function.Function
+ */
+@FunctionalInterface
+public interface ToFloatArrayFunction<T> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     */
+    float[] applyAsFloatArray(T value);
+
+}
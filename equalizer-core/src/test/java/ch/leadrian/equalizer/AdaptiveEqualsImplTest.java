@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AdaptiveEqualsImplTest {
+
+    private static final ToIntFunction<TestData> ID = TestData::getId;
+    private static final ToIntFunction<TestData> STATUS = TestData::getStatus;
+
+    @Test
+    void shouldInitiallyUseGivenOrder() {
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(
+                Arrays.asList(new IntComparisonStep<>(ID), new ShallowComparisonStep<>(TestData::getName), new IntComparisonStep<>(STATUS)),
+                new int[]{2, 0, 1}
+        );
+
+        List<Integer> result = equals.getComparisonOrder();
+
+        assertThat(result)
+                .containsExactly(2, 0, 1);
+    }
+
+    @Test
+    void shouldMoveMostRejectingStepFirst() {
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(
+                Arrays.asList(new IntComparisonStep<>(ID), new ShallowComparisonStep<>(TestData::getName), new IntComparisonStep<>(STATUS)),
+                new int[]{0, 1, 2}
+        );
+
+        for (int i = 0; i < 100; i++) {
+            equals.equals(new TestData(1, "foo", i), new TestData(1, "foo", 0));
+        }
+
+        assertThat(equals.getComparisonOrder())
+                .containsExactly(2, 0, 1);
+    }
+
+    @Test
+    void shouldReturnSameResultsAfterReordering() {
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(
+                Arrays.asList(new IntComparisonStep<>(ID), new ShallowComparisonStep<>(TestData::getName), new IntComparisonStep<>(STATUS)),
+                new int[]{0, 1, 2}
+        );
+        List<Boolean> results = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            results.add(equals.equals(new TestData(i % 2, "foo", i % 3), new TestData(0, "foo", 0)));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(results.get(i))
+                    .isEqualTo(i % 2 == 0 && i % 3 == 0);
+        }
+    }
+
+    @Test
+    void shouldNotMoveStepsAcrossConditions() {
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(
+                Arrays.asList(
+                        new IntComparisonStep<>(ID),
+                        new DelegatingComparisonStep<>((TestData data1, TestData data2) -> true),
+                        new ShallowComparisonStep<>(TestData::getName),
+                        new IntComparisonStep<>(STATUS)
+                ),
+                new int[]{0, 1, 2, 3}
+        );
+
+        for (int i = 0; i < 100; i++) {
+            equals.equals(new TestData(1, "foo", i), new TestData(1, "foo", 0));
+        }
+
+        assertThat(equals.getComparisonOrder())
+                .containsExactly(0, 1, 3, 2);
+    }
+
+    @Test
+    void givenRejectingConditionItShouldNotSampleFollowingSteps() {
+        AtomicInteger nameExtractions = new AtomicInteger();
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(
+                Arrays.asList(
+                        new DelegatingComparisonStep<>((TestData data1, TestData data2) -> false),
+                        new ShallowComparisonStep<>((TestData data) -> {
+                            nameExtractions.incrementAndGet();
+                            return data.getName();
+                        })
+                ),
+                new int[]{0, 1}
+        );
+
+        boolean result = equals.equals(new TestData(1, "foo", 0), new TestData(1, "foo", 0));
+
+        assertThat(result)
+                .isFalse();
+        assertThat(nameExtractions)
+                .hasValue(0);
+    }
+
+    @Test
+    void givenNoComparisonStepsItShouldOnlyConsiderIdenticalInstancesEqual() {
+        AdaptiveEqualsImpl<TestData> equals = createAdaptiveEquals(new ArrayList<>(), new int[0]);
+        TestData testData = new TestData(1, "foo", 0);
+
+        assertThat(equals.equals(testData, testData))
+                .isTrue();
+        assertThat(equals.equals(testData, new TestData(1, "foo", 0)))
+                .isFalse();
+    }
+
+    @Test
+    void givenSampleIntervalIsNotPowerOfTwoItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> new AdaptiveEqualsImpl<>(
+                TestData.class,
+                Arrays.asList(new IntComparisonStep<>(ID), new IntComparisonStep<>(STATUS)),
+                ClassMatchers.instanceOf(TestData.class),
+                new int[]{0, 1},
+                48,
+                10
+        ));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("sampleInterval must be a power of two");
+    }
+
+    private static AdaptiveEqualsImpl<TestData> createAdaptiveEquals(List<ComparisonStep<TestData>> comparisonSteps, int[] order) {
+        return new AdaptiveEqualsImpl<>(TestData.class, comparisonSteps, ClassMatchers.instanceOf(TestData.class), order, 1, 10);
+    }
+
+    private static class TestData {
+
+        private final int id;
+        private final String name;
+        private final int status;
+
+        TestData(int id, String name, int status) {
+            this.id = id;
+            this.name = name;
+            this.status = status;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getStatus() {
+            return status;
+        }
+    }
+
+}
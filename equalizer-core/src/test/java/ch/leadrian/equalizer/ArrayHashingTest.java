@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArrayHashingTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenByteArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        byte[] array = new byte[length];
+        random(length).nextBytes(array);
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenShortArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        Random random = random(length);
+        short[] array = new short[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = (short) random.nextInt();
+        }
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenCharArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        Random random = random(length);
+        char[] array = new char[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = (char) random.nextInt();
+        }
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenIntArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        int[] array = random(length).ints(length).toArray();
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenLongArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        long[] array = random(length).longs(length).toArray();
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenFloatArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        Random random = random(length);
+        float[] array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextFloat();
+        }
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenDoubleArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        double[] array = random(length).doubles(length).toArray();
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 65536})
+    void givenBooleanArrayItShouldReturnSameHashCodeAsArrays(int length) {
+        Random random = random(length);
+        boolean[] array = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextBoolean();
+        }
+
+        int result = ArrayHashing.hashCode(array);
+
+        assertThat(result)
+                .isEqualTo(Arrays.hashCode(array));
+    }
+
+    @Test
+    void givenSpecialFloatingPointValuesItShouldReturnSameHashCodeAsArrays() {
+        float[] floatArray = {Float.NaN, Float.intBitsToFloat(0x7fc00001), -0f, 0f, Float.NEGATIVE_INFINITY, Float.MIN_VALUE, Float.MAX_VALUE, 1f, -1f};
+        double[] doubleArray = {Double.NaN, Double.longBitsToDouble(0x7ff8000000000001L), -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, 1.0, -1.0};
+
+        assertThat(ArrayHashing.hashCode(floatArray))
+                .isEqualTo(Arrays.hashCode(floatArray));
+        assertThat(ArrayHashing.hashCode(doubleArray))
+                .isEqualTo(Arrays.hashCode(doubleArray));
+    }
+
+    @Test
+    void givenNullItShouldReturnZero() {
+        int result = ArrayHashing.hashCode((int[]) null);
+
+        assertThat(result)
+                .isZero();
+    }
+
+    private static Random random(int seed) {
+        return new Random(seed);
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BooleanArrayComparisonStepTest {
+
+    @Test
+    void givenArraysAreEqualItShouldReturnTrue() {
+        BooleanArrayComparisonStep<TestData> comparisonStep = new BooleanArrayComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(new boolean[]{true, false}), new TestData(new boolean[]{true, false}));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void givenArraysAreNotEqualItShouldReturnFalse() {
+        BooleanArrayComparisonStep<TestData> comparisonStep = new BooleanArrayComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(new boolean[]{true, false}), new TestData(new boolean[]{true, true}));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenOneArrayIsNullItShouldReturnFalse() {
+        BooleanArrayComparisonStep<TestData> comparisonStep = new BooleanArrayComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(new boolean[]{true, false}), new TestData(null));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenBothArraysAreNullItShouldReturnTrue() {
+        BooleanArrayComparisonStep<TestData> comparisonStep = new BooleanArrayComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(null), new TestData(null));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    private static class TestData {
+
+        private final boolean[] value;
+
+        TestData(boolean[] value) {
+            this.value = value;
+        }
+
+        public boolean[] getValue() {
+            return value;
+        }
+    }
+
+}
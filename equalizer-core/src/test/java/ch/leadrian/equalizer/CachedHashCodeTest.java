@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedHashCodeTest {
+
+    @Test
+    void givenValueIsNullItShouldReturnZero() {
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .hash(key -> key.value)
+                .cachedIn(key -> key.hash, (key, hash) -> key.hash = hash)
+                .build();
+
+        int result = hashCode.hashCode(null);
+
+        assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void shouldReturnSameHashCodeAsUncachedHashCode() {
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .hash(k -> k.value)
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .build();
+
+        int result = hashCode.hashCode(key);
+
+        assertThat(result)
+                .isEqualTo(31 + "Test".hashCode());
+    }
+
+    @Test
+    void shouldStoreComputedHashCode() {
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .hash(k -> k.value)
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .build();
+
+        int result = hashCode.hashCode(key);
+
+        assertThat(key.hash)
+                .isEqualTo(result);
+    }
+
+    @Test
+    void givenHashCodeIsCachedItShouldNotRecomputeIt() {
+        AtomicInteger numberOfComputations = new AtomicInteger();
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .hash(k -> {
+                    numberOfComputations.incrementAndGet();
+                    return k.value;
+                })
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .build();
+
+        hashCode.hashCode(key);
+        hashCode.hashCode(key);
+        int result = hashCode.hashCode(key);
+
+        assertThat(result)
+                .isEqualTo(31 + "Test".hashCode());
+        assertThat(numberOfComputations)
+                .hasValue(1);
+    }
+
+    @Test
+    void givenHashCodeIsZeroAndNoFlagItShouldRecomputeIt() {
+        AtomicInteger numberOfComputations = new AtomicInteger();
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .withSuper(k -> {
+                    numberOfComputations.incrementAndGet();
+                    return -31;
+                })
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .build();
+
+        hashCode.hashCode(key);
+        int result = hashCode.hashCode(key);
+
+        assertThat(result)
+                .isZero();
+        assertThat(numberOfComputations)
+                .hasValue(2);
+    }
+
+    @Test
+    void givenHashCodeIsZeroAndFlagItShouldNotRecomputeIt() {
+        AtomicInteger numberOfComputations = new AtomicInteger();
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .withSuper(k -> {
+                    numberOfComputations.incrementAndGet();
+                    return -31;
+                })
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash, k -> k.hashIsZero, k -> k.hashIsZero = true)
+                .build();
+
+        hashCode.hashCode(key);
+        int result = hashCode.hashCode(key);
+
+        assertThat(result)
+                .isZero();
+        assertThat(key.hashIsZero)
+                .isTrue();
+        assertThat(numberOfComputations)
+                .hasValue(1);
+    }
+
+    @Test
+    void compileShouldCacheHashCode() {
+        Key key = new Key("Test");
+        HashCode<Key> hashCode = new HashCodeImpl.Builder<Key>()
+                .hash(k -> k.value)
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .compile();
+
+        int result = hashCode.hashCode(key);
+
+        assertThat(key.hash)
+                .isEqualTo(result)
+                .isEqualTo(31 + "Test".hashCode());
+    }
+
+    @Test
+    void equalsAndHashCodeBuilderShouldCacheHashCode() {
+        Key key = new Key("Test");
+        EqualsAndHashCode<Key> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Key.class)
+                .compareAndHash(k -> k.value)
+                .cachedIn(k -> k.hash, (k, hash) -> k.hash = hash)
+                .build();
+
+        int result = equalsAndHashCode.hashCode(key);
+
+        assertThat(key.hash)
+                .isEqualTo(result)
+                .isEqualTo(31 + "Test".hashCode());
+    }
+
+    private static final class Key {
+
+        private final String value;
+
+        private int hash;
+
+        private boolean hashIsZero;
+
+        private Key(String value) {
+            this.value = value;
+        }
+
+    }
+
+}
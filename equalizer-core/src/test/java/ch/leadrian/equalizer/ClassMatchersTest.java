@@ -108,11 +108,179 @@ class ClassMatchersTest {
 
     }
 
+    @Nested
+    class ImpliesTests {
+
+        @Test
+        void givenImpliedClassMatcherIsInstanceOfItShouldReturnTrue() {
+            boolean result = ClassMatchers.implies(ClassMatchers.sameClass(), ClassMatchers.instanceOf(Foo.class));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenBothClassMatchersAreSameClassItShouldReturnTrue() {
+            boolean result = ClassMatchers.implies(ClassMatchers.sameClass(), ClassMatchers.sameClass());
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenExactClassAndImpliedClassMatcherIsSameClassItShouldReturnTrue() {
+            boolean result = ClassMatchers.implies(ClassMatchers.exactClass(Bar.class), ClassMatchers.sameClass());
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenInstanceOfAndImpliedClassMatcherIsSameClassItShouldReturnFalse() {
+            boolean result = ClassMatchers.implies(ClassMatchers.instanceOf(Bar.class), ClassMatchers.sameClass());
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenExactClassesWithSameTargetClassItShouldReturnTrue() {
+            boolean result = ClassMatchers.implies(ClassMatchers.exactClass(Foo.class), ClassMatchers.exactClass(Foo.class));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenExactClassesWithDifferentTargetClassesItShouldReturnFalse() {
+            boolean result = ClassMatchers.implies(ClassMatchers.exactClass(Bar.class), ClassMatchers.exactClass(Foo.class));
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenImpliedClassMatcherIsCustomItShouldReturnFalse() {
+            ClassMatcher<Foo> customClassMatcher = (value1, value2) -> true;
+
+            boolean result = ClassMatchers.implies(customClassMatcher, customClassMatcher);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+    }
+
+    @Nested
+    class MatchesAllTests {
+
+        @Test
+        void givenInstanceOfAndOtherComponentTypeIsSubclassItShouldReturnTrue() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.instanceOf(Foo.class), Object.class, Bar.class);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenInstanceOfAndOtherComponentTypeIsSuperclassItShouldReturnFalse() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.instanceOf(Bar.class), Bar.class, Foo.class);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenSameClassAndSameFinalComponentTypesItShouldReturnTrue() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.sameClass(), Baz.class, Baz.class);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenSameClassAndNonFinalComponentTypesItShouldReturnFalse() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.sameClass(), Foo.class, Foo.class);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenExactClassAndFinalTargetClassComponentTypesItShouldReturnTrue() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.exactClass(Baz.class), Baz.class, Baz.class);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenExactClassAndOtherComponentTypeIsNotTargetClassItShouldReturnFalse() {
+            boolean result = ClassMatchers.matchesAll(ClassMatchers.exactClass(Baz.class), Baz.class, Foo.class);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenCustomClassMatcherItShouldReturnFalse() {
+            ClassMatcher<Baz> customClassMatcher = (value1, value2) -> true;
+
+            boolean result = ClassMatchers.matchesAll(customClassMatcher, Baz.class, Baz.class);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+    }
+
+    @Nested
+    class MatchesAllSubtypesTests {
+
+        @Test
+        void givenInstanceOfItShouldReturnTrue() {
+            boolean result = ClassMatchers.matchesAllSubtypes(ClassMatchers.instanceOf(Foo.class));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenSameClassItShouldReturnFalse() {
+            boolean result = ClassMatchers.matchesAllSubtypes(ClassMatchers.sameClass());
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenExactClassItShouldReturnFalse() {
+            boolean result = ClassMatchers.matchesAllSubtypes(ClassMatchers.exactClass(Foo.class));
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenCustomClassMatcherItShouldReturnFalse() {
+            ClassMatcher<Foo> customClassMatcher = (value1, value2) -> true;
+
+            boolean result = ClassMatchers.matchesAllSubtypes(customClassMatcher);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+    }
+
     private static class Foo {
     }
 
     private static class Bar extends Foo {
     }
 
+    private static final class Baz extends Foo {
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComparisonStepPlannerTest {
+
+    private static final ToIntFunction<Object> INT_VALUE = Object::hashCode;
+
+    @Test
+    void shouldOrderStepsByCost() {
+        ComparisonStep<Object> deep = new DeepComparisonStep<>(Object::toString);
+        ComparisonStep<Object> shallow = new ShallowComparisonStep<>(Object::toString);
+        ComparisonStep<Object> identity = new IdentityComparisonStep<>(Object::toString);
+        ComparisonStep<Object> primitive = new IntComparisonStep<>(INT_VALUE);
+        ComparisonStep<Object> array = new IntArrayComparisonStep<>(object -> new int[0]);
+
+        List<ComparisonStep<Object>> result = ComparisonStepPlanner.optimizeOrder(Arrays.asList(deep, shallow, array, identity, primitive));
+
+        assertThat(result)
+                .containsExactly(primitive, identity, shallow, deep, array);
+    }
+
+    @Test
+    void shouldKeepDeclarationOrderOfStepsWithSameCost() {
+        ComparisonStep<Object> primitive1 = new IntComparisonStep<>(INT_VALUE);
+        ComparisonStep<Object> primitive2 = new BooleanComparisonStep<>(object -> true);
+        ComparisonStep<Object> primitive3 = new LongComparisonStep<>(object -> 1L);
+
+        List<ComparisonStep<Object>> result = ComparisonStepPlanner.optimizeOrder(Arrays.asList(primitive1, primitive2, primitive3));
+
+        assertThat(result)
+                .containsExactly(primitive1, primitive2, primitive3);
+    }
+
+    @Test
+    void shouldNotMoveStepsAcrossConditions() {
+        ComparisonStep<Object> deep = new DeepComparisonStep<>(Object::toString);
+        ComparisonStep<Object> condition = new DelegatingComparisonStep<>((object1, object2) -> true);
+        ComparisonStep<Object> shallow = new ShallowComparisonStep<>(Object::toString);
+        ComparisonStep<Object> primitive = new IntComparisonStep<>(INT_VALUE);
+
+        List<ComparisonStep<Object>> result = ComparisonStepPlanner.optimizeOrder(Arrays.asList(deep, condition, shallow, primitive));
+
+        assertThat(result)
+                .containsExactly(deep, condition, primitive, shallow);
+    }
+
+    @Test
+    void shouldNotMoveSuperComparisonStep() {
+        ComparisonStep<Object> superStep = new SuperComparisonStep<>(Equals.of(Object.class, Object::toString));
+        ComparisonStep<Object> deep = new DeepComparisonStep<>(Object::toString);
+        ComparisonStep<Object> primitive = new IntComparisonStep<>(INT_VALUE);
+
+        List<ComparisonStep<Object>> result = ComparisonStepPlanner.optimizeOrder(Arrays.asList(superStep, deep, primitive));
+
+        assertThat(result)
+                .containsExactly(superStep, primitive, deep);
+    }
+
+}
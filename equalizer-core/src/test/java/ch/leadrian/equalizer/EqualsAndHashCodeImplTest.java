@@ -22,7 +22,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -108,6 +114,18 @@ class EqualsAndHashCodeImplTest {
                     .hasMessage("If at least one comparison step has configured, then at least one hash step must be configured as well");
         }
 
+        @Test
+        void givenComparisonStepButNotHashStepCompileShouldThrowException() {
+            EqualsAndHashCodeBuilder<TestObject> builder = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .compare(TestObject::getStringValue);
+
+            Throwable caughtThrowable = catchThrowable(builder::compile);
+
+            assertThat(caughtThrowable)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("If at least one comparison step has configured, then at least one hash step must be configured as well");
+        }
+
         @Nested
         class CompareAndHashTests implements EqualsTestBase {
 
@@ -256,6 +274,22 @@ class EqualsAndHashCodeImplTest {
                     .isEqualTo(31 * (31 + Integer.hashCode(1337)) + "Test".hashCode());
         }
 
+        @Test
+        void givenCompiledItShouldCombineHashSteps() {
+            TestObject testObject = testObject()
+                    .withIntValue(1337)
+                    .withStringValue("Test");
+            EqualsAndHashCode<TestObject> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .compareAndHashPrimitive(TestObject::getIntValue)
+                    .compareAndHash(TestObject::getStringValue)
+                    .compile();
+
+            int result = equalsAndHashCode.hashCode(testObject);
+
+            assertThat(result)
+                    .isEqualTo(31 * (31 + Integer.hashCode(1337)) + "Test".hashCode());
+        }
+
         @Test
         void shouldUseStringHashStep() {
             TestObject testObject = testObject()
@@ -414,6 +448,181 @@ class EqualsAndHashCodeImplTest {
 
     }
 
+    @Nested
+    class HashGuardedTests {
+
+        @Test
+        void givenHashGuardedBeforeCompareAndHashItShouldUseHashGuardedComparisonStep() {
+            EqualsAndHashCode<TestObject> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .hashGuarded()
+                    .compareAndHash(TestObject::getStringValue)
+                    .build();
+
+            assertThat(getComparisonSteps(equalsAndHashCode))
+                    .hasOnlyElementsOfType(HashGuardedComparisonStep.class);
+        }
+
+        @Test
+        void givenHashGuardedAfterCompareAndHashItShouldUseHashGuardedComparisonStep() {
+            EqualsAndHashCode<TestObject> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .compareAndHash(TestObject::getStringValue)
+                    .compareAndHash(TestObject::getBaseObjectValue)
+                    .hashGuarded()
+                    .build();
+
+            assertThat(getComparisonSteps(equalsAndHashCode))
+                    .hasSize(2)
+                    .hasOnlyElementsOfType(HashGuardedComparisonStep.class);
+        }
+
+        @Test
+        void givenHashGuardedItShouldNotAffectCompare() {
+            EqualsAndHashCode<TestObject> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .compare(TestObject::getStringValue)
+                    .compareAndHashPrimitive(TestObject::getIntValue)
+                    .hashGuarded()
+                    .build();
+
+            assertThat(getComparisonSteps(equalsAndHashCode))
+                    .hasSize(2)
+                    .doesNotHaveAnyElementsOfTypes(HashGuardedComparisonStep.class);
+        }
+
+        @Test
+        void givenHashGuardedItShouldCompareValues() {
+            EqualsAndHashCode<TestObject> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(TestObject.class)
+                    .compareAndHash(TestObject::getStringValue)
+                    .hashGuarded()
+                    .build();
+
+            assertThat(equalsAndHashCode.equals(testObject(), testObject()))
+                    .isTrue();
+            assertThat(equalsAndHashCode.equals(testObject(), testObject().withStringValue("Other")))
+                    .isFalse();
+        }
+
+        private List<ComparisonStep<TestObject>> getComparisonSteps(EqualsAndHashCode<TestObject> equalsAndHashCode) {
+            Equals<TestObject> equals = ((EqualsAndHashCodeImpl<TestObject>) equalsAndHashCode).getEquals();
+            return ((AbstractEquals<TestObject>) equals).getComparisonSteps();
+        }
+
+    }
+
+    @Nested
+    class CollectionTests {
+
+        private final EqualsAndHashCode<Item> itemEqualsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Item.class)
+                .compareAndHash(item -> item.name.toLowerCase())
+                .build();
+
+        private final EqualsAndHashCode<Inventory> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Inventory.class)
+                .compareAndHashList(inventory -> inventory.items, itemEqualsAndHashCode)
+                .compareAndHashSet(inventory -> inventory.tags)
+                .compareAndHashMap(inventory -> inventory.itemsByLocation, itemEqualsAndHashCode)
+                .build();
+
+        @Test
+        void givenEquivalentCollectionsItShouldReturnTrue() {
+            Inventory inventory1 = new Inventory("Sword", "Shield");
+            Inventory inventory2 = new Inventory("SWORD", "shield");
+
+            boolean result = equalsAndHashCode.equals(inventory1, inventory2);
+
+            assertThat(result)
+                    .isTrue();
+            assertThat(equalsAndHashCode.hashCode(inventory1))
+                    .isEqualTo(equalsAndHashCode.hashCode(inventory2));
+        }
+
+        @Test
+        void givenDifferentListElementsItShouldReturnFalse() {
+            boolean result = equalsAndHashCode.equals(new Inventory("Sword", "Shield"), new Inventory("Shield", "Sword"));
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenCompareListItShouldOnlyConfigureEquals() {
+            EqualsAndHashCode<Inventory> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Inventory.class)
+                    .compareList(inventory -> inventory.items, itemEqualsAndHashCode)
+                    .compareSet(inventory -> inventory.tags)
+                    .compareMap(inventory -> inventory.itemsByLocation, itemEqualsAndHashCode)
+                    .compareAndHash(inventory -> inventory.items.size())
+                    .build();
+
+            assertThat(((AbstractEquals<Inventory>) ((EqualsAndHashCodeImpl<Inventory>) equalsAndHashCode).getEquals()).getComparisonSteps())
+                    .hasSize(4);
+            assertThat(((AbstractHashCode<Inventory>) ((EqualsAndHashCodeImpl<Inventory>) equalsAndHashCode).getHashCode()).getHashSteps())
+                    .hasSize(1);
+            assertThat(equalsAndHashCode.equals(new Inventory("Sword"), new Inventory("sword")))
+                    .isTrue();
+        }
+
+        @Test
+        void givenCompareAndHashUnorderedItShouldIgnoreOrderOfElements() {
+            EqualsAndHashCode<Inventory> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Inventory.class)
+                    .compareAndHashUnordered(inventory -> inventory.tags.toArray())
+                    .compareAndHashUnordered(inventory -> inventory.itemsByLocation.keySet())
+                    .build();
+            Inventory inventory1 = new Inventory("Sword", "Shield");
+            Inventory inventory2 = new Inventory("Shield", "Sword");
+
+            boolean result = equalsAndHashCode.equals(inventory1, inventory2);
+
+            assertThat(result)
+                    .isTrue();
+            assertThat(equalsAndHashCode.hashCode(inventory1))
+                    .isEqualTo(equalsAndHashCode.hashCode(inventory2));
+            assertThat(equalsAndHashCode.equals(inventory1, new Inventory("Sword")))
+                    .isFalse();
+        }
+
+        @Test
+        void givenCompareAndHashWithItShouldUseNestedEqualsAndHashCode() {
+            EqualsAndHashCode<Inventory> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Inventory.class)
+                    .compareAndHashWith(inventory -> inventory.items.get(0), itemEqualsAndHashCode)
+                    .build();
+            Inventory inventory1 = new Inventory("Sword", "Shield");
+            Inventory inventory2 = new Inventory("SWORD", "Bow");
+
+            boolean result = equalsAndHashCode.equals(inventory1, inventory2);
+
+            assertThat(result)
+                    .isTrue();
+            assertThat(equalsAndHashCode.hashCode(inventory1))
+                    .isEqualTo(equalsAndHashCode.hashCode(inventory2));
+            assertThat(equalsAndHashCode.equals(inventory1, new Inventory("Shield")))
+                    .isFalse();
+        }
+
+    }
+
+    private static final class Item {
+
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Inventory {
+
+        private final List<Item> items = new ArrayList<>();
+        private final Set<String> tags = new HashSet<>();
+        private final Map<String, Item> itemsByLocation = new HashMap<>();
+
+        Inventory(String... itemNames) {
+            for (String itemName : itemNames) {
+                Item item = new Item(itemName);
+                items.add(item);
+                tags.add("Size" + itemNames.length);
+                itemsByLocation.put("Slot" + items.size(), item);
+            }
+        }
+    }
+
     @Nested
     class IsEmptyTests {
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class EqualsCompilerTest implements EqualsTestBase {
+
+    private static Object OBJECT = new Object();
+
+    private Equals<TestObject> equals;
+
+    @BeforeEach
+    void setUp() {
+        Equals<TestObjectBase> superEquals = new EqualsImpl.Builder<>(TestObjectBase.class)
+                .compare(TestObjectBase::getBaseObjectValue)
+                .compile();
+        equals = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(superEquals)
+                .compare(TestObject::getStringValue)
+                .compareIdentity(TestObject::getObjectValue)
+                .compareDeep(TestObject::getArrayValue)
+                .comparePrimitive(TestObject::getByteValue)
+                .comparePrimitive(TestObject::getShortValue)
+                .comparePrimitive(TestObject::getCharValue)
+                .comparePrimitive(TestObject::getIntValue)
+                .comparePrimitive(TestObject::getLongValue)
+                .comparePrimitive(TestObject::getFloatValue)
+                .comparePrimitive(TestObject::getDoubleValue)
+                .comparePrimitive(TestObject::getBooleanValue)
+                .compile();
+    }
+
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    @Override
+    public ImmutableTestObject getTestObject() {
+        return ImmutableTestObject
+                .builder()
+                .baseObjectValue("Base")
+                .stringValue(new String("Test"))
+                .objectValue(OBJECT)
+                .arrayValue("foo", "bar")
+                .byteValue((byte) 5)
+                .shortValue((short) 9876)
+                .charValue('c')
+                .intValue(1337)
+                .longValue(1234L)
+                .floatValue(13.37f)
+                .doubleValue(0.815)
+                .booleanValue(true)
+                .build();
+    }
+
+    @Override
+    public Equals<TestObject> getEquals() {
+        return equals;
+    }
+
+    @Test
+    void givenClassDefinitionIsSupportedItShouldCompileGeneratedClass() {
+        assumeTrue(ClassDefiner.isSupported());
+
+        assertThat(equals)
+                .isInstanceOf(AbstractEquals.class)
+                .isNotInstanceOf(EqualsImpl.class);
+    }
+
+    @Test
+    void givenClassDefinitionIsNotSupportedItShouldBuildEqualsImpl() {
+        assumeTrue(!ClassDefiner.isSupported());
+
+        assertThat(equals)
+                .isInstanceOf(EqualsImpl.class);
+    }
+
+    @Test
+    void givenNoComparisonsItShouldBuildEqualsImpl() {
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class).compile();
+
+        assertThat(equals)
+                .isInstanceOf(EqualsImpl.class);
+    }
+
+    @Test
+    void givenClassesDoNotMatchItShouldReturnFalse() {
+        TestObject testObject1 = getTestObject();
+        TestObject testObject2 = getTestObject();
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compare(TestObject::getStringValue)
+                .classMatcher((v1, v2) -> false)
+                .compile();
+
+        boolean result = equals.equals(testObject1, testObject2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenDelegatingComparisonFailsItShouldReturnFalse() {
+        TestObject testObject1 = getTestObject();
+        TestObject testObject2 = getTestObject();
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compare(TestObject::getStringValue)
+                .equalIf((value1, value2) -> false)
+                .compile();
+
+        boolean result = equals.equals(testObject1, testObject2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenNaNFloatValuesItShouldReturnTrue() {
+        TestObject testObject1 = getTestObject().withFloatValue(Float.NaN);
+        TestObject testObject2 = getTestObject().withFloatValue(Float.NaN);
+
+        boolean result = equals.equals(testObject1, testObject2);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void givenPositiveAndNegativeZeroDoubleValuesItShouldReturnFalse() {
+        TestObject testObject1 = getTestObject().withDoubleValue(0.0);
+        TestObject testObject2 = getTestObject().withDoubleValue(-0.0);
+
+        boolean result = equals.equals(testObject1, testObject2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenDifferentButEqualObjectValuesItShouldReturnFalseForIdentityComparison() {
+        TestObject testObject1 = getTestObject().withObjectValue("Test");
+        TestObject testObject2 = getTestObject().withObjectValue(new String("Test"));
+
+        boolean result = equals.equals(testObject1, testObject2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenArrayComparisonStepsItShouldCompareArrays() {
+        Equals<ArrayData> equals = new EqualsImpl.Builder<>(ArrayData.class)
+                .compareArray(ArrayData::getByteArray)
+                .compareArray(ArrayData::getShortArray)
+                .compareArray(ArrayData::getCharArray)
+                .compareArray(ArrayData::getIntArray)
+                .compareArray(ArrayData::getLongArray)
+                .compareArray(ArrayData::getFloatArray)
+                .compareArray(ArrayData::getDoubleArray)
+                .compareArray(ArrayData::getBooleanArray)
+                .compile();
+        ArrayData arrayData = new ArrayData();
+        ArrayData otherArrayData = new ArrayData();
+        otherArrayData.doubleArray[1] = 0.0;
+
+        boolean result1 = equals.equals(arrayData, new ArrayData());
+        boolean result2 = equals.equals(arrayData, otherArrayData);
+
+        assertThat(result1)
+                .isTrue();
+        assertThat(result2)
+                .isFalse();
+    }
+
+    @Test
+    void givenHashGuardedComparisonStepItShouldCompareValues() {
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compareHashGuarded(TestObject::getStringValue)
+                .compile();
+
+        boolean result1 = equals.equals(getTestObject(), getTestObject());
+        boolean result2 = equals.equals(getTestObject(), getTestObject().withStringValue("Other"));
+
+        assertThat(result1)
+                .isTrue();
+        assertThat(result2)
+                .isFalse();
+    }
+
+    @Test
+    void givenManyComparisonStepsItShouldStillReturnCorrectResult() {
+        EqualsBuilder<TestObject> builder = new EqualsImpl.Builder<>(TestObject.class);
+        for (int i = 0; i < 5000; i++) {
+            builder.comparePrimitive(TestObject::getIntValue);
+        }
+        Equals<TestObject> equals = builder.compile();
+
+        boolean result1 = equals.equals(getTestObject(), getTestObject());
+        boolean result2 = equals.equals(getTestObject(), getTestObject().withIntValue(1));
+
+        assertThat(result1)
+                .isTrue();
+        assertThat(result2)
+                .isFalse();
+    }
+
+    private static class ArrayData {
+
+        private final byte[] byteArray = {(byte) 1, (byte) 2};
+        private final short[] shortArray = {(short) 3, (short) 4};
+        private final char[] charArray = {'a', 'b'};
+        private final int[] intArray = {5, 6};
+        private final long[] longArray = {7L, 8L};
+        private final float[] floatArray = {Float.NaN, -0f};
+        private final double[] doubleArray = {Double.NaN, -0.0};
+        private final boolean[] booleanArray = {true, false};
+
+        byte[] getByteArray() {
+            return byteArray;
+        }
+
+        short[] getShortArray() {
+            return shortArray;
+        }
+
+        char[] getCharArray() {
+            return charArray;
+        }
+
+        int[] getIntArray() {
+            return intArray;
+        }
+
+        long[] getLongArray() {
+            return longArray;
+        }
+
+        float[] getFloatArray() {
+            return floatArray;
+        }
+
+        double[] getDoubleArray() {
+            return doubleArray;
+        }
+
+        boolean[] getBooleanArray() {
+            return booleanArray;
+        }
+    }
+
+}
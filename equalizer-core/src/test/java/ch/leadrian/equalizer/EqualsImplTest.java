@@ -19,7 +19,11 @@ package ch.leadrian.equalizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EqualsImplTest implements EqualsTestBase {
 
@@ -132,6 +136,140 @@ class EqualsImplTest implements EqualsTestBase {
                 .isFalse();
     }
 
+    @Test
+    void givenSuperEqualsIsBuiltByEqualizerItShouldInlineItsComparisonSteps() {
+        Equals<TestObject> level1 = new EqualsImpl.Builder<>(TestObject.class)
+                .compare(TestObject::getBaseObjectValue)
+                .build();
+        Equals<TestObject> level2 = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(level1)
+                .compare(TestObject::getStringValue)
+                .build();
+        Equals<TestObject> level3 = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(level2)
+                .comparePrimitive(TestObject::getIntValue)
+                .build();
+        Equals<TestObject> level4 = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(level3)
+                .comparePrimitive(TestObject::getLongValue)
+                .build();
+        Equals<TestObject> level5 = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(level4)
+                .compareDeep(TestObject::getArrayValue)
+                .build();
+
+        assertThat(((AbstractEquals<TestObject>) level5).getComparisonSteps())
+                .hasSize(5)
+                .doesNotHaveAnyElementsOfTypes(SuperComparisonStep.class);
+    }
+
+    @Test
+    void givenOptimizeOrderItShouldCompareCheapAttributesFirst() {
+        AtomicInteger arrayExtractions = new AtomicInteger();
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compareDeep(testObject -> {
+                    arrayExtractions.incrementAndGet();
+                    return testObject.getArrayValue();
+                })
+                .comparePrimitive(TestObject::getIntValue)
+                .optimizeOrder()
+                .build();
+
+        boolean result = equals.equals(getTestObject(), getTestObject().withIntValue(1));
+
+        assertThat(result)
+                .isFalse();
+        assertThat(arrayExtractions)
+                .hasValue(0);
+    }
+
+    @Test
+    void givenComparisonOrderItShouldEvaluateStepsInThatOrder() {
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compare(TestObject::getStringValue)
+                .comparePrimitive(TestObject::getIntValue)
+                .compareDeep(TestObject::getArrayValue)
+                .comparisonOrder(Arrays.asList(2, 0, 1))
+                .build();
+
+        assertThat(((AbstractEquals<TestObject>) equals).getComparisonSteps())
+                .hasSize(3)
+                .satisfies(steps -> assertThat(steps.get(0)).isInstanceOf(DeepComparisonStep.class))
+                .satisfies(steps -> assertThat(steps.get(1)).isInstanceOf(ShallowComparisonStep.class))
+                .satisfies(steps -> assertThat(steps.get(2)).isInstanceOf(IntComparisonStep.class));
+    }
+
+    @Test
+    void givenInvalidComparisonOrderItShouldThrowException() {
+        EqualsBuilder<TestObject> builder = new EqualsImpl.Builder<>(TestObject.class)
+                .compare(TestObject::getStringValue)
+                .comparePrimitive(TestObject::getIntValue)
+                .comparisonOrder(Arrays.asList(1, 1));
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenOptimizeOrderItShouldStartAdaptiveEqualsWithOptimizedOrder() {
+        AdaptiveEquals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compareDeep(TestObject::getArrayValue)
+                .comparePrimitive(TestObject::getIntValue)
+                .optimizeOrder()
+                .buildAdaptive();
+
+        assertThat(equals.getComparisonOrder())
+                .containsExactly(1, 0);
+        assertThat(equals.equals(getTestObject(), getTestObject()))
+                .isTrue();
+    }
+
+    @Test
+    void givenParallelismPolicyItShouldUseParallelDeepComparisonStep() {
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .compareDeep(TestObject::getArrayValue, ParallelismPolicy.parallel(1))
+                .build();
+
+        assertThat(((AbstractEquals<TestObject>) equals).getComparisonSteps())
+                .hasOnlyElementsOfType(ParallelDeepComparisonStep.class);
+        assertThat(equals.equals(getTestObject(), getTestObject()))
+                .isTrue();
+    }
+
+    @Test
+    void givenFlattenedSuperEqualsItShouldCompareAttributesOfSuperEquals() {
+        Equals<TestObjectBase> superEquals = new EqualsImpl.Builder<>(TestObjectBase.class)
+                .compare(TestObjectBase::getBaseObjectValue)
+                .build();
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(superEquals)
+                .compare(TestObject::getStringValue)
+                .build();
+
+        boolean result = equals.equals(getTestObject(), getTestObject().withBaseObjectValue("Other"));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenClassMatcherIsSetAfterSuperEqualsItShouldNotInlineComparisonStepsOfSuperEquals() {
+        Equals<TestObjectBase> superEquals = new EqualsImpl.Builder<>(TestObjectBase.class)
+                .compare(TestObjectBase::getBaseObjectValue)
+                .classMatcher((value1, value2) -> false)
+                .build();
+        Equals<TestObject> equals = new EqualsImpl.Builder<>(TestObject.class)
+                .withSuper(superEquals)
+                .compare(TestObject::getStringValue)
+                .classMatcher(ClassMatchers.sameClass())
+                .build();
+
+        boolean result = equals.equals(getTestObject(), getTestObject());
+
+        assertThat(result)
+                .isFalse();
+    }
+
     @Test
     void givenNoComparisonStepBuilderShouldBeEmpty() {
         EqualsBuilder<TestObject> builder = new EqualsImpl.Builder<>(TestObject.class);
@@ -16,11 +16,23 @@
 
 package ch.leadrian.equalizer;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class EqualsTest {
 
@@ -58,6 +70,184 @@ class EqualsTest {
                 .isFalse();
     }
 
+    @Nested
+    class MismatchTests {
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenEqualArraysItShouldReturnMinusOne(String name, Equals<TestObject> equals) {
+            ImmutableTestObject[] testObjects = {testObject(), null, testObject().withIntValue(1)};
+            ImmutableTestObject[] otherTestObjects = {testObject(), null, testObject().withIntValue(1)};
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(-1);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isTrue();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenArraysWithMismatchItShouldReturnIndexOfFirstMismatch(String name, Equals<TestObject> equals) {
+            TestObject[] testObjects = {testObject(), testObject(), null, testObject().withIntValue(1)};
+            TestObject[] otherTestObjects = {testObject(), testObject(), testObject(), testObject().withIntValue(2)};
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(2);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isFalse();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenArrayIsPrefixOfOtherArrayItShouldReturnLengthOfShorterArray(String name, Equals<TestObject> equals) {
+            TestObject[] testObjects = {testObject(), testObject()};
+            TestObject[] otherTestObjects = {testObject(), testObject(), testObject()};
+
+            int result = equals.mismatch(otherTestObjects, testObjects);
+
+            assertThat(result)
+                    .isEqualTo(2);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isFalse();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenListsWithMismatchItShouldReturnIndexOfFirstMismatch(String name, Equals<TestObject> equals) {
+            LinkedList<TestObject> testObjects = new LinkedList<>(Arrays.asList(testObject(), testObject().withIntValue(1), null));
+            LinkedList<TestObject> otherTestObjects = new LinkedList<>(Arrays.asList(testObject(), testObject().withIntValue(2), null));
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(1);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isFalse();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenEqualListsItShouldReturnMinusOne(String name, Equals<TestObject> equals) {
+            LinkedList<TestObject> testObjects = new LinkedList<>(Arrays.asList(testObject(), null));
+            LinkedList<TestObject> otherTestObjects = new LinkedList<>(Arrays.asList(testObject(), null));
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(-1);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isTrue();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenListIsPrefixOfOtherListItShouldReturnSizeOfSmallerList(String name, Equals<TestObject> equals) {
+            LinkedList<TestObject> testObjects = new LinkedList<>(Arrays.asList(testObject(), testObject()));
+            LinkedList<TestObject> otherTestObjects = new LinkedList<>(Arrays.asList(testObject(), testObject(), testObject()));
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(2);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenRandomAccessListsWithMismatchItShouldReturnIndexOfFirstMismatch(String name, Equals<TestObject> equals) {
+            List<TestObject> testObjects = new ArrayList<>(Arrays.asList(testObject(), testObject().withIntValue(1), null));
+            List<TestObject> otherTestObjects = new ArrayList<>(Arrays.asList(testObject(), testObject().withIntValue(2), null));
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(1);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isFalse();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenEqualRandomAccessListsItShouldReturnMinusOne(String name, Equals<TestObject> equals) {
+            List<TestObject> testObjects = new ArrayList<>(Arrays.asList(testObject(), null));
+            List<TestObject> otherTestObjects = new ArrayList<>(Arrays.asList(testObject(), null));
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isEqualTo(-1);
+            assertThat(equals.equalsAll(testObjects, otherTestObjects))
+                    .isTrue();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.EqualsTest#equalsInstances")
+        void givenRandomAccessListIsPrefixOfOtherListItShouldReturnSizeOfSmallerList(String name, Equals<TestObject> equals) {
+            List<TestObject> testObjects = new ArrayList<>(Arrays.asList(testObject(), testObject()));
+            List<TestObject> otherTestObjects = new ArrayList<>(Arrays.asList(testObject(), testObject(), testObject()));
+
+            int result = equals.mismatch(otherTestObjects, testObjects);
+
+            assertThat(result)
+                    .isEqualTo(2);
+        }
+
+        @Test
+        void givenClassesDoNotMatchItShouldReturnIndexOfFirstMismatch() {
+            Equals<TestObject> equals = Equalizer.equalsBuilder(TestObject.class)
+                    .classMatcher(ClassMatchers.exactClass(TestObject.class))
+                    .compare(TestObject::getStringValue)
+                    .build();
+            TestObject[] testObjects = {testObject()};
+            TestObject[] otherTestObjects = {testObject()};
+
+            int result = equals.mismatch(testObjects, otherTestObjects);
+
+            assertThat(result)
+                    .isZero();
+        }
+
+        @Test
+        void givenArrayIsNullItShouldThrowException() {
+            Equals<TestObject> equals = Equals.of(TestObject.class, TestObject::getStringValue);
+
+            assertThatThrownBy(() -> equals.mismatch(null, new TestObject[0]))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+    }
+
+    static Stream<Arguments> equalsInstances() {
+        return Stream.of(
+                arguments("Equals.of", Equals.of(TestObject.class, TestObject::getStringValue, TestObject::getIntValue)),
+                arguments("same class", Equalizer.equalsBuilder(TestObject.class)
+                        .classMatcher(ClassMatchers.sameClass())
+                        .compare(TestObject::getStringValue)
+                        .comparePrimitive(TestObject::getIntValue)
+                        .build()),
+                arguments("compiled", Equalizer.equalsBuilder(TestObject.class)
+                        .compare(TestObject::getStringValue)
+                        .comparePrimitive(TestObject::getIntValue)
+                        .compile()),
+                arguments("adaptive", Equalizer.equalsBuilder(TestObject.class)
+                        .compare(TestObject::getStringValue)
+                        .comparePrimitive(TestObject::getIntValue)
+                        .buildAdaptive()),
+                arguments("EqualsAndHashCode", Equalizer.equalsAndHashCodeBuilder(TestObject.class)
+                        .compareAndHash(TestObject::getStringValue)
+                        .compareAndHashPrimitive(TestObject::getIntValue)
+                        .build()),
+                arguments("lambda", (Equals<TestObject>) (testObject, otherObject) -> testObject == otherObject
+                        || testObject != null
+                        && otherObject instanceof TestObject
+                        && Objects.equals(testObject.getStringValue(), ((TestObject) otherObject).getStringValue())
+                        && testObject.getIntValue() == ((TestObject) otherObject).getIntValue())
+        );
+    }
+
     private static ImmutableTestObject testObject() {
         return ImmutableTestObject
                 .builder()
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class FieldEqualizerTest {
+
+    private static final String[] FIELD_NAMES = {
+            "booleanValue",
+            "byteValue",
+            "shortValue",
+            "charValue",
+            "intValue",
+            "longValue",
+            "floatValue",
+            "doubleValue",
+            "stringValue",
+            "arrayValue",
+            "baseValue"
+    };
+
+    private final EqualsAndHashCode<TestData> equalsAndHashCode = Equalizer.equalsAndHashCodeBuilder(TestData.class)
+            .compareAndHashPrimitive((TestData value) -> value.booleanValue)
+            .compareAndHashPrimitive((TestData value) -> value.byteValue)
+            .compareAndHashPrimitive((TestData value) -> value.shortValue)
+            .compareAndHashPrimitive((TestData value) -> value.charValue)
+            .compareAndHashPrimitive((TestData value) -> value.intValue)
+            .compareAndHashPrimitive((TestData value) -> value.longValue)
+            .compareAndHashPrimitive((TestData value) -> value.floatValue)
+            .compareAndHashPrimitive((TestData value) -> value.doubleValue)
+            .compareAndHash(value -> value.stringValue)
+            .compareAndHashDeep(value -> value.arrayValue)
+            .compareAndHash(value -> ((TestDataBase) value).baseValue)
+            .build();
+
+    static Stream<Arguments> modifications() {
+        return Stream.of(
+                arguments("none", (Consumer<TestData>) value -> {
+                }),
+                arguments("boolean", (Consumer<TestData>) value -> value.booleanValue = false),
+                arguments("byte", (Consumer<TestData>) value -> value.byteValue = 2),
+                arguments("short", (Consumer<TestData>) value -> value.shortValue = 2),
+                arguments("char", (Consumer<TestData>) value -> value.charValue = 'b'),
+                arguments("int", (Consumer<TestData>) value -> value.intValue = 2),
+                arguments("long", (Consumer<TestData>) value -> value.longValue = 2L),
+                arguments("float", (Consumer<TestData>) value -> value.floatValue = Float.NaN),
+                arguments("double", (Consumer<TestData>) value -> value.doubleValue = -0.0),
+                arguments("string", (Consumer<TestData>) value -> value.stringValue = "Other"),
+                arguments("array", (Consumer<TestData>) value -> value.arrayValue = new int[]{3, 2, 1}),
+                arguments("base", (Consumer<TestData>) value -> ((TestDataBase) value).baseValue = null)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modifications")
+    void shouldBeEquivalentToEqualsAndHashCodeBuilder(String name, Consumer<TestData> modification) {
+        TestData value1 = new TestData();
+        TestData value2 = new TestData();
+        modification.accept(value2);
+        EqualsAndHashCode<TestData> fieldEqualsAndHashCode = Equalizer.fromFields(TestData.class, FIELD_NAMES);
+
+        boolean equalsResult = fieldEqualsAndHashCode.equals(value1, value2);
+        int hashCodeResult = fieldEqualsAndHashCode.hashCode(value2);
+
+        assertThat(equalsResult)
+                .isEqualTo(equalsAndHashCode.equals(value1, value2));
+        assertThat(hashCodeResult)
+                .isEqualTo(equalsAndHashCode.hashCode(value2));
+    }
+
+    @Test
+    void givenClassDataIsSupportedItShouldCompileEqualsAndHashCode() {
+        assumeTrue(ClassDefiner.supportsClassData());
+
+        EqualsAndHashCodeImpl<TestData> result = (EqualsAndHashCodeImpl<TestData>) Equalizer.fromFields(TestData.class, "intValue", "arrayValue");
+
+        assertThat(result.getEquals().getClass().getName())
+                .startsWith("ch.leadrian.equalizer.CompiledEquals$");
+        assertThat(result.getHashCode().getClass().getName())
+                .startsWith("ch.leadrian.equalizer.CompiledHashCode$");
+    }
+
+    @Test
+    void givenClassDataIsNotSupportedItShouldBuildEqualsAndHashCode() {
+        assumeFalse(ClassDefiner.supportsClassData());
+
+        EqualsAndHashCodeImpl<TestData> result = (EqualsAndHashCodeImpl<TestData>) Equalizer.fromFields(TestData.class, "intValue", "arrayValue");
+
+        assertThat(result.getEquals().getClass().getName())
+                .doesNotStartWith("ch.leadrian.equalizer.CompiledEquals$");
+    }
+
+    @Test
+    void givenLookupItShouldBeEquivalentToEqualsAndHashCodeBuilder() {
+        TestData value = new TestData();
+        EqualsAndHashCode<TestData> fieldEqualsAndHashCode = Equalizer.fromFields(TestData.lookup(), TestData.class, "intValue", "doubleValue");
+
+        int result = fieldEqualsAndHashCode.hashCode(value);
+
+        assertThat(result)
+                .isEqualTo(31 * (31 + Integer.hashCode(value.intValue)) + Double.hashCode(value.doubleValue));
+    }
+
+    @Test
+    void shouldCacheResult() {
+        EqualsAndHashCode<TestData> equalsAndHashCode1 = Equalizer.fromFields(TestData.class, "intValue", "stringValue");
+        EqualsAndHashCode<TestData> equalsAndHashCode2 = Equalizer.fromFields(TestData.class, "intValue", "stringValue");
+
+        assertThat(equalsAndHashCode1)
+                .isSameAs(equalsAndHashCode2);
+    }
+
+    @Test
+    void givenLookupItShouldNotCacheResult() {
+        EqualsAndHashCode<TestData> equalsAndHashCode1 = Equalizer.fromFields(TestData.lookup(), TestData.class, "intValue", "stringValue");
+        EqualsAndHashCode<TestData> equalsAndHashCode2 = Equalizer.fromFields(TestData.lookup(), TestData.class, "intValue", "stringValue");
+
+        assertThat(equalsAndHashCode1)
+                .isNotSameAs(equalsAndHashCode2);
+    }
+
+    @Test
+    void givenResultCreatedWithLookupItShouldNotReturnItWithoutLookup() {
+        EqualsAndHashCode<TestData> equalsAndHashCode1 = Equalizer.fromFields(TestData.lookup(), TestData.class, "longValue", "stringValue");
+        EqualsAndHashCode<TestData> equalsAndHashCode2 = Equalizer.fromFields(TestData.class, "longValue", "stringValue");
+
+        assertThat(equalsAndHashCode1)
+                .isNotSameAs(equalsAndHashCode2);
+    }
+
+    @Test
+    void givenDifferentFieldNamesItShouldNotReturnCachedResult() {
+        EqualsAndHashCode<TestData> equalsAndHashCode1 = Equalizer.fromFields(TestData.class, "intValue", "stringValue");
+        EqualsAndHashCode<TestData> equalsAndHashCode2 = Equalizer.fromFields(TestData.class, "stringValue", "intValue");
+
+        assertThat(equalsAndHashCode1)
+                .isNotSameAs(equalsAndHashCode2);
+    }
+
+    @Test
+    void givenNoFieldNamesItShouldUseAllInstanceFieldsExceptTransientOnes() {
+        TestData value1 = new TestData();
+        TestData value2 = new TestData();
+        value2.transientValue = "Other";
+        EqualsAndHashCode<TestData> fieldEqualsAndHashCode = Equalizer.fromFields(TestData.class);
+
+        boolean result1 = fieldEqualsAndHashCode.equals(value1, value2);
+        value2.intValue = 2;
+        boolean result2 = fieldEqualsAndHashCode.equals(value1, value2);
+
+        assertThat(result1)
+                .isTrue();
+        assertThat(result2)
+                .isFalse();
+    }
+
+    @Test
+    void givenUnknownFieldItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> Equalizer.fromFields(TestData.class, "unknownValue"));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No field unknownValue found in " + TestData.class.getName());
+    }
+
+    @Test
+    void givenStaticFieldItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> Equalizer.fromFields(TestData.class, "STATIC_VALUE"));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field STATIC_VALUE of " + TestData.class.getName() + " must not be static");
+    }
+
+    @Test
+    void givenNullFieldNameItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> Equalizer.fromFields(TestData.class, "intValue", null));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("fieldNames must not contain null");
+    }
+
+    private static class TestDataBase {
+
+        private Object baseValue = "Base";
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestData extends TestDataBase {
+
+        private static final String STATIC_VALUE = "Static";
+
+        private boolean booleanValue = true;
+        private byte byteValue = 1;
+        private short shortValue = 1;
+        private char charValue = 'a';
+        private int intValue = 1;
+        private long longValue = 1L;
+        private float floatValue = 1f;
+        private double doubleValue = 0.0;
+        private String stringValue = "Test";
+        private int[] arrayValue = {1, 2, 3};
+        private transient String transientValue = "Transient";
+
+        static MethodHandles.Lookup lookup() {
+            return MethodHandles.lookup();
+        }
+
+    }
+
+}
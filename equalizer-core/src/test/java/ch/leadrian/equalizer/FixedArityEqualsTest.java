@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class FixedArityEqualsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void builderShouldBuildFixedArityEquals(int numberOfSteps) {
+        EqualsBuilder<int[]> builder = new EqualsImpl.Builder<>(int[].class);
+        for (int i = 0; i < numberOfSteps; i++) {
+            int index = i;
+            builder.comparePrimitive((int[] value) -> value[index]);
+        }
+
+        Equals<int[]> equals = builder.build();
+
+        assertThat(equals)
+                .isInstanceOf(AbstractEquals.class)
+                .isNotInstanceOf(EqualsImpl.class);
+    }
+
+    @Test
+    void givenMoreStepsThanMaxArityBuilderShouldBuildEqualsImpl() {
+        EqualsBuilder<int[]> builder = new EqualsImpl.Builder<>(int[].class);
+        for (int i = 0; i <= FixedArityEquals.MAX_ARITY; i++) {
+            int index = i;
+            builder.comparePrimitive((int[] value) -> value[index]);
+        }
+
+        Equals<int[]> equals = builder.build();
+
+        assertThat(equals)
+                .isInstanceOf(EqualsImpl.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void givenAllComparisonsSucceedingItShouldReturnTrue(int numberOfSteps) {
+        Equals<int[]> equals = FixedArityEquals.create(int[].class, steps(numberOfSteps), ClassMatchers.instanceOf(int[].class));
+
+        boolean result = equals.equals(new int[numberOfSteps], new int[numberOfSteps]);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void givenAnyComparisonFailsItShouldReturnFalse(int numberOfSteps) {
+        Equals<int[]> equals = FixedArityEquals.create(int[].class, steps(numberOfSteps), ClassMatchers.instanceOf(int[].class));
+
+        for (int i = 0; i < numberOfSteps; i++) {
+            int[] otherValue = new int[numberOfSteps];
+            otherValue[i] = 1;
+
+            boolean result = equals.equals(new int[numberOfSteps], otherValue);
+
+            assertThat(result)
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void givenClassesDoNotMatchItShouldReturnFalse() {
+        Equals<int[]> equals = FixedArityEquals.create(int[].class, steps(1), (value1, value2) -> false);
+
+        boolean result = equals.equals(new int[1], new int[1]);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenUnsupportedNumberOfStepsItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> FixedArityEquals.create(int[].class, Collections.emptyList(), ClassMatchers.instanceOf(int[].class)));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported number of comparison steps: 0");
+    }
+
+    private static List<ComparisonStep<int[]>> steps(int numberOfSteps) {
+        List<ComparisonStep<int[]>> steps = new ArrayList<>();
+        for (int i = 0; i < numberOfSteps; i++) {
+            int index = i;
+            steps.add(new IntComparisonStep<>(value -> value[index]));
+        }
+        return steps;
+    }
+
+}
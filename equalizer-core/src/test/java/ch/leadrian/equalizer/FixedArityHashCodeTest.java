@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class FixedArityHashCodeTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void builderShouldBuildFixedArityHashCode(int numberOfSteps) {
+        HashCodeBuilder<int[]> builder = new HashCodeImpl.Builder<>();
+        for (int i = 0; i < numberOfSteps; i++) {
+            int index = i;
+            builder.hashPrimitive((int[] value) -> value[index]);
+        }
+
+        HashCode<int[]> hashCode = builder.build();
+
+        assertThat(hashCode)
+                .isInstanceOf(AbstractHashCode.class)
+                .isNotInstanceOf(HashCodeImpl.class);
+    }
+
+    @Test
+    void givenMoreStepsThanMaxArityBuilderShouldBuildHashCodeImpl() {
+        HashCodeBuilder<int[]> builder = new HashCodeImpl.Builder<>();
+        for (int i = 0; i <= FixedArityHashCode.MAX_ARITY; i++) {
+            int index = i;
+            builder.hashPrimitive((int[] value) -> value[index]);
+        }
+
+        HashCode<int[]> hashCode = builder.build();
+
+        assertThat(hashCode)
+                .isInstanceOf(HashCodeImpl.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void shouldCombineHashSteps(int numberOfSteps) {
+        HashCode<int[]> hashCode = FixedArityHashCode.create(steps(numberOfSteps));
+        int[] value = {1337, 42, -1, 0, 65536, 7};
+
+        int result = hashCode.hashCode(value);
+
+        int expectedResult = 1;
+        for (int i = 0; i < numberOfSteps; i++) {
+            expectedResult = 31 * expectedResult + value[i];
+        }
+        assertThat(result)
+                .isEqualTo(expectedResult);
+    }
+
+    @Test
+    void givenValueIsNullItShouldReturnZero() {
+        HashCode<int[]> hashCode = FixedArityHashCode.create(steps(1));
+
+        int result = hashCode.hashCode(null);
+
+        assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void givenUnsupportedNumberOfStepsItShouldThrowException() {
+        Throwable caughtThrowable = catchThrowable(() -> FixedArityHashCode.create(Collections.<HashStep<int[]>>emptyList()));
+
+        assertThat(caughtThrowable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported number of hash steps: 0");
+    }
+
+    private static List<HashStep<int[]>> steps(int numberOfSteps) {
+        List<HashStep<int[]>> steps = new ArrayList<>();
+        for (int i = 0; i < numberOfSteps; i++) {
+            int index = i;
+            steps.add(new IntHashStep<>(value -> value[index]));
+        }
+        return steps;
+    }
+
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class GarbageFreeTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static volatile boolean booleanSink;
+
+    private static volatile int intSink;
+
+    @BeforeAll
+    static void assumeAllocationsCanBeMeasured() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("comparisonSteps")
+    void comparisonStepShouldNotAllocate(String name, ComparisonStep<TestData> comparisonStep) {
+        TestData testData1 = new TestData();
+        TestData testData2 = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> booleanSink = comparisonStep.isEqual(testData1, testData2),
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hashSteps")
+    void hashStepShouldNotAllocate(String name, HashStep<TestData> hashStep) {
+        TestData testData = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> intSink = hashStep.hash(testData),
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void equalsShouldNotAllocate() {
+        Equals<TestDataBase> superEquals = Equalizer.equalsBuilder(TestDataBase.class)
+                .compare(TestDataBase::getBaseValue)
+                .build();
+        Equals<TestData> equals = Equalizer.equalsBuilder(TestData.class)
+                .withSuper(superEquals)
+                .compare(TestData::getStringValue)
+                .compareIdentity(TestData::getObjectValue)
+                .compareDeep(TestData::getIntArrayValue)
+                .compareDeep(TestData::getObjectArrayValue)
+                .comparePrimitive(TestData::getByteValue)
+                .comparePrimitive(TestData::getShortValue)
+                .comparePrimitive(TestData::getCharValue)
+                .comparePrimitive(TestData::getIntValue)
+                .comparePrimitive(TestData::getLongValue)
+                .comparePrimitive(TestData::getFloatValue)
+                .comparePrimitive(TestData::getDoubleValue)
+                .comparePrimitive(TestData::getBooleanValue)
+                .equalIf((value1, value2) -> value1.getIntValue() == value2.getIntValue())
+                .build();
+        TestData testData1 = new TestData();
+        TestData testData2 = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> booleanSink = equals.equals(testData1, testData2),
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void hashCodeShouldNotAllocate() {
+        HashCode<TestDataBase> superHashCode = Equalizer.<TestDataBase>hashCodeBuilder()
+                .hash(TestDataBase::getBaseValue)
+                .build();
+        HashCode<TestData> hashCode = Equalizer.<TestData>hashCodeBuilder()
+                .withSuper(superHashCode)
+                .hash(TestData::getStringValue)
+                .hashIdentity(TestData::getObjectValue)
+                .hashDeep(TestData::getIntArrayValue)
+                .hashDeep(TestData::getObjectArrayValue)
+                .hashPrimitive(TestData::getByteValue)
+                .hashPrimitive(TestData::getShortValue)
+                .hashPrimitive(TestData::getCharValue)
+                .hashPrimitive(TestData::getIntValue)
+                .hashPrimitive(TestData::getLongValue)
+                .hashPrimitive(TestData::getFloatValue)
+                .hashPrimitive(TestData::getDoubleValue)
+                .hashPrimitive(TestData::getBooleanValue)
+                .build();
+        TestData testData = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> intSink = hashCode.hashCode(testData),
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void equalsAndHashCodeShouldNotAllocate() {
+        EqualsAndHashCode<TestDataBase> superEqualsAndHashCode = Equalizer.equalsAndHashCodeBuilder(TestDataBase.class)
+                .compareAndHash(TestDataBase::getBaseValue)
+                .build();
+        EqualsAndHashCode<TestData> equalsAndHashCode = Equalizer.equalsAndHashCodeBuilder(TestData.class)
+                .withSuper(superEqualsAndHashCode)
+                .compareAndHash(TestData::getStringValue)
+                .compareAndHashIdentity(TestData::getObjectValue)
+                .compareAndHashDeep(TestData::getIntArrayValue)
+                .compareAndHashPrimitive(TestData::getLongValue)
+                .compareAndHashPrimitive(TestData::getDoubleValue)
+                .build();
+        TestData testData1 = new TestData();
+        TestData testData2 = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> {
+                    booleanSink = equalsAndHashCode.equals(testData1, testData2);
+                    intSink = equalsAndHashCode.hashCode(testData1);
+                },
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void givenBoxingValueExtractorItShouldDetectAllocations() {
+        ComparisonStep<TestData> comparisonStep = new ShallowComparisonStep<>(TestData::getLongValue);
+        TestData testData1 = new TestData();
+        TestData testData2 = new TestData();
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> booleanSink = comparisonStep.isEqual(testData1, testData2),
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isPositive();
+    }
+
+    static Stream<Arguments> comparisonSteps() {
+        return Stream.of(
+                Arguments.of("ShallowComparisonStep", new ShallowComparisonStep<>(TestData::getStringValue)),
+                Arguments.of("HashGuardedComparisonStep", new HashGuardedComparisonStep<>(TestData::getStringValue)),
+                Arguments.of("IdentityComparisonStep", new IdentityComparisonStep<>(TestData::getObjectValue)),
+                Arguments.of("DeepComparisonStep (int[])", new DeepComparisonStep<>(TestData::getIntArrayValue)),
+                Arguments.of("DeepComparisonStep (Object[])", new DeepComparisonStep<>(TestData::getObjectArrayValue)),
+                Arguments.of("ByteComparisonStep", new ByteComparisonStep<>(TestData::getByteValue)),
+                Arguments.of("ShortComparisonStep", new ShortComparisonStep<>(TestData::getShortValue)),
+                Arguments.of("CharComparisonStep", new CharComparisonStep<>(TestData::getCharValue)),
+                Arguments.of("IntComparisonStep", new IntComparisonStep<>(TestData::getIntValue)),
+                Arguments.of("LongComparisonStep", new LongComparisonStep<>(TestData::getLongValue)),
+                Arguments.of("FloatComparisonStep", new FloatComparisonStep<>(TestData::getFloatValue)),
+                Arguments.of("DoubleComparisonStep", new DoubleComparisonStep<>(TestData::getDoubleValue)),
+                Arguments.of("BooleanComparisonStep", new BooleanComparisonStep<>(TestData::getBooleanValue)),
+                Arguments.of("DelegatingComparisonStep", new DelegatingComparisonStep<TestData>((value1, value2) -> value1.getIntValue() == value2.getIntValue())),
+                Arguments.of("ListComparisonStep", new ListComparisonStep<>(TestData::getListValue, Equals.of(String.class, Function.identity()))),
+                Arguments.of("UnorderedComparisonStep (int[])", new UnorderedComparisonStep<>(TestData::getIntArrayValue)),
+                Arguments.of("UnorderedComparisonStep (Object[])", new UnorderedComparisonStep<>(TestData::getObjectArrayValue)),
+                Arguments.of("UnorderedComparisonStep (List)", new UnorderedComparisonStep<>(TestData::getListValue)),
+                Arguments.of("NestedComparisonStep", new NestedComparisonStep<>(TestData::getBase, Equalizer.equalsBuilder(TestDataBase.class).compare(TestDataBase::getBaseValue).build()))
+        );
+    }
+
+    static Stream<Arguments> hashSteps() {
+        return Stream.of(
+                Arguments.of("ShallowHashStep", new ShallowHashStep<>(TestData::getStringValue)),
+                Arguments.of("IdentityHashStep", new IdentityHashStep<>(TestData::getObjectValue)),
+                Arguments.of("DeepHashStep (int[])", new DeepHashStep<>(TestData::getIntArrayValue)),
+                Arguments.of("DeepHashStep (Object[])", new DeepHashStep<>(TestData::getObjectArrayValue)),
+                Arguments.of("ByteHashStep", new ByteHashStep<>(TestData::getByteValue)),
+                Arguments.of("ShortHashStep", new ShortHashStep<>(TestData::getShortValue)),
+                Arguments.of("CharHashStep", new CharHashStep<>(TestData::getCharValue)),
+                Arguments.of("IntHashStep", new IntHashStep<>(TestData::getIntValue)),
+                Arguments.of("LongHashStep", new LongHashStep<>(TestData::getLongValue)),
+                Arguments.of("FloatHashStep", new FloatHashStep<>(TestData::getFloatValue)),
+                Arguments.of("DoubleHashStep", new DoubleHashStep<>(TestData::getDoubleValue)),
+                Arguments.of("BooleanHashStep", new BooleanHashStep<>(TestData::getBooleanValue)),
+                Arguments.of("DelegatingHashStep", new DelegatingHashStep<TestData>(TestData::getIntValue)),
+                Arguments.of("ListHashStep", new ListHashStep<>(TestData::getListValue, HashCode.of(Function.identity()))),
+                Arguments.of("UnorderedHashStep (int[])", new UnorderedHashStep<>(TestData::getIntArrayValue)),
+                Arguments.of("UnorderedHashStep (Object[])", new UnorderedHashStep<>(TestData::getObjectArrayValue)),
+                Arguments.of("UnorderedHashStep (List)", new UnorderedHashStep<>(TestData::getListValue)),
+                Arguments.of("NestedHashStep", new NestedHashStep<>(TestData::getBase, Equalizer.<TestDataBase>hashCodeBuilder().hash(TestDataBase::getBaseValue).build()))
+        );
+    }
+
+    private static class TestDataBase {
+
+        private final String baseValue = new String("Base");
+
+        String getBaseValue() {
+            return baseValue;
+        }
+    }
+
+    /**
+     * Unlike {@link ImmutableTestObject}, this class does not copy arrays when accessing them. Primitive values are
+     * chosen to be outside of the ranges cached by the boxing methods like {@link Long#valueOf(long)}.
+     */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static class TestData extends TestDataBase {
+
+        private static final Object OBJECT = new Object();
+
+        private final String stringValue = new String("Test");
+        private final int[] intArrayValue = {1337, 4711, 9876};
+        private final Object[] objectArrayValue = {new String("foo"), new String("bar")};
+        private final List<String> listValue = new ArrayList<>(Arrays.asList(new String("foo"), new String("bar")));
+        private final TestDataBase base = new TestDataBase();
+
+        String getStringValue() {
+            return stringValue;
+        }
+
+        Object getObjectValue() {
+            return OBJECT;
+        }
+
+        int[] getIntArrayValue() {
+            return intArrayValue;
+        }
+
+        Object[] getObjectArrayValue() {
+            return objectArrayValue;
+        }
+
+        List<String> getListValue() {
+            return listValue;
+        }
+
+        TestDataBase getBase() {
+            return base;
+        }
+
+        byte getByteValue() {
+            return (byte) 123;
+        }
+
+        short getShortValue() {
+            return (short) 9876;
+        }
+
+        char getCharValue() {
+            return '\u1234';
+        }
+
+        int getIntValue() {
+            return 133_742;
+        }
+
+        long getLongValue() {
+            return 1_234_567_890_123L;
+        }
+
+        float getFloatValue() {
+            return 13.37f;
+        }
+
+        double getDoubleValue() {
+            return 0.815;
+        }
+
+        boolean getBooleanValue() {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class HashCodeCompilerTest {
+
+    private static final Object OBJECT = new Object();
+
+    static Stream<Arguments> hashSteps() {
+        return Stream.of(
+                arguments("hash", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hash(TestObject::getStringValue)),
+                arguments("hashIdentity", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashIdentity(TestObject::getObjectValue)),
+                arguments("hashDeep", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashDeep(TestObject::getArrayValue)),
+                arguments("hashPrimitive(byte)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getByteValue)),
+                arguments("hashPrimitive(short)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getShortValue)),
+                arguments("hashPrimitive(char)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getCharValue)),
+                arguments("hashPrimitive(int)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getIntValue)),
+                arguments("hashPrimitive(long)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getLongValue)),
+                arguments("hashPrimitive(float)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getFloatValue)),
+                arguments("hashPrimitive(double)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getDoubleValue)),
+                arguments("hashPrimitive(boolean)", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.hashPrimitive(TestObject::getBooleanValue)),
+                arguments("withSuper", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder.withSuper(value -> 42)),
+                arguments("all", (Consumer<HashCodeBuilder<TestObject>>) builder -> builder
+                        .withSuper(value -> 42)
+                        .hash(TestObject::getStringValue)
+                        .hashIdentity(TestObject::getObjectValue)
+                        .hashDeep(TestObject::getArrayValue)
+                        .hashPrimitive(TestObject::getByteValue)
+                        .hashPrimitive(TestObject::getShortValue)
+                        .hashPrimitive(TestObject::getCharValue)
+                        .hashPrimitive(TestObject::getIntValue)
+                        .hashPrimitive(TestObject::getLongValue)
+                        .hashPrimitive(TestObject::getFloatValue)
+                        .hashPrimitive(TestObject::getDoubleValue)
+                        .hashPrimitive(TestObject::getBooleanValue))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hashSteps")
+    void compiledHashCodeShouldBeEqualToBuiltHashCode(String name, Consumer<HashCodeBuilder<TestObject>> configurer) {
+        TestObject testObject = testObject();
+        HashCodeBuilder<TestObject> builder = new HashCodeImpl.Builder<>();
+        configurer.accept(builder);
+        HashCode<TestObject> builtHashCode = builder.build();
+        HashCode<TestObject> compiledHashCode = builder.compile();
+
+        int result = compiledHashCode.hashCode(testObject);
+
+        assertThat(result)
+                .isEqualTo(builtHashCode.hashCode(testObject));
+    }
+
+    @Test
+    void givenClassDefinitionIsSupportedItShouldCompileGeneratedClass() {
+        assumeTrue(ClassDefiner.isSupported());
+
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>()
+                .hash(TestObject::getStringValue)
+                .compile();
+
+        assertThat(hashCode)
+                .isInstanceOf(AbstractHashCode.class)
+                .isNotInstanceOf(HashCodeImpl.class);
+    }
+
+    @Test
+    void givenNoHashStepsItShouldBuildHashCodeImpl() {
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>().compile();
+
+        assertThat(hashCode)
+                .isInstanceOf(HashCodeImpl.class);
+    }
+
+    @Test
+    void givenValueIsNullItShouldReturnZero() {
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>()
+                .hash(TestObject::getStringValue)
+                .compile();
+
+        int result = hashCode.hashCode(null);
+
+        assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void givenArrayHashStepsItShouldComputeSameHashCodeAsBuiltHashCode() {
+        HashCodeBuilder<ArrayData> builder = new HashCodeImpl.Builder<ArrayData>()
+                .hashArray(ArrayData::getByteArray)
+                .hashArray(ArrayData::getShortArray)
+                .hashArray(ArrayData::getCharArray)
+                .hashArray(ArrayData::getIntArray)
+                .hashArray(ArrayData::getLongArray)
+                .hashArray(ArrayData::getFloatArray)
+                .hashArray(ArrayData::getDoubleArray)
+                .hashArray(ArrayData::getBooleanArray);
+        HashCode<ArrayData> compiledHashCode = builder.compile();
+        HashCode<ArrayData> builtHashCode = builder.build();
+        ArrayData arrayData = new ArrayData();
+
+        int result = compiledHashCode.hashCode(arrayData);
+
+        assertThat(result)
+                .isEqualTo(builtHashCode.hashCode(arrayData));
+    }
+
+    private static ImmutableTestObject testObject() {
+        return ImmutableTestObject
+                .builder()
+                .baseObjectValue("Base")
+                .stringValue("Test")
+                .objectValue(OBJECT)
+                .arrayValue("foo", "bar")
+                .byteValue((byte) 5)
+                .shortValue((short) 9876)
+                .charValue('c')
+                .intValue(1337)
+                .longValue(1234L)
+                .floatValue(13.37f)
+                .doubleValue(0.815)
+                .booleanValue(true)
+                .build();
+    }
+
+    private static class ArrayData {
+
+        private final byte[] byteArray = {(byte) 1, (byte) 2};
+        private final short[] shortArray = {(short) 3, (short) 4};
+        private final char[] charArray = {'a', 'b'};
+        private final int[] intArray = {5, 6};
+        private final long[] longArray = {7L, 8L};
+        private final float[] floatArray = {Float.NaN, -0f};
+        private final double[] doubleArray = {Double.NaN, -0.0};
+        private final boolean[] booleanArray = {true, false};
+
+        byte[] getByteArray() {
+            return byteArray;
+        }
+
+        short[] getShortArray() {
+            return shortArray;
+        }
+
+        char[] getCharArray() {
+            return charArray;
+        }
+
+        int[] getIntArray() {
+            return intArray;
+        }
+
+        long[] getLongArray() {
+            return longArray;
+        }
+
+        float[] getFloatArray() {
+            return floatArray;
+        }
+
+        double[] getDoubleArray() {
+            return doubleArray;
+        }
+
+        boolean[] getBooleanArray() {
+            return booleanArray;
+        }
+    }
+
+}
@@ -71,6 +71,43 @@ class HashCodeImplTest {
                 .isEqualTo(31 * (31 + Integer.hashCode(1337)) + "Test".hashCode());
     }
 
+    @Test
+    void givenSuperHashCodeIsBuiltByEqualizerItShouldUseItsHashSteps() {
+        TestObject testObject = testObject();
+        HashCode<TestObject> superHashCode = new HashCodeImpl.Builder<TestObject>()
+                .hashPrimitive(TestObject::getIntValue)
+                .hash(TestObject::getStringValue)
+                .build();
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>()
+                .withSuper(superHashCode)
+                .hashPrimitive(TestObject::getLongValue)
+                .build();
+
+        int result = hashCode.hashCode(testObject);
+
+        assertThat(((AbstractHashCode<TestObject>) hashCode).getHashSteps())
+                .first()
+                .isInstanceOf(SuperHashStep.class);
+        assertThat(result)
+                .isEqualTo(31 * (31 + superHashCode.hashCode(testObject)) + Long.hashCode(testObject.getLongValue()));
+    }
+
+    @Test
+    void givenSuperHashCodeIsNotBuiltByEqualizerItShouldDelegateToIt() {
+        TestObject testObject = testObject();
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>()
+                .withSuper(value -> 1337)
+                .build();
+
+        int result = hashCode.hashCode(testObject);
+
+        assertThat(((AbstractHashCode<TestObject>) hashCode).getHashSteps())
+                .first()
+                .isInstanceOf(DelegatingHashStep.class);
+        assertThat(result)
+                .isEqualTo(31 + 1337);
+    }
+
     @Test
     void shouldUseStringHashStep() {
         TestObject testObject = testObject()
@@ -114,6 +151,20 @@ class HashCodeImplTest {
                 .isEqualTo(31 + Arrays.deepHashCode(new Object[]{"foo", "bar"}));
     }
 
+    @Test
+    void shouldUseParallelDeepHashStep() {
+        TestObject testObject = testObject()
+                .withArrayValue("foo", "bar");
+        HashCode<TestObject> hashCode = new HashCodeImpl.Builder<TestObject>()
+                .hashDeep(TestObject::getArrayValue, ParallelismPolicy.parallel(1))
+                .build();
+
+        int result = hashCode.hashCode(testObject);
+
+        assertThat(result)
+                .isEqualTo(31 + Arrays.deepHashCode(new Object[]{"foo", "bar"}));
+    }
+
     @Test
     void shouldUseByteHashStep() {
         TestObject testObject = testObject()
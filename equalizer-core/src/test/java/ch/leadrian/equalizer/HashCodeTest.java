@@ -16,9 +16,21 @@
 
 package ch.leadrian.equalizer;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class HashCodeTest {
 
@@ -35,6 +47,87 @@ class HashCodeTest {
                 .isEqualTo(31 * (31 + "Test".hashCode()) + Integer.hashCode(1337));
     }
 
+    @Nested
+    class HashAllTests {
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.HashCodeTest#hashCodes")
+        void givenArrayItShouldReturnSameHashCodesAsHashCode(String name, HashCode<TestObject> hashCode) {
+            TestObject[] testObjects = testObjects().toArray(new TestObject[0]);
+            int[] result = new int[testObjects.length];
+
+            hashCode.hashAll(testObjects, result);
+
+            for (int i = 0; i < testObjects.length; i++) {
+                assertThat(result[i])
+                        .isEqualTo(hashCode.hashCode(testObjects[i]));
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.HashCodeTest#hashCodes")
+        void givenLinkedListItShouldReturnSameHashCodesAsHashCode(String name, HashCode<TestObject> hashCode) {
+            List<TestObject> testObjects = new LinkedList<>(testObjects());
+            int[] result = new int[testObjects.size() + 1];
+            result[testObjects.size()] = 42;
+
+            hashCode.hashAll(testObjects, result);
+
+            for (int i = 0; i < testObjects.size(); i++) {
+                assertThat(result[i])
+                        .isEqualTo(hashCode.hashCode(testObjects.get(i)));
+            }
+            assertThat(result[testObjects.size()])
+                    .isEqualTo(42);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.HashCodeTest#hashCodes")
+        void givenOutIsTooShortItShouldThrowException(String name, HashCode<TestObject> hashCode) {
+            assertThatThrownBy(() -> hashCode.hashAll(testObjects(), new int[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private List<TestObject> testObjects() {
+            List<TestObject> testObjects = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                testObjects.add(i % 7 == 3 ? null : testObject().withIntValue(i).withStringValue("Test" + i));
+            }
+            return testObjects;
+        }
+
+    }
+
+    static Stream<Arguments> hashCodes() {
+        HashCodeBuilder<TestObject> manySteps = Equalizer.hashCodeBuilder();
+        for (int i = 0; i < FixedArityHashCode.MAX_ARITY + 1; i++) {
+            manySteps.hashPrimitive(TestObject::getIntValue);
+        }
+        return Stream.of(
+                arguments("HashCode.of", HashCode.of(TestObject::getStringValue, TestObject::getIntValue)),
+                arguments("many steps", manySteps.build()),
+                arguments("compiled", Equalizer.<TestObject>hashCodeBuilder()
+                        .hash(TestObject::getStringValue)
+                        .hashPrimitive(TestObject::getIntValue)
+                        .hashDeep(TestObject::getArrayValue)
+                        .compile()),
+                arguments("murmur3", Equalizer.<TestObject>hashCodeBuilder()
+                        .hash(TestObject::getStringValue)
+                        .hashPrimitive(TestObject::getIntValue)
+                        .mixer(HashMixers.murmur3())
+                        .build()),
+                arguments("with super", Equalizer.<TestObject>hashCodeBuilder()
+                        .withSuper(HashCode.of(TestObject::getBaseObjectValue))
+                        .hashPrimitive(TestObject::getIntValue)
+                        .build()),
+                arguments("empty", Equalizer.<TestObject>hashCodeBuilder().build()),
+                arguments("EqualsAndHashCode", Equalizer.equalsAndHashCodeBuilder(TestObject.class)
+                        .compareAndHash(TestObject::getStringValue)
+                        .build()),
+                arguments("lambda", (HashCode<TestObject>) testObject -> testObject != null ? testObject.getIntValue() : 0)
+        );
+    }
+
     private static ImmutableTestObject testObject() {
         return ImmutableTestObject
                 .builder()
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class HashGuardedComparisonStepTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(EquivalentValuesArgumentsProvider.class)
+    void givenEquivalentValueItShouldReturnTrue(Object value1, Object value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        HashGuardedComparisonStep<TestData> comparisonStep = new HashGuardedComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(NotEquivalentValuesArgumentsProvider.class)
+    void givenNotEquivalentValueItShouldReturnFalse(Object value1, Object value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        HashGuardedComparisonStep<TestData> comparisonStep = new HashGuardedComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenDifferentHashCodesItShouldNotCallEquals() {
+        TestData testData1 = new TestData(new NotComparable(1));
+        TestData testData2 = new TestData(new NotComparable(2));
+        HashGuardedComparisonStep<TestData> comparisonStep = new HashGuardedComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    private static class EquivalentValuesArgumentsProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+            return Stream.of(
+                    arguments("Test", "Test"),
+                    arguments(new Integer("1"), 1),
+                    arguments(null, null)
+            );
+        }
+    }
+
+    private static class NotEquivalentValuesArgumentsProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+            return Stream.of(
+                    arguments("Test", "Bar"),
+                    arguments(1, 2),
+                    arguments("Test", null),
+                    arguments(null, "Test"),
+                    // Same hash code, but not equal
+                    arguments("Aa", "BB")
+            );
+        }
+    }
+
+    private static class TestData {
+
+        private final Object value;
+
+        TestData(Object value) {
+            this.value = value;
+        }
+
+        Object getValue() {
+            return value;
+        }
+    }
+
+    private static class NotComparable {
+
+        private final int hashCode;
+
+        NotComparable(int hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
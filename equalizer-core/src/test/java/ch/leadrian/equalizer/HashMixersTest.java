@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashMixersTest {
+
+    @Nested
+    class PolynomialTests {
+
+        @Test
+        void shouldComputeSameHashCodeAsArraysHashCode() {
+            int result = mix(HashMixers.polynomial(), 1337, 42, -7);
+
+            assertThat(result)
+                    .isEqualTo(Arrays.hashCode(new int[]{1337, 42, -7}));
+        }
+
+    }
+
+    @Nested
+    class Murmur3Tests {
+
+        @Test
+        void shouldComputeDifferentHashCodesForPermutedValues() {
+            int result = mix(HashMixers.murmur3(), 1, 2);
+
+            assertThat(result)
+                    .isNotEqualTo(mix(HashMixers.murmur3(), 2, 1));
+        }
+
+        @Test
+        void givenSmallValuesItShouldSpreadHashCodesBetterThanPolynomial() {
+            int result = countOccupiedBuckets(HashMixers.murmur3());
+
+            assertThat(result)
+                    .isGreaterThan(countOccupiedBuckets(HashMixers.polynomial()));
+        }
+
+    }
+
+    @Nested
+    class MultiplyRotateTests {
+
+        @Test
+        void shouldComputeDifferentHashCodesForPermutedValues() {
+            int result = mix(HashMixers.multiplyRotate(), 1, 2);
+
+            assertThat(result)
+                    .isNotEqualTo(mix(HashMixers.multiplyRotate(), 2, 1));
+        }
+
+        @Test
+        void givenSmallValuesItShouldSpreadHashCodesBetterThanPolynomial() {
+            int result = countOccupiedBuckets(HashMixers.multiplyRotate());
+
+            assertThat(result)
+                    .isGreaterThan(countOccupiedBuckets(HashMixers.polynomial()));
+        }
+
+    }
+
+    private static int mix(HashMixer hashMixer, int... hashes) {
+        int result = hashMixer.initialValue();
+        for (int hash : hashes) {
+            result = hashMixer.mix(result, hash);
+        }
+        return hashMixer.finish(result);
+    }
+
+    /**
+     * Counts the occupied buckets of a {@link java.util.HashMap} with 1024 buckets when storing all values with four
+     * attributes between 0 and 7.
+     */
+    private static int countOccupiedBuckets(HashMixer hashMixer) {
+        Set<Integer> buckets = new HashSet<>();
+        for (int a = 0; a < 8; a++) {
+            for (int b = 0; b < 8; b++) {
+                for (int c = 0; c < 8; c++) {
+                    for (int d = 0; d < 8; d++) {
+                        int hash = mix(hashMixer, a, b, c, d);
+                        buckets.add((hash ^ (hash >>> 16)) & 1023);
+                    }
+                }
+            }
+        }
+        return buckets.size();
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HashQualityTest {
+
+    private static final ToIntFunction<Integer> CONSTANT = value -> 42;
+
+    @Test
+    void shouldCountCollisions() {
+        HashCode<String> hashCode = new HashCodeImpl.Builder<String>()
+                .hashPrimitive(String::length)
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(hashCode, Arrays.asList("a", "b", "cc", "dd", "eee"));
+
+        assertThat(report.getNumberOfSamples())
+                .isEqualTo(5);
+        assertThat(report.getNumberOfDistinctHashCodes())
+                .isEqualTo(3);
+        assertThat(report.getNumberOfCollisions())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldAnalyzeTableOccupanciesUpToSizeUsedByHashMap() {
+        HashQualityReport report = HashQuality.analyze(value -> value, integers(100));
+
+        assertThat(report.getTableOccupancies())
+                .extracting(HashQualityReport.TableOccupancy::getTableSize)
+                .containsExactly(16, 32, 64, 128, 256);
+    }
+
+    @Test
+    void shouldComputeBucketHistogram() {
+        HashQualityReport report = HashQuality.analyze(value -> value, integers(32));
+
+        HashQualityReport.TableOccupancy tableOccupancy = report.getTableOccupancies().get(0);
+        assertThat(tableOccupancy.getHistogram())
+                .containsExactly(0, 0, 16);
+        assertThat(tableOccupancy.getNumberOfOccupiedBuckets())
+                .isEqualTo(16);
+        assertThat(tableOccupancy.getLongestChain())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldSpreadHashCodesLikeHashMap() {
+        // Only the upper 16 bits differ, which HashMap spreads into the lower bits
+        HashQualityReport report = HashQuality.analyze(value -> value << 16, integers(16));
+
+        HashQualityReport.TableOccupancy tableOccupancy = report.getTableOccupancies().get(0);
+        assertThat(tableOccupancy.getNumberOfOccupiedBuckets())
+                .isEqualTo(16);
+    }
+
+    @Test
+    void givenHashCodeIsNotBuiltByEqualizerItShouldNotAnalyzeSteps() {
+        HashQualityReport report = HashQuality.analyze(value -> value, integers(16));
+
+        assertThat(report.getStepQualities())
+                .isEmpty();
+    }
+
+    @Test
+    void shouldAnalyzeSteps() {
+        EqualsAndHashCode<Integer> equalsAndHashCode = new EqualsAndHashCodeImpl.Builder<>(Integer.class)
+                .compareAndHashPrimitive((Integer value) -> value)
+                .compareAndHashPrimitive((Integer value) -> value % 2 == 0)
+                .compareAndHashPrimitive(CONSTANT)
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(equalsAndHashCode, integers(256));
+
+        assertThat(report.getStepQualities())
+                .extracting(HashQualityReport.StepQuality::getNumberOfDistinctHashCodes)
+                .containsExactly(256, 2, 1);
+        assertThat(report.getStepQualities().get(0).getEntropyBits())
+                .isCloseTo(8.0, within(1e-9));
+        assertThat(report.getStepQualities().get(1).getEntropyBits())
+                .isCloseTo(1.0, within(1e-9));
+        assertThat(report.getStepQualities().get(2).getEntropyBits())
+                .isZero();
+    }
+
+    @Test
+    void shouldReportLowEntropySteps() {
+        HashCode<Integer> hashCode = new HashCodeImpl.Builder<Integer>()
+                .hashPrimitive((Integer value) -> value)
+                .hashPrimitive(CONSTANT)
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(hashCode, integers(256));
+
+        assertThat(report.getLowEntropySteps())
+                .extracting(HashQualityReport.StepQuality::getIndex)
+                .containsExactly(1);
+    }
+
+    @Test
+    void givenPolynomialMixerLastStepShouldHaveWeakAvalanche() {
+        HashCode<Integer> hashCode = new HashCodeImpl.Builder<Integer>()
+                .hashPrimitive((Integer value) -> value)
+                .hashPrimitive((Integer value) -> value * 7)
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(hashCode, integers(256));
+
+        // Flipping one bit of the last step only flips that bit of the hash code, plus any carries
+        assertThat(report.getStepQualities().get(1).getAvalanche())
+                .isLessThan(0.1);
+    }
+
+    @Test
+    void givenMurmur3MixerStepsShouldHaveStrongAvalanche() {
+        HashCode<Integer> hashCode = new HashCodeImpl.Builder<Integer>()
+                .hashPrimitive((Integer value) -> value)
+                .hashPrimitive((Integer value) -> value * 7)
+                .mixer(HashMixers.murmur3())
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(hashCode, integers(256));
+
+        assertThat(report.getStepQualities())
+                .allSatisfy(stepQuality -> assertThat(stepQuality.getAvalanche()).isCloseTo(0.5, within(0.05)));
+    }
+
+    @Test
+    void toStringShouldContainSummary() {
+        HashCode<Integer> hashCode = new HashCodeImpl.Builder<Integer>()
+                .hashPrimitive(CONSTANT)
+                .build();
+
+        HashQualityReport report = HashQuality.analyze(hashCode, integers(4));
+
+        assertThat(report.toString())
+                .contains("Samples: 4, distinct hash codes: 1, collisions: 3")
+                .contains("table size 16: 1 occupied buckets")
+                .contains("step 0: 1 distinct hash codes, entropy 0.00 bits")
+                .contains("(low entropy)");
+    }
+
+    private static List<Integer> integers(int count) {
+        List<Integer> integers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            integers.add(i);
+        }
+        return integers;
+    }
+
+}
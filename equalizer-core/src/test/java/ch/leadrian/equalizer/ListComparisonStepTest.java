@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ListComparisonStepTest {
+
+    private static final Equals<String> CASE_INSENSITIVE_EQUALS = (value1, value2) -> value1 == value2
+            || value1 != null && value2 instanceof String && value1.equalsIgnoreCase((String) value2);
+
+    private static final List<String> LIST = Arrays.asList("foo", "bar");
+
+    @ParameterizedTest
+    @MethodSource("equivalentValues")
+    void givenEquivalentValueItShouldReturnTrue(List<String> value1, List<String> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        ListComparisonStep<TestData, String> comparisonStep = new ListComparisonStep<>(TestData::getValue, CASE_INSENSITIVE_EQUALS);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("notEquivalentValues")
+    void givenNotEquivalentValueItShouldReturnFalse(List<String> value1, List<String> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        ListComparisonStep<TestData, String> comparisonStep = new ListComparisonStep<>(TestData::getValue, CASE_INSENSITIVE_EQUALS);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    static Stream<Arguments> equivalentValues() {
+        return Stream.of(
+                arguments(null, null),
+                arguments(LIST, LIST),
+                arguments(Collections.emptyList(), new LinkedList<>()),
+                arguments(new ArrayList<>(Arrays.asList("foo", "bar")), new ArrayList<>(Arrays.asList("FOO", "Bar"))),
+                arguments(new LinkedList<>(Arrays.asList("foo", null)), new ArrayList<>(Arrays.asList("Foo", null))),
+                arguments(new LinkedList<>(Arrays.asList("foo", "bar")), new LinkedList<>(Arrays.asList("foo", "BAR")))
+        );
+    }
+
+    static Stream<Arguments> notEquivalentValues() {
+        return Stream.of(
+                arguments(LIST, null),
+                arguments(null, LIST),
+                arguments(LIST, Collections.emptyList()),
+                arguments(new ArrayList<>(Arrays.asList("foo", "bar")), new ArrayList<>(Arrays.asList("foo", "baz"))),
+                arguments(new ArrayList<>(Arrays.asList("foo", "bar")), new ArrayList<>(Arrays.asList("foo", "bar", "baz"))),
+                arguments(new LinkedList<>(Arrays.asList("foo", null)), new LinkedList<>(Arrays.asList("foo", "bar"))),
+                arguments(new LinkedList<>(Arrays.asList("foo", "bar")), new ArrayList<>(Arrays.asList("bar", "foo")))
+        );
+    }
+
+    private static class TestData {
+
+        private final List<String> value;
+
+        TestData(List<String> value) {
+            this.value = value;
+        }
+
+        List<String> getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ListHashStepTest {
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void givenObjectsHashCodeItShouldReturnHashCodeOfList(List<String> value) {
+        TestData testData = new TestData(value);
+        ListHashStep<TestData, String> hashStep = new ListHashStep<>(TestData::getValue, Objects::hashCode);
+
+        int hashCode = hashStep.hash(testData);
+
+        assertThat(hashCode)
+                .isEqualTo(Objects.hashCode(value));
+    }
+
+    @Test
+    void shouldUseElementHashCode() {
+        HashCode<String> caseInsensitiveHashCode = value -> value != null ? value.toLowerCase().hashCode() : 0;
+        ListHashStep<TestData, String> hashStep = new ListHashStep<>(TestData::getValue, caseInsensitiveHashCode);
+
+        int hashCode = hashStep.hash(new TestData(Arrays.asList("FOO", "Bar")));
+
+        assertThat(hashCode)
+                .isEqualTo(Arrays.asList("foo", "bar").hashCode());
+    }
+
+    static Stream<Arguments> values() {
+        return Stream.of(
+                arguments((Object) null),
+                arguments(Collections.emptyList()),
+                arguments(new ArrayList<>(Arrays.asList("foo", null, "bar"))),
+                arguments(new LinkedList<>(Arrays.asList("foo", null, "bar")))
+        );
+    }
+
+    private static class TestData {
+
+        private final List<String> value;
+
+        TestData(List<String> value) {
+            this.value = value;
+        }
+
+        List<String> getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class MapComparisonStepTest {
+
+    private static final Equals<String> CASE_INSENSITIVE_EQUALS = (value1, value2) -> value1 == value2
+            || value1 != null && value2 instanceof String && value1.equalsIgnoreCase((String) value2);
+
+    private static final Map<Object, String> MAP = map("foo", "bar");
+
+    @ParameterizedTest
+    @MethodSource("equivalentValues")
+    void givenEquivalentValueItShouldReturnTrue(Map<Object, String> value1, Map<Object, String> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        MapComparisonStep<TestData, String> comparisonStep = new MapComparisonStep<>(TestData::getValue, CASE_INSENSITIVE_EQUALS);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("notEquivalentValues")
+    void givenNotEquivalentValueItShouldReturnFalse(Map<Object, String> value1, Map<Object, String> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        MapComparisonStep<TestData, String> comparisonStep = new MapComparisonStep<>(TestData::getValue, CASE_INSENSITIVE_EQUALS);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    static Stream<Arguments> equivalentValues() {
+        return Stream.of(
+                arguments(null, null),
+                arguments(MAP, MAP),
+                arguments(Collections.emptyMap(), new HashMap<>()),
+                arguments(map("foo", "bar", "baz", "qux"), new TreeMap<>(map("foo", "BAR", "baz", "Qux"))),
+                arguments(map("foo", null), map("foo", null))
+        );
+    }
+
+    static Stream<Arguments> notEquivalentValues() {
+        Map<Object, String> integerKeys = new HashMap<>();
+        integerKeys.put(1, "bar");
+        return Stream.of(
+                arguments(MAP, null),
+                arguments(null, MAP),
+                arguments(MAP, Collections.emptyMap()),
+                arguments(map("foo", "bar"), map("foo", "baz")),
+                arguments(map("foo", "bar"), map("baz", "bar")),
+                arguments(map("foo", null), map("bar", null)),
+                arguments(map("foo", null), map("foo", "bar")),
+                arguments(integerKeys, new TreeMap<>(MAP))
+        );
+    }
+
+    private static Map<Object, String> map(String... keysAndValues) {
+        Map<Object, String> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static class TestData {
+
+        private final Map<Object, String> value;
+
+        TestData(Map<Object, String> value) {
+            this.value = value;
+        }
+
+        Map<Object, String> getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class MapHashStepTest {
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void givenObjectsHashCodeItShouldReturnHashCodeOfMap(Map<String, String> value) {
+        TestData testData = new TestData(value);
+        MapHashStep<TestData, String> hashStep = new MapHashStep<>(TestData::getValue, Objects::hashCode);
+
+        int hashCode = hashStep.hash(testData);
+
+        assertThat(hashCode)
+                .isEqualTo(Objects.hashCode(value));
+    }
+
+    @Test
+    void shouldUseValueHashCode() {
+        HashCode<String> caseInsensitiveHashCode = value -> value != null ? value.toLowerCase().hashCode() : 0;
+        MapHashStep<TestData, String> hashStep = new MapHashStep<>(TestData::getValue, caseInsensitiveHashCode);
+
+        int hashCode = hashStep.hash(new TestData(Collections.singletonMap("foo", "BAR")));
+
+        assertThat(hashCode)
+                .isEqualTo(Collections.singletonMap("foo", "bar").hashCode());
+    }
+
+    static Stream<Arguments> values() {
+        Map<String, String> hashMap = new HashMap<>();
+        hashMap.put("foo", "bar");
+        hashMap.put("baz", null);
+        hashMap.put(null, "qux");
+        Map<String, String> treeMap = new TreeMap<>();
+        treeMap.put("foo", "bar");
+        treeMap.put("baz", null);
+        return Stream.of(
+                arguments((Object) null),
+                arguments(Collections.emptyMap()),
+                arguments(hashMap),
+                arguments(treeMap)
+        );
+    }
+
+    private static class TestData {
+
+        private final Map<String, String> value;
+
+        TestData(Map<String, String> value) {
+            this.value = value;
+        }
+
+        Map<String, String> getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MixingHashCodeTest {
+
+    private static final HashMixer SUM = new HashMixer() {
+
+        @Override
+        public int initialValue() {
+            return 100;
+        }
+
+        @Override
+        public int mix(int result, int hash) {
+            return result + hash;
+        }
+
+        @Override
+        public int finish(int result) {
+            return -result;
+        }
+    };
+
+    @Test
+    void shouldCombineHashStepsUsingHashMixer() {
+        MixingHashCode<String> hashCode = new MixingHashCode<>(Arrays.<HashStep<String>>asList(
+                new IntHashStep<>(String::length),
+                value -> 1000
+        ), SUM);
+
+        int result = hashCode.hashCode("Test");
+
+        assertThat(result)
+                .isEqualTo(-(100 + Integer.hashCode(4) + 1000));
+    }
+
+    @Test
+    void givenValueIsNullItShouldReturnZero() {
+        MixingHashCode<String> hashCode = new MixingHashCode<>(Arrays.<HashStep<String>>asList(value -> 1000), SUM);
+
+        int result = hashCode.hashCode(null);
+
+        assertThat(result)
+                .isZero();
+    }
+
+    @Test
+    void builderShouldUseHashMixer() {
+        HashCode<String> hashCode = new HashCodeImpl.Builder<String>()
+                .hashPrimitive(String::length)
+                .mixer(SUM)
+                .build();
+
+        int result = hashCode.hashCode("Test");
+
+        assertThat(result)
+                .isEqualTo(-(100 + 4));
+    }
+
+    @Test
+    void givenCompileItShouldUseHashMixer() {
+        HashCode<String> hashCode = new HashCodeImpl.Builder<String>()
+                .hashPrimitive(String::length)
+                .mixer(SUM)
+                .compile();
+
+        int result = hashCode.hashCode("Test");
+
+        assertThat(result)
+                .isEqualTo(-(100 + 4));
+    }
+
+    @Test
+    void givenSuperHashCodeWithHashMixerItShouldComputeSameHashCodeAsSuperHashCode() {
+        HashCode<CharSequence> superHashCode = new HashCodeImpl.Builder<CharSequence>()
+                .hashPrimitive(CharSequence::length)
+                .mixer(HashMixers.murmur3())
+                .build();
+        HashCode<String> hashCode = new HashCodeImpl.Builder<String>()
+                .withSuper(superHashCode)
+                .build();
+
+        int result = hashCode.hashCode("Test");
+
+        assertThat(result)
+                .isEqualTo(31 + superHashCode.hashCode("Test"));
+    }
+
+}
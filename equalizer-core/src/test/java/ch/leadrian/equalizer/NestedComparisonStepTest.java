@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class NestedComparisonStepTest {
+
+    private static final Equals<Customer> ID_EQUALS = Equalizer.equalsBuilder(Customer.class)
+            .comparePrimitive((Customer customer) -> customer.id)
+            .build();
+
+    private static final Equals<Customer> SAME_CLASS_ID_EQUALS = Equalizer.equalsBuilder(Customer.class)
+            .classMatcher(ClassMatchers.sameClass())
+            .comparePrimitive((Customer customer) -> customer.id)
+            .build();
+
+    private static final Equals<Customer> CUSTOM_ID_EQUALS = (customer, other) -> customer == other
+            || customer != null && other instanceof Customer && customer.id == ((Customer) other).id;
+
+    private static final Customer CUSTOMER = new Customer(1, "Hans");
+
+    @ParameterizedTest
+    @MethodSource("equivalentValues")
+    void givenEquivalentValueItShouldReturnTrue(Equals<Customer> valueEquals, Customer value1, Customer value2) {
+        NestedComparisonStep<TestData, Customer> comparisonStep = new NestedComparisonStep<>(TestData::getValue, valueEquals);
+
+        boolean result = comparisonStep.isEqual(new TestData(value1), new TestData(value2));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("notEquivalentValues")
+    void givenNotEquivalentValueItShouldReturnFalse(Equals<Customer> valueEquals, Customer value1, Customer value2) {
+        NestedComparisonStep<TestData, Customer> comparisonStep = new NestedComparisonStep<>(TestData::getValue, valueEquals);
+
+        boolean result = comparisonStep.isEqual(new TestData(value1), new TestData(value2));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    static Stream<Arguments> equivalentValues() {
+        return Stream.of(ID_EQUALS, SAME_CLASS_ID_EQUALS, CUSTOM_ID_EQUALS).flatMap(valueEquals -> Stream.of(
+                arguments(valueEquals, null, null),
+                arguments(valueEquals, CUSTOMER, CUSTOMER),
+                arguments(valueEquals, new Customer(1, "Hans"), new Customer(1, "Peter"))
+        ));
+    }
+
+    static Stream<Arguments> notEquivalentValues() {
+        return Stream.of(ID_EQUALS, SAME_CLASS_ID_EQUALS, CUSTOM_ID_EQUALS).flatMap(valueEquals -> Stream.of(
+                arguments(valueEquals, CUSTOMER, null),
+                arguments(valueEquals, null, CUSTOMER),
+                arguments(valueEquals, new Customer(1, "Hans"), new Customer(2, "Hans"))
+        ));
+    }
+
+    @Test
+    void givenSameClassMatcherItShouldCheckClasses() {
+        NestedComparisonStep<TestData, Customer> comparisonStep = new NestedComparisonStep<>(TestData::getValue, SAME_CLASS_ID_EQUALS);
+
+        boolean result = comparisonStep.isEqual(new TestData(new Customer(1, "Hans")), new TestData(new PremiumCustomer(1, "Hans")));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenInstanceOfClassMatcherItShouldAcceptSubclasses() {
+        NestedComparisonStep<TestData, Customer> comparisonStep = new NestedComparisonStep<>(TestData::getValue, ID_EQUALS);
+
+        boolean result = comparisonStep.isEqual(new TestData(new Customer(1, "Hans")), new TestData(new PremiumCustomer(1, "Hans")));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void givenEqualsAndHashCodeItShouldUseItsEquals() {
+        EqualsAndHashCode<Customer> valueEqualsAndHashCode = Equalizer.equalsAndHashCodeBuilder(Customer.class)
+                .compareAndHashPrimitive((Customer customer) -> customer.id)
+                .build();
+        NestedComparisonStep<TestData, Customer> comparisonStep = new NestedComparisonStep<>(TestData::getValue, valueEqualsAndHashCode);
+
+        boolean result = comparisonStep.isEqual(new TestData(new Customer(1, "Hans")), new TestData(new Customer(1, "Peter")));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    private static class Customer {
+
+        private final int id;
+        private final String name;
+
+        Customer(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return id + ": " + name;
+        }
+    }
+
+    private static class PremiumCustomer extends Customer {
+
+        PremiumCustomer(int id, String name) {
+            super(id, name);
+        }
+    }
+
+    private static class TestData {
+
+        private final Customer value;
+
+        TestData(Customer value) {
+            this.value = value;
+        }
+
+        Customer getValue() {
+            return value;
+        }
+    }
+
+}
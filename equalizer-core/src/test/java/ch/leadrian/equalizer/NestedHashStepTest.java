@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NestedHashStepTest {
+
+    private static final HashCode<Customer> ID_HASH_CODE = Equalizer.<Customer>hashCodeBuilder()
+            .hashPrimitive((Customer customer) -> customer.id)
+            .build();
+
+    @Test
+    void shouldReturnHashCodeOfValueHashCode() {
+        Customer customer = new Customer(1337);
+        NestedHashStep<TestData, Customer> hashStep = new NestedHashStep<>(TestData::getValue, ID_HASH_CODE);
+
+        int hashCode = hashStep.hash(new TestData(customer));
+
+        assertThat(hashCode)
+                .isEqualTo(ID_HASH_CODE.hashCode(customer));
+    }
+
+    @Test
+    void givenNullItShouldReturnZero() {
+        NestedHashStep<TestData, Customer> hashStep = new NestedHashStep<>(TestData::getValue, ID_HASH_CODE);
+
+        int hashCode = hashStep.hash(new TestData(null));
+
+        assertThat(hashCode)
+                .isZero();
+    }
+
+    @Test
+    void givenEqualsAndHashCodeItShouldUseItsHashCode() {
+        Customer customer = new Customer(1337);
+        EqualsAndHashCode<Customer> valueEqualsAndHashCode = Equalizer.equalsAndHashCodeBuilder(Customer.class)
+                .compareAndHashPrimitive((Customer value) -> value.id)
+                .build();
+        NestedHashStep<TestData, Customer> hashStep = new NestedHashStep<>(TestData::getValue, valueEqualsAndHashCode);
+
+        int hashCode = hashStep.hash(new TestData(customer));
+
+        assertThat(hashCode)
+                .isEqualTo(valueEqualsAndHashCode.hashCode(customer));
+    }
+
+    private static class Customer {
+
+        private final int id;
+
+        Customer(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class TestData {
+
+        private final Customer value;
+
+        TestData(Customer value) {
+            this.value = value;
+        }
+
+        Customer getValue() {
+            return value;
+        }
+    }
+
+}
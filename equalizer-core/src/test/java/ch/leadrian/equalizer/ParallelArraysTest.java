@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ParallelArraysTest {
+
+    private static final int LENGTH = 100_003;
+
+    private static ForkJoinPool pool;
+    private static ParallelismPolicy parallelismPolicy;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        parallelismPolicy = ParallelismPolicy.parallel(1000, pool);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Nested
+    class DeepEqualsTests {
+
+        @ParameterizedTest
+        @ArgumentsSource(ArraysArgumentsProvider.class)
+        void givenEqualArraysItShouldReturnTrue(Object array) {
+            Object copy = copyOf(array);
+
+            boolean result = ParallelArrays.deepEquals(array, copy, parallelismPolicy);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(ArraysArgumentsProvider.class)
+        void givenMismatchInLastElementItShouldReturnFalse(Object array) {
+            Object copy = copyOf(array);
+            Array.set(copy, LENGTH - 1, Array.get(array, 0));
+
+            boolean result = ParallelArrays.deepEquals(array, copy, parallelismPolicy);
+
+            assertThat(result)
+                    .isEqualTo(Objects.deepEquals(array, copy));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, LENGTH / 2, LENGTH - 2})
+        void givenMismatchAtAnyIndexItShouldReturnFalse(int index) {
+            int[] array = new int[LENGTH];
+            int[] copy = new int[LENGTH];
+            copy[index] = 1;
+
+            boolean result = ParallelArrays.deepEquals(array, copy, parallelismPolicy);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenArraysOfDifferentLengthItShouldReturnFalse() {
+            boolean result = ParallelArrays.deepEquals(new int[LENGTH], new int[LENGTH + 1], parallelismPolicy);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenArraysOfDifferentTypeItShouldReturnFalse() {
+            boolean result = ParallelArrays.deepEquals(new int[LENGTH], new long[LENGTH], parallelismPolicy);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenObjectArraysOfDifferentComponentTypeItShouldCompareContents() {
+            String[] array1 = new String[LENGTH];
+            Object[] array2 = new Object[LENGTH];
+            Arrays.fill(array1, "foo");
+            Arrays.fill(array2, "foo");
+
+            boolean result = ParallelArrays.deepEquals(array1, array2, parallelismPolicy);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenNegativeZeroAndPositiveZeroItShouldReturnFalse() {
+            double[] array1 = new double[LENGTH];
+            double[] array2 = new double[LENGTH];
+            array2[LENGTH / 3] = -0.0;
+
+            boolean result = ParallelArrays.deepEquals(array1, array2, parallelismPolicy);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenNaNItShouldReturnTrue() {
+            float[] array1 = new float[LENGTH];
+            float[] array2 = new float[LENGTH];
+            array1[LENGTH / 3] = Float.NaN;
+            array2[LENGTH / 3] = Float.NaN;
+
+            boolean result = ParallelArrays.deepEquals(array1, array2, parallelismPolicy);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenNullItShouldReturnFalse() {
+            boolean result = ParallelArrays.deepEquals(new int[LENGTH], null, parallelismPolicy);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenNonArrayValuesItShouldCompareValues() {
+            boolean result = ParallelArrays.deepEquals("foo", "foo", parallelismPolicy);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenSequentialPolicyItShouldCompareContents() {
+            boolean result = ParallelArrays.deepEquals(new int[LENGTH], new int[LENGTH], ParallelismPolicy.sequential());
+
+            assertThat(result)
+                    .isTrue();
+        }
+    }
+
+    @Nested
+    class DeepHashCodeTests {
+
+        @ParameterizedTest
+        @ArgumentsSource(ArraysArgumentsProvider.class)
+        void shouldReturnSameHashCodeAsDeepHashStep(Object array) {
+            int result = ParallelArrays.deepHashCode(array, parallelismPolicy);
+
+            assertThat(result)
+                    .isEqualTo(DeepHashStep.deepHashCode(array));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 999, 1000, 1001, 1024, 4099, LENGTH})
+        void givenAnyLengthItShouldReturnSameHashCodeAsArraysHashCode(int length) {
+            int[] array = new Random(length).ints(length).toArray();
+
+            int result = ParallelArrays.deepHashCode(array, parallelismPolicy);
+
+            assertThat(result)
+                    .isEqualTo(Arrays.hashCode(array));
+        }
+
+        @Test
+        void givenNullItShouldReturnZero() {
+            int result = ParallelArrays.deepHashCode(null, parallelismPolicy);
+
+            assertThat(result)
+                    .isZero();
+        }
+
+        @Test
+        void givenNonArrayValueItShouldReturnHashCode() {
+            int result = ParallelArrays.deepHashCode("foo", parallelismPolicy);
+
+            assertThat(result)
+                    .isEqualTo("foo".hashCode());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 17, 1024, 65537, Integer.MAX_VALUE})
+    void powerOf31ShouldReturnWrappedPower(int exponent) {
+        int expected = BigInteger.valueOf(31).modPow(BigInteger.valueOf(exponent), BigInteger.ONE.shiftLeft(32)).intValue();
+
+        int result = ParallelArrays.powerOf31(exponent);
+
+        assertThat(result)
+                .isEqualTo(expected);
+    }
+
+    private static Object copyOf(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static class ArraysArgumentsProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+            Random random = new Random(1234);
+            byte[] bytes = new byte[LENGTH];
+            random.nextBytes(bytes);
+            short[] shorts = new short[LENGTH];
+            char[] chars = new char[LENGTH];
+            boolean[] booleans = new boolean[LENGTH];
+            float[] floats = new float[LENGTH];
+            Object[] objects = new Object[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                shorts[i] = (short) random.nextInt();
+                chars[i] = (char) random.nextInt();
+                booleans[i] = random.nextBoolean();
+                floats[i] = random.nextFloat();
+                objects[i] = i % 3 == 0 ? new int[]{i} : i % 3 == 1 ? "value" + i : null;
+            }
+            return Stream.of(
+                    arguments((Object) bytes),
+                    arguments((Object) shorts),
+                    arguments((Object) chars),
+                    arguments((Object) random.ints(LENGTH).toArray()),
+                    arguments((Object) random.longs(LENGTH).toArray()),
+                    arguments((Object) floats),
+                    arguments((Object) random.doubles(LENGTH).toArray()),
+                    arguments((Object) booleans),
+                    arguments((Object) objects)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelismPolicyTest {
+
+    @Test
+    void givenSequentialPolicyItShouldNeverBeParallel() {
+        ParallelismPolicy parallelismPolicy = ParallelismPolicy.sequential();
+
+        boolean result = parallelismPolicy.isParallel(Integer.MAX_VALUE);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenLengthBelowThresholdItShouldNotBeParallel() {
+        ParallelismPolicy parallelismPolicy = ParallelismPolicy.parallel(1000);
+
+        boolean result = parallelismPolicy.isParallel(999);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenLengthAtThresholdItShouldBeParallel() {
+        ParallelismPolicy parallelismPolicy = ParallelismPolicy.parallel(1000);
+
+        boolean result = parallelismPolicy.isParallel(1000);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void shouldUseCommonPoolByDefault() {
+        ParallelismPolicy parallelismPolicy = ParallelismPolicy.parallel(1000);
+
+        assertThat(parallelismPolicy.getPool())
+                .isSameAs(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    void shouldSplitIntoChunksPerThread() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParallelismPolicy parallelismPolicy = ParallelismPolicy.parallel(1000, pool);
+
+            int result = parallelismPolicy.getChunkSize(80_000);
+
+            assertThat(result)
+                    .isEqualTo(10_000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotCreateTinyChunks() {
+        ParallelismPolicy parallelismPolicy = ParallelismPolicy.parallel(1);
+
+        int result = parallelismPolicy.getChunkSize(10);
+
+        assertThat(result)
+                .isEqualTo(1024);
+    }
+
+    @Test
+    void givenNonPositiveThresholdItShouldThrowException() {
+        assertThatThrownBy(() -> ParallelismPolicy.parallel(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
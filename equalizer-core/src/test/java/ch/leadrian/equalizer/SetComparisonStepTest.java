@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class SetComparisonStepTest {
+
+    private static final Set<Object> SET = new HashSet<>(Arrays.asList("foo", "bar"));
+
+    @ParameterizedTest
+    @MethodSource("equivalentValues")
+    void givenEquivalentValueItShouldReturnTrue(Set<Object> value1, Set<Object> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        SetComparisonStep<TestData> comparisonStep = new SetComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("notEquivalentValues")
+    void givenNotEquivalentValueItShouldReturnFalse(Set<Object> value1, Set<Object> value2) {
+        TestData testData1 = new TestData(value1);
+        TestData testData2 = new TestData(value2);
+        SetComparisonStep<TestData> comparisonStep = new SetComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(testData1, testData2);
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    static Stream<Arguments> equivalentValues() {
+        return Stream.of(
+                arguments(null, null),
+                arguments(SET, SET),
+                arguments(Collections.emptySet(), new HashSet<>()),
+                arguments(new HashSet<>(Arrays.asList("foo", "bar")), new TreeSet<>(Arrays.asList("bar", "foo"))),
+                arguments(new HashSet<>(Arrays.asList("foo", null)), new HashSet<>(Arrays.asList(null, "foo")))
+        );
+    }
+
+    static Stream<Arguments> notEquivalentValues() {
+        return Stream.of(
+                arguments(SET, null),
+                arguments(null, SET),
+                arguments(SET, Collections.emptySet()),
+                arguments(new HashSet<>(Arrays.asList("foo", "bar")), new HashSet<>(Arrays.asList("foo", "baz"))),
+                arguments(new HashSet<>(Arrays.asList("foo", "bar")), new HashSet<>(Arrays.asList("foo", "bar", "baz"))),
+                arguments(new HashSet<>(Arrays.asList(1, 2)), new TreeSet<>(Arrays.asList("foo", "bar"))),
+                arguments(new HashSet<>(Arrays.asList("foo", null)), new TreeSet<>(Arrays.asList("foo", "bar")))
+        );
+    }
+
+    private static class TestData {
+
+        private final Set<Object> value;
+
+        TestData(Set<Object> value) {
+            this.value = value;
+        }
+
+        Set<Object> getValue() {
+            return value;
+        }
+    }
+
+}
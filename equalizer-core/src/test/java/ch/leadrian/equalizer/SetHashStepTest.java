@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class SetHashStepTest {
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void shouldReturnHashCodeOfSet(Set<String> value) {
+        TestData testData = new TestData(value);
+        SetHashStep<TestData> hashStep = new SetHashStep<>(TestData::getValue);
+
+        int hashCode = hashStep.hash(testData);
+
+        assertThat(hashCode)
+                .isEqualTo(Objects.hashCode(value));
+    }
+
+    static Stream<Arguments> values() {
+        return Stream.of(
+                arguments((Object) null),
+                arguments(Collections.emptySet()),
+                arguments(new HashSet<>(Arrays.asList("foo", null, "bar"))),
+                arguments(new TreeSet<>(Arrays.asList("foo", "bar")))
+        );
+    }
+
+    private static class TestData {
+
+        private final Set<String> value;
+
+        TestData(Set<String> value) {
+            this.value = value;
+        }
+
+        Set<String> getValue() {
+            return value;
+        }
+    }
+
+}
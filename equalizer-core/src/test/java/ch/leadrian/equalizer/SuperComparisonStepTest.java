@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuperComparisonStepTest {
+
+    @Test
+    void givenSuperEqualsReturnsTrueItShouldReturnTrue() {
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>((value, otherValue) -> true);
+
+        boolean result = comparisonStep.isEqual("foo", "bar");
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    @Test
+    void givenSuperEqualsReturnsFalseItShouldReturnFalse() {
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>((value, otherValue) -> false);
+
+        boolean result = comparisonStep.isEqual("foo", "foo");
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    @Test
+    void givenSuperEqualsIsBuiltByEqualizerItShouldResolveToItsComparisonSteps() {
+        AbstractEquals<CharSequence> superEquals = (AbstractEquals<CharSequence>) new EqualsImpl.Builder<>(CharSequence.class)
+                .comparePrimitive(CharSequence::length)
+                .compare(CharSequence::toString)
+                .build();
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>(superEquals);
+
+        List<ComparisonStep<String>> result = comparisonStep.resolve(ClassMatchers.instanceOf(String.class));
+
+        assertThat(result)
+                .isEqualTo(superEquals.getComparisonSteps());
+    }
+
+    @Test
+    void givenSuperEqualsAndHashCodeIsBuiltByEqualizerItShouldResolveToItsComparisonSteps() {
+        EqualsAndHashCodeImpl<CharSequence> superEqualsAndHashCode = (EqualsAndHashCodeImpl<CharSequence>) new EqualsAndHashCodeImpl.Builder<>(CharSequence.class)
+                .compareAndHashPrimitive(CharSequence::length)
+                .build();
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>(superEqualsAndHashCode);
+
+        List<ComparisonStep<String>> result = comparisonStep.resolve(ClassMatchers.instanceOf(String.class));
+
+        assertThat(result)
+                .isEqualTo(((AbstractEquals<CharSequence>) superEqualsAndHashCode.getEquals()).getComparisonSteps());
+    }
+
+    @Test
+    void givenClassMatcherIsNotImpliedItShouldNotResolveToComparisonStepsOfSuperEquals() {
+        Equals<CharSequence> superEquals = new EqualsImpl.Builder<>(CharSequence.class)
+                .comparePrimitive(CharSequence::length)
+                .classMatcher(ClassMatchers.sameClass())
+                .build();
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>(superEquals);
+
+        List<ComparisonStep<String>> result = comparisonStep.resolve(ClassMatchers.instanceOf(String.class));
+
+        assertThat(result)
+                .containsExactly(comparisonStep);
+    }
+
+    @Test
+    void givenSuperEqualsHasNoComparisonStepsItShouldNotResolveToComparisonStepsOfSuperEquals() {
+        Equals<CharSequence> superEquals = new EqualsImpl.Builder<>(CharSequence.class).build();
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>(superEquals);
+
+        List<ComparisonStep<String>> result = comparisonStep.resolve(ClassMatchers.instanceOf(String.class));
+
+        assertThat(result)
+                .containsExactly(comparisonStep);
+    }
+
+    @Test
+    void givenSuperEqualsIsNotBuiltByEqualizerItShouldNotResolveToComparisonStepsOfSuperEquals() {
+        SuperComparisonStep<String> comparisonStep = new SuperComparisonStep<>((value, otherValue) -> true);
+
+        List<ComparisonStep<String>> result = comparisonStep.resolve(ClassMatchers.instanceOf(String.class));
+
+        assertThat(result)
+                .containsExactly(comparisonStep);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuperHashStepTest {
+
+    @Test
+    void shouldCombineHashStepsOfSuperHashCode() {
+        SuperHashStep<String> hashStep = new SuperHashStep<>(Arrays.<HashStep<CharSequence>>asList(
+                new IntHashStep<>(CharSequence::length),
+                new ShallowHashStep<>(CharSequence::toString)
+        ), HashMixers.polynomial());
+
+        int result = hashStep.hash("Test");
+
+        assertThat(result)
+                .isEqualTo(31 * (31 + Integer.hashCode(4)) + "Test".hashCode());
+    }
+
+    @Test
+    void shouldCombineHashStepsOfSuperHashCodeUsingHashMixer() {
+        HashStep<CharSequence> hashStep1 = new IntHashStep<>(CharSequence::length);
+        HashStep<CharSequence> hashStep2 = new ShallowHashStep<>(CharSequence::toString);
+        HashMixer hashMixer = HashMixers.murmur3();
+        SuperHashStep<String> hashStep = new SuperHashStep<>(Arrays.asList(hashStep1, hashStep2), hashMixer);
+
+        int result = hashStep.hash("Test");
+
+        assertThat(result)
+                .isEqualTo(hashMixer.finish(hashMixer.mix(hashMixer.mix(hashMixer.initialValue(), 4), "Test".hashCode())));
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class UnorderedComparisonStepTest {
+
+    /**
+     * The mixed hash codes of {@code 0} and this value sum up to the same value as those of {@code 1} and {@code 2}.
+     */
+    private static final int COLLIDING_INT = 0xcc2ff3f5;
+
+    @ParameterizedTest
+    @MethodSource("equalValues")
+    void givenEqualMultisetsItShouldReturnTrue(Object value1, Object value2) {
+        UnorderedComparisonStep<TestData> comparisonStep = new UnorderedComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(value1), new TestData(value2));
+
+        assertThat(result)
+                .isTrue();
+    }
+
+    static Stream<Arguments> equalValues() {
+        return Stream.of(
+                arguments(null, null),
+                arguments(new int[0], new int[0]),
+                arguments(new int[]{1, 2, 3}, new int[]{3, 1, 2}),
+                arguments(new int[]{1, 1, 2}, new int[]{1, 2, 1}),
+                arguments(new long[]{1L, 2L, Long.MAX_VALUE}, new long[]{Long.MAX_VALUE, 1L, 2L}),
+                arguments(new String[]{"foo", null, "bar"}, new String[]{"bar", "foo", null}),
+                arguments(Arrays.asList("foo", "bar", "foo"), Arrays.asList("foo", "foo", "bar")),
+                arguments(Arrays.asList("foo", "bar"), new HashSet<>(Arrays.asList("bar", "foo"))),
+                arguments(new HashSet<>(Arrays.asList("foo", "bar")), new TreeSet<>(Arrays.asList("bar", "foo"))),
+                arguments(new HashSet<>(range(100)), new LinkedHashSet<>(reversed(range(100)))),
+                arguments(new LinkedList<>(Arrays.asList("foo", "bar", "foo")), new ArrayDeque<>(Arrays.asList("bar", "foo", "foo"))),
+                arguments(range(100), reversed(range(100))),
+                arguments(IntStream.range(0, 100).toArray(), IntStream.range(0, 100).map(i -> 99 - i).toArray()),
+                arguments(LongStream.range(0, 100).toArray(), LongStream.range(0, 100).map(i -> 99 - i).toArray()),
+                arguments(range(100).toArray(), reversed(range(100)).toArray()),
+                arguments("foo", "foo")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("unequalValues")
+    void givenDifferentMultisetsItShouldReturnFalse(Object value1, Object value2) {
+        UnorderedComparisonStep<TestData> comparisonStep = new UnorderedComparisonStep<>(TestData::getValue);
+
+        boolean result = comparisonStep.isEqual(new TestData(value1), new TestData(value2));
+
+        assertThat(result)
+                .isFalse();
+    }
+
+    static Stream<Arguments> unequalValues() {
+        Stream<Arguments> unequalValues = Stream.of(
+                arguments(null, new int[0]),
+                arguments(new int[0], null),
+                arguments(new int[]{1, 2}, new int[]{1, 2, 3}),
+                arguments(new int[]{1, 1, 2}, new int[]{1, 2, 2}),
+                arguments(new long[]{1L, 1L, 2L}, new long[]{1L, 2L, 2L}),
+                arguments(new int[]{1, 2}, new long[]{1L, 2L}),
+                arguments(new String[]{"foo", "foo", "bar"}, new String[]{"foo", "bar", "bar"}),
+                arguments(new String[]{"foo", null}, new String[]{"foo", "bar"}),
+                arguments(Arrays.asList("foo", "foo", "bar"), Arrays.asList("foo", "bar", "bar")),
+                arguments(new LinkedList<>(Arrays.asList("foo", "foo", "bar")), new ArrayDeque<>(Arrays.asList("foo", "bar", "bar"))),
+                arguments(new HashSet<>(Arrays.asList("foo", "bar")), new HashSet<>(Arrays.asList("foo", "baz"))),
+                arguments(Collections.singletonList("foo"), new String[]{"foo"}),
+                arguments(withDuplicate(range(100)), withDuplicate(reversed(range(100))).subList(0, 100)),
+                arguments(duplicatedFirst(100), duplicatedLast(100)),
+                arguments(IntStream.range(0, 100).map(i -> i == 99 ? 0 : i).toArray(), IntStream.range(0, 100).map(i -> i == 0 ? 99 : i).toArray()),
+                arguments(LongStream.range(0, 100).map(i -> i == 99 ? 0 : i).toArray(), LongStream.range(0, 100).map(i -> i == 0 ? 99 : i).toArray()),
+                arguments(duplicatedFirst(100).toArray(), duplicatedLast(100).toArray()),
+                arguments("foo", "bar")
+        );
+        return Stream.concat(
+                unequalValues,
+                IntStream.of(3, 65, 100).boxed().flatMap(UnorderedComparisonStepTest::unequalValuesWithEqualHashCodes)
+        );
+    }
+
+    /**
+     * Values of equal size and with equal unordered hash codes, which are only told apart by matching, sorting or
+     * counting their elements.
+     */
+    private static Stream<Arguments> unequalValuesWithEqualHashCodes(int size) {
+        return Stream.of(
+                arguments(collidingInts(size, 0, COLLIDING_INT), collidingInts(size, 1, 2)),
+                arguments(collidingLongs(size, 0L), collidingLongs(size, 0x1_0000_0001L)),
+                arguments(constantHashCodes(0, size).toArray(), constantHashCodes(1, size + 1).toArray()),
+                arguments(constantHashCodes(0, size), constantHashCodes(1, size + 1)),
+                arguments(new LinkedList<>(constantHashCodes(0, size)), new LinkedList<>(constantHashCodes(1, size + 1))),
+                arguments(new HashSet<>(constantHashCodes(0, size)), new HashSet<>(constantHashCodes(1, size + 1)))
+        );
+    }
+
+    private static int[] collidingInts(int size, int first, int second) {
+        int[] values = IntStream.range(0, size).map(i -> i + 3).toArray();
+        values[0] = first;
+        values[1] = second;
+        return values;
+    }
+
+    /**
+     * {@code 0L} and {@code 0x1_0000_0001L} have the same hash code.
+     */
+    private static long[] collidingLongs(int size, long first) {
+        long[] values = LongStream.range(0, size).toArray();
+        values[0] = first;
+        return values;
+    }
+
+    private static List<ConstantHashCode> constantHashCodes(int from, int to) {
+        List<ConstantHashCode> values = new ArrayList<>(to - from);
+        IntStream.range(from, to).mapToObj(ConstantHashCode::new).forEach(values::add);
+        return values;
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        IntStream.range(0, size).forEach(values::add);
+        return values;
+    }
+
+    private static List<Integer> reversed(List<Integer> values) {
+        List<Integer> reversed = new ArrayList<>(values);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static List<Integer> withDuplicate(List<Integer> values) {
+        List<Integer> result = new ArrayList<>(values);
+        result.add(values.get(0));
+        return result;
+    }
+
+    private static List<Integer> duplicatedFirst(int size) {
+        List<Integer> values = range(size);
+        values.set(size - 1, 0);
+        return values;
+    }
+
+    private static List<Integer> duplicatedLast(int size) {
+        List<Integer> values = range(size);
+        values.set(0, size - 1);
+        return values;
+    }
+
+    private static final class ConstantHashCode {
+
+        private final int value;
+
+        ConstantHashCode(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof ConstantHashCode && ((ConstantHashCode) object).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+    }
+
+    private static class TestData {
+
+        private final Object value;
+
+        TestData(Object value) {
+            this.value = value;
+        }
+
+        Object getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class UnorderedHashStepTest {
+
+    @ParameterizedTest
+    @MethodSource("permutations")
+    void givenPermutationsItShouldReturnSameHashCode(Object value1, Object value2) {
+        UnorderedHashStep<TestData> hashStep = new UnorderedHashStep<>(TestData::getValue);
+
+        int hashCode1 = hashStep.hash(new TestData(value1));
+        int hashCode2 = hashStep.hash(new TestData(value2));
+
+        assertThat(hashCode1)
+                .isEqualTo(hashCode2);
+    }
+
+    static Stream<Arguments> permutations() {
+        return Stream.of(
+                arguments(new int[]{1, 2, 3}, new int[]{3, 1, 2}),
+                arguments(new long[]{1L, 2L, Long.MAX_VALUE}, new long[]{Long.MAX_VALUE, 1L, 2L}),
+                arguments(new String[]{"foo", null, "bar"}, new String[]{"bar", "foo", null}),
+                arguments(Arrays.asList("foo", "bar", "foo"), Arrays.asList("foo", "foo", "bar")),
+                arguments(Arrays.asList("foo", "bar"), new HashSet<>(Arrays.asList("bar", "foo"))),
+                arguments(Arrays.asList(1, 2, 3), new Integer[]{3, 2, 1}),
+                arguments(new int[]{1, 2, 3}, new Integer[]{3, 2, 1})
+        );
+    }
+
+    @Test
+    void givenNullItShouldReturnZero() {
+        UnorderedHashStep<TestData> hashStep = new UnorderedHashStep<>(TestData::getValue);
+
+        int hashCode = hashStep.hash(new TestData(null));
+
+        assertThat(hashCode)
+                .isZero();
+    }
+
+    @Test
+    void givenOtherValueItShouldReturnDeepHashCode() {
+        UnorderedHashStep<TestData> hashStep = new UnorderedHashStep<>(TestData::getValue);
+
+        int hashCode = hashStep.hash(new TestData("foo"));
+
+        assertThat(hashCode)
+                .isEqualTo("foo".hashCode());
+    }
+
+    @Test
+    void shouldDistinguishMultisetsWithSameElements() {
+        UnorderedHashStep<TestData> hashStep = new UnorderedHashStep<>(TestData::getValue);
+
+        int hashCode1 = hashStep.hash(new TestData(new int[]{1, 1, 2}));
+        int hashCode2 = hashStep.hash(new TestData(new int[]{1, 2, 2}));
+
+        assertThat(hashCode1)
+                .isNotEqualTo(hashCode2);
+    }
+
+    @Test
+    void shouldSpreadHashCodesOfSmallIntegerSets() {
+        UnorderedHashStep<TestData> hashStep = new UnorderedHashStep<>(TestData::getValue);
+
+        long distinctHashCodes = IntStream.range(0, 1000)
+                .map(i -> hashStep.hash(new TestData(new int[]{i, i + 1, i + 2})))
+                .distinct()
+                .count();
+
+        assertThat(distinctHashCodes)
+                .isEqualTo(1000);
+    }
+
+    private static class TestData {
+
+        private final Object value;
+
+        TestData(Object value) {
+            this.value = value;
+        }
+
+        Object getValue() {
+            return value;
+        }
+    }
+
+}
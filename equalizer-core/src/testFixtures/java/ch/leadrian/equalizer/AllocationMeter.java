@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the number of bytes allocated by the current thread while running an action, using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * Shared as a test fixture, so that the tests of other modules, such as the samples, can use it as well.
+ */
+public final class AllocationMeter {
+
+    private static final int WARM_UP_ITERATIONS = 10_000;
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Runs {@code action} {@code iterations} times after warming it up and returns the average number of bytes that
+     * were allocated per run. The allocations caused by the measurement itself are subtracted.
+     */
+    public static long allocatedBytesPerRun(Runnable action, int iterations) {
+        Runnable noOp = () -> {
+        };
+        long overhead = measure(noOp, iterations);
+        return Math.max(0L, measure(action, iterations) - overhead) / iterations;
+    }
+
+    private static long measure(Runnable action, int iterations) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            action.run();
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+    }
+
+}
@@ -16,9 +16,17 @@
 
 package ch.leadrian.equalizer
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction
 import ch.leadrian.equalizer.util.function.ToByteFunction
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction
 import ch.leadrian.equalizer.util.function.ToCharFunction
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction
 import ch.leadrian.equalizer.util.function.ToFloatFunction
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction
 import ch.leadrian.equalizer.util.function.ToShortFunction
 import java.util.function.Function
 import java.util.function.Predicate
@@ -44,6 +52,16 @@ internal constructor(delegate: EqualsAndHashCodeBuilder<T>) : EqualsAndHashCodeB
         compare(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareHashGuarded] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareHashGuarded
+     */
+    inline fun compareHashGuarded(crossinline valueExtractor: T.() -> Any?) {
+        compareHashGuarded(Function<T, Any?> { valueExtractor(it) })
+    }
+
     /**
      * Inline variant of [EqualsAndHashCodeBuilder.compareIdentity] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -64,6 +82,70 @@ internal constructor(delegate: EqualsAndHashCodeBuilder<T>) : EqualsAndHashCodeB
         compareDeep(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareDeep] with a [ParallelismPolicy] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param parallelismPolicy determines which arrays are processed in parallel.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareDeep
+     */
+    inline fun compareDeep(parallelismPolicy: ParallelismPolicy, crossinline valueExtractor: T.() -> Any?) {
+        compareDeep(Function<T, Any?> { valueExtractor(it) }, parallelismPolicy)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareList] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param elementEquals compares the elements of the lists.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareList
+     */
+    inline fun <E> compareList(elementEquals: Equals<in E>, crossinline valueExtractor: T.() -> List<E>?) {
+        compareList(Function<T, List<E>?> { valueExtractor(it) }, elementEquals)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareSet] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareSet
+     */
+    inline fun compareSet(crossinline valueExtractor: T.() -> Set<*>?) {
+        compareSet(Function<T, Set<*>?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareMap] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEquals compares the values of the maps.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareMap
+     */
+    inline fun <V> compareMap(valueEquals: Equals<in V>, crossinline valueExtractor: T.() -> Map<*, V>?) {
+        compareMap(Function<T, Map<*, V>?> { valueExtractor(it) }, valueEquals)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareUnordered] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareUnordered
+     */
+    inline fun compareUnordered(crossinline valueExtractor: T.() -> Any?) {
+        compareUnordered(Function<T, Any?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareWith] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEquals compares the extracted values.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareWith
+     */
+    inline fun <V> compareWith(valueEquals: Equals<in V>, crossinline valueExtractor: T.() -> V) {
+        compareWith(Function<T, V> { valueExtractor(it) }, valueEquals)
+    }
+
     /**
      * Inline variant of [EqualsAndHashCodeBuilder.comparePrimitive] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -144,6 +226,86 @@ internal constructor(delegate: EqualsAndHashCodeBuilder<T>) : EqualsAndHashCodeB
         comparePrimitive(Predicate<T> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareByteArray(crossinline valueExtractor: T.() -> ByteArray?) {
+        compareArray(ToByteArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareShortArray(crossinline valueExtractor: T.() -> ShortArray?) {
+        compareArray(ToShortArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareCharArray(crossinline valueExtractor: T.() -> CharArray?) {
+        compareArray(ToCharArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareIntArray(crossinline valueExtractor: T.() -> IntArray?) {
+        compareArray(ToIntArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareLongArray(crossinline valueExtractor: T.() -> LongArray?) {
+        compareArray(ToLongArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareFloatArray(crossinline valueExtractor: T.() -> FloatArray?) {
+        compareArray(ToFloatArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareDoubleArray(crossinline valueExtractor: T.() -> DoubleArray?) {
+        compareArray(ToDoubleArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareArray
+     */
+    inline fun compareBooleanArray(crossinline valueExtractor: T.() -> BooleanArray?) {
+        compareArray(ToBooleanArrayFunction<T> { valueExtractor(it) })
+    }
+
     /**
      * Inline variant of [EqualsAndHashCodeBuilder.compareAndHash] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -174,6 +336,70 @@ internal constructor(delegate: EqualsAndHashCodeBuilder<T>) : EqualsAndHashCodeB
         compareAndHashDeep(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashDeep] with a [ParallelismPolicy] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param parallelismPolicy determines which arrays are processed in parallel.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashDeep
+     */
+    inline fun compareAndHashDeep(parallelismPolicy: ParallelismPolicy, crossinline valueExtractor: T.() -> Any?) {
+        compareAndHashDeep(Function<T, Any?> { valueExtractor(it) }, parallelismPolicy)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashList] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param elementEqualsAndHashCode compares and hashes the elements of the lists.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashList
+     */
+    inline fun <E> compareAndHashList(elementEqualsAndHashCode: EqualsAndHashCode<in E>, crossinline valueExtractor: T.() -> List<E>?) {
+        compareAndHashList(Function<T, List<E>?> { valueExtractor(it) }, elementEqualsAndHashCode)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashSet] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashSet
+     */
+    inline fun compareAndHashSet(crossinline valueExtractor: T.() -> Set<*>?) {
+        compareAndHashSet(Function<T, Set<*>?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashMap] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEqualsAndHashCode compares and hashes the values of the maps.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashMap
+     */
+    inline fun <V> compareAndHashMap(valueEqualsAndHashCode: EqualsAndHashCode<in V>, crossinline valueExtractor: T.() -> Map<*, V>?) {
+        compareAndHashMap(Function<T, Map<*, V>?> { valueExtractor(it) }, valueEqualsAndHashCode)
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashUnordered] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashUnordered
+     */
+    inline fun compareAndHashUnordered(crossinline valueExtractor: T.() -> Any?) {
+        compareAndHashUnordered(Function<T, Any?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashWith] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEqualsAndHashCode compares and hashes the extracted values.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashWith
+     */
+    inline fun <V> compareAndHashWith(valueEqualsAndHashCode: EqualsAndHashCode<in V>, crossinline valueExtractor: T.() -> V) {
+        compareAndHashWith(Function<T, V> { valueExtractor(it) }, valueEqualsAndHashCode)
+    }
+
     /**
      * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashPrimitive] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -254,4 +480,84 @@ internal constructor(delegate: EqualsAndHashCodeBuilder<T>) : EqualsAndHashCodeB
         compareAndHashPrimitive(Predicate<T> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashByteArray(crossinline valueExtractor: T.() -> ByteArray?) {
+        compareAndHashArray(ToByteArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashShortArray(crossinline valueExtractor: T.() -> ShortArray?) {
+        compareAndHashArray(ToShortArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashCharArray(crossinline valueExtractor: T.() -> CharArray?) {
+        compareAndHashArray(ToCharArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashIntArray(crossinline valueExtractor: T.() -> IntArray?) {
+        compareAndHashArray(ToIntArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashLongArray(crossinline valueExtractor: T.() -> LongArray?) {
+        compareAndHashArray(ToLongArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashFloatArray(crossinline valueExtractor: T.() -> FloatArray?) {
+        compareAndHashArray(ToFloatArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashDoubleArray(crossinline valueExtractor: T.() -> DoubleArray?) {
+        compareAndHashArray(ToDoubleArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsAndHashCodeBuilder.compareAndHashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsAndHashCodeBuilder.compareAndHashArray
+     */
+    inline fun compareAndHashBooleanArray(crossinline valueExtractor: T.() -> BooleanArray?) {
+        compareAndHashArray(ToBooleanArrayFunction<T> { valueExtractor(it) })
+    }
+
 }
\ No newline at end of file
@@ -16,9 +16,17 @@
 
 package ch.leadrian.equalizer
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction
 import ch.leadrian.equalizer.util.function.ToByteFunction
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction
 import ch.leadrian.equalizer.util.function.ToCharFunction
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction
 import ch.leadrian.equalizer.util.function.ToFloatFunction
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction
 import ch.leadrian.equalizer.util.function.ToShortFunction
 import java.util.function.Function
 import java.util.function.Predicate
@@ -44,6 +52,16 @@ internal constructor(delegate: EqualsBuilder<T>) : EqualsBuilder<T> by delegate
         compare(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsBuilder.compareHashGuarded] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareHashGuarded
+     */
+    inline fun compareHashGuarded(crossinline valueExtractor: T.() -> Any?) {
+        compareHashGuarded(Function<T, Any?> { valueExtractor(it) })
+    }
+
     /**
      * Inline variant of [EqualsBuilder.compareIdentity] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -64,6 +82,70 @@ internal constructor(delegate: EqualsBuilder<T>) : EqualsBuilder<T> by delegate
         compareDeep(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsBuilder.compareDeep] with a [ParallelismPolicy] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param parallelismPolicy determines which arrays are processed in parallel.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareDeep
+     */
+    inline fun compareDeep(parallelismPolicy: ParallelismPolicy, crossinline valueExtractor: T.() -> Any?) {
+        compareDeep(Function<T, Any?> { valueExtractor(it) }, parallelismPolicy)
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareList] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param elementEquals compares the elements of the lists.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareList
+     */
+    inline fun <E> compareList(elementEquals: Equals<in E>, crossinline valueExtractor: T.() -> List<E>?) {
+        compareList(Function<T, List<E>?> { valueExtractor(it) }, elementEquals)
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareSet] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareSet
+     */
+    inline fun compareSet(crossinline valueExtractor: T.() -> Set<*>?) {
+        compareSet(Function<T, Set<*>?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareMap] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEquals compares the values of the maps.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareMap
+     */
+    inline fun <V> compareMap(valueEquals: Equals<in V>, crossinline valueExtractor: T.() -> Map<*, V>?) {
+        compareMap(Function<T, Map<*, V>?> { valueExtractor(it) }, valueEquals)
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareUnordered] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareUnordered
+     */
+    inline fun compareUnordered(crossinline valueExtractor: T.() -> Any?) {
+        compareUnordered(Function<T, Any?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareWith] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueEquals compares the extracted values.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareWith
+     */
+    inline fun <V> compareWith(valueEquals: Equals<in V>, crossinline valueExtractor: T.() -> V) {
+        compareWith(Function<T, V> { valueExtractor(it) }, valueEquals)
+    }
+
     /**
      * Inline variant of [EqualsBuilder.comparePrimitive] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -144,4 +226,84 @@ internal constructor(delegate: EqualsBuilder<T>) : EqualsBuilder<T> by delegate
         comparePrimitive(Predicate<T> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareByteArray(crossinline valueExtractor: T.() -> ByteArray?) {
+        compareArray(ToByteArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareShortArray(crossinline valueExtractor: T.() -> ShortArray?) {
+        compareArray(ToShortArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareCharArray(crossinline valueExtractor: T.() -> CharArray?) {
+        compareArray(ToCharArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareIntArray(crossinline valueExtractor: T.() -> IntArray?) {
+        compareArray(ToIntArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareLongArray(crossinline valueExtractor: T.() -> LongArray?) {
+        compareArray(ToLongArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareFloatArray(crossinline valueExtractor: T.() -> FloatArray?) {
+        compareArray(ToFloatArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareDoubleArray(crossinline valueExtractor: T.() -> DoubleArray?) {
+        compareArray(ToDoubleArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [EqualsBuilder.compareArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see EqualsBuilder.compareArray
+     */
+    inline fun compareBooleanArray(crossinline valueExtractor: T.() -> BooleanArray?) {
+        compareArray(ToBooleanArrayFunction<T> { valueExtractor(it) })
+    }
+
 }
\ No newline at end of file
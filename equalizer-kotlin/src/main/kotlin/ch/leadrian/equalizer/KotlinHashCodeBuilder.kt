@@ -16,9 +16,17 @@
 
 package ch.leadrian.equalizer
 
+import ch.leadrian.equalizer.util.function.ToBooleanArrayFunction
+import ch.leadrian.equalizer.util.function.ToByteArrayFunction
 import ch.leadrian.equalizer.util.function.ToByteFunction
+import ch.leadrian.equalizer.util.function.ToCharArrayFunction
 import ch.leadrian.equalizer.util.function.ToCharFunction
+import ch.leadrian.equalizer.util.function.ToDoubleArrayFunction
+import ch.leadrian.equalizer.util.function.ToFloatArrayFunction
 import ch.leadrian.equalizer.util.function.ToFloatFunction
+import ch.leadrian.equalizer.util.function.ToIntArrayFunction
+import ch.leadrian.equalizer.util.function.ToLongArrayFunction
+import ch.leadrian.equalizer.util.function.ToShortArrayFunction
 import ch.leadrian.equalizer.util.function.ToShortFunction
 import java.util.function.Function
 import java.util.function.Predicate
@@ -64,6 +72,70 @@ internal constructor(delegate: HashCodeBuilder<T>) : HashCodeBuilder<T> by deleg
         hashDeep(Function<T, Any?> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [HashCodeBuilder.hashDeep] with a [ParallelismPolicy] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param parallelismPolicy determines which arrays are processed in parallel.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashDeep
+     */
+    inline fun hashDeep(parallelismPolicy: ParallelismPolicy, crossinline valueExtractor: T.() -> Any?) {
+        hashDeep(Function<T, Any?> { valueExtractor(it) }, parallelismPolicy)
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashList] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param elementHashCode hashes the elements of the lists.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashList
+     */
+    inline fun <E> hashList(elementHashCode: HashCode<in E>, crossinline valueExtractor: T.() -> List<E>?) {
+        hashList(Function<T, List<E>?> { valueExtractor(it) }, elementHashCode)
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashSet] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashSet
+     */
+    inline fun hashSet(crossinline valueExtractor: T.() -> Set<*>?) {
+        hashSet(Function<T, Set<*>?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashMap] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueHashCode hashes the values of the maps.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashMap
+     */
+    inline fun <V> hashMap(valueHashCode: HashCode<in V>, crossinline valueExtractor: T.() -> Map<*, V>?) {
+        hashMap(Function<T, Map<*, V>?> { valueExtractor(it) }, valueHashCode)
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashUnordered] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashUnordered
+     */
+    inline fun hashUnordered(crossinline valueExtractor: T.() -> Any?) {
+        hashUnordered(Function<T, Any?> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashWith] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueHashCode hashes the extracted value.
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashWith
+     */
+    inline fun <V> hashWith(valueHashCode: HashCode<in V>, crossinline valueExtractor: T.() -> V) {
+        hashWith(Function<T, V> { valueExtractor(it) }, valueHashCode)
+    }
+
     /**
      * Inline variant of [HashCodeBuilder.hashPrimitive] takes accepts a lambda function with an instance of [T] as the receiver.
      *
@@ -144,4 +216,84 @@ internal constructor(delegate: HashCodeBuilder<T>) : HashCodeBuilder<T> by deleg
         hashPrimitive(Predicate<T> { valueExtractor(it) })
     }
 
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashByteArray(crossinline valueExtractor: T.() -> ByteArray?) {
+        hashArray(ToByteArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashShortArray(crossinline valueExtractor: T.() -> ShortArray?) {
+        hashArray(ToShortArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashCharArray(crossinline valueExtractor: T.() -> CharArray?) {
+        hashArray(ToCharArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashIntArray(crossinline valueExtractor: T.() -> IntArray?) {
+        hashArray(ToIntArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashLongArray(crossinline valueExtractor: T.() -> LongArray?) {
+        hashArray(ToLongArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashFloatArray(crossinline valueExtractor: T.() -> FloatArray?) {
+        hashArray(ToFloatArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashDoubleArray(crossinline valueExtractor: T.() -> DoubleArray?) {
+        hashArray(ToDoubleArrayFunction<T> { valueExtractor(it) })
+    }
+
+    /**
+     * Inline variant of [HashCodeBuilder.hashArray] takes accepts a lambda function with an instance of [T] as the receiver.
+     *
+     * @param valueExtractor the lambda function used to extract a value within the scope of an instance of [T].
+     * @see HashCodeBuilder.hashArray
+     */
+    inline fun hashBooleanArray(crossinline valueExtractor: T.() -> BooleanArray?) {
+        hashArray(ToBooleanArrayFunction<T> { valueExtractor(it) })
+    }
+
 }
\ No newline at end of file
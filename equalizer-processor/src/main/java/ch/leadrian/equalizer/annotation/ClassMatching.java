@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.annotation;
+
+/**
+ * Determines whether two instances can be compared, mirroring the class matchers provided by
+ * {@code ch.leadrian.equalizer.ClassMatchers}.
+ *
+ * @see Equalized#classMatching()
+ */
+public enum ClassMatching {
+
+    /**
+     * Two instances have matching classes if the second instance is an instance of the annotated class.
+     */
+    INSTANCE_OF,
+
+    /**
+     * Two instances have matching classes if both are direct instances of the same class.
+     */
+    SAME_CLASS,
+
+    /**
+     * Two instances have matching classes if both are direct instances of the annotated class.
+     */
+    EXACT_CLASS
+
+}
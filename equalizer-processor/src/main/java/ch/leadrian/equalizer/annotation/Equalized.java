@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks a class for which static {@code equals} and {@code hashCode} helpers are generated at compile time. For a class
+ * {@code Person}, the class {@code Person_Equalizer} is generated in the same package, which can then be used to
+ * implement {@link Object#equals(Object)} and {@link Object#hashCode()}:
+ * </p>
+ * <pre>{@code
+ * @Equalized
+ * public class Person {
+ *
+ *     @Compare
+ *     @Hash
+ *     final String name;
+ *
+ *     @Override
+ *     public boolean equals(Object object) {
+ *         return Person_Equalizer.equals(this, object);
+ *     }
+ *
+ *     @Override
+ *     public int hashCode() {
+ *         return Person_Equalizer.hashCode(this);
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * The generated code has the same semantics as an {@code EqualsAndHashCode} configured using an
+ * {@code EqualsAndHashCodeBuilder}, but requires neither reflection nor lambdas. Fields and methods annotated with
+ * {@link Compare} and {@link Hash} are applied in declaration order.
+ * </p>
+ *
+ * @see Compare
+ * @see Hash
+ * @see Deep
+ * @see Identity
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Equalized {
+
+    /**
+     * @return determines whether two instances have matching classes and can therefore be compared
+     */
+    ClassMatching classMatching() default ClassMatching.INSTANCE_OF;
+
+    /**
+     * If {@code true}, the generated helpers of the nearest superclass annotated with {@link Equalized} are applied
+     * before any other comparison or hash step.
+     *
+     * @return whether the helpers of the superclass should be applied
+     */
+    boolean withSuper() default false;
+
+}
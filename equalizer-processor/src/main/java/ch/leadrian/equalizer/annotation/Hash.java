@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks a field or a parameterless method of an {@link Equalized} class whose value is used to compute the hash code of
+ * an instance.
+ * </p>
+ * <p>
+ * Primitive values are hashed like {@code HashCodeBuilder.hashPrimitive}, reference values like
+ * {@code HashCodeBuilder.hash}, unless the member is additionally annotated with {@link Deep} or {@link Identity}.
+ * The member must also be annotated with {@link Compare}, since equal instances must have equal hash codes. The member
+ * must not be private.
+ * </p>
+ *
+ * @see Compare
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Hash {
+}
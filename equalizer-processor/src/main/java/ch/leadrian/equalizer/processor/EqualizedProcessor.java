@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import ch.leadrian.equalizer.annotation.Compare;
+import ch.leadrian.equalizer.annotation.Deep;
+import ch.leadrian.equalizer.annotation.Equalized;
+import ch.leadrian.equalizer.annotation.Hash;
+import ch.leadrian.equalizer.annotation.Identity;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a helper class with static {@code equals} and {@code hashCode} methods for every class annotated with
+ * {@link Equalized}.
+ *
+ * @see Equalized
+ */
+public final class EqualizedProcessor extends AbstractProcessor {
+
+    private static final List<Class<? extends Annotation>> MEMBER_ANNOTATIONS = Arrays.asList(
+            Compare.class,
+            Hash.class,
+            Deep.class,
+            Identity.class
+    );
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new LinkedHashSet<>();
+        annotationTypes.add(Equalized.class.getName());
+        MEMBER_ANNOTATIONS.forEach(annotation -> annotationTypes.add(annotation.getName()));
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(Equalized.class)) {
+            try {
+                EqualizedType type = EqualizedType.of((TypeElement) element, processingEnv.getElementUtils());
+                writeSourceFile(type);
+            } catch (ProcessingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            }
+        }
+        for (Class<? extends Annotation> annotation : MEMBER_ANNOTATIONS) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                Element enclosingElement = element.getEnclosingElement();
+                if (enclosingElement == null || enclosingElement.getAnnotation(Equalized.class) == null) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "@" + annotation.getSimpleName() + " can only be applied to members of @Equalized classes",
+                            element
+                    );
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeSourceFile(EqualizedType type) {
+        String source = new EqualizerSourceWriter(type, getGeneratedAnnotation()).write();
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(type.getGeneratedQualifiedName(), type.getTypeElement());
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Failed to write " + type.getGeneratedQualifiedName() + ": " + e.getMessage(),
+                    type.getTypeElement()
+            );
+        }
+    }
+
+    private String getGeneratedAnnotation() {
+        // javax.annotation.Generated has been replaced by javax.annotation.processing.Generated in Java 9
+        for (String annotation : Arrays.asList("javax.annotation.processing.Generated", "javax.annotation.Generated")) {
+            if (processingEnv.getElementUtils().getTypeElement(annotation) != null) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+}
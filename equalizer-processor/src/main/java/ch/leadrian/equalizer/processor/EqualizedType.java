@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import ch.leadrian.equalizer.annotation.ClassMatching;
+import ch.leadrian.equalizer.annotation.Compare;
+import ch.leadrian.equalizer.annotation.Deep;
+import ch.leadrian.equalizer.annotation.Equalized;
+import ch.leadrian.equalizer.annotation.Hash;
+import ch.leadrian.equalizer.annotation.Identity;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Model of a class annotated with {@link Equalized}, from which the helper class is generated.
+ */
+final class EqualizedType {
+
+    static final String GENERATED_CLASS_SUFFIX = "_Equalizer";
+
+    private final TypeElement typeElement;
+    private final String packageName;
+    private final ClassMatching classMatching;
+    private final String superEqualizer;
+    private final List<Step> comparisonSteps;
+    private final List<Step> hashSteps;
+
+    private EqualizedType(
+            TypeElement typeElement,
+            String packageName,
+            ClassMatching classMatching,
+            String superEqualizer,
+            List<Step> comparisonSteps,
+            List<Step> hashSteps
+    ) {
+        this.typeElement = typeElement;
+        this.packageName = packageName;
+        this.classMatching = classMatching;
+        this.superEqualizer = superEqualizer;
+        this.comparisonSteps = Collections.unmodifiableList(comparisonSteps);
+        this.hashSteps = Collections.unmodifiableList(hashSteps);
+    }
+
+    static EqualizedType of(TypeElement typeElement, Elements elements) throws ProcessingException {
+        validateType(typeElement);
+        Equalized equalized = typeElement.getAnnotation(Equalized.class);
+        String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+        String superEqualizer = equalized.withSuper() ? getSuperEqualizer(typeElement, elements) : null;
+        List<Step> comparisonSteps = new ArrayList<>();
+        List<Step> hashSteps = new ArrayList<>();
+        for (Element element : typeElement.getEnclosedElements()) {
+            boolean compare = element.getAnnotation(Compare.class) != null;
+            boolean hash = element.getAnnotation(Hash.class) != null;
+            boolean deep = element.getAnnotation(Deep.class) != null;
+            boolean identity = element.getAnnotation(Identity.class) != null;
+            if (!compare && !hash) {
+                if (deep || identity) {
+                    throw new ProcessingException("@Deep and @Identity require @Compare or @Hash", element);
+                }
+                continue;
+            }
+            if (hash && !compare) {
+                throw new ProcessingException("@Hash requires @Compare, since equal instances must have equal hash codes", element);
+            }
+            Step step = createStep(element, deep, identity);
+            if (compare) {
+                comparisonSteps.add(step);
+            }
+            if (hash) {
+                hashSteps.add(step);
+            }
+        }
+        if (superEqualizer == null && !comparisonSteps.isEmpty() && hashSteps.isEmpty()) {
+            throw new ProcessingException("If at least one comparison step has configured, then at least one hash step must be configured as well", typeElement);
+        }
+        return new EqualizedType(typeElement, packageName, equalized.classMatching(), superEqualizer, comparisonSteps, hashSteps);
+    }
+
+    private static void validateType(TypeElement typeElement) throws ProcessingException {
+        // Records are accepted by name, since ElementKind.RECORD does not exist in Java 8
+        if (typeElement.getKind() != ElementKind.CLASS && !typeElement.getKind().name().equals("RECORD")) {
+            throw new ProcessingException("@Equalized can only be applied to classes", typeElement);
+        }
+        Element element = typeElement;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new ProcessingException("@Equalized classes must not be private", typeElement);
+            }
+            if (((TypeElement) element).getNestingKind() == NestingKind.LOCAL || ((TypeElement) element).getNestingKind() == NestingKind.ANONYMOUS) {
+                throw new ProcessingException("@Equalized classes must not be local or anonymous", typeElement);
+            }
+            element = element.getEnclosingElement();
+        }
+    }
+
+    private static String getSuperEqualizer(TypeElement typeElement, Elements elements) throws ProcessingException {
+        TypeMirror superclass = typeElement.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (superElement.getAnnotation(Equalized.class) != null) {
+                PackageElement superPackage = elements.getPackageOf(superElement);
+                boolean samePackage = superPackage.equals(elements.getPackageOf(typeElement));
+                if (!samePackage && !superElement.getModifiers().contains(Modifier.PUBLIC)) {
+                    throw new ProcessingException("Superclass " + superElement.getQualifiedName() + " must be public to be used by withSuper", typeElement);
+                }
+                return getGeneratedQualifiedName(superElement, superPackage.getQualifiedName().toString());
+            }
+            superclass = superElement.getSuperclass();
+        }
+        throw new ProcessingException("withSuper requires a superclass annotated with @Equalized", typeElement);
+    }
+
+    private static Step createStep(Element element, boolean deep, boolean identity) throws ProcessingException {
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new ProcessingException("Compared or hashed members must not be private", element);
+        }
+        if (element.getModifiers().contains(Modifier.STATIC)) {
+            throw new ProcessingException("Compared or hashed members must not be static", element);
+        }
+        if (deep && identity) {
+            throw new ProcessingException("@Deep and @Identity are mutually exclusive", element);
+        }
+
+        String accessor;
+        TypeMirror type;
+        if (element.getKind() == ElementKind.FIELD) {
+            accessor = element.getSimpleName().toString();
+            type = element.asType();
+        } else if (element.getKind() == ElementKind.METHOD) {
+            ExecutableElement method = (ExecutableElement) element;
+            if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                throw new ProcessingException("Compared or hashed methods must have no parameters and return a value", element);
+            }
+            accessor = method.getSimpleName() + "()";
+            type = method.getReturnType();
+        } else {
+            throw new ProcessingException("@Compare and @Hash can only be applied to fields and methods", element);
+        }
+
+        if (type.getKind().isPrimitive()) {
+            if (deep || identity) {
+                throw new ProcessingException("@Deep and @Identity cannot be applied to primitive values", element);
+            }
+            return new Step(accessor, type, Step.Kind.PRIMITIVE);
+        } else if (deep) {
+            return new Step(accessor, type, Step.Kind.DEEP);
+        } else if (identity) {
+            return new Step(accessor, type, Step.Kind.IDENTITY);
+        } else {
+            return new Step(accessor, type, Step.Kind.SHALLOW);
+        }
+    }
+
+    private static String getGeneratedQualifiedName(TypeElement typeElement, String packageName) {
+        String simpleName = getGeneratedSimpleName(typeElement, packageName);
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private static String getGeneratedSimpleName(TypeElement typeElement, String packageName) {
+        String qualifiedName = typeElement.getQualifiedName().toString();
+        String binaryName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return binaryName.replace('.', '_') + GENERATED_CLASS_SUFFIX;
+    }
+
+    TypeElement getTypeElement() {
+        return typeElement;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getGeneratedSimpleName() {
+        return getGeneratedSimpleName(typeElement, packageName);
+    }
+
+    String getGeneratedQualifiedName() {
+        return getGeneratedQualifiedName(typeElement, packageName);
+    }
+
+    boolean isPublic() {
+        return typeElement.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    /**
+     * @return the qualified name of the annotated class, including wildcards for all type parameters
+     */
+    String getTypeName() {
+        int numberOfTypeParameters = typeElement.getTypeParameters().size();
+        if (numberOfTypeParameters == 0) {
+            return getRawTypeName();
+        }
+        return getRawTypeName() + "<" + String.join(", ", Collections.nCopies(numberOfTypeParameters, "?")) + ">";
+    }
+
+    String getRawTypeName() {
+        return typeElement.getQualifiedName().toString();
+    }
+
+    ClassMatching getClassMatching() {
+        return classMatching;
+    }
+
+    /**
+     * @return the qualified name of the generated helper class of the superclass, or {@code null} if
+     * {@link Equalized#withSuper()} is not used
+     */
+    String getSuperEqualizer() {
+        return superEqualizer;
+    }
+
+    List<Step> getComparisonSteps() {
+        return comparisonSteps;
+    }
+
+    List<Step> getHashSteps() {
+        return hashSteps;
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the source code of the helper class generated for an {@link EqualizedType}.
+ * <p>
+ * All types outside of the annotated class are referenced by their fully qualified names, so that the generated code
+ * cannot be affected by classes of the same simple name within the package of the annotated class.
+ */
+final class EqualizerSourceWriter {
+
+    private static final String[] ARRAY_TYPES = {"byte", "short", "int", "long", "char", "float", "double", "boolean"};
+
+    private final EqualizedType type;
+    private final String generatedAnnotation;
+    private final StringBuilder source = new StringBuilder();
+
+    /**
+     * @param type                the type for which the helper class is written
+     * @param generatedAnnotation qualified name of the {@code @Generated} annotation available on the target
+     *                            platform, or {@code null} if none is available
+     */
+    EqualizerSourceWriter(EqualizedType type, String generatedAnnotation) {
+        this.type = type;
+        this.generatedAnnotation = generatedAnnotation;
+    }
+
+    String write() {
+        if (!type.getPackageName().isEmpty()) {
+            line("package " + type.getPackageName() + ";");
+            line("");
+        }
+        line("/**");
+        line(" * Implements {@code equals} and {@code hashCode} for {@link " + type.getRawTypeName() + "}.");
+        line(" */");
+        if (generatedAnnotation != null) {
+            line("@" + generatedAnnotation + "(\"" + EqualizedProcessor.class.getName() + "\")");
+        }
+        line((type.isPublic() ? "public " : "") + "final class " + type.getGeneratedSimpleName() + " {");
+        line("");
+        line("    private " + type.getGeneratedSimpleName() + "() {");
+        line("    }");
+        line("");
+        writeEquals();
+        line("");
+        writeHashCode();
+        if (usesDeepHashCodeHelper()) {
+            line("");
+            writeDeepHashCodeHelper();
+        }
+        line("");
+        line("}");
+        return source.toString();
+    }
+
+    private void writeEquals() {
+        String modifier = type.isPublic() ? "public " : "";
+        line("    " + modifier + "static boolean equals(" + type.getTypeName() + " object, java.lang.Object otherObject) {");
+        line("        if (object == otherObject) {");
+        line("            return true;");
+        line("        }");
+        line("        if (object == null || otherObject == null) {");
+        line("            return false;");
+        line("        }");
+
+        List<String> conditions = new ArrayList<>();
+        if (type.getSuperEqualizer() != null) {
+            conditions.add(type.getSuperEqualizer() + ".equals(object, other)");
+        }
+        for (Step step : type.getComparisonSteps()) {
+            conditions.add(getComparison(step));
+        }
+        if (conditions.isEmpty()) {
+            line("        return false;");
+            line("    }");
+            return;
+        }
+
+        line("        if (" + getClassMismatchCondition() + ") {");
+        line("            return false;");
+        line("        }");
+        line("        " + type.getTypeName() + " other = (" + type.getTypeName() + ") otherObject;");
+        line("        return " + conditions.get(0) + (conditions.size() == 1 ? ";" : ""));
+        for (int i = 1; i < conditions.size(); i++) {
+            line("                && " + conditions.get(i) + (i == conditions.size() - 1 ? ";" : ""));
+        }
+        line("    }");
+    }
+
+    private String getClassMismatchCondition() {
+        switch (type.getClassMatching()) {
+            case SAME_CLASS:
+                return "object.getClass() != otherObject.getClass()";
+            case EXACT_CLASS:
+                return "object.getClass() != " + type.getRawTypeName() + ".class || otherObject.getClass() != " + type.getRawTypeName() + ".class";
+            default:
+                return "!(otherObject instanceof " + type.getRawTypeName() + ")";
+        }
+    }
+
+    private String getComparison(Step step) {
+        String value1 = step.getValue("object");
+        String value2 = step.getValue("other");
+        switch (step.getKind()) {
+            case PRIMITIVE:
+                if (step.getTypeKind() == TypeKind.FLOAT) {
+                    return "java.lang.Float.floatToIntBits(" + value1 + ") == java.lang.Float.floatToIntBits(" + value2 + ")";
+                } else if (step.getTypeKind() == TypeKind.DOUBLE) {
+                    return "java.lang.Double.doubleToLongBits(" + value1 + ") == java.lang.Double.doubleToLongBits(" + value2 + ")";
+                }
+                return value1 + " == " + value2;
+            case IDENTITY:
+                return value1 + " == " + value2;
+            case DEEP:
+                if (isPrimitiveArray(step)) {
+                    return "java.util.Arrays.equals(" + value1 + ", " + value2 + ")";
+                } else if (isObjectArray(step)) {
+                    return "java.util.Arrays.deepEquals(" + value1 + ", " + value2 + ")";
+                }
+                return "java.util.Objects.deepEquals(" + value1 + ", " + value2 + ")";
+            default:
+                return "java.util.Objects.equals(" + value1 + ", " + value2 + ")";
+        }
+    }
+
+    private void writeHashCode() {
+        String modifier = type.isPublic() ? "public " : "";
+        line("    " + modifier + "static int hashCode(" + type.getTypeName() + " object) {");
+        line("        if (object == null) {");
+        line("            return 0;");
+        line("        }");
+        if (type.getSuperEqualizer() == null && type.getHashSteps().isEmpty()) {
+            line("        return java.lang.System.identityHashCode(object);");
+            line("    }");
+            return;
+        }
+
+        line("        int result = 1;");
+        if (type.getSuperEqualizer() != null) {
+            line("        result = 31 * result + " + type.getSuperEqualizer() + ".hashCode(object);");
+        }
+        for (Step step : type.getHashSteps()) {
+            line("        result = 31 * result + " + getHash(step) + ";");
+        }
+        line("        return result;");
+        line("    }");
+    }
+
+    private String getHash(Step step) {
+        String value = step.getValue("object");
+        switch (step.getKind()) {
+            case PRIMITIVE:
+                return "java.lang." + getWrapperName(step.getTypeKind()) + ".hashCode(" + value + ")";
+            case IDENTITY:
+                return "java.lang.System.identityHashCode(" + value + ")";
+            case DEEP:
+                if (isPrimitiveArray(step)) {
+                    return "java.util.Arrays.hashCode(" + value + ")";
+                } else if (isObjectArray(step)) {
+                    return "java.util.Arrays.deepHashCode(" + value + ")";
+                }
+                return "deepHashCode(" + value + ")";
+            default:
+                return "java.util.Objects.hashCode(" + value + ")";
+        }
+    }
+
+    private boolean usesDeepHashCodeHelper() {
+        return type.getHashSteps()
+                .stream()
+                .anyMatch(step -> step.getKind() == Step.Kind.DEEP && step.getTypeKind() != TypeKind.ARRAY);
+    }
+
+    private void writeDeepHashCodeHelper() {
+        line("    private static int deepHashCode(java.lang.Object value) {");
+        line("        if (value instanceof java.lang.Object[]) {");
+        line("            return java.util.Arrays.deepHashCode((java.lang.Object[]) value);");
+        for (String arrayType : ARRAY_TYPES) {
+            line("        } else if (value instanceof " + arrayType + "[]) {");
+            line("            return java.util.Arrays.hashCode((" + arrayType + "[]) value);");
+        }
+        line("        } else {");
+        line("            return java.util.Objects.hashCode(value);");
+        line("        }");
+        line("    }");
+    }
+
+    private static boolean isPrimitiveArray(Step step) {
+        return step.getTypeKind() == TypeKind.ARRAY && ((ArrayType) step.getType()).getComponentType().getKind().isPrimitive();
+    }
+
+    private static boolean isObjectArray(Step step) {
+        return step.getTypeKind() == TypeKind.ARRAY && !((ArrayType) step.getType()).getComponentType().getKind().isPrimitive();
+    }
+
+    private static String getWrapperName(TypeKind typeKind) {
+        switch (typeKind) {
+            case BOOLEAN:
+                return "Boolean";
+            case BYTE:
+                return "Byte";
+            case SHORT:
+                return "Short";
+            case CHAR:
+                return "Character";
+            case LONG:
+                return "Long";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            default:
+                return "Integer";
+        }
+    }
+
+    private void line(String line) {
+        source.append(line).append('\n');
+    }
+
+}
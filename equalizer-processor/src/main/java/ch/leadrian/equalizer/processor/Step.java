@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A single comparison or hash step of an {@link EqualizedType}.
+ */
+final class Step {
+
+    enum Kind {
+        PRIMITIVE,
+        SHALLOW,
+        DEEP,
+        IDENTITY
+    }
+
+    private final String accessor;
+    private final TypeMirror type;
+    private final Kind kind;
+
+    Step(String accessor, TypeMirror type, Kind kind) {
+        this.accessor = accessor;
+        this.type = type;
+        this.kind = kind;
+    }
+
+    /**
+     * @param variableName name of the variable holding the instance
+     * @return an expression that extracts the value of this step from the given variable
+     */
+    String getValue(String variableName) {
+        return variableName + "." + accessor;
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+
+    TypeKind getTypeKind() {
+        return type.getKind();
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+}
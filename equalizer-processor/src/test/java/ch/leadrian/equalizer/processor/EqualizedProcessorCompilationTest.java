@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import ch.leadrian.equalizer.annotation.Equalized;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EqualizedProcessorCompilationTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void shouldGenerateEqualizerInSamePackage() throws IOException {
+        List<String> errors = compile("org.mycompany.Person", "" +
+                "package org.mycompany;\n" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "public class Person {\n" +
+                "    @Compare @Hash int age;\n" +
+                "    @Compare @Hash String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .isEmpty();
+        assertThat(outputDirectory.resolve("org/mycompany/Person_Equalizer.java"))
+                .exists();
+    }
+
+    @Test
+    void shouldFlattenNamesOfNestedClasses() throws IOException {
+        List<String> errors = compile("org.mycompany.Outer", "" +
+                "package org.mycompany;\n" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "public class Outer {\n" +
+                "    @Equalized\n" +
+                "    static class Inner<T> {\n" +
+                "        @Compare @Hash T value;\n" +
+                "    }\n" +
+                "}\n");
+
+        assertThat(errors)
+                .isEmpty();
+        assertThat(outputDirectory.resolve("org/mycompany/Outer_Inner_Equalizer.java"))
+                .exists();
+    }
+
+    @Test
+    void givenPrivateFieldItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare @Hash private String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("Compared or hashed members must not be private");
+    }
+
+    @Test
+    void givenDeepPrimitiveItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare @Hash @Deep int age;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("@Deep and @Identity cannot be applied to primitive values");
+    }
+
+    @Test
+    void givenDeepAndIdentityItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare @Hash @Deep @Identity Object value;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("@Deep and @Identity are mutually exclusive");
+    }
+
+    @Test
+    void givenDeepWithoutCompareOrHashItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare @Hash String name;\n" +
+                "    @Deep Object value;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("@Deep and @Identity require @Compare or @Hash");
+    }
+
+    @Test
+    void givenComparisonStepButNoHashStepItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("If at least one comparison step has configured, then at least one hash step must be configured as well");
+    }
+
+    @Test
+    void givenHashStepButNoComparisonStepItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Hash String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("@Hash requires @Compare, since equal instances must have equal hash codes");
+    }
+
+    @Test
+    void givenMethodWithParametersItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized\n" +
+                "class Person {\n" +
+                "    @Compare @Hash String getName(int index) { return null; }\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("Compared or hashed methods must have no parameters and return a value");
+    }
+
+    @Test
+    void givenWithSuperButNoEqualizedSuperclassItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "@Equalized(withSuper = true)\n" +
+                "class Person {\n" +
+                "    @Compare @Hash String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("withSuper requires a superclass annotated with @Equalized");
+    }
+
+    @Test
+    void givenMarkerOutsideOfEqualizedClassItShouldReportError() throws IOException {
+        List<String> errors = compile("Person", "" +
+                "import ch.leadrian.equalizer.annotation.*;\n" +
+                "class Person {\n" +
+                "    @Compare String name;\n" +
+                "}\n");
+
+        assertThat(errors)
+                .containsExactly("@Compare can only be applied to members of @Equalized classes");
+    }
+
+    private static String getAnnotationClassPath() {
+        try {
+            return Paths.get(Equalized.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject sourceFile = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE
+        ) {
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        Path classOutputDirectory = Files.createDirectories(outputDirectory.resolve("classes"));
+        List<String> options = Arrays.asList(
+                "-classpath", getAnnotationClassPath(),
+                "-s", outputDirectory.toString(),
+                "-d", classOutputDirectory.toString()
+        );
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(sourceFile));
+        task.setProcessors(Collections.singletonList(new EqualizedProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics()
+                .stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.processor;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.annotation.ClassMatching;
+import ch.leadrian.equalizer.annotation.Compare;
+import ch.leadrian.equalizer.annotation.Deep;
+import ch.leadrian.equalizer.annotation.Equalized;
+import ch.leadrian.equalizer.annotation.Hash;
+import ch.leadrian.equalizer.annotation.Identity;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class EqualizedProcessorTest {
+
+    private static final Object OBJECT = new Object();
+
+    @Nested
+    class SemanticsTests {
+
+        private final EqualsAndHashCode<AllTypes> equalsAndHashCode = Equalizer.equalsAndHashCodeBuilder(AllTypes.class)
+                .compareAndHashPrimitive((AllTypes value) -> value.byteValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.shortValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.charValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.intValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.longValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.floatValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.doubleValue)
+                .compareAndHashPrimitive((AllTypes value) -> value.booleanValue)
+                .compareAndHash(value -> value.stringValue)
+                .compareAndHashIdentity(value -> value.objectValue)
+                .compareAndHashDeep(value -> value.intArrayValue)
+                .compareAndHashDeep(value -> value.stringArrayValue)
+                .compareAndHashDeep(value -> value.deepObjectValue)
+                .compare(AllTypes::getComparedOnly)
+                .build();
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.processor.EqualizedProcessorTest#modifications")
+        void generatedEqualsShouldBeEquivalentToEqualsAndHashCode(String name, UnaryOperator<AllTypes> modification) {
+            AllTypes value1 = new AllTypes();
+            AllTypes value2 = modification.apply(new AllTypes());
+
+            boolean result = EqualizedProcessorTest_AllTypes_Equalizer.equals(value1, value2);
+
+            assertThat(result)
+                    .isEqualTo(equalsAndHashCode.equals(value1, value2));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("ch.leadrian.equalizer.processor.EqualizedProcessorTest#modifications")
+        void generatedHashCodeShouldBeEqualToEqualsAndHashCode(String name, UnaryOperator<AllTypes> modification) {
+            AllTypes value = modification.apply(new AllTypes());
+
+            int result = EqualizedProcessorTest_AllTypes_Equalizer.hashCode(value);
+
+            assertThat(result)
+                    .isEqualTo(equalsAndHashCode.hashCode(value));
+        }
+
+        @Test
+        void givenBothValuesAreNullItShouldReturnTrue() {
+            boolean result = EqualizedProcessorTest_AllTypes_Equalizer.equals(null, null);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenOnlySecondValueIsNullItShouldReturnFalse() {
+            boolean result = EqualizedProcessorTest_AllTypes_Equalizer.equals(new AllTypes(), null);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenValueIsNullItShouldReturnZero() {
+            int result = EqualizedProcessorTest_AllTypes_Equalizer.hashCode(null);
+
+            assertThat(result)
+                    .isZero();
+        }
+
+        @Test
+        void givenOtherValueIsOfDifferentClassItShouldReturnFalse() {
+            boolean result = EqualizedProcessorTest_AllTypes_Equalizer.equals(new AllTypes(), "Test");
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+    }
+
+    @Nested
+    class EmptyTests {
+
+        @Test
+        void givenValuesAreTheSameItShouldReturnTrue() {
+            Empty value = new Empty();
+
+            boolean result = EqualizedProcessorTest_Empty_Equalizer.equals(value, value);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenValuesAreNotTheSameItShouldReturnFalse() {
+            boolean result = EqualizedProcessorTest_Empty_Equalizer.equals(new Empty(), new Empty());
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenNoHashStepsItShouldReturnSystemIdentityHashCode() {
+            Empty value = new Empty();
+
+            int result = EqualizedProcessorTest_Empty_Equalizer.hashCode(value);
+
+            assertThat(result)
+                    .isEqualTo(System.identityHashCode(value));
+        }
+
+    }
+
+    @Nested
+    class WithSuperTests {
+
+        @Test
+        void givenSuperValuesAreDifferentItShouldReturnFalse() {
+            Derived value1 = new Derived(1, 2);
+            Derived value2 = new Derived(3, 2);
+
+            boolean result = EqualizedProcessorTest_Derived_Equalizer.equals(value1, value2);
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenAllValuesAreEqualItShouldReturnTrue() {
+            Derived value1 = new Derived(1, 2);
+            Derived value2 = new Derived(1, 2);
+
+            boolean result = EqualizedProcessorTest_Derived_Equalizer.equals(value1, value2);
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void shouldCombineSuperHashCode() {
+            Derived value = new Derived(1, 2);
+
+            int result = EqualizedProcessorTest_Derived_Equalizer.hashCode(value);
+
+            assertThat(result)
+                    .isEqualTo(31 * (31 + EqualizedProcessorTest_Base_Equalizer.hashCode(value)) + Integer.hashCode(2));
+        }
+
+    }
+
+    @Nested
+    class ClassMatchingTests {
+
+        @Test
+        void givenInstanceOfSubclassItShouldReturnTrueForInstanceOf() {
+            boolean result = EqualizedProcessorTest_Base_Equalizer.equals(new Base(1), new Derived(1, 2));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenInstanceOfSubclassItShouldReturnFalseForSameClass() {
+            boolean result = EqualizedProcessorTest_SameClass_Equalizer.equals(new SameClass(1), new SameClass(1) {
+            });
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenInstancesOfSameSubclassItShouldReturnTrueForSameClass() {
+            boolean result = EqualizedProcessorTest_SameClass_Equalizer.equals(new SameSubclass(1), new SameSubclass(1));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+        @Test
+        void givenInstancesOfSameSubclassItShouldReturnFalseForExactClass() {
+            boolean result = EqualizedProcessorTest_ExactClass_Equalizer.equals(new ExactSubclass(1), new ExactSubclass(1));
+
+            assertThat(result)
+                    .isFalse();
+        }
+
+        @Test
+        void givenInstancesOfExactClassItShouldReturnTrueForExactClass() {
+            boolean result = EqualizedProcessorTest_ExactClass_Equalizer.equals(new ExactClass(1), new ExactClass(1));
+
+            assertThat(result)
+                    .isTrue();
+        }
+
+    }
+
+    static Stream<Arguments> modifications() {
+        return Stream.of(
+                arguments("none", (UnaryOperator<AllTypes>) value -> value),
+                arguments("byte", (UnaryOperator<AllTypes>) value -> value.with(v -> v.byteValue = 2)),
+                arguments("short", (UnaryOperator<AllTypes>) value -> value.with(v -> v.shortValue = 2)),
+                arguments("char", (UnaryOperator<AllTypes>) value -> value.with(v -> v.charValue = 'b')),
+                arguments("int", (UnaryOperator<AllTypes>) value -> value.with(v -> v.intValue = 2)),
+                arguments("long", (UnaryOperator<AllTypes>) value -> value.with(v -> v.longValue = 2L)),
+                arguments("float", (UnaryOperator<AllTypes>) value -> value.with(v -> v.floatValue = 2f)),
+                arguments("float NaN", (UnaryOperator<AllTypes>) value -> value.with(v -> v.floatValue = Float.NaN)),
+                arguments("double", (UnaryOperator<AllTypes>) value -> value.with(v -> v.doubleValue = 2.0)),
+                arguments("double -0.0", (UnaryOperator<AllTypes>) value -> value.with(v -> v.doubleValue = -0.0)),
+                arguments("boolean", (UnaryOperator<AllTypes>) value -> value.with(v -> v.booleanValue = false)),
+                arguments("string", (UnaryOperator<AllTypes>) value -> value.with(v -> v.stringValue = "Other")),
+                arguments("null string", (UnaryOperator<AllTypes>) value -> value.with(v -> v.stringValue = null)),
+                arguments("equal string", (UnaryOperator<AllTypes>) value -> value.with(v -> v.stringValue = new String("Test"))),
+                arguments("equal object", (UnaryOperator<AllTypes>) value -> value.with(v -> v.objectValue = new Object())),
+                arguments("int array", (UnaryOperator<AllTypes>) value -> value.with(v -> v.intArrayValue = new int[]{1, 2, 4})),
+                arguments("string array", (UnaryOperator<AllTypes>) value -> value.with(v -> v.stringArrayValue = new String[]{"foo"})),
+                arguments("deep object", (UnaryOperator<AllTypes>) value -> value.with(v -> v.deepObjectValue = new long[]{1L})),
+                arguments("deep object value", (UnaryOperator<AllTypes>) value -> value.with(v -> v.deepObjectValue = "Test")),
+                arguments("compared only", (UnaryOperator<AllTypes>) value -> value.with(v -> v.comparedOnly = "Other"))
+        );
+    }
+
+    @Equalized
+    static class AllTypes {
+
+        @Compare
+        @Hash
+        byte byteValue = 1;
+
+        @Compare
+        @Hash
+        short shortValue = 1;
+
+        @Compare
+        @Hash
+        char charValue = 'a';
+
+        @Compare
+        @Hash
+        int intValue = 1;
+
+        @Compare
+        @Hash
+        long longValue = 1L;
+
+        @Compare
+        @Hash
+        float floatValue = 1f;
+
+        @Compare
+        @Hash
+        double doubleValue = 0.0;
+
+        @Compare
+        @Hash
+        boolean booleanValue = true;
+
+        @Compare
+        @Hash
+        String stringValue = "Test";
+
+        @Compare
+        @Hash
+        @Identity
+        Object objectValue = OBJECT;
+
+        @Compare
+        @Hash
+        @Deep
+        int[] intArrayValue = {1, 2, 3};
+
+        @Compare
+        @Hash
+        @Deep
+        String[] stringArrayValue = {"foo", "bar"};
+
+        @Compare
+        @Hash
+        @Deep
+        Object deepObjectValue = new int[][]{{1, 2}, {3}};
+
+        private String comparedOnly = "Compared";
+
+        @Compare
+        String getComparedOnly() {
+            return comparedOnly;
+        }
+
+        AllTypes with(Consumer<AllTypes> modification) {
+            modification.accept(this);
+            return this;
+        }
+
+    }
+
+    @Equalized
+    static class Empty {
+    }
+
+    @Equalized
+    static class Base {
+
+        @Compare
+        @Hash
+        final int baseValue;
+
+        Base(int baseValue) {
+            this.baseValue = baseValue;
+        }
+
+    }
+
+    @Equalized(withSuper = true)
+    static class Derived extends Base {
+
+        @Compare
+        @Hash
+        final int derivedValue;
+
+        Derived(int baseValue, int derivedValue) {
+            super(baseValue);
+            this.derivedValue = derivedValue;
+        }
+
+    }
+
+    @Equalized(classMatching = ClassMatching.SAME_CLASS)
+    static class SameClass {
+
+        @Compare
+        @Hash
+        final int value;
+
+        SameClass(int value) {
+            this.value = value;
+        }
+
+    }
+
+    static class SameSubclass extends SameClass {
+
+        SameSubclass(int value) {
+            super(value);
+        }
+
+    }
+
+    @Equalized(classMatching = ClassMatching.EXACT_CLASS)
+    static class ExactClass {
+
+        @Compare
+        @Hash
+        final int value;
+
+        ExactClass(int value) {
+            this.value = value;
+        }
+
+    }
+
+    static class ExactSubclass extends ExactClass {
+
+        ExactSubclass(int value) {
+            super(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.tools;
+
+import ch.leadrian.equalizer.EqualsAndHashCode;
+import ch.leadrian.equalizer.HashCode;
+import ch.leadrian.equalizer.HashQuality;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Command line interface for {@link HashQuality}.
+ * <p>
+ * Usage: {@code HashQualityTool <class name>#<field name> <samples file>...}
+ * <p>
+ * The field must be a static field of type {@link HashCode}, for example a {@code static final}
+ * {@link EqualsAndHashCode}. Each samples file must contain Java-serialized objects: either a single
+ * {@link Collection} of samples, or a sequence of individual samples. Only deserialize files from trusted sources.
+ */
+public final class HashQualityTool {
+
+    private HashQualityTool() {
+    }
+
+    public static void main(String[] args) {
+        int exitCode = run(args, System.out, System.err);
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length < 2) {
+            err.println("Usage: HashQualityTool <class name>#<field name> <samples file>...");
+            return 2;
+        }
+        try {
+            HashCode<Object> hashCode = loadHashCode(args[0]);
+            List<Object> samples = new ArrayList<>();
+            for (int i = 1; i < args.length; i++) {
+                readSamples(args[i], samples);
+            }
+            out.print(HashQuality.analyze(hashCode, samples));
+            return 0;
+        } catch (IOException | ReflectiveOperationException | IllegalArgumentException e) {
+            err.println("Failed to analyze hash code: " + e);
+            return 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HashCode<Object> loadHashCode(String fieldReference) throws ReflectiveOperationException {
+        int separatorIndex = fieldReference.indexOf('#');
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Expected <class name>#<field name>, got " + fieldReference);
+        }
+        Class<?> declaringClass = Class.forName(fieldReference.substring(0, separatorIndex));
+        Field field = declaringClass.getDeclaredField(fieldReference.substring(separatorIndex + 1));
+        if (!Modifier.isStatic(field.getModifiers()) || !HashCode.class.isAssignableFrom(field.getType())) {
+            throw new IllegalArgumentException(fieldReference + " is not a static field of type " + HashCode.class.getName());
+        }
+        field.setAccessible(true);
+        return (HashCode<Object>) field.get(null);
+    }
+
+    private static void readSamples(String fileName, List<Object> samples) throws IOException, ClassNotFoundException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(Paths.get(fileName)));
+             ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)) {
+            Object object = objectInputStream.readObject();
+            if (object instanceof Collection) {
+                samples.addAll((Collection<?>) object);
+                return;
+            }
+            while (true) {
+                samples.add(object);
+                try {
+                    object = objectInputStream.readObject();
+                } catch (EOFException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.leadrian.equalizer.tools;
+
+import ch.leadrian.equalizer.Equalizer;
+import ch.leadrian.equalizer.HashCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashQualityToolTest {
+
+    private static final HashCode<String> HASH_CODE = Equalizer.<String>hashCodeBuilder()
+            .hashPrimitive(String::length)
+            .build();
+
+    private static final String HASH_CODE_REFERENCE = HashQualityToolTest.class.getName() + "#HASH_CODE";
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    void givenSerializedCollectionItShouldPrintReport() throws IOException {
+        Path samples = tempDir.resolve("samples.ser");
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(samples))) {
+            outputStream.writeObject(new ArrayList<>(Arrays.asList("a", "b", "cc")));
+        }
+
+        int exitCode = run(HASH_CODE_REFERENCE, samples.toString());
+
+        assertThat(exitCode)
+                .isZero();
+        assertThat(out.toString())
+                .contains("Samples: 3, distinct hash codes: 2, collisions: 1");
+    }
+
+    @Test
+    void givenSerializedSequenceOfObjectsItShouldPrintReport() throws IOException {
+        Path samples = tempDir.resolve("samples.ser");
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(samples))) {
+            outputStream.writeObject("a");
+            outputStream.writeObject("bb");
+            outputStream.writeObject("ccc");
+        }
+
+        int exitCode = run(HASH_CODE_REFERENCE, samples.toString());
+
+        assertThat(exitCode)
+                .isZero();
+        assertThat(out.toString())
+                .contains("Samples: 3, distinct hash codes: 3, collisions: 0");
+    }
+
+    @Test
+    void givenMissingArgumentsItShouldPrintUsage() {
+        int exitCode = run(HASH_CODE_REFERENCE);
+
+        assertThat(exitCode)
+                .isEqualTo(2);
+        assertThat(err.toString())
+                .startsWith("Usage: ");
+    }
+
+    @Test
+    void givenFieldIsNotHashCodeItShouldFail() {
+        int exitCode = run(HashQualityToolTest.class.getName() + "#HASH_CODE_REFERENCE", "samples.ser");
+
+        assertThat(exitCode)
+                .isEqualTo(1);
+        assertThat(err.toString())
+                .contains("is not a static field of type ch.leadrian.equalizer.HashCode");
+    }
+
+    @Test
+    void givenSamplesFileDoesNotExistItShouldFail() {
+        int exitCode = run(HASH_CODE_REFERENCE, tempDir.resolve("missing.ser").toString());
+
+        assertThat(exitCode)
+                .isEqualTo(1);
+        assertThat(err.toString())
+                .startsWith("Failed to analyze hash code: ");
+    }
+
+    private int run(String... args) {
+        return HashQualityTool.run(args, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+}
@@ -21,4 +21,6 @@ plugins {
 dependencies {
     implementation(project(":equalizer-core"))
     implementation(project(":equalizer-kotlin"))
+
+    testImplementation(testFixtures(project(":equalizer-core")))
 }
\ No newline at end of file
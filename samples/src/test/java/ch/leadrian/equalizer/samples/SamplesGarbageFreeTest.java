@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Adrian-Philipp Leuenberger
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.leadrian.equalizer.samples;
+
+import ch.leadrian.equalizer.AllocationMeter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SamplesGarbageFreeTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static volatile boolean booleanSink;
+
+    private static volatile int intSink;
+
+    @BeforeAll
+    static void assumeAllocationsCanBeMeasured() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported");
+    }
+
+    @Test
+    void animalShouldNotAllocate() {
+        Animal animal1 = new Animal(1337, "Rex");
+        Animal animal2 = new Animal(1337, "Rex");
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> {
+                    booleanSink = animal1.equals(animal2);
+                    intSink = animal1.hashCode();
+                },
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void dogWithSuperShouldNotAllocate() {
+        Dog dog1 = new Dog(1337, "Rex", "Beagle");
+        Dog dog2 = new Dog(1337, "Rex", "Beagle");
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> {
+                    booleanSink = dog1.equals(dog2);
+                    intSink = dog1.hashCode();
+                },
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void personShouldNotAllocate() {
+        Person person1 = new Person(1337, "Hans", "Muster", new Animal[]{new Dog(1337, "Rex", "Beagle")});
+        Person person2 = new Person(1337, "Hans", "Muster", new Animal[]{new Dog(1337, "Rex", "Beagle")});
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> {
+                    booleanSink = person1.equals(person2);
+                    intSink = person1.hashCode();
+                },
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+    @Test
+    void bookShouldNotAllocate() {
+        Person author = new Person(1337, "Hans", "Muster", new Animal[0]);
+        Book book1 = new Book("Equalizer", author, "978-3-16-148410-0");
+        Book book2 = new Book("Equalizer", author, "978-3-16-148410-0");
+
+        long allocatedBytes = AllocationMeter.allocatedBytesPerRun(
+                () -> {
+                    booleanSink = book1.equals(book2);
+                    intSink = book1.hashCode();
+                },
+                ITERATIONS
+        );
+
+        assertThat(allocatedBytes)
+                .isZero();
+    }
+
+}
@@ -16,8 +16,12 @@
 
 include(":equalizer-bom")
 include(":equalizer-core")
+include(":equalizer-collections")
 include(":equalizer-kotlin")
+include(":equalizer-processor")
+include(":equalizer-tools")
 include(":samples")
+include(":equalizer-benchmarks")
 
 rootProject.name = "equalizer"
 
@@ -26,5 +30,6 @@ pluginManagement {
         kotlin("jvm") version "1.3.72"
         id("com.github.ben-manes.versions") version "0.28.0"
         id("com.palantir.git-version") version "0.12.3"
+        id("me.champeau.gradle.jmh") version "0.5.0"
     }
 }